@@ -243,6 +243,37 @@ public static void delete(@Nullable Path path) {
     }
   }
 
+  /**
+   * Resolves a random sibling of the given target path which can be used to write the new content of the target before
+   * replacing it using {@link #replace(Path, Path)}.
+   *
+   * @param target the path to resolve the sibling of.
+   * @return a random sibling path of the given target.
+   * @throws NullPointerException if the given target is null.
+   */
+  public static @NonNull Path resolveTempSibling(@NonNull Path target) {
+    return target.resolveSibling(target.getFileName() + "." + UUID.randomUUID());
+  }
+
+  /**
+   * Atomically moves the given source file over the given target file. Unlike writing into the target, this replaces
+   * the target with a new file and leaves the old file untouched for everyone who still links to or reads from it. If
+   * the move fails the source file is deleted.
+   *
+   * @param source the file which should replace the target, usually resolved using {@link #resolveTempSibling(Path)}.
+   * @param target the file to replace.
+   * @throws IOException          if the source file cannot be moved over the target file.
+   * @throws NullPointerException if the given source or target path is null.
+   */
+  public static void replace(@NonNull Path source, @NonNull Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException exception) {
+      Files.deleteIfExists(source);
+      throw exception;
+    }
+  }
+
   /**
    * Resolves a random path in the temp directory of the cloud and creates all needed parents directories for a
    * temporary file including the {@link FileUtil#TEMP_DIR}.
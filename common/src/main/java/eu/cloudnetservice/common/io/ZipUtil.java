@@ -246,9 +246,18 @@ private static void extractEntry(
       FileUtil.createDirectory(file);
     } else {
       FileUtil.createDirectory(file.getParent());
-      try (var outputStream = Files.newOutputStream(file)) {
+
+      // extract into a new file and replace the target afterwards, the target might be hard-linked into other
+      // directories (for example running services) and must never be written in place
+      var extractedFile = FileUtil.resolveTempSibling(file);
+      try (var outputStream = Files.newOutputStream(extractedFile, StandardOpenOption.CREATE_NEW)) {
         FileUtil.copy(in, outputStream);
+      } catch (IOException exception) {
+        Files.deleteIfExists(extractedFile);
+        throw exception;
       }
+
+      FileUtil.replace(extractedFile, file);
     }
   }
 
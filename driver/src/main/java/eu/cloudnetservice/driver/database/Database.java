@@ -92,6 +92,38 @@ public interface Database extends Named, AutoCloseable {
    */
   @Nullable Document get(@NonNull String key);
 
+  /**
+   * Associates all given keys with their documents in the database. Existing keys will get overridden. Depending on the
+   * database implementation this operation is executed as a single batch instead of one write per key.
+   *
+   * @param documents the documents to write mapped to the unique key for each document.
+   * @return true if all documents were associated with their key successfully, false otherwise.
+   * @throws NullPointerException if the given document map is null.
+   */
+  boolean insertAll(@NonNull Map<String, Document> documents);
+
+  /**
+   * Gets the associated documents of all given keys from the database. Keys which have no document associated are not
+   * contained in the returned map. Depending on the database implementation this operation is executed as a single
+   * lookup instead of one lookup per key.
+   *
+   * @param keys the keys of the documents to get.
+   * @return the documents associated with the given keys, mapped to their key.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  @NonNull
+  Map<String, Document> getAll(@NonNull Collection<String> keys);
+
+  /**
+   * Removes all given keys and their associated documents from the database. Depending on the database implementation
+   * this operation is executed as a single batch instead of one removal per key.
+   *
+   * @param keys the keys to remove.
+   * @return the number of keys which were removed from the database.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  int deleteAll(@NonNull Collection<String> keys);
+
   /**
    * Searches for all entries in the database which value contains the given field and the field value matches the given
    * value. Null as the field value is permitted and will be used as literally null. The search is not deep meaning that
@@ -144,6 +176,23 @@ public interface Database extends Named, AutoCloseable {
   @NonNull
   Map<String, Document> entries();
 
+  /**
+   * Reads the next chunk of key-value pairs from this database, ordered by their key. The chunk contains at most the
+   * given amount of entries whose keys are strictly greater than the given key. Passing null as the key starts reading
+   * from the beginning of the database. To read the full database, the last key of the returned chunk should be passed
+   * to this method again until null is returned.
+   * <p>
+   * Each call directly seeks to the given key rather than skipping over all previous entries of the database, which
+   * makes this method suitable to stream huge databases.
+   *
+   * @param afterKey  the key after which the chunk should start, null to start at the beginning of the database.
+   * @param chunkSize the maximum amount of entries to include in the chunk.
+   * @return the next chunk of the database, null if there are no more entries after the given key.
+   * @throws IllegalArgumentException if the given chunk size is not positive.
+   */
+  @Nullable
+  DatabaseChunk readChunk(@Nullable String afterKey, int chunkSize);
+
   /**
    * Removes all key-value pairs which are currently stored in the database. This operation will not remove the
    * database.
@@ -228,6 +277,52 @@ public interface Database extends Named, AutoCloseable {
     return Task.supply(() -> this.get(key));
   }
 
+  /**
+   * Associates all given keys with their documents in the database. Existing keys will get overridden. Depending on the
+   * database implementation this operation is executed as a single batch instead of one write per key.
+   * <p>
+   * The returned future, if completed successfully, completes with true to indicate that all values were written into
+   * the database successfully. Will be completed with false if some data wasn't written without specifying a reason.
+   *
+   * @param documents the documents to write mapped to the unique key for each document.
+   * @return a future completed with the write operation status.
+   * @throws NullPointerException if the given document map is null.
+   */
+  default @NonNull Task<Boolean> insertAllAsync(@NonNull Map<String, Document> documents) {
+    return Task.supply(() -> this.insertAll(documents));
+  }
+
+  /**
+   * Gets the associated documents of all given keys from the database. Keys which have no document associated are not
+   * contained in the returned map. Depending on the database implementation this operation is executed as a single
+   * lookup instead of one lookup per key.
+   * <p>
+   * The returned future, if completed successfully, completes with the documents mapped to the given keys in the
+   * database and with an empty map if either the lookup failed or no document is associated with the given keys.
+   *
+   * @param keys the keys of the documents to get.
+   * @return a future completed with the documents associated with the given keys.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  default @NonNull Task<Map<String, Document>> getAllAsync(@NonNull Collection<String> keys) {
+    return Task.supply(() -> this.getAll(keys));
+  }
+
+  /**
+   * Removes all given keys and their associated documents from the database. Depending on the database implementation
+   * this operation is executed as a single batch instead of one removal per key.
+   * <p>
+   * The returned future, if completed successfully, completes with the number of keys which were removed from the
+   * database.
+   *
+   * @param keys the keys to remove.
+   * @return a future completed with the number of removed keys.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  default @NonNull Task<Integer> deleteAllAsync(@NonNull Collection<String> keys) {
+    return Task.supply(() -> this.deleteAll(keys));
+  }
+
   /**
    * Searches for all entries in the database which value contains the given field and the field value matches the given
    * value. Null as the field value is permitted and will be used as literally null. The search is not deep meaning that
@@ -302,6 +397,24 @@ public interface Database extends Named, AutoCloseable {
     return Task.supply(this::entries);
   }
 
+  /**
+   * Reads the next chunk of key-value pairs from this database, ordered by their key. The chunk contains at most the
+   * given amount of entries whose keys are strictly greater than the given key. Passing null as the key starts reading
+   * from the beginning of the database. To read the full database, the last key of the returned chunk should be passed
+   * to this method again until null is returned.
+   * <p>
+   * The returned future, if completed successfully, completes with the next chunk of the database or null if there are
+   * no more entries after the given key.
+   *
+   * @param afterKey  the key after which the chunk should start, null to start at the beginning of the database.
+   * @param chunkSize the maximum amount of entries to include in the chunk.
+   * @return a future completed with the next chunk of the database.
+   * @throws IllegalArgumentException if the given chunk size is not positive.
+   */
+  default @NonNull Task<DatabaseChunk> readChunkAsync(@Nullable String afterKey, int chunkSize) {
+    return Task.supply(() -> this.readChunk(afterKey, chunkSize));
+  }
+
   /**
    * Removes all key-value pairs which are currently stored in the database. This operation will not remove the
    * database.
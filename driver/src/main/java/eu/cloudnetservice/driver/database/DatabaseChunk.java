@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.database;
+
+import eu.cloudnetservice.driver.document.Document;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * A chunk of key-value pairs read from a database, ordered by their key. The last key of the chunk can be passed to
+ * {@link Database#readChunk(String, int)} to continue reading the database directly after this chunk.
+ *
+ * @param entries the key-value pairs in this chunk, ordered by their key.
+ * @param lastKey the last (and therefore highest) key that was read for this chunk. This key might not be included in
+ *                the entries if the associated value could not be read.
+ * @since 4.0
+ */
+public record DatabaseChunk(@NonNull Map<String, Document> entries, @NonNull String lastKey) {
+
+}
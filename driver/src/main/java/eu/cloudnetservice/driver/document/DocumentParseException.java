@@ -29,6 +29,16 @@ public final class DocumentParseException extends RuntimeException {
   @Serial
   private static final long serialVersionUID = -3831380795139686659L;
 
+  /**
+   * Constructs a new document parse exception with the given description message.
+   *
+   * @param message the error message describing what happened.
+   * @throws NullPointerException if the given message is null.
+   */
+  public DocumentParseException(@NonNull String message) {
+    super(message);
+  }
+
   /**
    * Constructs a new document parse exception with the given cause.
    *
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.document.binary;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentParseException;
+import eu.cloudnetservice.driver.document.send.DocumentSend;
+import eu.cloudnetservice.driver.document.send.element.ArrayElement;
+import eu.cloudnetservice.driver.document.send.element.Element;
+import eu.cloudnetservice.driver.document.send.element.NullElement;
+import eu.cloudnetservice.driver.document.send.element.ObjectElement;
+import eu.cloudnetservice.driver.document.send.element.PrimitiveElement;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * A compact binary wire encoding for documents. Instead of serializing a document into its textual representation
+ * (which must be parsed again on the receiving side), the codec streams the element tree of the document send directly
+ * into a data buf. The encoding uses a single tag byte per element, zig-zag encoded varints for integral numbers,
+ * length-prefixed utf-8 strings and a per-document key table, so that each key is only written once per document.
+ * <p>
+ * This encoding is only meant for transferring documents through the network, persistent data should still be written
+ * in the format of the document factory (for example json).
+ *
+ * @since 4.0
+ */
+public final class BinaryDocumentCodec {
+
+  static final byte TAG_END = 0;
+  static final byte TAG_NULL = 1;
+  static final byte TAG_FALSE = 2;
+  static final byte TAG_TRUE = 3;
+  static final byte TAG_INTEGER = 4;
+  static final byte TAG_FLOAT = 5;
+  static final byte TAG_DOUBLE = 6;
+  static final byte TAG_DECIMAL = 7;
+  static final byte TAG_STRING = 8;
+  static final byte TAG_CHAR = 9;
+  static final byte TAG_OBJECT = 10;
+  static final byte TAG_ARRAY = 11;
+
+  private BinaryDocumentCodec() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Writes the element tree of the given document into the given buffer.
+   *
+   * @param document the document to write.
+   * @param target   the buffer to write the document to.
+   * @throws NullPointerException if the given document or target buffer is null.
+   */
+  public static void write(@NonNull Document document, @NonNull DataBuf.Mutable target) {
+    var writer = new BinaryElementWriter(target);
+    document.send().rootElement().elements().forEach(element -> element.accept(writer));
+    target.writeByte(TAG_END);
+  }
+
+  /**
+   * Reads a document previously written by {@link #write(Document, DataBuf.Mutable)} from the given buffer. The
+   * returned document send can be received into any document factory.
+   *
+   * @param source the buffer to read the document from.
+   * @return a document send containing the elements read from the given buffer.
+   * @throws NullPointerException   if the given source buffer is null.
+   * @throws DocumentParseException if the buffer contains an unknown element tag.
+   */
+  public static @NonNull DocumentSend read(@NonNull DataBuf source) {
+    var rootElement = readObject(source, Element.NO_KEY, new ArrayList<>());
+    return new BinaryDocumentSend(rootElement);
+  }
+
+  /**
+   * Reads the key-value pairs of an object element until the end tag of the object is reached.
+   *
+   * @param source   the buffer to read the object from.
+   * @param key      the key of the object element to read.
+   * @param keyTable the table of keys that were already read from the current document.
+   * @return the object element read from the given buffer.
+   * @throws NullPointerException   if the given source, key or key table is null.
+   * @throws DocumentParseException if the buffer contains an unknown element tag.
+   */
+  private static @NonNull ObjectElement readObject(
+    @NonNull DataBuf source,
+    @NonNull String key,
+    @NonNull List<String> keyTable
+  ) {
+    List<Element> elements = new ArrayList<>();
+    byte tag;
+    while ((tag = source.readByte()) != TAG_END) {
+      // keys are either a reference into the key table (index + 1) or 0 followed by a new key
+      var keyIndex = source.readVarInt();
+      String elementKey;
+      if (keyIndex == 0) {
+        elementKey = source.readString();
+        keyTable.add(elementKey);
+      } else {
+        elementKey = keyTable.get(keyIndex - 1);
+      }
+
+      elements.add(readElement(source, tag, elementKey, keyTable));
+    }
+
+    return new ObjectElement(key, Collections.unmodifiableList(elements));
+  }
+
+  /**
+   * Reads the entries of an array element until the end tag of the array is reached.
+   *
+   * @param source   the buffer to read the array from.
+   * @param key      the key of the array element to read.
+   * @param keyTable the table of keys that were already read from the current document.
+   * @return the array element read from the given buffer.
+   * @throws NullPointerException   if the given source, key or key table is null.
+   * @throws DocumentParseException if the buffer contains an unknown element tag.
+   */
+  private static @NonNull ArrayElement readArray(
+    @NonNull DataBuf source,
+    @NonNull String key,
+    @NonNull List<String> keyTable
+  ) {
+    List<Element> entries = new ArrayList<>();
+    byte tag;
+    while ((tag = source.readByte()) != TAG_END) {
+      entries.add(readElement(source, tag, Element.NO_KEY, keyTable));
+    }
+
+    return new ArrayElement(key, Collections.unmodifiableList(entries));
+  }
+
+  /**
+   * Reads the value of a single element which is identified by the given tag.
+   *
+   * @param source   the buffer to read the element value from.
+   * @param tag      the tag of the element that was read.
+   * @param key      the key of the element to read.
+   * @param keyTable the table of keys that were already read from the current document.
+   * @return the element read from the given buffer.
+   * @throws NullPointerException   if the given source, key or key table is null.
+   * @throws DocumentParseException if the given tag is unknown.
+   */
+  private static @NonNull Element readElement(
+    @NonNull DataBuf source,
+    byte tag,
+    @NonNull String key,
+    @NonNull List<String> keyTable
+  ) {
+    return switch (tag) {
+      case TAG_NULL -> new NullElement(key);
+      case TAG_FALSE -> new PrimitiveElement(key, Boolean.FALSE);
+      case TAG_TRUE -> new PrimitiveElement(key, Boolean.TRUE);
+      case TAG_INTEGER -> new PrimitiveElement(key, readVarLong(source));
+      case TAG_FLOAT -> new PrimitiveElement(key, source.readFloat());
+      case TAG_DOUBLE -> new PrimitiveElement(key, source.readDouble());
+      case TAG_DECIMAL -> new PrimitiveElement(key, new BigDecimal(source.readString()));
+      case TAG_STRING -> new PrimitiveElement(key, source.readString());
+      case TAG_CHAR -> new PrimitiveElement(key, source.readChar());
+      case TAG_OBJECT -> readObject(source, key, keyTable);
+      case TAG_ARRAY -> readArray(source, key, keyTable);
+      default -> throw new DocumentParseException("Unknown binary document element tag " + tag);
+    };
+  }
+
+  /**
+   * Writes the given long value zig-zag encoded as a varint into the given buffer. Small positive and negative values
+   * therefore only need a single byte.
+   *
+   * @param target the buffer to write the value to.
+   * @param value  the value to write.
+   * @throws NullPointerException if the given target buffer is null.
+   */
+  static void writeVarLong(@NonNull DataBuf.Mutable target, long value) {
+    var encoded = (value << 1) ^ (value >> 63);
+    while ((encoded & ~0x7FL) != 0) {
+      target.writeByte((byte) ((encoded & 0x7F) | 0x80));
+      encoded >>>= 7;
+    }
+    target.writeByte((byte) encoded);
+  }
+
+  /**
+   * Reads a zig-zag encoded varint long from the given buffer.
+   *
+   * @param source the buffer to read the value from.
+   * @return the decoded long value.
+   * @throws NullPointerException   if the given source buffer is null.
+   * @throws DocumentParseException if the encoded varint is longer than 10 bytes.
+   */
+  static long readVarLong(@NonNull DataBuf source) {
+    long encoded = 0;
+    for (var shift = 0; shift < 64; shift += 7) {
+      var b = source.readByte();
+      encoded |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return (encoded >>> 1) ^ -(encoded & 1);
+      }
+    }
+
+    throw new DocumentParseException("Malformed varint in binary document");
+  }
+}
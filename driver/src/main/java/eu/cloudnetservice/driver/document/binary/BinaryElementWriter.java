@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.document.binary;
+
+import eu.cloudnetservice.driver.document.send.ElementVisitor;
+import eu.cloudnetservice.driver.document.send.element.ArrayElement;
+import eu.cloudnetservice.driver.document.send.element.Element;
+import eu.cloudnetservice.driver.document.send.element.NullElement;
+import eu.cloudnetservice.driver.document.send.element.ObjectElement;
+import eu.cloudnetservice.driver.document.send.element.PrimitiveElement;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * An element visitor which streams all visited elements directly into a data buf using the binary document encoding.
+ * Keys of object entries are written into a key table on their first occurrence and are referenced by their index in
+ * the table on all subsequent occurrences in the same document.
+ *
+ * @since 4.0
+ */
+final class BinaryElementWriter implements ElementVisitor {
+
+  private final DataBuf.Mutable target;
+  private final Map<String, Integer> keyTable;
+  private final boolean keyed;
+
+  /**
+   * Constructs a new writer for the root object of a document.
+   *
+   * @param target the buffer to write the visited elements to.
+   * @throws NullPointerException if the given target buffer is null.
+   */
+  public BinaryElementWriter(@NonNull DataBuf.Mutable target) {
+    this(target, new HashMap<>(), true);
+  }
+
+  /**
+   * Constructs a new writer which shares the key table with the writer of the parent element.
+   *
+   * @param target   the buffer to write the visited elements to.
+   * @param keyTable the key table of the document that is currently written.
+   * @param keyed    if the visited elements are object entries and therefore need their key to be written.
+   * @throws NullPointerException if the given target buffer or key table is null.
+   */
+  private BinaryElementWriter(@NonNull DataBuf.Mutable target, @NonNull Map<String, Integer> keyTable, boolean keyed) {
+    this.target = target;
+    this.keyTable = keyTable;
+    this.keyed = keyed;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void visitEnd() {
+    this.target.writeByte(BinaryDocumentCodec.TAG_END);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void visitNull(@NonNull NullElement entry) {
+    this.writeHeader(BinaryDocumentCodec.TAG_NULL, entry);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void visitPrimitive(@NonNull PrimitiveElement entry) {
+    var value = entry.innerValue();
+    if (value instanceof String string) {
+      this.writeHeader(BinaryDocumentCodec.TAG_STRING, entry);
+      this.target.writeString(string);
+    } else if (value instanceof Boolean bool) {
+      this.writeHeader(bool ? BinaryDocumentCodec.TAG_TRUE : BinaryDocumentCodec.TAG_FALSE, entry);
+    } else if (value instanceof Character character) {
+      this.writeHeader(BinaryDocumentCodec.TAG_CHAR, entry);
+      this.target.writeChar(character);
+    } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      this.writeInteger(entry, ((Number) value).longValue());
+    } else if (value instanceof Float number) {
+      this.writeHeader(BinaryDocumentCodec.TAG_FLOAT, entry);
+      this.target.writeFloat(number);
+    } else if (value instanceof Double number) {
+      this.writeHeader(BinaryDocumentCodec.TAG_DOUBLE, entry);
+      this.target.writeDouble(number);
+    } else if (value instanceof Number number) {
+      // numbers of unknown types (for example lazily parsed numbers from json) are written as integer if their
+      // textual representation allows it, else the textual representation is transferred as an exact decimal
+      var textValue = number.toString();
+      if (isLongValue(textValue)) {
+        this.writeInteger(entry, Long.parseLong(textValue));
+      } else {
+        this.writeHeader(BinaryDocumentCodec.TAG_DECIMAL, entry);
+        this.target.writeString(textValue);
+      }
+    } else {
+      throw new IllegalArgumentException("Unsupported primitive type " + value.getClass().getName());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ElementVisitor visitArray(@NonNull ArrayElement entry) {
+    this.writeHeader(BinaryDocumentCodec.TAG_ARRAY, entry);
+    return new BinaryElementWriter(this.target, this.keyTable, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ElementVisitor visitObject(@NonNull ObjectElement entry) {
+    this.writeHeader(BinaryDocumentCodec.TAG_OBJECT, entry);
+    return new BinaryElementWriter(this.target, this.keyTable, true);
+  }
+
+  /**
+   * Writes the given integral value using the integer tag.
+   *
+   * @param entry the element that is written.
+   * @param value the integral value to write.
+   * @throws NullPointerException if the given entry is null.
+   */
+  private void writeInteger(@NonNull Element entry, long value) {
+    this.writeHeader(BinaryDocumentCodec.TAG_INTEGER, entry);
+    BinaryDocumentCodec.writeVarLong(this.target, value);
+  }
+
+  /**
+   * Writes the tag of an element followed by its key, in case the element is an entry of an object. Keys are either
+   * written as a reference into the key table (index + 1) or as 0 followed by the key itself if the key is seen for the
+   * first time in the current document.
+   *
+   * @param tag   the tag of the element to write.
+   * @param entry the element to write the header of.
+   * @throws NullPointerException if the given entry is null.
+   */
+  private void writeHeader(byte tag, @NonNull Element entry) {
+    this.target.writeByte(tag);
+    if (this.keyed) {
+      var keyIndex = this.keyTable.get(entry.key());
+      if (keyIndex == null) {
+        this.target.writeVarInt(0);
+        this.target.writeString(entry.key());
+        this.keyTable.put(entry.key(), this.keyTable.size() + 1);
+      } else {
+        this.target.writeVarInt(keyIndex);
+      }
+    }
+  }
+
+  /**
+   * Checks if the given textual number representation is a plain integral number which fits into a long value.
+   *
+   * @param value the textual number representation to check.
+   * @return true if the given value can be parsed into a long without loss, false otherwise.
+   * @throws NullPointerException if the given value is null.
+   */
+  private static boolean isLongValue(@NonNull String value) {
+    var start = value.startsWith("-") ? 1 : 0;
+    var digits = value.length() - start;
+    if (digits == 0 || digits > 18) {
+      return false;
+    }
+
+    for (var index = start; index < value.length(); index++) {
+      var c = value.charAt(index);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
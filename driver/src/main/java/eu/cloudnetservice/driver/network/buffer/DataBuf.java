@@ -17,7 +17,9 @@
 package eu.cloudnetservice.driver.network.buffer;
 
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -96,6 +98,16 @@ public interface DataBuf extends AutoCloseable {
    */
   int readInt();
 
+  /**
+   * Reads a variable-length 32-bit integer from this buffer at the current reader index. Depending on the value of the
+   * integer, between one and five bytes are read from the buffer.
+   *
+   * @return the next variable-length integer in the buffer at the current reader index.
+   * @throws IndexOutOfBoundsException if the buffer ends before the variable-length integer was fully read.
+   * @throws IllegalStateException     if this buffer was released or the integer is malformed.
+   */
+  int readVarInt();
+
   /**
    * Reads a 16-bit short from this buffer at the current reader index. Exactly two bytes are read from the buffer.
    *
@@ -158,6 +170,22 @@ public interface DataBuf extends AutoCloseable {
    */
   byte[] readByteArray();
 
+  /**
+   * Reads the next array of bytes from the buffer and writes it directly into the given file channel, starting at the
+   * given file position. The bytes are serialized in the same way as written by
+   * {@link DataBuf.Mutable#writeByteArray(byte[])}, but are never copied into an intermediate heap array. The position
+   * of the given channel is not changed by this method.
+   *
+   * @param target   the file channel to write the read bytes to.
+   * @param position the position in the file to start writing at.
+   * @return the amount of bytes that were written into the given file channel.
+   * @throws IOException               if an i/o error occurs while writing to the given channel.
+   * @throws NullPointerException      if the given target channel is null.
+   * @throws IndexOutOfBoundsException if there are fewer bytes than expected in the buffer.
+   * @throws IllegalStateException     if this buffer was released.
+   */
+  int readByteArrayTo(@NonNull FileChannel target, long position) throws IOException;
+
   /**
    * Reads the next unique id from the buffer at the current reader index. The operation reads two longs from the
    * buffer: the most significant bits of the unique id, and the least significant bits of the unique id. This totals to
@@ -268,6 +296,25 @@ public interface DataBuf extends AutoCloseable {
    */
   int readableBytes();
 
+  /**
+   * Get the index in this buffer from which the next byte will be read.
+   *
+   * @return the current reader index of this buffer.
+   */
+  int readerIndex();
+
+  /**
+   * Sets the index in this buffer from which the next byte will be read. Unlike transactions this does not modify any
+   * state of the buffer other than the reader index, therefore it can be used to peek data from a buffer in which the
+   * caller might have started a transaction.
+   *
+   * @param readerIndex the new reader index of this buffer.
+   * @return the same instance as used to call the method, for chaining.
+   * @throws IndexOutOfBoundsException if the given index is negative or exceeds the writer index of this buffer.
+   */
+  @NonNull
+  DataBuf readerIndex(int readerIndex);
+
   /**
    * Starts a transaction to the buffer. Starting a transaction while another transaction is active will override the
    * current transaction marker. A transaction can be redone by using {@link #redoTransaction()}.
@@ -365,6 +412,16 @@ interface Mutable extends DataBuf {
     @NonNull
     DataBuf.Mutable writeInt(int integer);
 
+    /**
+     * Writes the given integer as a variable-length integer at the current writer index. Depending on the value of the
+     * integer, between one and five bytes are written into the buffer. Small, positive values need the least space.
+     *
+     * @param integer the integer to write into the buffer.
+     * @return the same buffer used to call the method, for chaining.
+     */
+    @NonNull
+    DataBuf.Mutable writeVarInt(int integer);
+
     /**
      * Writes the given byte at the current writer index, increasing the index by one.
      *
@@ -442,6 +499,23 @@ interface Mutable extends DataBuf {
     @NonNull
     DataBuf.Mutable writeByteArray(byte[] b, int amount);
 
+    /**
+     * Writes the given amount of bytes from the file channel, starting at the given position in the file, into the
+     * buffer, prefixed by an integer containing the amount of bytes following. The bytes are transferred directly from
+     * the channel into this buffer, without copying them into an intermediate heap array. The written bytes can be read
+     * using either {@link #readByteArray()} or {@link #readByteArrayTo(FileChannel, long)}. The position of the given
+     * channel is not changed by this method.
+     *
+     * @param source   the file channel to read the bytes from.
+     * @param position the position in the file to start reading at.
+     * @param amount   the amount of bytes to transfer from the file into the buffer.
+     * @return the same buffer used to call the method, for chaining.
+     * @throws IOException          if an i/o error occurs or the end of the file is reached before all bytes were read.
+     * @throws NullPointerException if the given source channel is null.
+     */
+    @NonNull
+    DataBuf.Mutable writeByteArray(@NonNull FileChannel source, long position, int amount) throws IOException;
+
     /**
      * Writes the unique id into the buffer by first writing the most significant bits of the id followed by the last
      * significant bits of the id.
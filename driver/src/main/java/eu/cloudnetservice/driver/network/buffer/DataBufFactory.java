@@ -74,6 +74,22 @@ public interface DataBufFactory {
   @NonNull
   DataBuf copyOf(@NonNull DataBuf dataBuf);
 
+  /**
+   * Converts the given buffer into a readonly buffer. The given buffer should no longer be used after calling this
+   * method, the returned buffer takes ownership of the underlying data instead. Copies of the returned buffer created
+   * using {@link #copyOf(DataBuf)} are sharing the memory with it rather than copying the content, which makes it cheap
+   * to pass the same content to many consumers. Each copy must be released separately.
+   * <p>
+   * A factory is only expected to be able to convert a buffer created by it.
+   *
+   * @param dataBuf the buffer to convert.
+   * @return a readonly buffer holding the data of the given buffer.
+   * @throws IllegalArgumentException if the buffer cannot be converted.
+   * @throws NullPointerException     if the given buffer is null.
+   */
+  @NonNull
+  DataBuf readOnlyOf(@NonNull DataBuf dataBuf);
+
   /**
    * Creates a mutable copy of the given data buffer. The copied variant of the buffer will start the read and write
    * process from the first byte rather than re-using the current index of the original buffer.
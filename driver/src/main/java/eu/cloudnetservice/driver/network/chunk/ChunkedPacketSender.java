@@ -171,7 +171,8 @@ interface Builder {
      * Builds the chunked packet sender based on the supplied information in this builder.
      *
      * @return the instance build from the information.
-     * @throws NullPointerException     if no source, splitter or channel were given.
+     * @throws IllegalStateException    if no source was given.
+     * @throws NullPointerException     if no splitter or channel were given.
      * @throws IllegalArgumentException if the chunk size is not greater than 0.
      */
     @NonNull
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.chunk.defaults;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.chunk.ChunkedPacketSender;
+import eu.cloudnetservice.driver.network.chunk.TransferStatus;
+import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * Represents a chunked packet sender which transfers a file that is located on the local file system. In comparison to
+ * the stream based {@link DefaultFileChunkPacketSender} the chunk data is transferred directly from the file channel
+ * into the (usually off-heap) packet buffers, without copying each chunk into a heap array first.
+ * <p>
+ * This class shouldn't get instantiated directly, use {@link ChunkedPacketSender#forFileTransfer()} instead.
+ *
+ * @since 4.0
+ */
+public class DefaultFileChannelChunkPacketSender extends DefaultChunkedPacketProvider implements ChunkedPacketSender {
+
+  protected final Path sourceFile;
+  protected final Consumer<Packet> packetSplitter;
+
+  /**
+   * Constructs a new chunked packet sender for file transfer based on a file channel.
+   *
+   * @param sessionInformation the information about the chunked session.
+   * @param sourceFile         the path to the file to transfer, must exist.
+   * @param packetSplitter     the splitter for each chunk part to transfer.
+   * @throws NullPointerException if either the information, source file or splitter is null.
+   */
+  public DefaultFileChannelChunkPacketSender(
+    @NonNull ChunkSessionInformation sessionInformation,
+    @NonNull Path sourceFile,
+    @NonNull Consumer<Packet> packetSplitter
+  ) {
+    super(sessionInformation);
+
+    this.sourceFile = sourceFile;
+    this.packetSplitter = packetSplitter;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<TransferStatus> transferChunkedData() {
+    return Task.supply(() -> {
+      try (var channel = FileChannel.open(this.sourceFile, StandardOpenOption.READ)) {
+        var chunkIndex = 0;
+        var filePosition = 0L;
+        var fileSize = channel.size();
+        var chunkSize = this.chunkSessionInformation.chunkSize();
+
+        // send out all full chunks of the file, the transfer information must be acquired for each of them
+        while (fileSize - filePosition >= chunkSize) {
+          this.chunkSessionInformation.transferInformation().acquire();
+          var chunkPacket = ChunkedPacket.createFileChunk(
+            chunkIndex++,
+            false,
+            channel,
+            filePosition,
+            chunkSize,
+            this.chunkSessionInformation);
+          this.packetSplitter.accept(chunkPacket);
+          filePosition += chunkSize;
+        }
+
+        // final chunk to send out, this is one is allowed to not contain as much data as the other chunks
+        var remainingBytes = (int) (fileSize - filePosition);
+        var chunkPacket = ChunkedPacket.createFileChunk(
+          chunkIndex,
+          true,
+          channel,
+          filePosition,
+          remainingBytes,
+          this.chunkSessionInformation);
+        this.packetSplitter.accept(chunkPacket);
+
+        // release the transfer information, it is no longer needed
+        this.chunkSessionInformation.transferInformation().release();
+        return TransferStatus.SUCCESS;
+      }
+    });
+  }
+}
@@ -23,7 +23,7 @@
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -40,7 +40,7 @@
 public class DefaultFileChunkedPacketHandler extends DefaultChunkedPacketProvider implements ChunkedPacketHandler {
 
   protected final Path tempFilePath;
-  protected final RandomAccessFile targetFile;
+  protected final FileChannel targetFile;
   protected final Callback writeCompleteHandler;
   protected final Lock lock = new ReentrantLock();
 
@@ -84,21 +84,16 @@ public DefaultFileChunkedPacketHandler(
   }
 
   /**
-   * Opens a random access file at the provided temp path, creating the file if it does not exist. Note that this method
-   * does not create the parent directory of the file, it must exist prior to invocation.
+   * Opens a file channel for writing at the provided temp path, creating the file if it does not exist. Note that this
+   * method does not create the parent directory of the file, it must exist prior to invocation.
    *
-   * @return the opened temp file for random access.
+   * @return the opened file channel for positional writes into the temp file.
    * @throws IllegalStateException if the temp file cannot be opened or created.
    */
-  private @NonNull RandomAccessFile openTempFile() {
+  private @NonNull FileChannel openTempFile() {
     try {
-      // create the file in case it does not exist
-      if (Files.notExists(this.tempFilePath)) {
-        Files.createFile(this.tempFilePath);
-      }
-
-      var pathAsFile = this.tempFilePath.toFile();
-      return new RandomAccessFile(pathAsFile, "rwd");
+      // the content is not synced to the underlying storage on every write, this happens once the transfer completed
+      return FileChannel.open(this.tempFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
     } catch (IOException exception) {
       throw new IllegalStateException("cannot open chunk transfer temp file for writing", exception);
     }
@@ -135,6 +130,7 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
       // clean up in case the last chunk was just received
       if (this.expectedFileParts != -1 && this.expectedFileParts == this.writtenFileParts) {
         this.transferStatus = TransferStatus.SUCCESS;
+        this.targetFile.force(true);
         this.targetFile.close();
 
         // call the write completion handler, if present
@@ -175,7 +171,6 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
    */
   protected void writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) throws IOException {
     var filePosition = Math.multiplyFull(chunkPosition, this.chunkSessionInformation.chunkSize());
-    this.targetFile.seek(filePosition);
-    this.targetFile.write(dataBuf.readByteArray());
+    dataBuf.readByteArrayTo(this.targetFile, filePosition);
   }
 }
@@ -126,7 +126,7 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
    */
   @Override
   public @NonNull ChunkedPacketSender build() {
-    Preconditions.checkNotNull(this.source, "no source given to send");
+    Preconditions.checkState(this.sourcePresent(), "no source given to send");
     Preconditions.checkNotNull(this.packetSplitter, "no packet splitter provided");
     Preconditions.checkNotNull(this.transferChannel, "no transfer channel provided");
     Preconditions.checkNotNull(this.sessionUniqueId, "no session unique id provided");
@@ -135,6 +135,16 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
     return this.doBuild();
   }
 
+  /**
+   * Get if a data source for the transfer was supplied to this builder. Builders which support other kinds of data
+   * sources than an input stream should override this method to reflect these sources as well.
+   *
+   * @return true if a source for the transfer was supplied to this builder, false otherwise.
+   */
+  protected boolean sourcePresent() {
+    return this.source != null;
+  }
+
   /**
    * Delegate method which must get overridden by any class which extends from this builder. The method is used to
    * actually build the sender while being sure that there are no violations to the build contract (the delegation
@@ -18,8 +18,9 @@
 
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketSender;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.driver.network.chunk.defaults.DefaultFileChannelChunkPacketSender;
 import eu.cloudnetservice.driver.network.chunk.defaults.DefaultFileChunkPacketSender;
-import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import lombok.NonNull;
@@ -33,21 +34,42 @@
  */
 public class FileChunkedPacketSenderBuilder extends DefaultChunkedPacketSenderBuilder {
 
+  protected Path sourceFile;
+
   /**
-   * Sets the file to transfer in the session. The file path must exist.
+   * Sets the file to transfer in the session. The file path must exist. Chunks of the given file are transferred
+   * directly from the file into the network buffers, without copying them to the heap first.
    *
    * @param path the path to the file to transfer.
    * @return the same builder instance as used to call the method, for chaining.
-   * @throws AssertionError       if an i/o error occurs while opening the file stream.
+   * @throws AssertionError       if the given file does not exist or is not a regular file.
    * @throws NullPointerException if the given file path is null.
    */
   public @NonNull FileChunkedPacketSenderBuilder forFile(@NonNull Path path) {
-    try {
-      this.source(Files.newInputStream(path));
-      return this;
-    } catch (IOException exception) {
-      throw new AssertionError("Unexpected exception opening file stream", exception);
+    if (!Files.isRegularFile(path)) {
+      throw new AssertionError("Unable to transfer non-existing or non-regular file " + path);
     }
+
+    this.sourceFile = path;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ChunkedPacketSender.Builder source(@NonNull InputStream source) {
+    // a stream source takes precedence over a previously set file
+    this.sourceFile = null;
+    return super.source(source);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected boolean sourcePresent() {
+    return this.sourceFile != null || super.sourcePresent();
   }
 
   /**
@@ -55,11 +77,15 @@ public class FileChunkedPacketSenderBuilder extends DefaultChunkedPacketSenderBu
    */
   @Override
   protected @NonNull ChunkedPacketSender doBuild() {
-    return new DefaultFileChunkPacketSender(new ChunkSessionInformation(
+    var sessionInformation = new ChunkSessionInformation(
       this.chunkSize,
       this.sessionUniqueId,
       this.transferChannel,
-      this.transferInformation
-    ), this.source, this.packetSplitter);
+      this.transferInformation);
+    if (this.sourceFile != null) {
+      return new DefaultFileChannelChunkPacketSender(sessionInformation, this.sourceFile, this.packetSplitter);
+    } else {
+      return new DefaultFileChunkPacketSender(sessionInformation, this.source, this.packetSplitter);
+    }
   }
 }
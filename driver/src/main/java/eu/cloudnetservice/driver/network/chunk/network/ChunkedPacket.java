@@ -22,6 +22,8 @@
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import lombok.NonNull;
 
 /**
@@ -104,4 +106,48 @@ private ChunkedPacket(@NonNull DataBuf dataBuf) {
       .writeByteArray(sourceData, readBytes);
     return new ChunkedPacket(informationBuffer);
   }
+
+  /**
+   * Creates a new chunk packet whose data is transferred directly from the given file channel into the packet buffer,
+   * without copying it into an intermediate heap array first. If the chunk is not the final chunk of the transfer, the
+   * given amount of bytes is assumed to be the same as the chunk size of the transfer, only the final chunk is allowed
+   * to contain less or no data.
+   *
+   * @param chunkIndex  the 0-based index of the chunk that is being sent.
+   * @param finalChunk  if the chunk is the final chunk of the transfer.
+   * @param source      the file channel to read the chunk data from.
+   * @param position    the position in the file where the chunk data starts.
+   * @param chunkBytes  the amount of bytes to read from the file for the chunk.
+   * @param sessionInfo the information about the transfer session that this packet is related to.
+   * @return the created chunk packet based on the information.
+   * @throws IOException          if an i/o error occurs while reading the chunk data from the file.
+   * @throws NullPointerException if the given source channel or chunk information is null.
+   */
+  public static @NonNull ChunkedPacket createFileChunk(
+    int chunkIndex,
+    boolean finalChunk,
+    @NonNull FileChannel source,
+    long position,
+    int chunkBytes,
+    @NonNull ChunkSessionInformation sessionInfo
+  ) throws IOException {
+    var sourceDataLengthSize = NettyUtil.varIntBytes(chunkBytes);
+    var transferBytes = Byte.BYTES
+      + Integer.BYTES
+      + sourceDataLengthSize
+      + chunkBytes
+      + sessionInfo.packetSizeBytes();
+    var informationBuffer = DataBufFactory.defaultFactory().createWithExpectedSize(transferBytes)
+      .writeObject(sessionInfo)
+      .writeInt(chunkIndex)
+      .writeBoolean(finalChunk);
+    try {
+      informationBuffer.writeByteArray(source, position, chunkBytes);
+      return new ChunkedPacket(informationBuffer);
+    } catch (IOException exception) {
+      // release the buffer, it will never be sent
+      informationBuffer.forceRelease();
+      throw exception;
+    }
+  }
 }
@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
 import lombok.NonNull;
 
@@ -43,4 +44,36 @@ public PacketServerChannelMessage(@NonNull ChannelMessage message, boolean wrapp
       message.prioritized(),
       DataBuf.empty().writeBoolean(wrapper).writeObject(message));
   }
+
+  /**
+   * Constructs a new channel message packet instance based on the given channel message content which was serialized
+   * before using {@link #serialize(ChannelMessage, boolean)}. The packet uses a copy of the content which shares the
+   * memory with the given content, meaning that the serialized content can be sent to many channels at a low cost. The
+   * given content must be released by the caller after all packets were constructed.
+   *
+   * @param prioritized       if the serialized channel message is prioritized.
+   * @param serializedMessage the serialized channel message to send.
+   * @throws NullPointerException if the given serialized message is null.
+   */
+  public PacketServerChannelMessage(boolean prioritized, @NonNull DataBuf serializedMessage) {
+    super(
+      NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
+      prioritized,
+      DataBufFactory.defaultFactory().copyOf(serializedMessage));
+  }
+
+  /**
+   * Serializes the given channel message into a readonly buffer which can be used to construct multiple channel message
+   * packets for the same message without serializing it multiple times. The content of the channel message is released
+   * once by this method, the returned buffer must be released by the caller once all packets were constructed.
+   *
+   * @param message the channel message which should be serialized.
+   * @param wrapper if the channel was sent by a wrapper component.
+   * @return the serialized channel message, ready to be used for constructing packets.
+   * @throws NullPointerException if the given channel message is null.
+   */
+  public static @NonNull DataBuf serialize(@NonNull ChannelMessage message, boolean wrapper) {
+    var content = DataBuf.empty().writeBoolean(wrapper).writeObject(message);
+    return DataBufFactory.defaultFactory().readOnlyOf(content);
+  }
 }
@@ -74,6 +74,18 @@ protected NettyDataBufFactory() {
     return new NettyImmutableDataBuf(buffer.copy(0, buffer.readableBytes(), true));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf readOnlyOf(@NonNull DataBuf dataBuf) {
+    Preconditions.checkArgument(dataBuf instanceof NettyImmutableDataBuf, "Factory only supports netty data buf");
+
+    // readonly copies of a readonly buffer are sharing the memory instead of copying it
+    var buffer = ((NettyImmutableDataBuf) dataBuf).buffer();
+    return new NettyImmutableDataBuf(buffer.makeReadOnly());
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -20,7 +20,9 @@
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
 import io.netty5.buffer.Buffer;
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.function.Function;
@@ -78,6 +80,14 @@ public int readInt() {
     return this.hotRead(Buffer::readInt);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int readVarInt() {
+    return this.hotRead(NettyUtil::readVarInt);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -130,6 +140,43 @@ public byte[] readByteArray() {
     });
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int readByteArrayTo(@NonNull FileChannel target, long position) throws IOException {
+    var length = NettyUtil.readVarInt(this.buffer);
+    if (length > this.buffer.readableBytes()) {
+      throw new IndexOutOfBoundsException(String.format(
+        "expected %d readable bytes, but only %d are readable",
+        length,
+        this.buffer.readableBytes()));
+    }
+
+    var writtenBytes = 0;
+    try (var components = this.buffer.forEachComponent()) {
+      for (var component = components.firstReadable();
+        component != null && writtenBytes < length;
+        component = component.nextReadable()) {
+        // positional writes do not use the channel position, chunks can be written into the same channel concurrently
+        var source = component.readableBuffer();
+        source.limit(source.position() + Math.min(source.remaining(), length - writtenBytes));
+        while (source.hasRemaining()) {
+          writtenBytes += target.write(source, position + writtenBytes);
+        }
+      }
+    }
+
+    this.buffer.readerOffset(this.buffer.readerOffset() + writtenBytes);
+
+    if (this.buffer.readableBytes() <= 0) {
+      // try to release the buffer in case the end of the data was reached
+      this.release();
+    }
+
+    return writtenBytes;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -216,6 +263,23 @@ public int readableBytes() {
     return this.buffer.readableBytes();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int readerIndex() {
+    return this.buffer.readerOffset();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf readerIndex(int readerIndex) {
+    this.buffer.readerOffset(readerIndex);
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
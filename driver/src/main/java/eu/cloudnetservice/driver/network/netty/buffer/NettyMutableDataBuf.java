@@ -20,6 +20,9 @@
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
 import io.netty5.buffer.Buffer;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -61,6 +64,16 @@ public NettyMutableDataBuf(@NonNull Buffer buffer) {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf.Mutable writeVarInt(int integer) {
+    this.buffer.ensureWritable(NettyUtil.varIntBytes(integer));
+    NettyUtil.writeVarInt(this.buffer, integer);
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -135,6 +148,33 @@ public NettyMutableDataBuf(@NonNull Buffer buffer) {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf.Mutable writeByteArray(
+    @NonNull FileChannel source,
+    long position,
+    int amount
+  ) throws IOException {
+    var sizeBytes = NettyUtil.varIntBytes(amount);
+    this.buffer.ensureWritable(sizeBytes + amount);
+    NettyUtil.writeVarInt(this.buffer, amount);
+
+    var readBytes = 0;
+    while (readBytes < amount) {
+      // transfer the file content directly into the underlying buffer
+      var transferredBytes = this.buffer.transferFrom(source, position + readBytes, amount - readBytes);
+      if (transferredBytes <= 0) {
+        throw new EOFException("reached end of file before all requested bytes were read");
+      }
+
+      readBytes += transferredBytes;
+    }
+
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.handler.RPCInvocationResult;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An internal utility to encode the target method of RPCs as compact integer ids instead of writing the class name,
+ * method name and method descriptor as strings into each RPC request.
+ * <p>
+ * Each network channel has its own id table on both sides of the connection. The sending side assigns the ids and
+ * defines them on the receiving side by sending the full method information together with the id the first time a
+ * method is called over a channel. Once the sending side received a response to a request that carried a definition,
+ * it knows that the receiving side registered the id and from then on only writes the id of the method. The tables are
+ * dropped automatically once the associated channel is no longer referenced.
+ * <p>
+ * Interned entries are prefixed with a marker byte, which allows receivers to still understand requests that use the
+ * plain layout (as written by previous versions). Receivers of previous versions are not able to read interned entries
+ * though, therefore both sides of a connection must support method interning.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class RPCMethodInterning {
+
+  /**
+   * The marker byte which precedes each interned method entry. In the plain entry layout, which only contains the class
+   * name, method name and method descriptor as strings, the first byte is the length of the class name. As a class name
+   * can never be empty, a zero byte can never be the start of a plain entry.
+   */
+  public static final byte INTERNED_ENTRY_MARKER = 0;
+  /**
+   * The method entry contains an id followed by the class name, method name and method descriptor as strings. The
+   * receiver must associate the given id with the method information.
+   */
+  public static final byte ENTRY_DEFINE = 1;
+  /**
+   * The method entry only contains the id that was previously defined for the method.
+   */
+  public static final byte ENTRY_INTERNED = 2;
+
+  private static final Cache<NetworkChannel, SenderTable> SENDER_TABLES = Caffeine.newBuilder().weakKeys().build();
+  private static final Cache<NetworkChannel, Map<Integer, MethodKey>> RECEIVER_TABLES = Caffeine.newBuilder()
+    .weakKeys()
+    .build();
+
+  private RPCMethodInterning() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Writes the method entry for the given target method into the given buffer. If the method already has an id that
+   * is known to the receiving side of the given channel only the id is written, else the method is defined with a new
+   * or the previously assigned id.
+   *
+   * @param target           the buffer to write the method entry to.
+   * @param channel          the channel to which the RPC will be sent.
+   * @param className        the name of the class in which the target method is located.
+   * @param methodName       the name of the target method.
+   * @param methodDescriptor the descriptor of the target method.
+   * @return the interned method that was written, must be acknowledged once the receiver responded.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  public static @NonNull InternedMethod writeMethodEntry(
+    @NonNull DataBuf.Mutable target,
+    @NonNull NetworkChannel channel,
+    @NonNull String className,
+    @NonNull String methodName,
+    @NonNull String methodDescriptor
+  ) {
+    var senderTable = SENDER_TABLES.get(channel, _ -> new SenderTable());
+    var methodKey = new MethodKey(className, methodName, methodDescriptor);
+    var internedMethod = senderTable.methods.computeIfAbsent(
+      methodKey,
+      key -> new InternedMethod(senderTable.idCounter.getAndIncrement(), key));
+
+    if (internedMethod.acknowledged) {
+      // the receiver knows the id of the method, just write that
+      target.writeByte(INTERNED_ENTRY_MARKER).writeByte(ENTRY_INTERNED).writeVarInt(internedMethod.id);
+    } else {
+      // the receiver does not (yet) know the id, define it
+      target
+        .writeByte(INTERNED_ENTRY_MARKER)
+        .writeByte(ENTRY_DEFINE)
+        .writeVarInt(internedMethod.id)
+        .writeString(methodKey.className())
+        .writeString(methodKey.methodName())
+        .writeString(methodKey.methodDescriptor());
+    }
+
+    return internedMethod;
+  }
+
+  /**
+   * Reads the next method entry from the given buffer. Ids which are defined in the entry are associated with the
+   * method information for the given channel. This method returns null if the entry references an id which is unknown
+   * for the given channel.
+   *
+   * @param source  the buffer to read the method entry from.
+   * @param channel the channel from which the RPC was received.
+   * @return the method information of the entry, null if the entry references an unknown method id.
+   * @throws NullPointerException  if the given buffer or channel is null.
+   * @throws IllegalStateException if the entry type is unknown.
+   */
+  public static @Nullable MethodKey readMethodEntry(@NonNull DataBuf source, @NonNull NetworkChannel channel) {
+    var entryStart = source.readerIndex();
+    if (source.readByte() != INTERNED_ENTRY_MARKER) {
+      // plain entry as written by senders which do not intern methods, the byte was part of the class name
+      source.readerIndex(entryStart);
+      return new MethodKey(source.readString(), source.readString(), source.readString());
+    }
+
+    var entryType = source.readByte();
+    return switch (entryType) {
+      case ENTRY_DEFINE -> {
+        var methodId = source.readVarInt();
+        var methodKey = new MethodKey(source.readString(), source.readString(), source.readString());
+
+        // register the id for later calls
+        var receiverTable = RECEIVER_TABLES.get(channel, _ -> new ConcurrentHashMap<>());
+        receiverTable.put(methodId, methodKey);
+        yield methodKey;
+      }
+      case ENTRY_INTERNED -> {
+        var methodId = source.readVarInt();
+        var receiverTable = RECEIVER_TABLES.getIfPresent(channel);
+        yield receiverTable == null ? null : receiverTable.get(methodId);
+      }
+      default -> throw new IllegalStateException("Unknown rpc method entry type: " + entryType);
+    };
+  }
+
+  /**
+   * Checks if the given RPC response indicates that the receiver did not know an interned method id that was sent to
+   * it. This method does not consume any data from the response buffer.
+   *
+   * @param response the response to check.
+   * @return true if the response indicates that a method id was unknown to the receiver, false otherwise.
+   * @throws NullPointerException if the given response is null.
+   */
+  public static boolean unknownMethodIdResponse(@NonNull Packet response) {
+    return peekResponseStatus(response) == RPCInvocationResult.STATUS_UNKNOWN_METHOD_ID;
+  }
+
+  /**
+   * Get the step of the RPC chain which referenced a method id that was unknown to the receiver. All steps before the
+   * returned step were already executed by the receiver, the returned step and all following steps were not. This
+   * method does not consume any data from the response buffer.
+   *
+   * @param response the response to get the unknown chain step of.
+   * @return the step of the chain which referenced an unknown method id, starting at 1.
+   * @throws NullPointerException  if the given response is null.
+   * @throws IllegalStateException if the given response does not indicate that a method id was unknown.
+   */
+  public static int unknownMethodIdStep(@NonNull Packet response) {
+    var content = response.content();
+    var statusIndex = content.readerIndex();
+    try {
+      // the response data also contains a message after the step, so peeking the step will not release the buffer
+      if (content.readByte() != RPCInvocationResult.STATUS_UNKNOWN_METHOD_ID) {
+        throw new IllegalStateException("Response does not indicate an unknown method id");
+      }
+
+      return content.readVarInt();
+    } finally {
+      content.readerIndex(statusIndex);
+    }
+  }
+
+  /**
+   * Checks if the given RPC response indicates that the RPC was processed successfully. This method does not consume
+   * any data from the response buffer.
+   *
+   * @param response the response to check.
+   * @return true if the response indicates that the RPC was processed successfully, false otherwise.
+   * @throws NullPointerException if the given response is null.
+   */
+  public static boolean successResponse(@NonNull Packet response) {
+    return peekResponseStatus(response) == RPCInvocationResult.STATUS_OK;
+  }
+
+  /**
+   * Reads the status of the given RPC response without consuming any data from the response buffer.
+   *
+   * @param response the response to get the status of.
+   * @return the status of the given rpc response.
+   * @throws NullPointerException if the given response is null.
+   */
+  private static byte peekResponseStatus(@NonNull Packet response) {
+    var content = response.content();
+    var statusIndex = content.readerIndex();
+    try {
+      // each rpc response contains at least two bytes, so peeking the status will not release the buffer
+      return content.readByte();
+    } finally {
+      content.readerIndex(statusIndex);
+    }
+  }
+
+  /**
+   * The method information that is associated with a method id.
+   *
+   * @param className        the name of the class in which the target method is located.
+   * @param methodName       the name of the target method.
+   * @param methodDescriptor the descriptor of the target method.
+   * @since 4.0
+   */
+  public record MethodKey(@NonNull String className, @NonNull String methodName, @NonNull String methodDescriptor) {
+
+  }
+
+  /**
+   * A method which has an id assigned on the sending side of a channel.
+   *
+   * @since 4.0
+   */
+  public static final class InternedMethod {
+
+    private final int id;
+    private final MethodKey methodKey;
+
+    private volatile boolean acknowledged;
+
+    /**
+     * Constructs a new interned method instance.
+     *
+     * @param id        the id assigned to the method.
+     * @param methodKey the information about the method.
+     * @throws NullPointerException if the given method information is null.
+     */
+    private InternedMethod(int id, @NonNull MethodKey methodKey) {
+      this.id = id;
+      this.methodKey = methodKey;
+    }
+
+    /**
+     * Get the id that was assigned to this method.
+     *
+     * @return the id of this method.
+     */
+    public int id() {
+      return this.id;
+    }
+
+    /**
+     * Get the information about this method.
+     *
+     * @return the information about this method.
+     */
+    public @NonNull MethodKey methodKey() {
+      return this.methodKey;
+    }
+
+    /**
+     * Marks this method as known to the receiving side, causing only the id to be written for further calls.
+     */
+    public void acknowledge() {
+      this.acknowledged = true;
+    }
+
+    /**
+     * Marks this method as unknown to the receiving side, causing the method to be defined again on the next call.
+     */
+    public void invalidate() {
+      this.acknowledged = false;
+    }
+  }
+
+  /**
+   * The table holding the ids of methods that were assigned on the sending side of a channel.
+   *
+   * @since 4.0
+   */
+  private static final class SenderTable {
+
+    private final AtomicInteger idCounter = new AtomicInteger();
+    private final Map<MethodKey, InternedMethod> methods = new ConcurrentHashMap<>();
+  }
+}
@@ -34,9 +34,11 @@
 import io.vavr.control.Try;
 import java.lang.constant.MethodTypeDesc;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import lombok.NonNull;
@@ -56,6 +58,7 @@ final class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler {
   private final Object boundInstance;
   private final RPCClassMetadata targetClassMeta;
   private final Cache<RPCMethodMetadata, MethodInvoker> methodInvokerCache;
+  private final Map<MethodLookupKey, RPCMethodMetadata> resolvedMethods = new ConcurrentHashMap<>();
 
   /**
    * Constructs a new rpc handler instance.
@@ -112,18 +115,28 @@ final class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler {
       return Task.completedTask(new RPCInvocationResult.ServerError("no instance to invoke the method on", this));
     }
 
-    // parse the method type to validate it
-    var targetMethodType = parseMethodDescriptor(context.methodDescriptor());
-    if (targetMethodType == null) {
-      return Task.completedTask(new RPCInvocationResult.BadRequest("invalid target method descriptor", this));
-    }
+    // check if the target method was resolved before, this prevents parsing the descriptor on each invocation
+    var methodLookupKey = new MethodLookupKey(context.methodName(), context.methodDescriptor());
+    var resolvedTargetMethod = this.resolvedMethods.get(methodLookupKey);
+    if (resolvedTargetMethod == null) {
+      // parse the method type to validate it
+      var targetMethodType = parseMethodDescriptor(context.methodDescriptor());
+      if (targetMethodType == null) {
+        return Task.completedTask(new RPCInvocationResult.BadRequest("invalid target method descriptor", this));
+      }
+
+      // find the associated method meta in the target class
+      resolvedTargetMethod = this.targetClassMeta.findMethod(context.methodName(), targetMethodType);
+      if (resolvedTargetMethod == null) {
+        return Task.completedTask(new RPCInvocationResult.BadRequest("target method not found", this));
+      }
 
-    // find the associated method meta in the target class
-    var targetMethod = this.targetClassMeta.findMethod(context.methodName(), targetMethodType);
-    if (targetMethod == null) {
-      return Task.completedTask(new RPCInvocationResult.BadRequest("target method not found", this));
+      // only successful lookups are cached, the amount of entries is limited by the methods in the target class
+      this.resolvedMethods.put(methodLookupKey, resolvedTargetMethod);
     }
 
+    var targetMethod = resolvedTargetMethod;
+
     // deserialize the provided method arguments, returns null in case the arguments buffer
     // has some invalid argument data at some position
     var methodArguments = this.deserializeMethodArguments(targetMethod, context.argumentInformation());
@@ -227,4 +240,15 @@ final class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler {
       return null;
     }
   }
+
+  /**
+   * The key used to cache the resolved method metadata for a method name and descriptor combination.
+   *
+   * @param methodName       the name of the method.
+   * @param methodDescriptor the descriptor of the method.
+   * @since 4.0
+   */
+  private record MethodLookupKey(@NonNull String methodName, @NonNull String methodDescriptor) {
+
+  }
 }
@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactoryRegistry;
+import eu.cloudnetservice.driver.document.binary.BinaryDocumentCodec;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
@@ -26,12 +27,22 @@
 import lombok.NonNull;
 
 /**
- * An object serializer which can write and read a json document to/from the buffer.
+ * An object serializer which can write and read a document to/from the buffer. By default, documents are written using
+ * the compact binary document encoding, followed by the name of the factory that should receive the document on the
+ * reading side. Setting the {@code cloudnet.network.document-format} system property to {@code native} switches back to
+ * writing documents in the format of their factory (for example json). Both formats can always be read.
  *
  * @since 4.0
  */
 public final class DocumentObjectSerializer implements ObjectSerializer<Document> {
 
+  /**
+   * The pseudo factory name written in front of documents that use the binary encoding.
+   */
+  private static final String BINARY_FORMAT_MARKER = "cloudnet:binary";
+  private static final boolean WRITE_BINARY_FORMAT = !"native".equals(
+    System.getProperty("cloudnet.network.document-format"));
+
   private DocumentFactoryRegistry documentFactoryRegistry;
 
   /**
@@ -44,6 +55,12 @@ public final class DocumentObjectSerializer implements ObjectSerializer<Document
     @NonNull ObjectMapper caller
   ) {
     var documentFactoryName = source.readString();
+    if (documentFactoryName.equals(BINARY_FORMAT_MARKER)) {
+      // the real factory name follows the marker, the document is received into that factory
+      var documentFactory = this.documentFactoryRegistry().documentFactory(source.readString());
+      return BinaryDocumentCodec.read(source).into(documentFactory);
+    }
+
     var documentFactory = this.documentFactoryRegistry().documentFactory(documentFactoryName);
     return documentFactory.parse(source);
   }
@@ -58,8 +75,14 @@ public void write(
     @NonNull Type type,
     @NonNull ObjectMapper caller
   ) {
-    dataBuf.writeString(object.factoryName());
-    object.writeTo(dataBuf);
+    if (WRITE_BINARY_FORMAT) {
+      dataBuf.writeString(BINARY_FORMAT_MARKER);
+      dataBuf.writeString(object.factoryName());
+      BinaryDocumentCodec.write(object, dataBuf);
+    } else {
+      dataBuf.writeString(object.factoryName());
+      object.writeTo(dataBuf);
+    }
   }
 
   /**
@@ -23,6 +23,7 @@
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodInterning;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
@@ -265,11 +266,13 @@ public void fireAndForget(@NonNull NetworkChannel component) {
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
     // write the information about the RPC into a buffer
-    var dataBuf = this.dataBufFactory.createEmpty()
-      .writeInt(1) // single RPC
-      .writeString(this.className())
-      .writeString(this.methodName())
-      .writeString(this.methodDescriptor());
+    var dataBuf = this.dataBufFactory.createEmpty().writeInt(1); // single RPC
+    var internedMethod = RPCMethodInterning.writeMethodEntry(
+      dataBuf,
+      component,
+      this.className(),
+      this.methodName(),
+      this.methodDescriptor());
     for (var argument : this.arguments) {
       this.objectMapper.writeObject(dataBuf, argument);
     }
@@ -281,9 +284,21 @@ public void fireAndForget(@NonNull NetworkChannel component) {
     } else {
       // result is expected: send a query to the target network component and return the future so that
       // the caller can decide how to wait for the result
+      var resultMapper = new RPCResultMapper<T>(this.expectedResultType(), this.objectMapper);
       CompletableFuture<T> queryFuture = component
         .sendQueryAsync(new RPCRequestPacket(dataBuf))
-        .thenApply(new RPCResultMapper<>(this.expectedResultType(), this.objectMapper));
+        .thenCompose(response -> {
+          if (RPCMethodInterning.unknownMethodIdResponse(response)) {
+            // the receiver lost track of the method id, re-send the request and define the method again
+            response.content().forceRelease();
+            internedMethod.invalidate();
+            return this.<T>fire(component);
+          }
+
+          // any response indicates that the receiver knows the method id now
+          internedMethod.acknowledge();
+          return CompletableFuture.completedFuture(resultMapper.apply(response));
+        });
       if (this.executionTimeout != null) {
         // apply the requested timeout
         var timeoutMillis = this.executionTimeout.toMillis();
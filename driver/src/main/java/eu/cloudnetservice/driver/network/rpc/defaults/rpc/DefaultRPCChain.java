@@ -21,9 +21,11 @@
 import eu.cloudnetservice.driver.network.rpc.RPC;
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodInterning;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.packet.RPCRequestPacket;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -194,11 +196,15 @@ public void fireAndForget(@NonNull NetworkChannel component) {
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
     // write the chained RPC information
     var buffer = this.dataBufFactory.createEmpty().writeInt(this.fullChain.size());
+    var internedMethods = new ArrayList<RPCMethodInterning.InternedMethod>(this.fullChain.size());
     for (var chainEntry : this.fullChain) {
-      buffer
-        .writeString(chainEntry.className())
-        .writeString(chainEntry.methodName())
-        .writeString(chainEntry.methodDescriptor());
+      var internedMethod = RPCMethodInterning.writeMethodEntry(
+        buffer,
+        component,
+        chainEntry.className(),
+        chainEntry.methodName(),
+        chainEntry.methodDescriptor());
+      internedMethods.add(internedMethod);
       for (var argument : chainEntry.arguments()) {
         this.objectMapper.writeObject(buffer, argument);
       }
@@ -211,9 +217,34 @@ public void fireAndForget(@NonNull NetworkChannel component) {
     } else {
       // result is expected: send a query to the target network component and return the future so that
       // the caller can decide how to wait for the result
+      var resultMapper = new RPCResultMapper<T>(this.chainTail.expectedResultType(), this.objectMapper);
       CompletableFuture<T> queryFuture = component
         .sendQueryAsync(new RPCRequestPacket(buffer))
-        .thenApply(new RPCResultMapper<>(this.chainTail.expectedResultType(), this.objectMapper));
+        .thenCompose(response -> {
+          if (RPCMethodInterning.unknownMethodIdResponse(response)) {
+            // the receiver lost track of a method id, define all methods again on the next call
+            internedMethods.forEach(RPCMethodInterning.InternedMethod::invalidate);
+            if (RPCMethodInterning.unknownMethodIdStep(response) == 1) {
+              // no step of the chain was executed yet, the request can safely be sent again
+              response.content().forceRelease();
+              return this.<T>fire(component);
+            }
+
+            // the steps before the unknown one were already executed, re-sending the request would execute them
+            // again. the result mapper fails the call with the information from the response
+            return CompletableFuture.completedFuture(resultMapper.apply(response));
+          }
+
+          // the first method entry is always read by the receiver. the remaining entries are only read
+          // when the chain execution completed successfully, as the execution stops at the first failure
+          if (RPCMethodInterning.successResponse(response)) {
+            internedMethods.forEach(RPCMethodInterning.InternedMethod::acknowledge);
+          } else {
+            internedMethods.getFirst().acknowledge();
+          }
+
+          return CompletableFuture.completedFuture(resultMapper.apply(response));
+        });
 
       var timeout = this.chainTail.timeout();
       if (timeout != null) {
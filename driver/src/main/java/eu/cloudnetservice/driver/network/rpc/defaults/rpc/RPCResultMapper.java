@@ -61,6 +61,15 @@
         var exceptionMessage = String.format("RPC couldn't be processed due to a server error: %s", detailMessage);
         throw new RPCExecutionException(exceptionMessage);
       }
+      case RPCInvocationResult.STATUS_UNKNOWN_METHOD_ID -> {
+        var chainStep = responseData.readVarInt();
+        var detailMessage = responseData.readString();
+        var exceptionMessage = String.format(
+          "RPC couldn't be processed due to an unknown method at chain step %d: %s",
+          chainStep,
+          detailMessage);
+        throw new RPCExecutionException(exceptionMessage);
+      }
       default -> {
         var exceptionMessage = String.format("Server responded with unknown status code: %d", status);
         throw new RPCExecutionException(exceptionMessage);
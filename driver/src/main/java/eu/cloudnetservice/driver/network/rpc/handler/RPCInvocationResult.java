@@ -43,6 +43,10 @@ public sealed interface RPCInvocationResult {
    * Indicates that there was a server error which made it impossible to handle the request.
    */
   byte STATUS_SERVER_ERROR = 3;
+  /**
+   * Indicates that the client referenced a method by an interned id which is unknown to the RPC handler.
+   */
+  byte STATUS_UNKNOWN_METHOD_ID = 4;
 
   /**
    * Get if the method invocation was successful or not.
@@ -22,6 +22,7 @@
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodInterning;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.RPCExceptionUtil;
 import eu.cloudnetservice.driver.network.rpc.handler.RPCHandlerRegistry;
 import eu.cloudnetservice.driver.network.rpc.handler.RPCInvocationContext;
@@ -81,9 +82,16 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
         this.executeRPCChainStep(rpcDepth, 1, resultExpected, content, packet, channel, null);
       } else {
         // single method rpc, execute & respond if requested
-        var targetClassName = content.readString();
-        var invocationContext = this.buildContext(content, null);
-        var handlingTask = this.postRPCRequestToHandler(targetClassName, invocationContext);
+        var targetMethod = RPCMethodInterning.readMethodEntry(content, channel);
+        if (targetMethod == null) {
+          if (resultExpected) {
+            this.sendResponseData(channel, packet, this.unknownMethodIdResponse(1));
+          }
+          return;
+        }
+
+        var invocationContext = this.buildContext(targetMethod, content, null);
+        var handlingTask = this.postRPCRequestToHandler(targetMethod.className(), invocationContext);
         if (resultExpected) {
           this.waitForInvocationCompletion(handlingTask, result -> {
             var resultContent = this.serializeHandlingResult(result);
@@ -141,9 +149,16 @@ private void executeRPCChainStep(
     @Nullable Object previousMethodReturnValue
   ) {
     // execute the target method based on the provided input
-    var targetClassName = content.readString();
-    var invocationContext = this.buildContext(content, previousMethodReturnValue);
-    var invocationTask = this.postRPCRequestToHandler(targetClassName, invocationContext);
+    var targetMethod = RPCMethodInterning.readMethodEntry(content, channel);
+    if (targetMethod == null) {
+      if (resultExpected) {
+        this.sendResponseData(channel, request, this.unknownMethodIdResponse(currentDepth));
+      }
+      return;
+    }
+
+    var invocationContext = this.buildContext(targetMethod, content, previousMethodReturnValue);
+    var invocationTask = this.postRPCRequestToHandler(targetMethod.className(), invocationContext);
     this.waitForInvocationCompletion(invocationTask, invocationResult -> {
       // handle the invocation result:
       //   -> continue invoking in case the invocation was successful and returned a non-null result
@@ -248,27 +263,39 @@ private void sendResponseData(@NonNull NetworkChannel channel, @NonNull Packet r
     return handler == null ? null : handler.handle(context);
   }
 
+  /**
+   * Constructs the response data which indicates that the remote referenced a method by an id that is unknown. The
+   * response contains the chain step at which the unknown id was encountered, as all steps before were already executed
+   * and must not be executed again when the remote re-sends the request.
+   *
+   * @param chainStep the step of the chain which referenced the unknown method id, starting at 1.
+   * @return the response data for a request which referenced an unknown method id.
+   */
+  private @NonNull DataBuf unknownMethodIdResponse(int chainStep) {
+    return DataBuf.empty()
+      .writeByte(RPCInvocationResult.STATUS_UNKNOWN_METHOD_ID)
+      .writeVarInt(chainStep)
+      .writeString("unknown interned method id");
+  }
+
   /**
    * Builds a new context for a rpc method invocation based on the given information and remaining content in the
-   * buffer. The given buffer should still contain (in the given order):
-   * <ol>
-   *   <li>the target method name.
-   *   <li>the target method descriptor.
-   *   <li>the argument information for the invocation, if any.
-   * </ol>
+   * buffer. The given buffer should still contain the argument information for the invocation, if any.
    *
+   * @param targetMethod    the information about the target method that was read from the buffer.
    * @param content         the remaining buffer content, containing the data as described above.
    * @param workingInstance the instance on which the methods should be called, null to use the handler binding.
    * @return a generated invocation context based on the given information.
-   * @throws NullPointerException if the given content buffer is null.
+   * @throws NullPointerException if the given target method or content buffer is null.
    */
-  private @NonNull RPCInvocationContext buildContext(@NonNull DataBuf content, @Nullable Object workingInstance) {
-    // read data from buffer, this must be in order it's written to the buffer
-    var methodName = content.readString();
-    var methodDescriptor = content.readString();
+  private @NonNull RPCInvocationContext buildContext(
+    @NonNull RPCMethodInterning.MethodKey targetMethod,
+    @NonNull DataBuf content,
+    @Nullable Object workingInstance
+  ) {
     return RPCInvocationContext.builder()
-      .methodName(methodName)
-      .methodDescriptor(methodDescriptor)
+      .methodName(targetMethod.methodName())
+      .methodDescriptor(targetMethod.methodDescriptor())
       .argumentInformation(content) // might be unsafe, but we cannot slice the argument data due to the unknown size
       .workingInstance(workingInstance)
       .build();
@@ -82,6 +82,39 @@ public interface CloudMessenger {
    */
   @Nullable ChannelMessage sendSingleChannelMessageQuery(@NonNull ChannelMessage channelMessage);
 
+  /**
+   * Announces that this component has listeners for channel messages sent to the given channels. Components which
+   * announced their subscriptions can be excluded by the node from broadcasts (channel messages targeting all services,
+   * a task, a group or an environment) sent to channels they are not subscribed to. Channel messages which are sent
+   * directly to a component are always delivered.
+   * <p>
+   * Subscriptions are only taken into account when the subscription filtering is enabled for the component. Subscribing
+   * to a channel on a node has no effect, as nodes are always receiving all channel messages.
+   *
+   * @param channels the names of the channels to subscribe to.
+   * @throws NullPointerException if the given channel array is null.
+   */
+  void subscribeChannels(@NonNull String... channels);
+
+  /**
+   * Removes the subscriptions of this component from the given channels.
+   *
+   * @param channels the names of the channels to unsubscribe from.
+   * @throws NullPointerException if the given channel array is null.
+   * @see #subscribeChannels(String...)
+   */
+  void unsubscribeChannels(@NonNull String... channels);
+
+  /**
+   * Get the names of all channels this component is subscribed to. Modifications to the returned collection are not
+   * possible.
+   *
+   * @return the names of all channels this component is subscribed to.
+   * @see #subscribeChannels(String...)
+   */
+  @NonNull
+  Collection<String> subscribedChannels();
+
   /**
    * Sends the given channel message to all of its targets without waiting for a response from them.
    *
@@ -24,6 +24,7 @@
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.driver.service.ServiceRemoteInclusion;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import java.util.Collection;
 import java.util.Queue;
 import lombok.NonNull;
@@ -81,6 +82,21 @@ public interface SpecificCloudServiceProvider {
    */
   @Nullable ServiceInfoSnapshot forceUpdateServiceInfo();
 
+  /**
+   * Requests a snapshot of all threads which are currently alive in the underlying service process. Thread information
+   * are no longer part of the process snapshot that is periodically published by a service, as dumping all threads
+   * requires the service jvm to reach a global safepoint. This method returns an empty collection when the underlying
+   * service
+   * <ol>
+   *   <li>doesn't exist anymore.
+   *   <li>is not started and therefore not connected to a node.
+   * </ol>
+   *
+   * @return a snapshot of all threads of the underlying service, can be empty as described above.
+   */
+  @NonNull
+  Collection<ThreadSnapshot> threadSnapshots();
+
   /**
    * Adds the given service template to the inclusion queue. This does not mean that the given template will be copied
    * directly onto the service. The template will be copied when
@@ -346,6 +362,22 @@ default void removeAndExecuteDeployments() {
     return Task.supply(this::forceUpdateServiceInfo);
   }
 
+  /**
+   * Requests a snapshot of all threads which are currently alive in the underlying service process. Thread information
+   * are no longer part of the process snapshot that is periodically published by a service, as dumping all threads
+   * requires the service jvm to reach a global safepoint. The returned task is completed with an empty collection when
+   * the underlying service
+   * <ol>
+   *   <li>doesn't exist anymore.
+   *   <li>is not started and therefore not connected to a node.
+   * </ol>
+   *
+   * @return a task completed with a snapshot of all threads of the underlying service.
+   */
+  default @NonNull Task<Collection<ThreadSnapshot>> threadSnapshotsAsync() {
+    return Task.supply(this::threadSnapshots);
+  }
+
   /**
    * Adds the given service template to the inclusion queue. This does not mean that the given template will be copied
    * directly onto the service. The template will be copied when
@@ -19,6 +19,11 @@
 import com.google.common.collect.Iterables;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.provider.CloudMessenger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,6 +34,8 @@
  */
 public abstract class DefaultMessenger implements CloudMessenger {
 
+  protected final Set<String> subscribedChannels = ConcurrentHashMap.newKeySet();
+
   /**
    * {@inheritDoc}
    */
@@ -36,4 +43,38 @@ public abstract class DefaultMessenger implements CloudMessenger {
   public @Nullable ChannelMessage sendSingleChannelMessageQuery(@NonNull ChannelMessage channelMessage) {
     return Iterables.getFirst(this.sendChannelMessageQuery(channelMessage), null);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribeChannels(@NonNull String... channels) {
+    if (this.subscribedChannels.addAll(Arrays.asList(channels))) {
+      this.handleSubscriptionsChange();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void unsubscribeChannels(@NonNull String... channels) {
+    if (this.subscribedChannels.removeAll(Arrays.asList(channels))) {
+      this.handleSubscriptionsChange();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Collection<String> subscribedChannels() {
+    return Collections.unmodifiableSet(this.subscribedChannels);
+  }
+
+  /**
+   * Called each time the channel subscriptions of this component were changed. By default, this method does nothing.
+   */
+  protected void handleSubscriptionsChange() {
+  }
 }
@@ -24,7 +24,6 @@
 import java.lang.management.ThreadMXBean;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Set;
 import lombok.NonNull;
 
 /**
@@ -40,7 +39,7 @@
  * @param unloadedClassCount      the amount of classes the associated process unloaded since starting.
  * @param totalLoadedClassCount   the amount of classes which were loaded since the associated process was started.
  * @param currentLoadedClassCount the amount of classes which are currently loaded by the associated process.
- * @param threads                 a snapshot of all threads which are currently known to the associated process.
+ * @param threadCount             the amount of live threads which are currently known to the associated process.
  * @since 4.0
  */
 public record ProcessSnapshot(
@@ -53,7 +52,7 @@ public record ProcessSnapshot(
   long unloadedClassCount,
   long totalLoadedClassCount,
   int currentLoadedClassCount,
-  @NonNull Collection<ThreadSnapshot> threads
+  int threadCount
 ) implements Cloneable {
 
   // init them here to reduce lookup load as the get calls will trigger a full re-scan for the bean
@@ -64,7 +63,7 @@ public record ProcessSnapshot(
 
   private static final long OWN_PID = ProcessHandle.current().pid();
   private static final ProcessSnapshot EMPTY = new ProcessSnapshot(
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, Set.of());
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1);
 
   /**
    * Get a jvm static process snapshot which holds no information about any process.
@@ -91,7 +90,18 @@ public record ProcessSnapshot(
       CLASS_LOADING_MX_BEAN.getUnloadedClassCount(),
       CLASS_LOADING_MX_BEAN.getTotalLoadedClassCount(),
       CLASS_LOADING_MX_BEAN.getLoadedClassCount(),
-      Arrays.stream(THREAD_MX_BEAN.dumpAllThreads(false, false, 0)).map(ThreadSnapshot::from).toList());
+      THREAD_MX_BEAN.getThreadCount());
+  }
+
+  /**
+   * Creates a snapshot of all threads which are currently alive in the current process. Note that dumping all threads
+   * requires the jvm to reach a safepoint, therefore this method should only be called when the thread information are
+   * actually needed rather than periodically.
+   *
+   * @return a snapshot of all threads which are currently alive in the current process.
+   */
+  public static @NonNull Collection<ThreadSnapshot> threadSnapshots() {
+    return Arrays.stream(THREAD_MX_BEAN.dumpAllThreads(false, false, 0)).map(ThreadSnapshot::from).toList();
   }
 
   /**
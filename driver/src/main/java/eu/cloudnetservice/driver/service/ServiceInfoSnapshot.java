@@ -20,14 +20,21 @@
 import eu.cloudnetservice.common.Named;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.property.DefaultedDocPropertyHolder;
+import eu.cloudnetservice.driver.document.property.DocProperty;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.ToString;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
 
 /**
  * Represents the state of a service at the snapshot creation time. A service snapshot (once created) will never change
@@ -41,6 +48,21 @@
 public class ServiceInfoSnapshot
   implements Named, DefaultedDocPropertyHolder, Cloneable, Comparable<ServiceInfoSnapshot> {
 
+  private static final Object NULL_PROPERTY_VALUE = new Object();
+  // properties created inline (for example using a read rewrite) are new keys on every read, bound the decoded values
+  private static final int MAX_DECODED_PROPERTIES = 64;
+  private static final Set<Class<?>> IMMUTABLE_PROPERTY_TYPES = Set.of(
+    String.class,
+    Boolean.class,
+    Character.class,
+    Byte.class,
+    Short.class,
+    Integer.class,
+    Long.class,
+    Float.class,
+    Double.class,
+    UUID.class);
+
   protected final long creationTime;
 
   protected final HostAndPort address;
@@ -53,6 +75,12 @@
 
   protected final Document properties;
 
+  // the decoded values of the properties that were read from this snapshot, lazily initialized as the field is not set
+  // when the snapshot was created without calling the constructor (for example during deserialization)
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private transient volatile Map<DocProperty<?>, Object> decodedProperties;
+
   /**
    * Constructs a new service info snapshot. This constructor is for internal use only, there should be no reason
    * normally why you need to create a service info snapshot instance yourself.
@@ -187,6 +215,48 @@ public long connectedTime() {
     return this.properties;
   }
 
+  /**
+   * Reads the value of the given property from the properties of this snapshot. As a snapshot never changes, immutable
+   * values (such as strings, boxed primitives and enums) are only decoded once from the underlying document, all
+   * subsequent reads return the same value. Mutable values are decoded on each read to not share them between callers.
+   *
+   * @param property the property to read.
+   * @param <E>      the type which gets read/written by the given property.
+   * @return the value of the property.
+   * @throws NullPointerException if the given property is null.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E> @UnknownNullability E readProperty(@NonNull DocProperty<E> property) {
+    var decodedProperties = this.decodedProperties;
+    if (decodedProperties == null) {
+      decodedProperties = new ConcurrentHashMap<>();
+      this.decodedProperties = decodedProperties;
+    }
+
+    var decodedValue = decodedProperties.get(property);
+    if (decodedValue != null) {
+      return decodedValue == NULL_PROPERTY_VALUE ? null : (E) decodedValue;
+    }
+
+    var value = property.readFrom(this.properties);
+    if (decodedProperties.size() < MAX_DECODED_PROPERTIES && immutablePropertyValue(value)) {
+      decodedProperties.putIfAbsent(property, value == null ? NULL_PROPERTY_VALUE : value);
+    }
+
+    return value;
+  }
+
+  /**
+   * Checks if the given decoded property value is immutable and can therefore be shared between all readers.
+   *
+   * @param value the decoded value to check.
+   * @return true if the given value is immutable, false otherwise.
+   */
+  private static boolean immutablePropertyValue(@Nullable Object value) {
+    return value == null || value instanceof Enum<?> || IMMUTABLE_PROPERTY_TYPES.contains(value.getClass());
+  }
+
   /**
    * {@inheritDoc}
    */
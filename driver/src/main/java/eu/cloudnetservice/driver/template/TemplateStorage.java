@@ -92,6 +92,28 @@ default boolean deployDirectory(@NonNull ServiceTemplate target, @NonNull Path d
    */
   boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory);
 
+  /**
+   * Materializes the template data which is stored in this template storage into the given directory. Other than a
+   * pull, storages are allowed to link the immutable files of the template into the target directory (for example
+   * using hard links) instead of copying them. Only files whose path relative to the template root matches one of the
+   * given glob patterns are considered immutable and may be linked, all other files are copied. Linked files must
+   * never be written in place, as the change would be reflected into the template. Storages which are unable to link
+   * files fall back to a normal pull.
+   *
+   * @param template           the template to materialize the files of.
+   * @param directory          the target directory to materialize the files into.
+   * @param linkedFilePatterns the glob patterns of the immutable files which may be linked instead of copied.
+   * @return true if the operation completed successfully, false otherwise.
+   * @throws NullPointerException if the given template, target directory or pattern collection is null.
+   */
+  default boolean materialize(
+    @NonNull ServiceTemplate template,
+    @NonNull Path directory,
+    @NonNull Collection<String> linkedFilePatterns
+  ) {
+    return this.pull(template, directory);
+  }
+
   /**
    * Pulls the data of the given template into a temporary directory and zip it. The returned input stream is a stream
    * which can read from the created zip file but is not necessarily a zip input stream. If you specifically want a zip
@@ -336,6 +358,28 @@ default boolean deployDirectory(@NonNull ServiceTemplate target, @NonNull Path d
     return Task.supply(() -> this.pull(template, directory));
   }
 
+  /**
+   * Materializes the template data which is stored in this template storage into the given directory. Other than a
+   * pull, storages are allowed to link the immutable files of the template into the target directory (for example
+   * using hard links) instead of copying them. Only files whose path relative to the template root matches one of the
+   * given glob patterns are considered immutable and may be linked, all other files are copied. Linked files must
+   * never be written in place, as the change would be reflected into the template. Storages which are unable to link
+   * files fall back to a normal pull.
+   *
+   * @param template           the template to materialize the files of.
+   * @param directory          the target directory to materialize the files into.
+   * @param linkedFilePatterns the glob patterns of the immutable files which may be linked instead of copied.
+   * @return a task completed with true if the operation completed successfully, false otherwise.
+   * @throws NullPointerException if the given template, target directory or pattern collection is null.
+   */
+  default @NonNull Task<Boolean> materializeAsync(
+    @NonNull ServiceTemplate template,
+    @NonNull Path directory,
+    @NonNull Collection<String> linkedFilePatterns
+  ) {
+    return Task.supply(() -> this.materialize(template, directory, linkedFilePatterns));
+  }
+
   /**
    * Pulls the data of the given template into a temporary directory and zip it. The returned input stream is a stream
    * which can read from the created zip file but is not necessarily a zip input stream. If you specifically want a zip
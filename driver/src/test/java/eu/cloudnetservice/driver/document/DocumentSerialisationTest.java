@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.document;
 
+import eu.cloudnetservice.driver.document.binary.BinaryDocumentCodec;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.object.AllPrimitiveTypesDataClass;
 import java.io.ByteArrayInputStream;
@@ -127,6 +128,35 @@ void testDataBufSerialisation(Document input, SerialisationStyle style) {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("serialisationInputSource")
+  void testBinaryDataBufSerialisation(Document input) {
+    try (var buf = DataBuf.empty()) {
+      Assertions.assertDoesNotThrow(() -> BinaryDocumentCodec.write(input, buf));
+
+      var send = Assertions.assertDoesNotThrow(() -> BinaryDocumentCodec.read(buf));
+      Assertions.assertEquals(input, send.into(DocumentFactory.json()));
+      Assertions.assertEquals(0, buf.readableBytes());
+    }
+  }
+
+  @Test
+  void testBinaryDataBufNumbersAndRepeatedKeys() {
+    var parsed = DocumentFactory.json().parse("{\"int\": 12, \"decimal\": 1.25, \"big\": 123456789012345678901}");
+    var input = Document.newJsonDocument()
+      .append("min", Long.MIN_VALUE)
+      .append("max", Long.MAX_VALUE)
+      .append("negative", -1)
+      .append("float", 0.1F)
+      .append("char", 'c')
+      .append("nested", Document.newJsonDocument().append("min", 0).append("max", List.of(1, "2", 3.5)))
+      .append("parsed", parsed);
+    try (var buf = DataBuf.empty()) {
+      BinaryDocumentCodec.write(input, buf);
+      Assertions.assertEquals(input, BinaryDocumentCodec.read(buf).into(DocumentFactory.json()));
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("serialisationInputSource")
   void testStringSerialisation(Document input, SerialisationStyle style) {
@@ -22,6 +22,8 @@
 import eu.cloudnetservice.driver.network.chunk.defaults.splitter.NetworkChannelsPacketSplitter;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
@@ -35,6 +37,7 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -65,6 +68,34 @@ void testChunkPacketSender() throws Exception {
       .get());
   }
 
+  @Test
+  @Order(5)
+  @Timeout(20)
+  void testFileChannelChunkPacketSender(@TempDir Path tempDir) throws Exception {
+    var packetSplits = new AtomicInteger();
+    var chunkData = this.generateRandomChunkData();
+
+    var sourceFile = tempDir.resolve("chunk_source");
+    Files.write(sourceFile, chunkData);
+
+    var sessionId = UUID.randomUUID();
+    DataBuf dataBuf = DataBuf.empty().writeString("hello").writeInt(10).writeString("world");
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, ChunkedPacketSender.forFileTransfer()
+      .forFile(sourceFile)
+      .chunkSize(256)
+      .withExtraData(dataBuf)
+      .sessionUniqueId(sessionId)
+      .transferChannel("hello_world")
+      .packetSplitter(packet -> {
+        this.validatePacket(packet, sessionId, packetSplits, chunkData);
+        packetSplits.incrementAndGet();
+      })
+      .build()
+      .transferChunkedData()
+      .get());
+  }
+
   @Test
   @Order(10)
   @Timeout(20)
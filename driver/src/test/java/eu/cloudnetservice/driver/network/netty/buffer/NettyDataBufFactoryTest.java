@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.buffer;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class NettyDataBufFactoryTest {
+
+  @Test
+  void testReadOnlyCopiesAreIndependent() {
+    var factory = DataBufFactory.defaultFactory();
+    var content = factory.readOnlyOf(DataBuf.empty().writeString("Hello World").writeInt(1234));
+
+    var firstCopy = factory.copyOf(content);
+    var secondCopy = factory.copyOf(content);
+    content.release();
+
+    // reading (and releasing) one copy must not influence the other copy
+    Assertions.assertEquals("Hello World", firstCopy.readString());
+    Assertions.assertEquals(1234, firstCopy.readInt());
+    firstCopy.release();
+
+    Assertions.assertTrue(secondCopy.accessible());
+    Assertions.assertEquals("Hello World", secondCopy.readString());
+    Assertions.assertEquals(1234, secondCopy.readInt());
+    secondCopy.release();
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.buffer;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NettyImmutableDataBufTest {
+
+  @Test
+  void testReadByteArrayToWritesAtPosition(@TempDir Path tempDir) throws IOException {
+    var file = tempDir.resolve("chunks");
+    var buffer = DataBuf.empty()
+      .writeByteArray("World".getBytes(StandardCharsets.UTF_8))
+      .writeByteArray("Hello ".getBytes(StandardCharsets.UTF_8))
+      .writeInt(1234);
+
+    try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      // write the chunks out of order, the position of the channel must not be used or changed
+      channel.position(3);
+      Assertions.assertEquals(5, buffer.readByteArrayTo(channel, 6));
+      Assertions.assertEquals(6, buffer.readByteArrayTo(channel, 0));
+      Assertions.assertEquals(3, channel.position());
+    }
+
+    Assertions.assertEquals(1234, buffer.readInt());
+    Assertions.assertEquals("Hello World", Files.readString(file));
+  }
+
+  @Test
+  void testReadByteArrayToRejectsMissingBytes(@TempDir Path tempDir) throws IOException {
+    // the length prefix announces more bytes than the buffer contains
+    var file = tempDir.resolve("chunk");
+    var buffer = DataBuf.empty().writeVarInt(10).writeByte((byte) 1);
+    try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      Assertions.assertThrows(IndexOutOfBoundsException.class, () -> buffer.readByteArrayTo(channel, 0));
+      Assertions.assertEquals(0, channel.size());
+    }
+  }
+}
@@ -24,6 +24,7 @@
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCFactory;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodInterning;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.DefaultRPCHandlerRegistry;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
 import eu.cloudnetservice.driver.network.rpc.listener.RPCPacketListener;
@@ -117,6 +118,140 @@ void testRequestsToClassesWithoutHandlerAreRejected(String className) throws Exc
     Assertions.assertEquals("missing explicitly defined target handler to call", response.content().readString());
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 15, 128, 4096})
+  void testUnknownInternedMethodIdIsRejected(int methodId) throws Exception {
+    var handlerRegistry = new DefaultRPCHandlerRegistry();
+    var packetListener = new RPCPacketListener(handlerRegistry);
+
+    var buffer = DataBuf.empty()
+      .writeInt(1)
+      .writeByte(RPCMethodInterning.INTERNED_ENTRY_MARKER)
+      .writeByte(RPCMethodInterning.ENTRY_INTERNED)
+      .writeVarInt(methodId);
+    var packet = new BasePacket(NetworkConstants.INTERNAL_RPC_COM_CHANNEL, buffer);
+    packet.uniqueId(UUID.randomUUID());
+
+    var mockResult = mockNetworkChannel();
+    packetListener.handle(mockResult.first(), packet);
+
+    var response = mockResult.second().poll();
+    Assertions.assertNotNull(response);
+    Assertions.assertEquals(RPCInvocationResult.STATUS_UNKNOWN_METHOD_ID, response.content().readByte());
+    Assertions.assertEquals(1, response.content().readVarInt());
+    Assertions.assertEquals("unknown interned method id", response.content().readString());
+  }
+
+  @Test
+  void testUnknownInternedMethodIdReportsChainStep() throws Exception {
+    var handlerRegistry = new DefaultRPCHandlerRegistry();
+    var packetListener = new RPCPacketListener(handlerRegistry);
+
+    var factory = new DefaultRPCFactory(DefaultObjectMapper.DEFAULT_MAPPER, DataBufFactory.defaultFactory());
+    var handler = factory
+      .newRPCHandlerBuilder(IntSummaryStatistics.class)
+      .targetInstance(new IntSummaryStatistics(5, 1, 10, 20))
+      .build();
+    handlerRegistry.registerHandler(handler);
+
+    // the first step is executed, the second step references an unknown id
+    var desc = MethodTypeDesc.of(ConstantDescs.CD_long).descriptorString();
+    var buffer = DataBuf.empty()
+      .writeInt(2)
+      .writeString(IntSummaryStatistics.class.getName())
+      .writeString("getSum")
+      .writeString(desc)
+      .writeByte(RPCMethodInterning.INTERNED_ENTRY_MARKER)
+      .writeByte(RPCMethodInterning.ENTRY_INTERNED)
+      .writeVarInt(15);
+    var packet = new BasePacket(NetworkConstants.INTERNAL_RPC_COM_CHANNEL, buffer);
+    packet.uniqueId(UUID.randomUUID());
+
+    var mockResult = mockNetworkChannel();
+    packetListener.handle(mockResult.first(), packet);
+
+    var response = mockResult.second().poll();
+    Assertions.assertNotNull(response);
+    Assertions.assertEquals(2, RPCMethodInterning.unknownMethodIdStep(response));
+    Assertions.assertEquals(RPCInvocationResult.STATUS_UNKNOWN_METHOD_ID, response.content().readByte());
+    Assertions.assertEquals(2, response.content().readVarInt());
+    Assertions.assertEquals("unknown interned method id", response.content().readString());
+  }
+
+  @Test
+  void testDefinedMethodIdCanBeUsed() throws Exception {
+    var handlerRegistry = new DefaultRPCHandlerRegistry();
+    var packetListener = new RPCPacketListener(handlerRegistry);
+
+    var factory = new DefaultRPCFactory(DefaultObjectMapper.DEFAULT_MAPPER, DataBufFactory.defaultFactory());
+    var handler = factory
+      .newRPCHandlerBuilder(IntSummaryStatistics.class)
+      .targetInstance(new IntSummaryStatistics(5, 1, 10, 20))
+      .build();
+    handlerRegistry.registerHandler(handler);
+
+    var mockResult = mockNetworkChannel();
+    var desc = MethodTypeDesc.of(ConstantDescs.CD_long).descriptorString();
+
+    // define the method with id 7 on the first call
+    var defineBuffer = DataBuf.empty()
+      .writeInt(1)
+      .writeByte(RPCMethodInterning.INTERNED_ENTRY_MARKER)
+      .writeByte(RPCMethodInterning.ENTRY_DEFINE)
+      .writeVarInt(7)
+      .writeString(IntSummaryStatistics.class.getName())
+      .writeString("getSum")
+      .writeString(desc);
+    var definePacket = new BasePacket(NetworkConstants.INTERNAL_RPC_COM_CHANNEL, defineBuffer);
+    definePacket.uniqueId(UUID.randomUUID());
+    packetListener.handle(mockResult.first(), definePacket);
+
+    var defineResponse = mockResult.second().poll();
+    Assertions.assertNotNull(defineResponse);
+    Assertions.assertEquals(RPCInvocationResult.STATUS_OK, defineResponse.content().readByte());
+    Assertions.assertEquals(20L, (long) defineResponse.content().readObject(long.class));
+
+    // call the method only using the id
+    var internedBuffer = DataBuf.empty()
+      .writeInt(1)
+      .writeByte(RPCMethodInterning.INTERNED_ENTRY_MARKER)
+      .writeByte(RPCMethodInterning.ENTRY_INTERNED)
+      .writeVarInt(7);
+    var internedPacket = new BasePacket(NetworkConstants.INTERNAL_RPC_COM_CHANNEL, internedBuffer);
+    internedPacket.uniqueId(UUID.randomUUID());
+    packetListener.handle(mockResult.first(), internedPacket);
+
+    var internedResponse = mockResult.second().poll();
+    Assertions.assertNotNull(internedResponse);
+    Assertions.assertEquals(RPCInvocationResult.STATUS_OK, internedResponse.content().readByte());
+    Assertions.assertEquals(20L, (long) internedResponse.content().readObject(long.class));
+  }
+
+  @Test
+  void testPlainMethodEntryCanBeUsed() throws Exception {
+    var handlerRegistry = new DefaultRPCHandlerRegistry();
+    var packetListener = new RPCPacketListener(handlerRegistry);
+
+    var factory = new DefaultRPCFactory(DefaultObjectMapper.DEFAULT_MAPPER, DataBufFactory.defaultFactory());
+    var handler = factory
+      .newRPCHandlerBuilder(IntSummaryStatistics.class)
+      .targetInstance(new IntSummaryStatistics(5, 1, 10, 20))
+      .build();
+    handlerRegistry.registerHandler(handler);
+
+    // requests of senders which do not intern methods only contain the plain method information
+    var desc = MethodTypeDesc.of(ConstantDescs.CD_long).descriptorString();
+    var plainCraftedRPC = craftRPCRequest(1, IntSummaryStatistics.class.getName(), "getSum", desc, new Object[0], true);
+
+    var mockResult = mockNetworkChannel();
+    packetListener.handle(mockResult.first(), plainCraftedRPC);
+
+    var response = mockResult.second().poll();
+    Assertions.assertNotNull(response);
+    Assertions.assertEquals(RPCInvocationResult.STATUS_OK, response.content().readByte());
+    Assertions.assertEquals(20L, (long) response.content().readObject(long.class));
+  }
+
   @ParameterizedTest
   @ValueSource(classes = {Math.class, IntSummaryStatistics.class})
   void testMethodCallIsRejectedIfNoInstanceIsBound(Class<?> target) throws Exception {
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.property.DocProperty;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import io.leangen.geantyref.TypeFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ServiceInfoSnapshotTest {
+
+  private static final DocProperty<String> STATE = DocProperty.property("State", String.class);
+  private static final DocProperty<ServiceLifeCycle> LIFE_CYCLE = DocProperty.property(
+    "LifeCycle",
+    ServiceLifeCycle.class);
+  private static final DocProperty<Document> EXTRA = DocProperty.property("Extra", Document.class);
+  private static final DocProperty<List<String>> PLAYERS = DocProperty.genericProperty(
+    "Players",
+    TypeFactory.parameterizedClass(List.class, String.class));
+
+  private static @NonNull ServiceInfoSnapshot snapshot() {
+    var configuration = ServiceConfiguration.builder()
+      .taskName("Lobby")
+      .taskId(1)
+      .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+      .build();
+    var properties = Document.newJsonDocument()
+      .append("State", "LOBBY")
+      .append("LifeCycle", ServiceLifeCycle.RUNNING)
+      .append("Extra", Document.newJsonDocument().append("Motd", "Hello World"))
+      .append("Players", List.of("derklaro", "0utplay"));
+    return new ServiceInfoSnapshot(
+      System.currentTimeMillis(),
+      new HostAndPort("127.0.0.1", 25565),
+      ProcessSnapshot.empty(),
+      configuration,
+      -1,
+      ServiceLifeCycle.RUNNING,
+      properties);
+  }
+
+  // passes the value through and counts how often the value was decoded
+  private static <E> @NonNull Function<E, E> counting(@NonNull AtomicInteger decodes) {
+    return value -> {
+      decodes.incrementAndGet();
+      return value;
+    };
+  }
+
+  @Test
+  void testImmutableValuesAreDecodedOnce() {
+    var snapshot = snapshot();
+    var decodes = new AtomicInteger();
+
+    var stateProperty = STATE.withReadRewrite(counting(decodes));
+    var state = snapshot.readProperty(stateProperty);
+    Assertions.assertEquals("LOBBY", state);
+    Assertions.assertSame(state, snapshot.readProperty(stateProperty));
+    Assertions.assertEquals(1, decodes.get());
+
+    var lifeCycleProperty = LIFE_CYCLE.withReadRewrite(counting(decodes));
+    Assertions.assertSame(ServiceLifeCycle.RUNNING, snapshot.readProperty(lifeCycleProperty));
+    Assertions.assertSame(ServiceLifeCycle.RUNNING, snapshot.readProperty(lifeCycleProperty));
+    Assertions.assertEquals(2, decodes.get());
+
+    // null values are remembered as well
+    var nullProperty = STATE.withReadRewrite(_ -> {
+      decodes.incrementAndGet();
+      return null;
+    });
+    Assertions.assertNull(snapshot.readProperty(nullProperty));
+    Assertions.assertNull(snapshot.readProperty(nullProperty));
+    Assertions.assertEquals(3, decodes.get());
+  }
+
+  @Test
+  void testMutableValuesAreNotShared() {
+    var snapshot = snapshot();
+    var decodes = new AtomicInteger();
+
+    var playersProperty = PLAYERS.withReadRewrite(counting(decodes));
+    var players = snapshot.readProperty(playersProperty);
+    Assertions.assertEquals(List.of("derklaro", "0utplay"), players);
+    Assertions.assertNotSame(players, snapshot.readProperty(playersProperty));
+    Assertions.assertEquals(2, decodes.get());
+
+    var extraProperty = EXTRA.withReadRewrite(counting(decodes));
+    var extra = snapshot.readProperty(extraProperty);
+    Assertions.assertEquals("Hello World", extra.getString("Motd"));
+    Assertions.assertNotSame(extra, snapshot.readProperty(extraProperty));
+    Assertions.assertEquals(4, decodes.get());
+  }
+
+  @Test
+  void testDecodedValuesAreBounded() {
+    var snapshot = snapshot();
+    var decodes = new AtomicInteger();
+
+    // each default results in a new property which is not equal to the other ones
+    List<DocProperty<String>> properties = new ArrayList<>();
+    for (var i = 0; i < 100; i++) {
+      properties.add(STATE.withReadRewrite(counting(decodes)).withDefault("unknown-" + i));
+    }
+
+    properties.forEach(property -> Assertions.assertEquals("LOBBY", snapshot.readProperty(property)));
+    Assertions.assertEquals(100, decodes.get());
+
+    // only the values of the first 64 properties are remembered, the other ones are decoded on each read
+    properties.forEach(property -> Assertions.assertEquals("LOBBY", snapshot.readProperty(property)));
+    Assertions.assertEquals(136, decodes.get());
+  }
+}
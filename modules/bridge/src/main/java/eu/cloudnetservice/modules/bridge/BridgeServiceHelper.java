@@ -16,7 +16,6 @@
 
 package eu.cloudnetservice.modules.bridge;
 
-import eu.cloudnetservice.common.resource.ResourceFormatter;
 import eu.cloudnetservice.common.util.StringUtil;
 import eu.cloudnetservice.driver.provider.CloudServiceFactory;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
@@ -24,6 +23,8 @@
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.modules.bridge.placeholder.PlaceholderTemplate;
+import eu.cloudnetservice.modules.bridge.placeholder.ServicePlaceholderResolver;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -116,7 +117,8 @@ public BridgeServiceHelper(
 
   /**
    * Replaces commonly used placeholders in the given input string using the given service as the information source. If
-   * no service is given only the group property is replaced.
+   * no service is given only the group property is replaced. The input string is compiled into a placeholder template
+   * once and rendered in a single pass, see {@link PlaceholderTemplate} and {@link ServicePlaceholderResolver}.
    *
    * @param value   the string to replace the placeholders in.
    * @param group   the group to replace {@literal %group%} with.
@@ -129,53 +131,7 @@ public BridgeServiceHelper(
     @Nullable String group,
     @Nullable ServiceInfoSnapshot service
   ) {
-    value = value.replace("%group%", group == null ? "" : group);
-
-    // stop replacing if no service is given
-    if (service == null) {
-      return value;
-    }
-
-    // replace all service id placeholders
-    value = value.replace("%name%", service.serviceId().name());
-    value = value.replace("%task%", service.serviceId().taskName());
-    value = value.replace("%node%", service.serviceId().nodeUniqueId());
-    value = value.replace("%unique_id%", service.serviceId().uniqueId().toString());
-    value = value.replace("%environment%", service.serviceId().environment().name());
-    value = value.replace("%task_id%", Integer.toString(service.serviceId().taskServiceId()));
-    value = value.replace("%uid%", service.serviceId().uniqueId().toString().split("-")[0]);
-    // general service information
-    value = value.replace("%life_cycle%", service.lifeCycle().name());
-    value = value.replace("%runtime%", service.configuration().runtime());
-    value = value.replace("%port%", Integer.toString(service.configuration().port()));
-    // process information
-    value = value.replace("%pid%", Long.toString(service.processSnapshot().pid()));
-    value = value.replace("%threads%", Integer.toString(service.processSnapshot().threads().size()));
-    value = value.replace("%heap_usage%", Long.toString(service.processSnapshot().heapUsageMemory()));
-    value = value.replace("%max_heap_usage%", Long.toString(service.processSnapshot().maxHeapMemory()));
-    value = value.replace(
-      "%cpu_usage%",
-      ResourceFormatter.formatTwoDigitPrecision(service.processSnapshot().cpuUsage()));
-
-    // bridge information
-    var online = service.readProperty(BridgeDocProperties.IS_ONLINE);
-    value = value.replace("%online%", online ? "Online" : "Offline");
-
-    // make sure that the bridge is loaded before accessing any of the properties
-    if (online) {
-      value = value.replace(
-        "%online_players%",
-        Integer.toString(service.readProperty(BridgeDocProperties.ONLINE_COUNT)));
-      value = value.replace(
-        "%max_players%",
-        Integer.toString(service.readProperty(BridgeDocProperties.MAX_PLAYERS)));
-      value = value.replace("%motd%", service.readProperty(BridgeDocProperties.MOTD));
-      value = value.replace("%extra%", service.readProperty(BridgeDocProperties.EXTRA));
-      value = value.replace("%state%", service.readProperty(BridgeDocProperties.STATE));
-      value = value.replace("%version%", service.readProperty(BridgeDocProperties.VERSION));
-    }
-    // done
-    return value;
+    return PlaceholderTemplate.compile(value).render(new ServicePlaceholderResolver(group, service));
   }
 
   /**
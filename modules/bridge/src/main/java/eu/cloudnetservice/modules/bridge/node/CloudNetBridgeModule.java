@@ -19,6 +19,7 @@
 import static eu.cloudnetservice.modules.bridge.BridgeManagement.BRIDGE_PLAYER_DB_NAME;
 
 import com.google.common.collect.Iterables;
+import eu.cloudnetservice.driver.database.DatabaseChunk;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
@@ -31,6 +32,7 @@
 import eu.cloudnetservice.modules.bridge.config.BridgeConfiguration;
 import eu.cloudnetservice.modules.bridge.config.ProxyFallbackConfiguration;
 import eu.cloudnetservice.modules.bridge.node.command.BridgeCommand;
+import eu.cloudnetservice.modules.bridge.node.player.NodePlayerManager;
 import eu.cloudnetservice.modules.bridge.rpc.ComponentObjectSerializer;
 import eu.cloudnetservice.modules.bridge.rpc.TitleObjectSerializer;
 import eu.cloudnetservice.node.cluster.sync.DataSyncHandler;
@@ -69,6 +71,13 @@ public void initNetworkHelpers() {
       .registerBinding(Component.class, new ComponentObjectSerializer(), false);
   }
 
+  @ModuleTask(lifecycle = ModuleLifeCycle.STARTED)
+  public void declarePlayerDatabaseIndexes(@NonNull NodeDatabaseProvider databaseProvider) {
+    // offline players are looked up by their name, index the field to prevent full scans of the database. databases
+    // for which creating an index is expensive (such as mysql) only create it when explicitly enabled
+    databaseProvider.database(BRIDGE_PLAYER_DB_NAME).index("player_name", "name");
+  }
+
   @ModuleTask(lifecycle = ModuleLifeCycle.STARTED)
   public void convertOldDatabaseEntries(
     @NonNull ServiceVersionProvider versionProvider,
@@ -77,10 +86,10 @@ public void convertOldDatabaseEntries(
     // read the first player from the database - if the first player is valid we don't need to take a look at the other
     // players in the database as they were already converted
     var playerDb = databaseProvider.database(BRIDGE_PLAYER_DB_NAME);
-    var first = playerDb.readChunk(0, 1);
-    if (first != null && !first.isEmpty()) {
+    var first = playerDb.readChunk(null, 1);
+    if (first != null) {
       // validate the offline player
-      var document = Iterables.getOnlyElement(first.values());
+      var document = Iterables.getOnlyElement(first.entries().values());
       var lastNetworkPlayerProxyInfo = document.readDocument("lastNetworkPlayerProxyInfo");
 
       // check if the document is empty, if so it indicates an old database format
@@ -89,9 +98,10 @@ public void convertOldDatabaseEntries(
 
         // invalid player data - convert the database
         var convertedPlayers = 0;
-        Map<String, Document> chunkData;
-        while ((chunkData = playerDb.readChunk(convertedPlayers, 100)) != null) {
-          for (var entry : chunkData.entrySet()) {
+        String lastKey = null;
+        DatabaseChunk chunkData;
+        while ((chunkData = playerDb.readChunk(lastKey, 100)) != null) {
+          for (var entry : chunkData.entries().entrySet()) {
             // get all the required path
             var valueCopy = entry.getValue().mutableCopy();
             var lastProxyInfo = valueCopy.readMutableDocument("lastNetworkConnectionInfo");
@@ -125,9 +135,12 @@ public void convertOldDatabaseEntries(
             playerDb.insert(entry.getKey(), valueCopy);
           }
 
+          // continue after the last converted player in the next chunk
+          lastKey = chunkData.lastKey();
+
           // check if the chunk size was exactly 100 players - if not we just completed the last chunk
-          convertedPlayers += chunkData.size();
-          if (chunkData.size() != 100) {
+          convertedPlayers += chunkData.entries().size();
+          if (chunkData.entries().size() != 100) {
             break;
           }
         }
@@ -205,6 +218,12 @@ public void registerCommand(@NonNull CommandProvider commandProvider) {
     commandProvider.register(BridgeCommand.class);
   }
 
+  @ModuleTask(lifecycle = ModuleLifeCycle.STOPPED)
+  public void flushPlayerDatabaseWrites(@NonNull NodePlayerManager playerManager) {
+    // write all pending player updates into the database before it gets closed
+    playerManager.databaseWriteQueue().close();
+  }
+
   @ModuleTask(lifecycle = ModuleLifeCycle.RELOADING)
   public void handleReload(@Nullable BridgeManagement management) {
     if (management != null) {
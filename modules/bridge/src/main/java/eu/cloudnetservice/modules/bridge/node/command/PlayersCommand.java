@@ -175,6 +175,16 @@ public void displayRegisteredCount(@NonNull CommandSource source) {
     source.sendMessage("=> Registered players " + this.playerManager.registeredCount());
   }
 
+  @CommandMethod("players|player|pl writes")
+  public void displayDatabaseWriteStatistics(@NonNull CommandSource source) {
+    var statistics = this.playerManager.databaseWriteQueue().statistics();
+    source.sendMessage("=> Pending player writes " + statistics.queueDepth());
+    source.sendMessage("=> Flushed player writes " + statistics.flushedWrites() + " in " + statistics.flushCount()
+      + " flushes");
+    source.sendMessage("=> Last flush took " + statistics.lastFlushDuration().toMillis() + "ms, average "
+      + statistics.averageFlushDuration().toMillis() + "ms");
+  }
+
   @CommandMethod("players|player|pl player <player>")
   public void displayPlayerInformation(
     @NonNull CommandSource source,
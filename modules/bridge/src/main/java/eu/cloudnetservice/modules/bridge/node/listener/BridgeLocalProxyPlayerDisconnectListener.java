@@ -54,18 +54,16 @@ public void handleServiceUpdate(@NonNull CloudServiceUpdateEvent event, @NonNull
       }
 
       // test if any player has the login service but is not connected to it
-      for (var value : this.playerManager.players().values()) {
-        if (value.loginService().serviceId().uniqueId().equals(info.serviceId().uniqueId())) {
-          // the player is on the service
-          var match = Iterables.tryFind(
-            players,
-            player -> player.uniqueId().equals(value.uniqueId())
-          ).orNull();
-          // the player is not connected to the service, check if we already saw that in the last 10 seconds
-          if (match == null) {
-            // the player was added already to the set, log him out now
-            this.playerManager.logoutPlayer(value);
-          }
+      for (var value : this.playerManager.loginServiceOnlinePlayers(info.serviceId().uniqueId())) {
+        // the player is on the service
+        var match = Iterables.tryFind(
+          players,
+          player -> player.uniqueId().equals(value.uniqueId())
+        ).orNull();
+        // the player is not connected to the service, check if we already saw that in the last 10 seconds
+        if (match == null) {
+          // the player was added already to the set, log him out now
+          this.playerManager.logoutPlayer(value);
         }
       }
     }
@@ -87,12 +85,9 @@ public void handleClusterServiceLifecycleChange(@NonNull CloudServiceLifecycleCh
 
   private void handleCloudServiceRemove(@NonNull ServiceInfoSnapshot snapshot) {
     if (ServiceEnvironmentType.minecraftProxy(snapshot.serviceId().environment())) {
-      // test if any player has the stopped service as the login service
-      for (var value : this.playerManager.players().values()) {
-        if (value.loginService().serviceId().uniqueId().equals(snapshot.serviceId().uniqueId())) {
-          // the player was connected to that proxy, log him out now
-          this.playerManager.logoutPlayer(value);
-        }
+      // log out all players which were connected to the stopped proxy
+      for (var value : this.playerManager.loginServiceOnlinePlayers(snapshot.serviceId().uniqueId())) {
+        this.playerManager.logoutPlayer(value);
       }
     }
   }
@@ -120,7 +120,7 @@ public void handle(
           // read the player
           var player = event.content().readObject(CloudPlayer.class);
           // push the change
-          playerManager.players().remove(player.uniqueId());
+          playerManager.removeOnlinePlayer(player.uniqueId());
           playerManager.pushOfflinePlayerCache(player.uniqueId(), CloudOfflinePlayer.offlineCopy(player));
           // call the event locally
           eventManager.callEvent(new BridgeProxyPlayerDisconnectEvent(player));
@@ -148,6 +148,7 @@ public void handle(
             var prev = player.connectedService();
             // set the current connected service and fire the event
             player.connectedService(target);
+            playerManager.pushOnlinePlayerCache(player);
             eventManager.callEvent(new BridgeProxyPlayerServerSwitchEvent(player, prev));
             // redirect to the cluster
             ChannelMessage.builder()
@@ -18,6 +18,7 @@
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.Striped;
 import dev.derklaro.aerogel.PostConstruct;
@@ -52,18 +53,25 @@
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
 
 @Singleton
 @Provides(PlayerManager.class)
@@ -73,20 +81,45 @@ public class NodePlayerManager implements PlayerManager {
   protected final EventManager eventManager;
   protected final CommandProvider commandProvider;
   protected final NodeDatabaseProvider nodeDatabaseProvider;
+  protected final PlayerDatabaseWriteQueue databaseWriteQueue;
 
   protected final Map<UUID, CloudPlayer> onlinePlayers = new ConcurrentHashMap<>();
+  // secondary indexes of the online players, the keys a player was indexed with are kept to remove the player from
+  // the indexes as the indexed player instances are mutable
+  protected final Map<UUID, OnlinePlayerIndexKeys> onlinePlayerIndexKeys = new ConcurrentHashMap<>();
+  protected final Map<String, Set<UUID>> onlinePlayersByName = new ConcurrentHashMap<>();
+  protected final Map<String, Set<UUID>> onlinePlayersByTask = new ConcurrentHashMap<>();
+  protected final Map<String, Set<UUID>> onlinePlayersByGroup = new ConcurrentHashMap<>();
+  protected final Map<String, Set<UUID>> onlinePlayersByEnvironment = new ConcurrentHashMap<>();
+  protected final Map<UUID, Set<UUID>> onlinePlayersByLoginService = new ConcurrentHashMap<>();
   protected final PlayerProvider allPlayerProvider = new NodePlayerProvider(() -> this.onlinePlayers.values().stream());
 
   protected final Striped<Lock> playerReadWriteLocks = Striped.lazyWeakLock(1);
+  // lower-cased name index of the cached offline players, entries might be stale and must be validated using the cache
+  protected final Map<String, Set<UUID>> cachedOfflinePlayersByName = new ConcurrentHashMap<>();
   protected final LoadingCache<UUID, Optional<CloudOfflinePlayer>> offlinePlayerCache = Caffeine.newBuilder()
     .expireAfterAccess(5, TimeUnit.MINUTES)
+    .removalListener((UUID uniqueId, Optional<CloudOfflinePlayer> player, RemovalCause _) -> {
+      if (uniqueId != null && player != null) {
+        player.ifPresent(offlinePlayer -> NodePlayerManager.this.unindexCachedOfflinePlayer(uniqueId, offlinePlayer));
+      }
+    })
     .build(uniqueId -> {
+      // writes of the player which were not flushed yet are not visible in the database
+      var pendingWrite = NodePlayerManager.this.databaseWriteQueue.pendingWrite(uniqueId);
+      if (pendingWrite != null) {
+        pendingWrite.ifPresent(player -> NodePlayerManager.this.indexCachedOfflinePlayer(uniqueId, player));
+        return pendingWrite;
+      }
+
       // load the player from the database sync to block the current thread
       var document = NodePlayerManager.this.database().get(uniqueId.toString());
       if (document == null) {
         return Optional.empty();
       } else {
-        return Optional.of(document.toInstanceOf(CloudOfflinePlayer.class));
+        var player = document.toInstanceOf(CloudOfflinePlayer.class);
+        NodePlayerManager.this.indexCachedOfflinePlayer(uniqueId, player);
+        return Optional.of(player);
       }
     });
 
@@ -103,6 +136,7 @@ public NodePlayerManager(
     this.eventManager = eventManager;
     this.commandProvider = commandProvider;
     this.nodeDatabaseProvider = nodeDatabaseProvider;
+    this.databaseWriteQueue = new PlayerDatabaseWriteQueue(this::database);
 
     // register the rpc handlers
     var playerManagerHandler = providerFactory.newRPCHandlerBuilder(PlayerManager.class).targetInstance(this).build();
@@ -122,7 +156,7 @@ public NodePlayerManager(
       .nameExtractor(CloudPlayer::name)
       .dataCollector(this.onlinePlayers::values)
       .currentGetter(player -> this.onlinePlayers.get(player.uniqueId()))
-      .writer(player -> this.onlinePlayers.put(player.uniqueId(), player))
+      .writer(this::putOnlinePlayer)
       .build());
   }
 
@@ -144,7 +178,26 @@ public int onlineCount() {
 
   @Override
   public long registeredCount() {
-    return this.database().documentCount();
+    // take the snapshot of the pending writes first, writes flushed while reading are then reflected in both sources
+    var pendingWrites = this.databaseWriteQueue.pendingWrites();
+    if (pendingWrites.isEmpty()) {
+      return this.database().documentCount();
+    }
+
+    // correct the count by the pending writes of players that are not yet or still stored in the database
+    var keys = pendingWrites.keySet().stream().map(UUID::toString).toList();
+    var storedPlayers = this.database().getAll(keys).keySet();
+    var count = this.database().documentCount();
+    for (var entry : pendingWrites.entrySet()) {
+      var stored = storedPlayers.contains(entry.getKey().toString());
+      if (entry.getValue().isPresent() && !stored) {
+        count++;
+      } else if (entry.getValue().isEmpty() && stored) {
+        count--;
+      }
+    }
+
+    return Math.max(0, count);
   }
 
   @Override
@@ -154,30 +207,17 @@ public long registeredCount() {
 
   @Override
   public @Nullable CloudPlayer firstOnlinePlayer(@NonNull String name) {
-    for (var player : this.onlinePlayers.values()) {
-      if (player.name().equalsIgnoreCase(name)) {
-        return player;
-      }
-    }
-    return null;
+    return this.indexedOnlinePlayers(this.onlinePlayersByName, name.toLowerCase(Locale.ROOT)).findFirst().orElse(null);
   }
 
   @Override
   public @NonNull List<CloudPlayer> onlinePlayers(@NonNull String name) {
-    return this.onlinePlayers.values().stream()
-      .filter(cloudPlayer -> cloudPlayer.name().equalsIgnoreCase(name))
-      .toList();
+    return this.indexedOnlinePlayers(this.onlinePlayersByName, name.toLowerCase(Locale.ROOT)).toList();
   }
 
   @Override
   public @NonNull List<CloudPlayer> environmentOnlinePlayers(@NonNull ServiceEnvironmentType environment) {
-    return this.onlinePlayers.values()
-      .stream()
-      .filter(cloudPlayer -> {
-        var serviceInfo = Objects.requireNonNullElse(cloudPlayer.connectedService(), cloudPlayer.loginService());
-        return serviceInfo.environment().equals(environment);
-      })
-      .toList();
+    return this.indexedOnlinePlayers(this.onlinePlayersByEnvironment, environment.name()).toList();
   }
 
   @Override
@@ -187,22 +227,16 @@ public long registeredCount() {
 
   @Override
   public @NonNull PlayerProvider taskOnlinePlayers(@NonNull String task) {
-    return new NodePlayerProvider(() -> this.onlinePlayers.values()
-      .stream()
-      .filter(player -> {
-        var serviceInfo = Objects.requireNonNullElse(player.connectedService(), player.loginService());
-        return serviceInfo.taskName().equals(task);
-      }));
+    return new NodePlayerProvider(() -> this.indexedOnlinePlayers(this.onlinePlayersByTask, task));
   }
 
   @Override
   public @NonNull PlayerProvider groupOnlinePlayers(@NonNull String group) {
-    return new NodePlayerProvider(() -> this.onlinePlayers.values()
-      .stream()
-      .filter(player -> {
-        var serviceInfo = Objects.requireNonNullElse(player.connectedService(), player.loginService());
-        return serviceInfo.groups().contains(group);
-      }));
+    return new NodePlayerProvider(() -> this.indexedOnlinePlayers(this.onlinePlayersByGroup, group));
+  }
+
+  public @NonNull List<CloudPlayer> loginServiceOnlinePlayers(@NonNull UUID serviceUniqueId) {
+    return this.indexedOnlinePlayers(this.onlinePlayersByLoginService, serviceUniqueId).toList();
   }
 
   @Override
@@ -212,38 +246,47 @@ public long registeredCount() {
 
   @Override
   public @Nullable CloudOfflinePlayer firstOfflinePlayer(@NonNull String name) {
-    return this.offlinePlayerCache.asMap().values().stream()
-      .filter(Optional::isPresent)
-      .map(Optional::get)
-      .filter(player -> player.name().equalsIgnoreCase(name))
-      .findFirst()
-      .orElseGet(() -> {
-        var players = this.offlinePlayers(name);
-        return players.isEmpty() ? null : players.get(0);
-      });
+    // online players are always present in the offline player cache, use the name index for them
+    var onlinePlayer = this.firstOnlinePlayer(name);
+    if (onlinePlayer != null) {
+      return this.offlinePlayer(onlinePlayer.uniqueId());
+    }
+
+    // check the cached offline players before querying the database
+    var cachedPlayerIds = this.cachedOfflinePlayersByName.get(name.toLowerCase(Locale.ROOT));
+    if (cachedPlayerIds != null) {
+      for (var uniqueId : cachedPlayerIds) {
+        var cachedPlayer = this.offlinePlayerCache.getIfPresent(uniqueId);
+        if (cachedPlayer != null && cachedPlayer.isPresent() && cachedPlayer.get().name().equalsIgnoreCase(name)) {
+          return cachedPlayer.get();
+        }
+      }
+    }
+
+    var players = this.offlinePlayers(name);
+    return players.isEmpty() ? null : players.getFirst();
   }
 
   @Override
   public @NonNull List<CloudOfflinePlayer> offlinePlayers(@NonNull String name) {
-    return this.database().find("name", name).stream()
-      .map(document -> document.toInstanceOf(CloudOfflinePlayer.class))
-      .toList();
+    var pendingWrites = this.databaseWriteQueue.pendingWrites();
+    var storedPlayers = this.database().find("name", name);
+    return this.mergePendingWrites(pendingWrites, storedPlayers, player -> player.name().equals(name));
   }
 
   @Override
   public @NonNull List<CloudOfflinePlayer> registeredPlayers() {
-    return this.database().entries().values().stream()
-      .map(doc -> doc.toInstanceOf(CloudOfflinePlayer.class))
-      .filter(Objects::nonNull)
-      .toList();
+    var pendingWrites = this.databaseWriteQueue.pendingWrites();
+    var storedPlayers = this.database().entries().values();
+    return this.mergePendingWrites(pendingWrites, storedPlayers, _ -> true);
   }
 
   @Override
   public void updateOfflinePlayer(@NonNull CloudOfflinePlayer player) {
     // push the change to the cache
     this.pushOfflinePlayerCache(player.uniqueId(), player);
-    // update the database
-    this.database().insert(player.uniqueId().toString(), Document.newJsonDocument().appendTree(player));
+    // queue the database update
+    this.databaseWriteQueue.write(player);
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
@@ -276,8 +319,8 @@ public void updateOnlinePlayer(@NonNull CloudPlayer cloudPlayer) {
   public void deleteCloudOfflinePlayer(@NonNull CloudOfflinePlayer cloudOfflinePlayer) {
     // push the change to the cache
     this.pushOfflinePlayerCache(cloudOfflinePlayer.uniqueId(), null);
-    // delete from the database
-    this.database().delete(cloudOfflinePlayer.uniqueId().toString());
+    // queue the deletion from the database
+    this.databaseWriteQueue.delete(cloudOfflinePlayer.uniqueId());
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
@@ -301,20 +344,130 @@ public void deleteCloudOfflinePlayer(@NonNull CloudOfflinePlayer cloudOfflinePla
   }
 
   public void pushOfflinePlayerCache(@NonNull UUID uniqueId, @Nullable CloudOfflinePlayer cloudOfflinePlayer) {
+    if (cloudOfflinePlayer != null) {
+      this.indexCachedOfflinePlayer(uniqueId, cloudOfflinePlayer);
+    }
+
     this.offlinePlayerCache.put(uniqueId, Optional.ofNullable(cloudOfflinePlayer));
   }
 
   public void pushOnlinePlayerCache(@NonNull CloudPlayer cloudPlayer) {
-    this.onlinePlayers.replace(cloudPlayer.uniqueId(), cloudPlayer);
+    this.replaceOnlinePlayer(cloudPlayer);
     this.pushOfflinePlayerCache(cloudPlayer.uniqueId(), CloudOfflinePlayer.offlineCopy(cloudPlayer));
   }
 
+  protected @NonNull List<CloudOfflinePlayer> mergePendingWrites(
+    @NonNull Map<UUID, Optional<CloudOfflinePlayer>> pendingWrites,
+    @NonNull Collection<Document> storedPlayers,
+    @NonNull Predicate<CloudOfflinePlayer> filter
+  ) {
+    // pending writes are not visible in the database yet and replace the stored state of the player
+    List<CloudOfflinePlayer> players = new ArrayList<>(storedPlayers.size());
+    for (var document : storedPlayers) {
+      var player = document.toInstanceOf(CloudOfflinePlayer.class);
+      if (player != null && !pendingWrites.containsKey(player.uniqueId())) {
+        players.add(player);
+      }
+    }
+
+    for (var pendingWrite : pendingWrites.values()) {
+      pendingWrite.filter(filter).ifPresent(players::add);
+    }
+
+    return players;
+  }
+
   protected @NonNull LocalDatabase database() {
     return this.nodeDatabaseProvider.database(this.databaseName);
   }
 
-  public @NonNull Map<UUID, CloudPlayer> players() {
-    return this.onlinePlayers;
+  public @NonNull PlayerDatabaseWriteQueue databaseWriteQueue() {
+    return this.databaseWriteQueue;
+  }
+
+  public @UnmodifiableView @NonNull Map<UUID, CloudPlayer> players() {
+    return Collections.unmodifiableMap(this.onlinePlayers);
+  }
+
+  public void putOnlinePlayer(@NonNull CloudPlayer cloudPlayer) {
+    // index the player while holding the lock of the key to prevent races with a concurrent removal
+    this.onlinePlayers.compute(cloudPlayer.uniqueId(), (uniqueId, _) -> {
+      this.indexOnlinePlayer(uniqueId, cloudPlayer);
+      return cloudPlayer;
+    });
+  }
+
+  public void replaceOnlinePlayer(@NonNull CloudPlayer cloudPlayer) {
+    this.onlinePlayers.computeIfPresent(cloudPlayer.uniqueId(), (uniqueId, _) -> {
+      this.indexOnlinePlayer(uniqueId, cloudPlayer);
+      return cloudPlayer;
+    });
+  }
+
+  public void removeOnlinePlayer(@NonNull UUID uniqueId) {
+    this.onlinePlayers.computeIfPresent(uniqueId, (_, _) -> {
+      this.unindexOnlinePlayer(uniqueId);
+      return null;
+    });
+  }
+
+  protected void indexOnlinePlayer(@NonNull UUID uniqueId, @NonNull CloudPlayer cloudPlayer) {
+    var indexKeys = OnlinePlayerIndexKeys.fromPlayer(cloudPlayer);
+    var previousKeys = this.onlinePlayerIndexKeys.put(uniqueId, indexKeys);
+    if (indexKeys.equals(previousKeys)) {
+      return;
+    }
+
+    if (previousKeys != null) {
+      this.unindexOnlinePlayer(uniqueId, previousKeys);
+    }
+
+    addToIndex(this.onlinePlayersByName, indexKeys.name(), uniqueId);
+    addToIndex(this.onlinePlayersByTask, indexKeys.task(), uniqueId);
+    addToIndex(this.onlinePlayersByEnvironment, indexKeys.environment(), uniqueId);
+    addToIndex(this.onlinePlayersByLoginService, indexKeys.loginService(), uniqueId);
+    for (var group : indexKeys.groups()) {
+      addToIndex(this.onlinePlayersByGroup, group, uniqueId);
+    }
+  }
+
+  protected void unindexOnlinePlayer(@NonNull UUID uniqueId) {
+    var indexKeys = this.onlinePlayerIndexKeys.remove(uniqueId);
+    if (indexKeys != null) {
+      this.unindexOnlinePlayer(uniqueId, indexKeys);
+    }
+  }
+
+  protected void unindexOnlinePlayer(@NonNull UUID uniqueId, @NonNull OnlinePlayerIndexKeys indexKeys) {
+    removeFromIndex(this.onlinePlayersByName, indexKeys.name(), uniqueId);
+    removeFromIndex(this.onlinePlayersByTask, indexKeys.task(), uniqueId);
+    removeFromIndex(this.onlinePlayersByEnvironment, indexKeys.environment(), uniqueId);
+    removeFromIndex(this.onlinePlayersByLoginService, indexKeys.loginService(), uniqueId);
+    for (var group : indexKeys.groups()) {
+      removeFromIndex(this.onlinePlayersByGroup, group, uniqueId);
+    }
+  }
+
+  protected void indexCachedOfflinePlayer(@NonNull UUID uniqueId, @NonNull CloudOfflinePlayer player) {
+    addToIndex(this.cachedOfflinePlayersByName, player.name().toLowerCase(Locale.ROOT), uniqueId);
+  }
+
+  protected void unindexCachedOfflinePlayer(@NonNull UUID uniqueId, @NonNull CloudOfflinePlayer player) {
+    // the removal listener is called after the entry was replaced, keep the index entry if the new value still uses it
+    var name = player.name().toLowerCase(Locale.ROOT);
+    var cachedPlayer = this.offlinePlayerCache.asMap().get(uniqueId);
+    if (cachedPlayer == null || cachedPlayer.map(cached -> !cached.name().equalsIgnoreCase(name)).orElse(true)) {
+      removeFromIndex(this.cachedOfflinePlayersByName, name, uniqueId);
+    }
+  }
+
+  protected <K> @NonNull Stream<CloudPlayer> indexedOnlinePlayers(@NonNull Map<K, Set<UUID>> index, @NonNull K key) {
+    var uniqueIds = index.get(key);
+    if (uniqueIds == null) {
+      return Stream.empty();
+    }
+
+    return uniqueIds.stream().map(this.onlinePlayers::get).filter(Objects::nonNull);
   }
 
   public void loginPlayer(
@@ -352,7 +505,7 @@ protected void loginPlayer0(
     var cloudPlayer = this.onlinePlayer(connectionInfo.uniqueId());
     if (cloudPlayer == null) {
       // try to load the player using the name and the login service
-      for (var player : this.players().values()) {
+      for (var player : this.onlinePlayers(connectionInfo.name())) {
         if (player.name().equals(connectionInfo.name())) {
           if (player.loginService().uniqueId().equals(connectionInfo.networkService().uniqueId())) {
             cloudPlayer = player;
@@ -377,7 +530,7 @@ protected void loginPlayer0(
           cloudOfflinePlayer.lastNetworkPlayerProxyInfo(),
           cloudOfflinePlayer.propertyHolder());
         // cache the online player for later use
-        this.onlinePlayers.put(cloudPlayer.uniqueId(), cloudPlayer);
+        this.putOnlinePlayer(cloudPlayer);
       }
     }
     // cannot never be null at this point
@@ -387,10 +540,8 @@ protected void loginPlayer0(
   protected void processLogin(@NonNull CloudPlayer cloudPlayer) {
     // push the player into the cache
     this.pushOnlinePlayerCache(cloudPlayer);
-    // update the database
-    this.database().insert(
-      cloudPlayer.uniqueId().toString(),
-      Document.newJsonDocument().appendTree(CloudOfflinePlayer.offlineCopy(cloudPlayer)));
+    // queue the database update
+    this.databaseWriteQueue.write(CloudOfflinePlayer.offlineCopy(cloudPlayer));
     // notify the other nodes that we received the login
     ChannelMessage.builder()
       .targetAll()
@@ -411,8 +562,8 @@ public void processLoginMessage(@NonNull CloudPlayer cloudPlayer) {
       // check if the player is already loaded
       var registeredPlayer = this.onlinePlayers.get(cloudPlayer.uniqueId());
       if (registeredPlayer == null) {
-        this.onlinePlayers.put(cloudPlayer.uniqueId(), cloudPlayer);
-        this.offlinePlayerCache.put(cloudPlayer.uniqueId(), Optional.of(cloudPlayer));
+        this.putOnlinePlayer(cloudPlayer);
+        this.pushOfflinePlayerCache(cloudPlayer.uniqueId(), cloudPlayer);
       } else {
         var needsUpdate = false;
         // check if the player has a known login service
@@ -435,7 +586,7 @@ public void processLoginMessage(@NonNull CloudPlayer cloudPlayer) {
         }
         // check if we need to update the player
         if (needsUpdate) {
-          this.onlinePlayers.replace(cloudPlayer.uniqueId(), cloudPlayer);
+          this.replaceOnlinePlayer(cloudPlayer);
         }
       }
     } finally {
@@ -454,7 +605,7 @@ public void processLoginMessage(@NonNull CloudPlayer cloudPlayer) {
         System.currentTimeMillis(),
         proxyInfo,
         Document.newJsonDocument());
-      this.offlinePlayerCache.put(proxyInfo.uniqueId(), Optional.of(cloudOfflinePlayer));
+      this.pushOfflinePlayerCache(proxyInfo.uniqueId(), cloudOfflinePlayer);
     }
     // the selected player
     return cloudOfflinePlayer;
@@ -474,14 +625,14 @@ public void logoutPlayer(@NonNull CloudPlayer cloudPlayer) {
 
   private void logoutPlayer0(@NonNull CloudPlayer cloudPlayer) {
     // remove the player from the cache
-    this.onlinePlayers.remove(cloudPlayer.uniqueId());
+    this.removeOnlinePlayer(cloudPlayer.uniqueId());
     cloudPlayer.lastNetworkPlayerProxyInfo(cloudPlayer.networkPlayerProxyInfo());
     // copy to an offline version
     var offlinePlayer = CloudOfflinePlayer.offlineCopy(cloudPlayer);
     // update the offline version of the player into the cache
     this.pushOfflinePlayerCache(cloudPlayer.uniqueId(), offlinePlayer);
-    // push the change to the database
-    this.database().insert(offlinePlayer.uniqueId().toString(), Document.newJsonDocument().appendTree(offlinePlayer));
+    // queue the database update
+    this.databaseWriteQueue.write(offlinePlayer);
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
@@ -520,4 +671,39 @@ public void logoutPlayer(@Nullable UUID uniqueId, @Nullable String name, @Nullab
       this.logoutPlayer(cloudPlayer);
     }
   }
+
+  private static <K> void addToIndex(@NonNull Map<K, Set<UUID>> index, @NonNull K key, @NonNull UUID uniqueId) {
+    index.compute(key, (_, uniqueIds) -> {
+      var target = uniqueIds == null ? ConcurrentHashMap.<UUID>newKeySet() : uniqueIds;
+      target.add(uniqueId);
+      return target;
+    });
+  }
+
+  private static <K> void removeFromIndex(@NonNull Map<K, Set<UUID>> index, @NonNull K key, @NonNull UUID uniqueId) {
+    index.computeIfPresent(key, (_, uniqueIds) -> {
+      uniqueIds.remove(uniqueId);
+      return uniqueIds.isEmpty() ? null : uniqueIds;
+    });
+  }
+
+  protected record OnlinePlayerIndexKeys(
+    @NonNull String name,
+    @NonNull String task,
+    @NonNull String environment,
+    @NonNull UUID loginService,
+    @NonNull Set<String> groups
+  ) {
+
+    public static @NonNull OnlinePlayerIndexKeys fromPlayer(@NonNull CloudPlayer player) {
+      // players are indexed by the service they are connected to, falling back to the service they logged in to
+      var serviceInfo = Objects.requireNonNullElse(player.connectedService(), player.loginService());
+      return new OnlinePlayerIndexKeys(
+        player.name().toLowerCase(Locale.ROOT),
+        serviceInfo.taskName(),
+        serviceInfo.environment().name(),
+        player.loginService().uniqueId(),
+        Set.copyOf(serviceInfo.groups()));
+    }
+  }
 }
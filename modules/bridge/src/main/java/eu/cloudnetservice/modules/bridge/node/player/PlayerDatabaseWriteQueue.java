@@ -0,0 +1,292 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.modules.bridge.player.CloudOfflinePlayer;
+import eu.cloudnetservice.node.database.LocalDatabase;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A write-behind queue for the offline player database. Writes are coalesced per player unique id and flushed to the
+ * database in batches, either periodically or once the amount of pending writes reaches the configured batch size.
+ * Reads of players which are still pending must be answered by {@link #pendingWrite(UUID)} as the database does not
+ * reflect the change yet.
+ *
+ * @since 4.0
+ */
+public final class PlayerDatabaseWriteQueue implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PlayerDatabaseWriteQueue.class);
+
+  private static final long FLUSH_INTERVAL_MILLIS = Long.getLong("cloudnet.bridge.player-write-interval", 1000);
+  private static final int FLUSH_BATCH_SIZE = Integer.getInteger("cloudnet.bridge.player-write-batch-size", 500);
+
+  private final Supplier<LocalDatabase> databaseSupplier;
+  private final ScheduledExecutorService flushExecutor;
+
+  private final int flushBatchSize;
+  private final Lock flushLock = new ReentrantLock();
+  private final AtomicLong writeSequence = new AtomicLong();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  // the latest pending write of each player, the sequence number of each write is unique which allows to detect if a
+  // write was replaced while flushing even if the same (mutated) player instance was queued again
+  private final Map<UUID, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+  private volatile boolean closed;
+
+  // flush statistics, only written while holding the flush lock
+  private volatile long flushCount;
+  private volatile long flushedWrites;
+  private volatile long lastFlushNanos;
+  private volatile long totalFlushNanos;
+
+  /**
+   * Constructs a new write queue which writes to the database provided by the given supplier and starts flushing the
+   * pending writes periodically.
+   *
+   * @param databaseSupplier the supplier of the database to write the players to.
+   * @throws NullPointerException if the given database supplier is null.
+   */
+  public PlayerDatabaseWriteQueue(@NonNull Supplier<LocalDatabase> databaseSupplier) {
+    this(databaseSupplier, FLUSH_INTERVAL_MILLIS, FLUSH_BATCH_SIZE);
+  }
+
+  PlayerDatabaseWriteQueue(@NonNull Supplier<LocalDatabase> databaseSupplier, long flushIntervalMillis, int batchSize) {
+    this.databaseSupplier = databaseSupplier;
+    this.flushBatchSize = batchSize;
+    this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().daemon().name("bridge-player-write-queue").factory());
+    this.flushExecutor.scheduleWithFixedDelay(
+      this::flush,
+      flushIntervalMillis,
+      flushIntervalMillis,
+      TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Queues a write of the given player into the database, replacing a previously queued write of the same player.
+   *
+   * @param player the player to write.
+   * @throws NullPointerException if the given player is null.
+   */
+  public void write(@NonNull CloudOfflinePlayer player) {
+    this.enqueue(player.uniqueId(), Optional.of(player));
+  }
+
+  /**
+   * Queues the deletion of the player with the given unique id from the database, replacing a previously queued write
+   * of the same player.
+   *
+   * @param uniqueId the unique id of the player to delete.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  public void delete(@NonNull UUID uniqueId) {
+    this.enqueue(uniqueId, Optional.empty());
+  }
+
+  /**
+   * Get the pending write of the player with the given unique id. An empty optional is returned if the player is
+   * pending for deletion, null if there is no pending write for the player.
+   *
+   * @param uniqueId the unique id of the player to get the pending write of.
+   * @return the pending write of the player, null if there is no pending write.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  public @Nullable Optional<CloudOfflinePlayer> pendingWrite(@NonNull UUID uniqueId) {
+    var pendingWrite = this.pendingWrites.get(uniqueId);
+    return pendingWrite == null ? null : pendingWrite.player();
+  }
+
+  /**
+   * Get a snapshot of all pending writes, mapped by the unique id of the written player. An empty optional indicates
+   * that the player is pending for deletion. Writes which get queued after this method returns are not reflected in
+   * the returned map.
+   *
+   * @return a snapshot of all pending writes.
+   */
+  public @NonNull Map<UUID, Optional<CloudOfflinePlayer>> pendingWrites() {
+    Map<UUID, Optional<CloudOfflinePlayer>> pendingWrites = new HashMap<>(this.pendingWrites.size());
+    this.pendingWrites.forEach((uniqueId, pendingWrite) -> pendingWrites.put(uniqueId, pendingWrite.player()));
+    return pendingWrites;
+  }
+
+  /**
+   * Writes all pending writes into the database, blocking until the writes are done. Writes that fail are kept in the
+   * queue and retried with the next flush.
+   */
+  public void flush() {
+    this.flushLock.lock();
+    try {
+      this.flushScheduled.set(false);
+      if (this.pendingWrites.isEmpty()) {
+        return;
+      }
+
+      // serialize a snapshot of the pending writes, writes that are queued in the meantime are flushed next time
+      var startTime = System.nanoTime();
+      Map<UUID, PendingWrite> batch = new HashMap<>(this.pendingWrites);
+      Map<String, Document> inserts = new HashMap<>();
+      List<String> deletions = new ArrayList<>();
+      for (var entry : batch.entrySet()) {
+        var key = entry.getKey().toString();
+        entry.getValue().player().ifPresentOrElse(
+          player -> inserts.put(key, Document.newJsonDocument().appendTree(player)),
+          () -> deletions.add(key));
+      }
+
+      var database = this.databaseSupplier.get();
+      if (!inserts.isEmpty() && !database.insertAll(inserts)) {
+        LOGGER.warn("Unable to flush {} player writes into the database, retrying later", inserts.size());
+        return;
+      }
+
+      var failedDeletions = this.deleteAll(database, deletions);
+      if (!failedDeletions.isEmpty()) {
+        LOGGER.warn("Unable to flush {} player deletions into the database, retrying later", failedDeletions.size());
+      }
+
+      // only remove the writes that were not replaced while flushing, a replaced write has a new sequence number
+      batch.forEach((uniqueId, pendingWrite) -> {
+        if (!failedDeletions.contains(uniqueId.toString())) {
+          this.pendingWrites.remove(uniqueId, pendingWrite);
+        }
+      });
+
+      var flushTime = System.nanoTime() - startTime;
+      this.flushCount++;
+      this.flushedWrites += batch.size() - failedDeletions.size();
+      this.lastFlushNanos = flushTime;
+      this.totalFlushNanos += flushTime;
+    } catch (Exception exception) {
+      LOGGER.error("Exception flushing pending player writes into the database, retrying later", exception);
+    } finally {
+      this.flushLock.unlock();
+    }
+  }
+
+  /**
+   * Get a snapshot of the statistics of this queue.
+   *
+   * @return a snapshot of the statistics of this queue.
+   */
+  public @NonNull Statistics statistics() {
+    var flushCount = this.flushCount;
+    return new Statistics(
+      this.pendingWrites.size(),
+      flushCount,
+      this.flushedWrites,
+      Duration.ofNanos(this.lastFlushNanos),
+      Duration.ofNanos(flushCount == 0 ? 0 : this.totalFlushNanos / flushCount));
+  }
+
+  /**
+   * Stops the periodic flushing of this queue and writes all pending writes into the database. Writes which are queued
+   * after closing are written directly into the database.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    this.flushExecutor.shutdown();
+    this.flush();
+  }
+
+  private @NonNull Set<String> deleteAll(@NonNull LocalDatabase database, @NonNull List<String> keys) {
+    if (keys.isEmpty() || database.deleteAll(keys) == keys.size()) {
+      return Set.of();
+    }
+
+    // keys without a stored document are not counted as deleted, only the keys that are still present failed
+    return database.getAll(keys).keySet();
+  }
+
+  private void enqueue(@NonNull UUID uniqueId, @NonNull Optional<CloudOfflinePlayer> write) {
+    this.pendingWrites.put(uniqueId, new PendingWrite(this.writeSequence.incrementAndGet(), write));
+    if (this.closed) {
+      // the periodic flushing is stopped, write directly into the database
+      this.flush();
+    } else if (this.pendingWrites.size() >= this.flushBatchSize && this.flushScheduled.compareAndSet(false, true)) {
+      this.flushExecutor.execute(this::flush);
+    }
+  }
+
+  /**
+   * A write which is pending to be flushed into the database.
+   *
+   * @param sequence the unique sequence number of the write, used to identify the write.
+   * @param player   the player to write, an empty optional if the player should get deleted.
+   */
+  private record PendingWrite(long sequence, @NonNull Optional<CloudOfflinePlayer> player) {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object other) {
+      // the player is mutable, two writes are only the same write if their sequence number matches
+      return other instanceof PendingWrite pendingWrite && pendingWrite.sequence == this.sequence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+      return Long.hashCode(this.sequence);
+    }
+  }
+
+  /**
+   * The statistics of a player database write queue.
+   *
+   * @param queueDepth           the amount of writes which are currently pending.
+   * @param flushCount           the amount of flushes which wrote at least one entry into the database.
+   * @param flushedWrites        the total amount of writes which were flushed into the database.
+   * @param lastFlushDuration    the time it took to execute the last flush.
+   * @param averageFlushDuration the average time it took to execute a flush.
+   * @since 4.0
+   */
+  public record Statistics(
+    int queueDepth,
+    long flushCount,
+    long flushedWrites,
+    @NonNull Duration lastFlushDuration,
+    @NonNull Duration averageFlushDuration
+  ) {
+
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.placeholder;
+
+import lombok.NonNull;
+
+/**
+ * A resolver for the values of placeholders used when rendering a placeholder template. Resolvers append the value of
+ * a placeholder directly into the output builder, which prevents allocating intermediate strings for values like
+ * numbers.
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface PlaceholderResolver {
+
+  /**
+   * Appends the value of the placeholder with the given name to the given target builder. If this resolver is not able
+   * to resolve the placeholder, nothing must be appended to the builder.
+   *
+   * @param placeholder the name of the placeholder to resolve, without the surrounding percent signs.
+   * @param target      the builder to append the placeholder value to.
+   * @return true if the placeholder was resolved by this resolver, false otherwise.
+   * @throws NullPointerException if the given placeholder or target is null.
+   */
+  boolean resolve(@NonNull String placeholder, @NonNull StringBuilder target);
+
+  /**
+   * Creates a new resolver which first tries to resolve a placeholder using this resolver, and if that is not possible
+   * tries to resolve the placeholder using the given resolver.
+   *
+   * @param other the resolver to use if this resolver is not able to resolve a placeholder.
+   * @return a new resolver combining this and the given resolver.
+   * @throws NullPointerException if the given resolver is null.
+   */
+  default @NonNull PlaceholderResolver or(@NonNull PlaceholderResolver other) {
+    return (placeholder, target) -> this.resolve(placeholder, target) || other.resolve(placeholder, target);
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.placeholder;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * A compiled template of a text containing {@code %name%}-style placeholders. The text is split into literal and
+ * placeholder segments once when compiling, rendering the template appends all segments into a reused builder. Each
+ * placeholder is resolved once per render, values inserted by a placeholder are never scanned for placeholders again.
+ * Placeholders which cannot be resolved are kept as-is in the output.
+ *
+ * @since 4.0
+ */
+public final class PlaceholderTemplate {
+
+  private static final LoadingCache<String, PlaceholderTemplate> COMPILED_TEMPLATES = Caffeine.newBuilder()
+    .maximumSize(1024)
+    .build(PlaceholderTemplate::parse);
+  private static final ThreadLocal<StringBuilder> RENDER_BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+  private final String source;
+  private final String[] literals;
+  private final String[] placeholders;
+
+  /**
+   * Constructs a new template. The literals array contains one more element than the placeholders array, the literal at
+   * index {@code n} is rendered before the placeholder at index {@code n}.
+   *
+   * @param source       the source text of the template.
+   * @param literals     the literal segments of the template.
+   * @param placeholders the placeholder names of the template.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  private PlaceholderTemplate(@NonNull String source, @NonNull String[] literals, @NonNull String[] placeholders) {
+    this.source = source;
+    this.literals = literals;
+    this.placeholders = placeholders;
+  }
+
+  /**
+   * Get the compiled template of the given text. Compiled templates are cached, compiling the same text multiple times
+   * will most likely return the same template instance.
+   *
+   * @param source the text to compile.
+   * @return the compiled template of the given text.
+   * @throws NullPointerException if the given source text is null.
+   */
+  public static @NonNull PlaceholderTemplate compile(@NonNull String source) {
+    return COMPILED_TEMPLATES.get(source);
+  }
+
+  /**
+   * Parses the given text into a template.
+   *
+   * @param source the text to parse.
+   * @return the parsed template.
+   * @throws NullPointerException if the given source text is null.
+   */
+  private static @NonNull PlaceholderTemplate parse(@NonNull String source) {
+    List<String> literals = new ArrayList<>();
+    List<String> placeholders = new ArrayList<>();
+
+    var literalStart = 0;
+    var index = source.indexOf('%');
+    while (index != -1) {
+      var end = source.indexOf('%', index + 1);
+      if (end == -1) {
+        break;
+      }
+
+      // only valid placeholder names are accepted, the closing percent sign might open a placeholder otherwise
+      if (validPlaceholderName(source, index + 1, end)) {
+        literals.add(source.substring(literalStart, index));
+        placeholders.add(source.substring(index + 1, end));
+        literalStart = end + 1;
+        index = source.indexOf('%', literalStart);
+      } else {
+        index = end;
+      }
+    }
+
+    literals.add(source.substring(literalStart));
+    return new PlaceholderTemplate(source, literals.toArray(String[]::new), placeholders.toArray(String[]::new));
+  }
+
+  /**
+   * Checks if the given region of the given text is a valid placeholder name. Valid names are not empty and only
+   * consist of letters, digits and underscores.
+   *
+   * @param source the text to check the region of.
+   * @param start  the start index of the region, inclusive.
+   * @param end    the end index of the region, exclusive.
+   * @return true if the given region is a valid placeholder name, false otherwise.
+   * @throws NullPointerException if the given source text is null.
+   */
+  private static boolean validPlaceholderName(@NonNull String source, int start, int end) {
+    if (start == end) {
+      return false;
+    }
+
+    for (var index = start; index < end; index++) {
+      var c = source.charAt(index);
+      if (c != '_' && !Character.isLetterOrDigit(c)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Get the source text of this template.
+   *
+   * @return the source text of this template.
+   */
+  public @NonNull String source() {
+    return this.source;
+  }
+
+  /**
+   * Checks if this template contains any placeholder.
+   *
+   * @return true if this template contains at least one placeholder, false otherwise.
+   */
+  public boolean hasPlaceholders() {
+    return this.placeholders.length != 0;
+  }
+
+  /**
+   * Renders this template using the given resolver to resolve the values of the placeholders.
+   *
+   * @param resolver the resolver for the placeholder values.
+   * @return the rendered template.
+   * @throws NullPointerException if the given resolver is null.
+   */
+  public @NonNull String render(@NonNull PlaceholderResolver resolver) {
+    // nothing to replace, just return the source
+    if (this.placeholders.length == 0) {
+      return this.source;
+    }
+
+    // the buffer is only in use if a resolver renders another template, use a fresh builder in that case
+    var buffer = RENDER_BUFFER.get();
+    if (buffer.length() != 0) {
+      buffer = new StringBuilder();
+    }
+
+    try {
+      this.renderTo(buffer, resolver);
+      return buffer.toString();
+    } finally {
+      buffer.setLength(0);
+    }
+  }
+
+  /**
+   * Renders this template into the given target builder using the given resolver to resolve the values of the
+   * placeholders.
+   *
+   * @param target   the builder to render this template into.
+   * @param resolver the resolver for the placeholder values.
+   * @throws NullPointerException if the given target or resolver is null.
+   */
+  public void renderTo(@NonNull StringBuilder target, @NonNull PlaceholderResolver resolver) {
+    for (var index = 0; index < this.placeholders.length; index++) {
+      target.append(this.literals[index]);
+
+      // keep the placeholder as-is if it cannot be resolved
+      var placeholder = this.placeholders[index];
+      if (!resolver.resolve(placeholder, target)) {
+        target.append('%').append(placeholder).append('%');
+      }
+    }
+
+    target.append(this.literals[this.placeholders.length]);
+  }
+}
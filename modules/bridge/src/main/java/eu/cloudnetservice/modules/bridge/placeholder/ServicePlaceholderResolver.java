@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.placeholder;
+
+import eu.cloudnetservice.common.resource.ResourceFormatter;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.modules.bridge.BridgeDocProperties;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A resolver for the commonly used placeholders of a service. The group placeholder is always resolved, all other
+ * placeholders are only resolved if a service is given. Placeholders reading bridge information are only resolved if
+ * the service is marked as online by the bridge.
+ *
+ * @param group   the group to resolve {@literal %group%} with.
+ * @param service the service to use as source for the placeholder values.
+ * @since 4.0
+ */
+public record ServicePlaceholderResolver(
+  @Nullable String group,
+  @Nullable ServiceInfoSnapshot service
+) implements PlaceholderResolver {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean resolve(@NonNull String placeholder, @NonNull StringBuilder target) {
+    if (placeholder.equals("group")) {
+      target.append(this.group == null ? "" : this.group);
+      return true;
+    }
+
+    // all other placeholders require a service
+    var service = this.service;
+    if (service == null) {
+      return false;
+    }
+
+    switch (placeholder) {
+      // service id placeholders
+      case "name" -> target.append(service.serviceId().name());
+      case "task" -> target.append(service.serviceId().taskName());
+      case "node" -> target.append(service.serviceId().nodeUniqueId());
+      case "unique_id" -> target.append(service.serviceId().uniqueId());
+      case "environment" -> target.append(service.serviceId().environment().name());
+      case "task_id" -> target.append(service.serviceId().taskServiceId());
+      case "uid" -> {
+        var uniqueId = service.serviceId().uniqueId().toString();
+        target.append(uniqueId, 0, uniqueId.indexOf('-'));
+      }
+      // general service information
+      case "life_cycle" -> target.append(service.lifeCycle().name());
+      case "runtime" -> target.append(service.configuration().runtime());
+      case "port" -> target.append(service.configuration().port());
+      // process information
+      case "pid" -> target.append(service.processSnapshot().pid());
+      case "threads" -> target.append(service.processSnapshot().threadCount());
+      case "heap_usage" -> target.append(service.processSnapshot().heapUsageMemory());
+      case "max_heap_usage" -> target.append(service.processSnapshot().maxHeapMemory());
+      case "cpu_usage" -> target.append(
+        ResourceFormatter.formatTwoDigitPrecision(service.processSnapshot().cpuUsage()));
+      // bridge information
+      case "online" -> target.append(service.readProperty(BridgeDocProperties.IS_ONLINE) ? "Online" : "Offline");
+      default -> {
+        return this.resolveBridgePlaceholder(service, placeholder, target);
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Resolves the placeholders which read information provided by the bridge. These placeholders are only resolved if
+   * the bridge marked the service as online.
+   *
+   * @param service     the service to read the information from.
+   * @param placeholder the name of the placeholder to resolve.
+   * @param target      the builder to append the placeholder value to.
+   * @return true if the placeholder was resolved, false otherwise.
+   * @throws NullPointerException if the given service, placeholder or target is null.
+   */
+  private boolean resolveBridgePlaceholder(
+    @NonNull ServiceInfoSnapshot service,
+    @NonNull String placeholder,
+    @NonNull StringBuilder target
+  ) {
+    // make sure that the bridge is loaded before accessing any of the properties
+    if (!service.readProperty(BridgeDocProperties.IS_ONLINE)) {
+      return false;
+    }
+
+    switch (placeholder) {
+      case "online_players" -> target.append((int) service.readProperty(BridgeDocProperties.ONLINE_COUNT));
+      case "max_players" -> target.append((int) service.readProperty(BridgeDocProperties.MAX_PLAYERS));
+      case "motd" -> target.append(service.readProperty(BridgeDocProperties.MOTD));
+      case "extra" -> target.append(service.readProperty(BridgeDocProperties.EXTRA));
+      case "state" -> target.append(service.readProperty(BridgeDocProperties.STATE));
+      case "version" -> target.append(service.readProperty(BridgeDocProperties.VERSION));
+      default -> {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -25,6 +25,7 @@
 import eu.cloudnetservice.driver.network.rpc.defaults.generation.RPCInternalInstanceFactory;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
@@ -95,6 +96,7 @@
 
   public PlatformBridgeManagement(
     @NonNull RPCFactory rpcFactory,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull ServiceTaskProvider taskProvider,
@@ -141,6 +143,10 @@ public PlatformBridgeManagement(
     // register the common listeners
     eventManager.registerListener(new PlatformInformationListener(this));
     eventManager.registerListener(new PlatformChannelMessageListener(this.eventManager, this));
+    messenger.subscribeChannels(
+      BRIDGE_CHANNEL_NAME,
+      BRIDGE_PLAYER_CHANNEL_NAME,
+      BRIDGE_PLAYER_EXECUTOR_CHANNEL_NAME);
   }
 
   @Override
@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -64,6 +65,7 @@ public BukkitBridgeManagement(
     @NonNull Server server,
     @NonNull Plugin plugin,
     @NonNull RPCFactory rpcFactory,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull ServiceTaskProvider taskProvider,
@@ -74,6 +76,7 @@ public BukkitBridgeManagement(
   ) {
     super(
       rpcFactory,
+      messenger,
       eventManager,
       networkClient,
       taskProvider,
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -63,6 +64,7 @@ final class BungeeCordBridgeManagement extends PlatformBridgeManagement<ProxiedP
   public BungeeCordBridgeManagement(
     @NonNull RPCFactory rpcFactory,
     @NonNull ProxyServer proxyServer,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull BungeeCordHelper bungeeHelper,
@@ -73,6 +75,7 @@ public BungeeCordBridgeManagement(
     @NonNull WrapperConfiguration wrapperConfiguration
   ) {
     super(rpcFactory,
+      messenger,
       eventManager,
       networkClient,
       taskProvider,
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -62,6 +63,7 @@ public final class FabricBridgeManagement extends PlatformBridgeManagement<Serve
   public FabricBridgeManagement(
     @NonNull BridgedServer server,
     @NonNull RPCFactory rpcFactory,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull ServiceTaskProvider taskProvider,
@@ -72,6 +74,7 @@ public FabricBridgeManagement(
   ) {
     super(
       rpcFactory,
+      messenger,
       eventManager,
       networkClient,
       taskProvider,
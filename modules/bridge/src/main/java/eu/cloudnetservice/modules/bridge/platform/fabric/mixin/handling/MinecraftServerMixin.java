@@ -68,6 +68,7 @@ public abstract class MinecraftServerMixin implements BridgedServer {
     this.cloudnet_bridge$management = new FabricBridgeManagement(
       this,
       this.cloudnet_bridge$injectionHolder.rpcFactory(),
+      this.cloudnet_bridge$injectionHolder.messenger(),
       this.cloudnet_bridge$injectionHolder.eventManager(),
       this.cloudnet_bridge$injectionHolder.networkClient(),
       this.cloudnet_bridge$injectionHolder.taskProvider(),
@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -32,6 +33,7 @@
 @Singleton
 public record FabricInjectionHolder(
   @NonNull RPCFactory rpcFactory,
+  @NonNull CloudMessenger messenger,
   @NonNull EventManager eventManager,
   @NonNull NetworkClient networkClient,
   @NonNull ServiceRegistry serviceRegistry,
@@ -25,6 +25,7 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -64,6 +65,7 @@ public LimboLoohpBridgeManagement(
     @NonNull Limbo limbo,
     @NonNull LimboPlugin plugin,
     @NonNull RPCFactory rpcFactory,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull ServiceTaskProvider taskProvider,
@@ -74,6 +76,7 @@ public LimboLoohpBridgeManagement(
   ) {
     super(
       rpcFactory,
+      messenger,
       eventManager,
       networkClient,
       taskProvider,
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -66,6 +67,7 @@ public final class MinestomBridgeManagement extends PlatformBridgeManagement<Pla
   @Inject
   public MinestomBridgeManagement(
     @NonNull RPCFactory rpcFactory,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull CommandManager commandManager,
@@ -79,6 +81,7 @@ public MinestomBridgeManagement(
   ) {
     super(
       rpcFactory,
+      messenger,
       eventManager,
       networkClient,
       taskProvider,
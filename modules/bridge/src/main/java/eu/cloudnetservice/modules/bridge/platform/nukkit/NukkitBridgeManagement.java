@@ -22,6 +22,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -60,6 +61,7 @@ final class NukkitBridgeManagement extends PlatformBridgeManagement<Player, Netw
   public NukkitBridgeManagement(
     @NonNull Server server,
     @NonNull RPCFactory rpcFactory,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull ServiceTaskProvider taskProvider,
@@ -70,6 +72,7 @@ public NukkitBridgeManagement(
   ) {
     super(
       rpcFactory,
+      messenger,
       eventManager,
       networkClient,
       taskProvider,
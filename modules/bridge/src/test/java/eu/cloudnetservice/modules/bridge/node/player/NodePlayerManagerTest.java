@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.network.rpc.handler.RPCHandlerRegistry;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceId;
+import eu.cloudnetservice.modules.bridge.player.CloudOfflinePlayer;
+import eu.cloudnetservice.modules.bridge.player.CloudPlayer;
+import eu.cloudnetservice.modules.bridge.player.NetworkPlayerProxyInfo;
+import eu.cloudnetservice.modules.bridge.player.NetworkServiceInfo;
+import eu.cloudnetservice.node.cluster.sync.DataSyncRegistry;
+import eu.cloudnetservice.node.command.CommandProvider;
+import eu.cloudnetservice.node.database.LocalDatabase;
+import eu.cloudnetservice.node.database.NodeDatabaseProvider;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+class NodePlayerManagerTest {
+
+  private static final NetworkServiceInfo PROXY = serviceInfo("Proxy", ServiceEnvironmentType.BUNGEECORD, "Proxy");
+  private static final NetworkServiceInfo LOBBY = serviceInfo("Lobby", ServiceEnvironmentType.MINECRAFT_SERVER, "Hub");
+  private static final NetworkServiceInfo GAME = serviceInfo("Game", ServiceEnvironmentType.MINECRAFT_SERVER, "Games");
+
+  private LocalDatabase database;
+  private NodePlayerManager playerManager;
+
+  private static NetworkServiceInfo serviceInfo(
+    @NonNull String task,
+    @NonNull ServiceEnvironmentType environment,
+    @NonNull String group
+  ) {
+    var serviceId = ServiceId.builder()
+      .taskName(task)
+      .taskServiceId(1)
+      .environment(environment)
+      .build();
+    return new NetworkServiceInfo(Set.of(task, group), serviceId);
+  }
+
+  private static CloudPlayer onlinePlayer(@NonNull String name, @NonNull NetworkServiceInfo connectedService) {
+    var proxyInfo = new NetworkPlayerProxyInfo(
+      UUID.randomUUID(),
+      name,
+      null,
+      47,
+      new HostAndPort("127.0.0.1", 25565),
+      new HostAndPort("127.0.0.1", 25577),
+      true,
+      PROXY);
+    return new CloudPlayer(
+      proxyInfo,
+      PROXY,
+      connectedService,
+      null,
+      Document.newJsonDocument(),
+      name,
+      0,
+      0,
+      proxyInfo,
+      Document.newJsonDocument());
+  }
+
+  @BeforeEach
+  void setup() {
+    this.database = Mockito.mock(LocalDatabase.class);
+    var databaseProvider = Mockito.mock(NodeDatabaseProvider.class);
+    Mockito.when(databaseProvider.database(ArgumentMatchers.anyString())).thenReturn(this.database);
+
+    this.playerManager = new NodePlayerManager(
+      Mockito.mock(EventManager.class),
+      Mockito.mock(RPCFactory.class, Mockito.RETURNS_DEEP_STUBS),
+      Mockito.mock(CommandProvider.class),
+      Mockito.mock(DataSyncRegistry.class),
+      Mockito.mock(RPCHandlerRegistry.class),
+      databaseProvider);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.playerManager.databaseWriteQueue().close();
+  }
+
+  @Test
+  void testOnlinePlayersAreIndexed() {
+    var lobbyPlayer = onlinePlayer("derklaro", LOBBY);
+    var gamePlayer = onlinePlayer("0utplay", GAME);
+    this.playerManager.putOnlinePlayer(lobbyPlayer);
+    this.playerManager.putOnlinePlayer(gamePlayer);
+
+    Assertions.assertSame(lobbyPlayer, this.playerManager.firstOnlinePlayer("DerKlaro"));
+    Assertions.assertEquals(List.of(gamePlayer), this.playerManager.onlinePlayers("0UTPLAY"));
+    Assertions.assertNull(this.playerManager.firstOnlinePlayer("unknown"));
+
+    Assertions.assertEquals(List.of(lobbyPlayer), List.copyOf(this.playerManager.taskOnlinePlayers("Lobby").players()));
+    Assertions.assertEquals(List.of(gamePlayer), List.copyOf(this.playerManager.groupOnlinePlayers("Games").players()));
+    Assertions.assertEquals(0, this.playerManager.groupOnlinePlayers("Proxy").count());
+    Assertions.assertEquals(
+      2,
+      this.playerManager.environmentOnlinePlayers(ServiceEnvironmentType.MINECRAFT_SERVER).size());
+    Assertions.assertEquals(2, this.playerManager.loginServiceOnlinePlayers(PROXY.uniqueId()).size());
+  }
+
+  @Test
+  void testMutatedPlayerIsReindexed() {
+    var player = onlinePlayer("derklaro", LOBBY);
+    this.playerManager.putOnlinePlayer(player);
+
+    // switch the server of the same player instance, the old index keys must still be removed
+    player.connectedService(GAME);
+    this.playerManager.pushOnlinePlayerCache(player);
+
+    Assertions.assertEquals(0, this.playerManager.taskOnlinePlayers("Lobby").count());
+    Assertions.assertEquals(0, this.playerManager.groupOnlinePlayers("Hub").count());
+    Assertions.assertEquals(List.of(player), List.copyOf(this.playerManager.taskOnlinePlayers("Game").players()));
+    Assertions.assertEquals(List.of(player), List.copyOf(this.playerManager.groupOnlinePlayers("Games").players()));
+    Assertions.assertFalse(this.playerManager.onlinePlayersByTask.containsKey("Lobby"));
+  }
+
+  @Test
+  void testReplaceDoesNotIndexOfflinePlayers() {
+    var player = onlinePlayer("derklaro", LOBBY);
+    this.playerManager.replaceOnlinePlayer(player);
+
+    Assertions.assertNull(this.playerManager.onlinePlayer(player.uniqueId()));
+    Assertions.assertTrue(this.playerManager.onlinePlayerIndexKeys.isEmpty());
+    Assertions.assertTrue(this.playerManager.onlinePlayersByName.isEmpty());
+  }
+
+  @Test
+  void testRemovedPlayerIsUnindexed() {
+    var player = onlinePlayer("derklaro", LOBBY);
+    this.playerManager.putOnlinePlayer(player);
+    this.playerManager.removeOnlinePlayer(player.uniqueId());
+
+    Assertions.assertEquals(0, this.playerManager.onlineCount());
+    Assertions.assertNull(this.playerManager.firstOnlinePlayer("derklaro"));
+    Assertions.assertTrue(this.playerManager.onlinePlayerIndexKeys.isEmpty());
+    Assertions.assertTrue(this.playerManager.onlinePlayersByName.isEmpty());
+    Assertions.assertTrue(this.playerManager.onlinePlayersByTask.isEmpty());
+    Assertions.assertTrue(this.playerManager.onlinePlayersByGroup.isEmpty());
+    Assertions.assertTrue(this.playerManager.onlinePlayersByEnvironment.isEmpty());
+    Assertions.assertTrue(this.playerManager.onlinePlayersByLoginService.isEmpty());
+  }
+
+  @Test
+  void testFirstOfflinePlayerUsesCache() {
+    var player = CloudOfflinePlayer.offlineCopy(onlinePlayer("derklaro", LOBBY));
+    this.playerManager.pushOfflinePlayerCache(player.uniqueId(), player);
+
+    Assertions.assertSame(player, this.playerManager.firstOfflinePlayer("DERKLARO"));
+    Mockito.verify(this.database, Mockito.never()).find(ArgumentMatchers.anyString(), ArgumentMatchers.any());
+  }
+
+  @Test
+  void testFirstOfflinePlayerIgnoresStaleNameIndex() {
+    var player = CloudOfflinePlayer.offlineCopy(onlinePlayer("derklaro", LOBBY));
+    this.playerManager.pushOfflinePlayerCache(player.uniqueId(), player);
+    var renamedPlayer = new CloudOfflinePlayer(
+      "0utplay",
+      player.firstLoginTimeMillis(),
+      player.lastLoginTimeMillis(),
+      player.networkPlayerProxyInfo(),
+      Document.newJsonDocument());
+    this.playerManager.pushOfflinePlayerCache(player.uniqueId(), renamedPlayer);
+
+    Assertions.assertSame(renamedPlayer, this.playerManager.firstOfflinePlayer("0UTPLAY"));
+    Assertions.assertNull(this.playerManager.firstOfflinePlayer("derklaro"));
+    Mockito.verify(this.database).find("name", "derklaro");
+  }
+
+  @Test
+  void testFirstOfflinePlayerFallsBackToDatabase() {
+    var player = CloudOfflinePlayer.offlineCopy(onlinePlayer("derklaro", LOBBY));
+    Mockito.when(this.database.find("name", "derklaro"))
+      .thenReturn(List.of(Document.newJsonDocument().appendTree(player)));
+
+    var storedPlayer = this.playerManager.firstOfflinePlayer("derklaro");
+    Assertions.assertNotNull(storedPlayer);
+    Assertions.assertEquals(player.uniqueId(), storedPlayer.uniqueId());
+    Assertions.assertNull(this.playerManager.firstOfflinePlayer("0utplay"));
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.node.player;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceId;
+import eu.cloudnetservice.modules.bridge.player.CloudOfflinePlayer;
+import eu.cloudnetservice.modules.bridge.player.NetworkPlayerProxyInfo;
+import eu.cloudnetservice.modules.bridge.player.NetworkServiceInfo;
+import eu.cloudnetservice.node.database.LocalDatabase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+class PlayerDatabaseWriteQueueTest {
+
+  private final List<Map<String, Document>> insertedBatches = new ArrayList<>();
+
+  private LocalDatabase database;
+  private PlayerDatabaseWriteQueue writeQueue;
+
+  private static CloudOfflinePlayer player(@NonNull UUID uniqueId, @NonNull String name, int version) {
+    var serviceId = ServiceId.builder()
+      .taskName("Proxy")
+      .taskServiceId(1)
+      .environment(ServiceEnvironmentType.BUNGEECORD)
+      .build();
+    var proxyInfo = new NetworkPlayerProxyInfo(
+      uniqueId,
+      name,
+      null,
+      version,
+      new HostAndPort("127.0.0.1", 25565),
+      new HostAndPort("127.0.0.1", 25577),
+      true,
+      new NetworkServiceInfo(Set.of("Proxy"), serviceId));
+    return new CloudOfflinePlayer(name, 0, 0, proxyInfo, Document.newJsonDocument());
+  }
+
+  @BeforeEach
+  void setup() {
+    this.database = Mockito.mock(LocalDatabase.class);
+    Mockito.when(this.database.insertAll(ArgumentMatchers.any())).then(invocation -> {
+      this.insertedBatches.add(Map.copyOf(invocation.getArgument(0)));
+      return true;
+    });
+
+    // use a long flush interval to only flush when requested by the test
+    this.writeQueue = new PlayerDatabaseWriteQueue(() -> this.database, 60_000, 500);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.writeQueue.close();
+  }
+
+  @Test
+  void testWritesAreCoalescedPerPlayer() {
+    var uniqueId = UUID.randomUUID();
+    this.writeQueue.write(player(uniqueId, "derklaro", 47));
+    this.writeQueue.write(player(uniqueId, "derklaro", 48));
+    this.writeQueue.write(player(UUID.randomUUID(), "0utplay", 47));
+
+    var pendingWrite = this.writeQueue.pendingWrite(uniqueId);
+    Assertions.assertNotNull(pendingWrite);
+    Assertions.assertEquals(48, pendingWrite.orElseThrow().lastNetworkPlayerProxyInfo().version());
+    Assertions.assertEquals(2, this.writeQueue.statistics().queueDepth());
+    Mockito.verifyNoInteractions(this.database);
+
+    this.writeQueue.flush();
+    Assertions.assertEquals(1, this.insertedBatches.size());
+
+    var batch = this.insertedBatches.getFirst();
+    var proxyInfo = batch.get(uniqueId.toString()).readDocument("lastNetworkPlayerProxyInfo");
+    Assertions.assertEquals(2, batch.size());
+    Assertions.assertEquals(48, proxyInfo.getInt("version"));
+
+    Assertions.assertNull(this.writeQueue.pendingWrite(uniqueId));
+    Assertions.assertEquals(0, this.writeQueue.statistics().queueDepth());
+    Assertions.assertEquals(1, this.writeQueue.statistics().flushCount());
+    Assertions.assertEquals(2, this.writeQueue.statistics().flushedWrites());
+  }
+
+  @Test
+  void testDeletionReplacesPendingWrite() {
+    var uniqueId = UUID.randomUUID();
+    this.writeQueue.write(player(uniqueId, "derklaro", 47));
+    this.writeQueue.delete(uniqueId);
+
+    var pendingWrite = this.writeQueue.pendingWrite(uniqueId);
+    Assertions.assertNotNull(pendingWrite);
+    Assertions.assertTrue(pendingWrite.isEmpty());
+    Assertions.assertEquals(Map.of(uniqueId, Optional.empty()), this.writeQueue.pendingWrites());
+
+    this.writeQueue.flush();
+    Assertions.assertTrue(this.insertedBatches.isEmpty());
+    Mockito.verify(this.database).deleteAll(List.of(uniqueId.toString()));
+    Assertions.assertNull(this.writeQueue.pendingWrite(uniqueId));
+  }
+
+  @Test
+  void testFailedFlushKeepsWrites() {
+    Mockito.when(this.database.insertAll(ArgumentMatchers.any())).thenReturn(false);
+
+    var uniqueId = UUID.randomUUID();
+    this.writeQueue.write(player(uniqueId, "derklaro", 47));
+    this.writeQueue.flush();
+
+    Assertions.assertNotNull(this.writeQueue.pendingWrite(uniqueId));
+    Assertions.assertEquals(0, this.writeQueue.statistics().flushCount());
+
+    Mockito.when(this.database.insertAll(ArgumentMatchers.any())).thenReturn(true);
+    this.writeQueue.flush();
+
+    Assertions.assertNull(this.writeQueue.pendingWrite(uniqueId));
+    Assertions.assertEquals(1, this.writeQueue.statistics().flushCount());
+  }
+
+  @Test
+  void testFailedDeletionKeepsDeletion() {
+    var deletedId = UUID.randomUUID();
+    var writtenId = UUID.randomUUID();
+    var deletedKey = deletedId.toString();
+    Mockito.when(this.database.deleteAll(List.of(deletedKey))).thenReturn(0);
+    Mockito.when(this.database.getAll(List.of(deletedKey)))
+      .thenReturn(Map.of(deletedKey, Document.newJsonDocument()));
+
+    this.writeQueue.delete(deletedId);
+    this.writeQueue.write(player(writtenId, "derklaro", 47));
+    this.writeQueue.flush();
+
+    var pendingWrite = this.writeQueue.pendingWrite(deletedId);
+    Assertions.assertNotNull(pendingWrite);
+    Assertions.assertTrue(pendingWrite.isEmpty());
+    Assertions.assertNull(this.writeQueue.pendingWrite(writtenId));
+    Assertions.assertEquals(1, this.writeQueue.statistics().flushedWrites());
+
+    Mockito.when(this.database.deleteAll(List.of(deletedKey))).thenReturn(1);
+    this.writeQueue.flush();
+
+    Assertions.assertNull(this.writeQueue.pendingWrite(deletedId));
+    Assertions.assertEquals(2, this.writeQueue.statistics().flushedWrites());
+  }
+
+  @Test
+  void testMutatedPlayerQueuedWhileFlushingIsNotLost() {
+    var uniqueId = UUID.randomUUID();
+    var player = player(uniqueId, "derklaro", 47);
+    this.writeQueue.write(player);
+
+    // mutate the same player instance and queue it again while the previous state is written
+    Mockito.when(this.database.insertAll(ArgumentMatchers.any())).then(invocation -> {
+      this.insertedBatches.add(Map.copyOf(invocation.getArgument(0)));
+      if (this.insertedBatches.size() == 1) {
+        var proxyInfo = player.lastNetworkPlayerProxyInfo();
+        player.lastNetworkPlayerProxyInfo(new NetworkPlayerProxyInfo(
+          proxyInfo.uniqueId(),
+          proxyInfo.name(),
+          proxyInfo.xBoxId(),
+          48,
+          proxyInfo.address(),
+          proxyInfo.listener(),
+          proxyInfo.onlineMode(),
+          proxyInfo.networkService()));
+        this.writeQueue.write(player);
+      }
+      return true;
+    });
+
+    this.writeQueue.flush();
+    Assertions.assertNotNull(this.writeQueue.pendingWrite(uniqueId));
+
+    this.writeQueue.flush();
+    Assertions.assertNull(this.writeQueue.pendingWrite(uniqueId));
+    Assertions.assertEquals(2, this.insertedBatches.size());
+
+    var flushedVersion = this.insertedBatches.get(1)
+      .get(uniqueId.toString())
+      .readDocument("lastNetworkPlayerProxyInfo")
+      .getInt("version");
+    Assertions.assertEquals(48, flushedVersion);
+  }
+
+  @Test
+  void testBatchSizeTriggersFlush() {
+    this.writeQueue.close();
+    this.writeQueue = new PlayerDatabaseWriteQueue(() -> this.database, 60_000, 2);
+
+    this.writeQueue.write(player(UUID.randomUUID(), "derklaro", 47));
+    this.writeQueue.write(player(UUID.randomUUID(), "0utplay", 47));
+
+    Mockito.verify(this.database, Mockito.timeout(5000)).insertAll(ArgumentMatchers.any());
+  }
+
+  @Test
+  void testWritesAfterCloseAreWrittenDirectly() {
+    var uniqueId = UUID.randomUUID();
+    this.writeQueue.write(player(uniqueId, "derklaro", 47));
+    this.writeQueue.close();
+    Assertions.assertEquals(1, this.insertedBatches.size());
+
+    this.writeQueue.delete(uniqueId);
+    Mockito.verify(this.database).deleteAll(List.of(uniqueId.toString()));
+    Assertions.assertNull(this.writeQueue.pendingWrite(uniqueId));
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.placeholder;
+
+import eu.cloudnetservice.common.resource.ResourceFormatter;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.modules.bridge.BridgeDocProperties;
+import java.util.Set;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PlaceholderTemplateTest {
+
+  private static final String ALL_PLACEHOLDERS = "%group% %name% %task% %node% %unique_id% %environment% %task_id% "
+    + "%uid% %life_cycle% %runtime% %port% %pid% %threads% %heap_usage% %max_heap_usage% %cpu_usage% %online% "
+    + "%online_players% %max_players% %motd% %extra% %state% %version%";
+
+  private static ServiceInfoSnapshot service(boolean online, @NonNull String motd, @NonNull String extra) {
+    var configuration = ServiceConfiguration.builder()
+      .taskName("Lobby")
+      .taskId(1)
+      .node("Node-1")
+      .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+      .groups(Set.of("Global"))
+      .build();
+    var properties = Document.newJsonDocument()
+      .append("Online", online)
+      .append("Online-Count", 12)
+      .append("Max-Players", 20)
+      .append("Motd", motd)
+      .append("Extra", extra)
+      .append("State", "LOBBY")
+      .append("Version", "1.21");
+    return new ServiceInfoSnapshot(
+      System.currentTimeMillis(),
+      new HostAndPort("127.0.0.1", 25565),
+      ProcessSnapshot.empty(),
+      configuration,
+      -1,
+      ServiceLifeCycle.RUNNING,
+      properties);
+  }
+
+  // the string replacement based implementation used before placeholder templates were introduced
+  private static @NonNull String legacyFillCommonPlaceholders(
+    @NonNull String value,
+    @Nullable String group,
+    @Nullable ServiceInfoSnapshot service
+  ) {
+    value = value.replace("%group%", group == null ? "" : group);
+    if (service == null) {
+      return value;
+    }
+
+    value = value.replace("%name%", service.serviceId().name());
+    value = value.replace("%task%", service.serviceId().taskName());
+    value = value.replace("%node%", service.serviceId().nodeUniqueId());
+    value = value.replace("%unique_id%", service.serviceId().uniqueId().toString());
+    value = value.replace("%environment%", service.serviceId().environment().name());
+    value = value.replace("%task_id%", Integer.toString(service.serviceId().taskServiceId()));
+    value = value.replace("%uid%", service.serviceId().uniqueId().toString().split("-")[0]);
+    value = value.replace("%life_cycle%", service.lifeCycle().name());
+    value = value.replace("%runtime%", service.configuration().runtime());
+    value = value.replace("%port%", Integer.toString(service.configuration().port()));
+    value = value.replace("%pid%", Long.toString(service.processSnapshot().pid()));
+    value = value.replace("%threads%", Integer.toString(service.processSnapshot().threadCount()));
+    value = value.replace("%heap_usage%", Long.toString(service.processSnapshot().heapUsageMemory()));
+    value = value.replace("%max_heap_usage%", Long.toString(service.processSnapshot().maxHeapMemory()));
+    value = value.replace(
+      "%cpu_usage%",
+      ResourceFormatter.formatTwoDigitPrecision(service.processSnapshot().cpuUsage()));
+
+    var online = service.readProperty(BridgeDocProperties.IS_ONLINE);
+    value = value.replace("%online%", online ? "Online" : "Offline");
+    if (online) {
+      value = value.replace(
+        "%online_players%",
+        Integer.toString(service.readProperty(BridgeDocProperties.ONLINE_COUNT)));
+      value = value.replace(
+        "%max_players%",
+        Integer.toString(service.readProperty(BridgeDocProperties.MAX_PLAYERS)));
+      value = value.replace("%motd%", service.readProperty(BridgeDocProperties.MOTD));
+      value = value.replace("%extra%", service.readProperty(BridgeDocProperties.EXTRA));
+      value = value.replace("%state%", service.readProperty(BridgeDocProperties.STATE));
+      value = value.replace("%version%", service.readProperty(BridgeDocProperties.VERSION));
+    }
+
+    return value;
+  }
+
+  private static @NonNull String render(@NonNull String source) {
+    return PlaceholderTemplate.compile(source).render((placeholder, target) -> switch (placeholder) {
+      case "name" -> {
+        target.append("Lobby-1");
+        yield true;
+      }
+      case "task" -> {
+        target.append("Lobby");
+        yield true;
+      }
+      case "value" -> {
+        target.append("100% %name%");
+        yield true;
+      }
+      default -> false;
+    });
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "Hello World", "100% sure", "%name", "name%", "50% %", "%"})
+  void testTextWithoutPlaceholdersIsKept(String source) {
+    var template = PlaceholderTemplate.compile(source);
+    Assertions.assertFalse(template.hasPlaceholders());
+    Assertions.assertSame(source, render(source));
+  }
+
+  @Test
+  void testStrayPercentSignBeforePlaceholder() {
+    Assertions.assertEquals("50% off on Lobby-1", render("50% off on %name%"));
+    Assertions.assertEquals("Lobby-1 is 100% full", render("%name% is 100% full"));
+    Assertions.assertEquals("Lobby-1 %task", render("%name% %task"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"%%", "%na me%", "%task-id%", "%name.task%", "%a+b%"})
+  void testInvalidPlaceholderNamesAreKept(String source) {
+    Assertions.assertFalse(PlaceholderTemplate.compile(source).hasPlaceholders());
+    Assertions.assertEquals(source, render(source));
+  }
+
+  @Test
+  void testAdjacentPlaceholders() {
+    Assertions.assertEquals("Lobby-1Lobby", render("%name%%task%"));
+    Assertions.assertEquals("Lobby-1%Lobby", render("%name%%%task%"));
+    Assertions.assertEquals("[Lobby-1][Lobby]", render("[%name%][%task%]"));
+  }
+
+  @Test
+  void testUnresolvedPlaceholdersAreKept() {
+    Assertions.assertEquals("%unknown% Lobby-1", render("%unknown% %name%"));
+  }
+
+  @Test
+  void testInsertedValuesAreNotScannedAgain() {
+    Assertions.assertEquals("100% %name% Lobby-1", render("%value% %name%"));
+
+    // the legacy implementation replaced placeholders inserted by the motd when replacing the state afterward
+    var service = service(true, "%state%", "Extra data");
+    Assertions.assertEquals(
+      "%state%",
+      PlaceholderTemplate.compile("%motd%").render(new ServicePlaceholderResolver("Global", service)));
+    Assertions.assertEquals("LOBBY", legacyFillCommonPlaceholders("%motd%", "Global", service));
+  }
+
+  @Test
+  void testChainedResolvers() {
+    PlaceholderResolver first = (placeholder, target) -> {
+      if (placeholder.equals("name")) {
+        target.append("first");
+        return true;
+      }
+      return false;
+    };
+    PlaceholderResolver second = (_, target) -> {
+      target.append("second");
+      return true;
+    };
+
+    var template = PlaceholderTemplate.compile("%name% %task%");
+    Assertions.assertEquals("first second", template.render(first.or(second)));
+  }
+
+  @Test
+  void testServiceResolverWithoutService() {
+    var resolver = new ServicePlaceholderResolver(null, null);
+    Assertions.assertEquals(" %name%", PlaceholderTemplate.compile("%group% %name%").render(resolver));
+    Assertions.assertEquals(
+      legacyFillCommonPlaceholders(ALL_PLACEHOLDERS, "Global", null),
+      PlaceholderTemplate.compile(ALL_PLACEHOLDERS).render(new ServicePlaceholderResolver("Global", null)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testServiceResolverMatchesLegacyReplacement(boolean online) {
+    var service = service(online, "Welcome to the server", "Extra data");
+    var expected = legacyFillCommonPlaceholders(ALL_PLACEHOLDERS, "Global", service);
+
+    var resolver = new ServicePlaceholderResolver("Global", service);
+    var rendered = PlaceholderTemplate.compile(ALL_PLACEHOLDERS).render(resolver);
+    Assertions.assertEquals(expected, rendered);
+    Assertions.assertNotEquals(online, rendered.contains("%online_players%"));
+  }
+}
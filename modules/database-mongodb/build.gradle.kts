@@ -20,6 +20,7 @@ tasks.withType<Jar> {
 
 dependencies {
   "moduleLibrary"(libs.mongodb)
+  "testImplementation"(testFixtures(rootProject.projects.node))
 }
 
 moduleJson {
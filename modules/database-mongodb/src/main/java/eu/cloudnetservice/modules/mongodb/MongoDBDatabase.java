@@ -16,12 +16,17 @@
 
 package eu.cloudnetservice.modules.mongodb;
 
+import com.google.common.base.Preconditions;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
+import eu.cloudnetservice.driver.database.DatabaseChunk;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.AbstractDatabase;
@@ -29,6 +34,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -43,6 +49,7 @@ public class MongoDBDatabase extends AbstractDatabase {
 
   protected static final IndexOptions UNIQUE_KEY_OPTIONS = new IndexOptions().unique(true);
   protected static final UpdateOptions INSERT_OR_REPLACE_OPTIONS = new UpdateOptions().upsert(true);
+  protected static final BulkWriteOptions UNORDERED_BULK_WRITE_OPTIONS = new BulkWriteOptions().ordered(false);
 
   protected final MongoCollection<org.bson.Document> collection;
 
@@ -70,6 +77,8 @@ protected boolean insertOrUpdate(String key, Document document) {
         Updates.set(VALUE_NAME, org.bson.Document.parse(this.serializeDocumentToJsonString(document)))
       ),
       INSERT_OR_REPLACE_OPTIONS);
+
+    this.invalidateNearCaches(key);
     return result.getUpsertedId() != null || result.getMatchedCount() > 0;
   }
 
@@ -80,7 +89,11 @@ public boolean contains(@NonNull String key) {
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.collection.deleteOne(Filters.eq(KEY_NAME, key)).getDeletedCount() > 0;
+    var deleted = this.collection.deleteOne(Filters.eq(KEY_NAME, key)).getDeletedCount() > 0;
+    if (deleted) {
+      this.invalidateNearCaches(key);
+    }
+    return deleted;
   }
 
   @Override
@@ -89,6 +102,58 @@ public boolean delete(@NonNull String key) {
     return this.parseDocumentValue(document);
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> documents) {
+    if (documents.isEmpty()) {
+      return true;
+    }
+
+    // send all upserts to the server at once, the order of the writes doesn't matter as each key is unique
+    List<UpdateOneModel<org.bson.Document>> writes = new ArrayList<>(documents.size());
+    for (var entry : documents.entrySet()) {
+      writes.add(new UpdateOneModel<>(
+        Filters.eq(KEY_NAME, entry.getKey()),
+        Updates.combine(
+          Updates.setOnInsert(new org.bson.Document(KEY_NAME, entry.getKey())),
+          Updates.set(VALUE_NAME, org.bson.Document.parse(this.serializeDocumentToJsonString(entry.getValue())))
+        ),
+        INSERT_OR_REPLACE_OPTIONS));
+    }
+
+    var result = this.collection.bulkWrite(writes, UNORDERED_BULK_WRITE_OPTIONS);
+    this.invalidateNearCaches(null);
+    return result.getMatchedCount() + result.getUpserts().size() == documents.size();
+  }
+
+  @Override
+  public @NonNull Map<String, Document> getAll(@NonNull Collection<String> keys) {
+    Map<String, Document> documents = new LinkedHashMap<>();
+    try (var cursor = this.collection.find(Filters.in(KEY_NAME, keys)).iterator()) {
+      while (cursor.hasNext()) {
+        var document = cursor.next();
+        var value = this.parseDocumentValue(document);
+        if (value != null) {
+          documents.put(document.getString(KEY_NAME), value);
+        }
+      }
+    }
+
+    return documents;
+  }
+
+  @Override
+  public int deleteAll(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+
+    var deleted = (int) this.collection.deleteMany(Filters.in(KEY_NAME, keys)).getDeletedCount();
+    if (deleted > 0) {
+      this.invalidateNearCaches(null);
+    }
+    return deleted;
+  }
+
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
     List<Document> documents = new ArrayList<>();
@@ -177,6 +242,7 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
   @Override
   public void clear() {
     this.collection.deleteMany(new org.bson.Document());
+    this.invalidateNearCaches(null);
   }
 
   @Override
@@ -190,6 +256,34 @@ public boolean synced() {
   }
 
   @Override
+  public @Nullable DatabaseChunk readChunk(@Nullable String afterKey, int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "chunk size must be positive");
+
+    // use the key index to seek directly to the given key instead of skipping all previous documents
+    var filter = afterKey == null ? Filters.empty() : Filters.gt(KEY_NAME, afterKey);
+    var query = this.collection.find(filter).sort(Sorts.ascending(KEY_NAME)).limit(chunkSize);
+
+    String lastKey = null;
+    Map<String, Document> result = new LinkedHashMap<>();
+    try (var cursor = query.iterator()) {
+      while (cursor.hasNext()) {
+        // documents which cannot be parsed are skipped, but the next chunk must still continue after them
+        var document = cursor.next();
+        lastKey = document.getString(KEY_NAME);
+
+        var parsedDocument = this.parseDocumentValue(document);
+        if (parsedDocument != null) {
+          result.put(lastKey, parsedDocument);
+        }
+      }
+    }
+
+    // only an empty cursor indicates that there is no more data to read
+    return lastKey == null ? null : new DatabaseChunk(result, lastKey);
+  }
+
+  @Override
+  @Deprecated
   public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
     Map<String, Document> result = new HashMap<>();
     try (var cursor = this.collection.find().skip((int) beginIndex).limit(chunkSize).iterator()) {
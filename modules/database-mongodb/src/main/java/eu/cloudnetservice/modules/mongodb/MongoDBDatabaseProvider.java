@@ -68,6 +68,7 @@ public boolean containsDatabase(@NonNull String name) {
   public boolean deleteDatabase(@NonNull String name) {
     this.databaseCache.invalidate(name);
     this.mongoDatabase.getCollection(name).drop();
+    this.nearCacheRegistry.invalidate(name, null);
 
     return true;
   }
@@ -87,4 +88,10 @@ public void close() throws Exception {
   public @NonNull String name() {
     return "mongodb";
   }
+
+  @Override
+  public boolean sharedBetweenNodes() {
+    // all nodes of the cluster connect to the same database server
+    return true;
+  }
 }
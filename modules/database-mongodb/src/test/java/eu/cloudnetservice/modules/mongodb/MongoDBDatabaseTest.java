@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.modules.mongodb.config.MongoDBConnectionConfig;
+import eu.cloudnetservice.node.database.AbstractDatabaseTest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +31,7 @@
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 @Testcontainers(disabledWithoutDocker = true)
-class MongoDBDatabaseTest {
+class MongoDBDatabaseTest extends AbstractDatabaseTest {
 
   @Container
   private final GenericContainer<?> mongoContainer = new GenericContainer<>("mongo:latest").withExposedPorts(27017);
@@ -51,6 +52,11 @@ void setup() throws Exception {
     this.databaseProvider.init();
   }
 
+  @Override
+  protected MongoDBDatabaseProvider databaseProvider() {
+    return this.databaseProvider;
+  }
+
   @Test
   void testAccessCreatesDatabase() {
     Assertions.assertNotNull(this.databaseProvider.database("hello_world"));
@@ -22,6 +22,7 @@ dependencies {
   "moduleLibrary"(libs.bundles.mysql) {
     exclude("com.google.protobuf")
   }
+  "testImplementation"(testFixtures(rootProject.projects.node))
 }
 
 moduleJson {
@@ -29,6 +29,7 @@
 import io.leangen.geantyref.TypeFactory;
 import jakarta.inject.Singleton;
 import java.util.List;
+import java.util.Map;
 import lombok.NonNull;
 
 @Singleton
@@ -45,7 +46,9 @@ public void convertConfig() {
         config.getString("username"),
         config.getString("password"),
         config.getString("database"),
-        config.readObject("addresses", TypeFactory.parameterizedClass(List.class, MySQLConnectionEndpoint.class))
+        config.readObject("addresses", TypeFactory.parameterizedClass(List.class, MySQLConnectionEndpoint.class)),
+        Map.of(),
+        false
       )));
     }
   }
@@ -58,7 +61,9 @@ public void registerDatabaseProvider(@NonNull ServiceRegistry serviceRegistry) {
         "root",
         "123456",
         "mysql",
-        List.of(new MySQLConnectionEndpoint("cloudnet", new HostAndPort("127.0.0.1", 3306)))),
+        List.of(new MySQLConnectionEndpoint("cloudnet", new HostAndPort("127.0.0.1", 3306))),
+        Map.of(),
+        false),
       DocumentFactory.json());
 
     serviceRegistry.registerProvider(
@@ -16,6 +16,8 @@
 
 package eu.cloudnetservice.modules.mysql;
 
+import com.google.common.base.Preconditions;
+import eu.cloudnetservice.driver.database.DatabaseChunk;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.sql.SQLDatabase;
@@ -24,18 +26,43 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class MySQLDatabase extends SQLDatabase {
 
-  public MySQLDatabase(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MySQLDatabase.class);
+
+  // indexed fields are stored in generated columns, the indexed field name is stored in the comment of the column
+  private static final String INDEX_COLUMN_PREFIX = "cn_idx_";
+  private static final int INDEX_COLUMN_LENGTH = 255;
+  private static final int MAX_COLUMN_NAME_LENGTH = 64;
+
+  private static final Pattern INDEX_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_]+");
+  private static final Pattern INDEX_FIELD_PATTERN = Pattern.compile("[A-Za-z0-9_]+(\\.[A-Za-z0-9_]+)*");
+
+  // the indexed field names mapped to the generated column holding the field value
+  private final Map<String, String> indexColumns = new ConcurrentHashMap<>();
+  private final boolean implicitIndexes;
+
+  public MySQLDatabase(
+    @NonNull SQLDatabaseProvider provider,
+    @NonNull String name,
+    @NonNull Collection<String> indexedFields,
+    boolean implicitIndexes
+  ) {
     super(provider, name);
+    this.implicitIndexes = implicitIndexes;
 
     // create the table
     provider.executeUpdate(String.format(
@@ -49,12 +76,18 @@ public MySQLDatabase(@NonNull SQLDatabaseProvider provider, @NonNull String name
       name,
       TABLE_COLUMN_KEY,
       TABLE_COLUMN_VAL));
+
+    // load the indexes that were declared previously and create the indexes that are declared in the configuration
+    this.loadIndexColumns();
+    for (var indexedField : indexedFields) {
+      this.createIndex(indexedField.replace('.', '_'), indexedField);
+    }
   }
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
     var serializedDocument = this.serializeDocumentToJsonString(document);
-    return this.databaseProvider.executeUpdate(
+    var inserted = this.databaseProvider.executeUpdate(
       String.format(
         "INSERT INTO `%s` (%s, %s) VALUES (?, ?) ON DUPLICATE KEY UPDATE %s = ?;",
         this.name,
@@ -62,6 +95,34 @@ public boolean insert(@NonNull String key, @NonNull Document document) {
         TABLE_COLUMN_VAL,
         TABLE_COLUMN_VAL),
       key, serializedDocument, serializedDocument) > 0;
+
+    this.invalidateNearCaches(key);
+    return inserted;
+  }
+
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> documents) {
+    if (documents.isEmpty()) {
+      return true;
+    }
+
+    List<Object[]> batch = new ArrayList<>(documents.size());
+    for (var entry : documents.entrySet()) {
+      var serializedDocument = this.serializeDocumentToJsonString(entry.getValue());
+      batch.add(new Object[]{entry.getKey(), serializedDocument, serializedDocument});
+    }
+
+    var inserted = this.databaseProvider.executeBatchUpdate(
+      String.format(
+        "INSERT INTO `%s` (%s, %s) VALUES (?, ?) ON DUPLICATE KEY UPDATE %s = ?;",
+        this.name,
+        TABLE_COLUMN_KEY,
+        TABLE_COLUMN_VAL,
+        TABLE_COLUMN_VAL),
+      batch) != -1;
+
+    this.invalidateNearCaches(null);
+    return inserted;
   }
 
   @Override
@@ -75,9 +136,14 @@ public boolean contains(@NonNull String key) {
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.databaseProvider.executeUpdate(
+    var deleted = this.databaseProvider.executeUpdate(
       String.format("DELETE FROM %s WHERE `%s` = ?;", this.name, TABLE_COLUMN_KEY),
       key) > 0;
+
+    if (deleted) {
+      this.invalidateNearCaches(key);
+    }
+    return deleted;
   }
 
   @Override
@@ -95,22 +161,7 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public @NonNull Collection<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
-    return this.databaseProvider.executeQuery(
-      String.format(
-        "SELECT %s FROM `%s` WHERE JSON_SEARCH(%s, 'one', '%s', NULL, '$.%s') IS NOT NULL;",
-        TABLE_COLUMN_VAL,
-        this.name,
-        TABLE_COLUMN_VAL,
-        Objects.toString(fieldValue).replaceAll("([_%])", "\\\\$1"),
-        fieldName),
-      resultSet -> {
-        List<Document> results = new ArrayList<>();
-        while (resultSet.next()) {
-          results.add(DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)));
-        }
-
-        return results;
-      }, List.of());
+    return this.find(Map.of(fieldName, Objects.toString(fieldValue)));
   }
 
   @Override
@@ -121,8 +172,25 @@ public boolean delete(@NonNull String key) {
       .append(this.name)
       .append('`');
 
+    List<Object> arguments = new ArrayList<>();
     if (!filters.isEmpty()) {
       stringBuilder.append(" WHERE ");
+
+      // compare indexed fields with their generated column first, which allows the lookup to use the index of the
+      // column. the json search predicates below still filter out the exact matches as the column values are truncated
+      for (var entry : filters.entrySet()) {
+        var indexColumn = this.indexColumns.get(entry.getKey());
+        if (indexColumn != null) {
+          stringBuilder
+            .append('`')
+            .append(indexColumn)
+            .append("` = LEFT(?, ")
+            .append(INDEX_COLUMN_LENGTH)
+            .append(") AND ");
+          arguments.add(entry.getValue());
+        }
+      }
+
       var iterator = filters.entrySet().iterator();
       while (iterator.hasNext()) {
         var entry = iterator.next();
@@ -145,7 +213,7 @@ public boolean delete(@NonNull String key) {
       }
 
       return results;
-    }, List.of());
+    }, List.of(), arguments.toArray());
   }
 
   @Override
@@ -191,6 +259,69 @@ public boolean delete(@NonNull String key) {
   @Override
   public void clear() {
     this.databaseProvider.executeUpdate(String.format("TRUNCATE TABLE `%s`;", this.name));
+    this.invalidateNearCaches(null);
+  }
+
+  @Override
+  public boolean index(@NonNull String indexName, @NonNull String fieldName) {
+    if (this.indexColumns.containsKey(fieldName)) {
+      return false;
+    }
+
+    // creating an index rebuilds the whole table, which must be explicitly allowed for indexes declared by the code
+    if (!this.implicitIndexes) {
+      LOGGER.info(
+        "Not creating index {} on field {} of table {}, add the field to the indexed fields or enable implicit indexes",
+        indexName,
+        fieldName,
+        this.name);
+      return false;
+    }
+
+    return this.createIndex(indexName, fieldName);
+  }
+
+  private boolean createIndex(@NonNull String indexName, @NonNull String fieldName) {
+    // both names are passed directly into the statement, ensure that they cannot break out of it
+    var columnName = INDEX_COLUMN_PREFIX + indexName;
+    Preconditions.checkArgument(INDEX_NAME_PATTERN.matcher(indexName).matches(), "invalid index name %s", indexName);
+    Preconditions.checkArgument(columnName.length() <= MAX_COLUMN_NAME_LENGTH, "index name %s too long", indexName);
+    Preconditions.checkArgument(INDEX_FIELD_PATTERN.matcher(fieldName).matches(), "invalid field name %s", fieldName);
+
+    if (this.indexColumns.containsKey(fieldName)) {
+      return false;
+    }
+
+    synchronized (this.indexColumns) {
+      // re-check in the lock, another thread might have created the index in the meantime
+      if (this.indexColumns.containsKey(fieldName)) {
+        return false;
+      }
+
+      // store the field value in a generated column and index that column
+      LOGGER.warn("Creating index {} on field {} of table {}, this rebuilds the table", indexName, fieldName, this.name);
+      var created = this.databaseProvider.executeUpdate(String.format(
+        "ALTER TABLE `%s` "
+          + "ADD COLUMN `%s` VARCHAR(%d) GENERATED ALWAYS AS (LEFT(JSON_UNQUOTE(JSON_EXTRACT(%s, '$.%s')), %d)) "
+          + "STORED COMMENT '%s', ADD INDEX `%s` (`%s`);",
+        this.name,
+        columnName,
+        INDEX_COLUMN_LENGTH,
+        TABLE_COLUMN_VAL,
+        fieldName,
+        INDEX_COLUMN_LENGTH,
+        fieldName,
+        columnName,
+        columnName)) != -1;
+      if (created) {
+        this.indexColumns.put(fieldName, columnName);
+      } else {
+        // the column might have been created concurrently by another node, use it in that case
+        this.loadIndexColumns();
+      }
+
+      return created;
+    }
   }
 
   @Override
@@ -224,6 +355,37 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
   }
 
   @Override
+  public @Nullable DatabaseChunk readChunk(@Nullable String afterKey, int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "chunk size must be positive");
+
+    // seek directly to the given key instead of skipping all previous rows
+    var query = afterKey == null
+      ? String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ?;", this.name, TABLE_COLUMN_KEY)
+      : String.format(
+        "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ?;",
+        this.name,
+        TABLE_COLUMN_KEY,
+        TABLE_COLUMN_KEY);
+    var arguments = afterKey == null ? new Object[]{chunkSize} : new Object[]{afterKey, chunkSize};
+
+    return this.databaseProvider.executeQuery(
+      query,
+      resultSet -> {
+        String lastKey = null;
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          lastKey = resultSet.getString(TABLE_COLUMN_KEY);
+          result.put(lastKey, DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)));
+        }
+
+        return lastKey == null ? null : new DatabaseChunk(result, lastKey);
+      },
+      null,
+      arguments);
+  }
+
+  @Override
+  @Deprecated
   public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
     return this.databaseProvider.executeQuery(
       String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ? OFFSET ?;", this.name, TABLE_COLUMN_KEY),
@@ -242,4 +404,22 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
   @Override
   public void close() {
   }
+
+  private void loadIndexColumns() {
+    Map<String, String> indexColumns = this.databaseProvider.executeQuery(
+      "SELECT COLUMN_NAME, COLUMN_COMMENT FROM information_schema.COLUMNS "
+        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME LIKE ?;",
+      resultSet -> {
+        Map<String, String> columns = new HashMap<>();
+        while (resultSet.next()) {
+          columns.put(resultSet.getString("COLUMN_COMMENT"), resultSet.getString("COLUMN_NAME"));
+        }
+
+        return columns;
+      },
+      Map.of(),
+      this.name,
+      INDEX_COLUMN_PREFIX.replace("_", "\\_") + '%');
+    this.indexColumns.putAll(indexColumns);
+  }
 }
@@ -26,6 +26,7 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
@@ -83,12 +84,18 @@ public boolean init() {
 
   @Override
   public @NonNull LocalDatabase database(@NonNull String name) {
-    return this.databaseCache.get(name, $ -> new MySQLDatabase(this, name));
+    return this.databaseCache.get(name, $ -> new MySQLDatabase(
+      this,
+      name,
+      this.config.indexedFields().getOrDefault(name, Set.of()),
+      this.config.implicitIndexes()));
   }
 
   @Override
   public boolean deleteDatabase(@NonNull String name) {
-    return this.executeUpdate(String.format("DROP TABLE IF EXISTS `%s`;", name)) != -1;
+    var deleted = this.executeUpdate(String.format("DROP TABLE IF EXISTS `%s`;", name)) != -1;
+    this.nearCacheRegistry.invalidate(name, null);
+    return deleted;
   }
 
   @Override
@@ -112,6 +119,12 @@ public boolean deleteDatabase(@NonNull String name) {
     return this.config.databaseServiceName();
   }
 
+  @Override
+  public boolean sharedBetweenNodes() {
+    // all nodes of the cluster connect to the same database server
+    return true;
+  }
+
   @Override
   public void close() throws Exception {
     super.close();
@@ -143,6 +156,41 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     }
   }
 
+  @Override
+  public int executeBatchUpdate(@NonNull String query, @NonNull Collection<Object[]> batch) {
+    try (var con = this.connection(); var statement = con.prepareStatement(query)) {
+      // write the parameters of each statement in the batch
+      for (var objects : batch) {
+        for (var i = 0; i < objects.length; i++) {
+          statement.setString(i + 1, Objects.toString(objects[i]));
+        }
+        statement.addBatch();
+      }
+
+      // execute all statements in a single transaction, the connection is returned to the pool afterwards and must be
+      // in auto commit mode again, no matter if the batch succeeded
+      con.setAutoCommit(false);
+      try {
+        var updateCounts = statement.executeBatch();
+        con.commit();
+        return Arrays.stream(updateCounts).filter(count -> count > 0).sum();
+      } catch (SQLException exception) {
+        // undo the statements of the batch which were executed before the failing one
+        try {
+          con.rollback();
+        } catch (SQLException rollbackException) {
+          exception.addSuppressed(rollbackException);
+        }
+        throw exception;
+      } finally {
+        con.setAutoCommit(true);
+      }
+    } catch (SQLException exception) {
+      LOGGER.error("Exception while executing database batch update", exception);
+      return -1;
+    }
+  }
+
   @Override
   public <T> @UnknownNullability T executeQuery(
     @NonNull String query,
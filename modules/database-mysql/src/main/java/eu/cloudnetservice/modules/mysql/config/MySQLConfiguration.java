@@ -17,16 +17,28 @@
 package eu.cloudnetservice.modules.mysql.config;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public record MySQLConfiguration(
   @NonNull String username,
   @NonNull String password,
   @NonNull String databaseServiceName,
-  @NonNull List<MySQLConnectionEndpoint> endpoints
+  @NonNull List<MySQLConnectionEndpoint> endpoints,
+  @Nullable Map<String, Set<String>> indexedFields,
+  boolean implicitIndexes
 ) {
 
+  public MySQLConfiguration {
+    // configurations written before indexed fields were introduced do not contain the option
+    if (indexedFields == null) {
+      indexedFields = Map.of();
+    }
+  }
+
   public @NonNull MySQLConnectionEndpoint randomEndpoint() {
     // check if there are any endpoints
     if (this.endpoints.isEmpty()) {
@@ -20,9 +20,11 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.modules.mysql.config.MySQLConfiguration;
 import eu.cloudnetservice.modules.mysql.config.MySQLConnectionEndpoint;
+import eu.cloudnetservice.node.database.AbstractDatabaseTest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,7 +34,7 @@
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 @Testcontainers(disabledWithoutDocker = true)
-class MySQLDatabaseTest {
+class MySQLDatabaseTest extends AbstractDatabaseTest {
 
   @Container
   private final GenericContainer<?> mysqlContainer = new GenericContainer<>("mariadb:latest")
@@ -52,11 +54,24 @@ void setup() {
       "mysql",
       List.of(new MySQLConnectionEndpoint(
         "cn_testing",
-        new HostAndPort(this.mysqlContainer.getHost(), this.mysqlContainer.getFirstMappedPort())))),
+        new HostAndPort(this.mysqlContainer.getHost(), this.mysqlContainer.getFirstMappedPort()))),
+      Map.of(),
+      true),
       null);
     this.databaseProvider.init();
   }
 
+  @Override
+  protected MySQLDatabaseProvider databaseProvider() {
+    return this.databaseProvider;
+  }
+
+  @Override
+  protected String rejectedKey() {
+    // the key column is limited to 512 characters
+    return "a".repeat(600);
+  }
+
   @Test
   void testAccessCreatesDatabase() {
     Assertions.assertNotNull(this.databaseProvider.database("hello_world"));
@@ -143,6 +158,52 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testIndexedFieldLookup() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    database.insert("1234", Document.newJsonDocument().append("name", "derklaro").append("group", "admin"));
+    database.insert("12234", Document.newJsonDocument().append("name", "0utplay").append("group", "admin"));
+
+    Assertions.assertTrue(database.index("player_name", "name"));
+    Assertions.assertFalse(database.index("player_name", "name"));
+
+    database.insert("122234", Document.newJsonDocument().append("name", "juliarn").append("group", "default"));
+
+    var entry = database.find("name", "derklaro");
+    Assertions.assertEquals(1, entry.size());
+    Assertions.assertEquals("derklaro", entry.iterator().next().getString("name"));
+
+    var entry2 = database.find(Map.of("name", "juliarn", "group", "default"));
+    Assertions.assertEquals(1, entry2.size());
+    Assertions.assertEquals("juliarn", entry2.iterator().next().getString("name"));
+
+    Assertions.assertTrue(database.find(Map.of("name", "juliarn", "group", "admin")).isEmpty());
+    Assertions.assertTrue(database.find("name", "derklar").isEmpty());
+
+    // the index must be picked up again when the database is opened again
+    var reopened = new MySQLDatabase(this.databaseProvider, "test", Set.of(), false);
+    Assertions.assertFalse(reopened.index("player_name", "name"));
+    Assertions.assertEquals(1, reopened.find("name", "0utplay").size());
+  }
+
+  @Test
+  void testImplicitIndexesAreOptIn() {
+    // indexes declared by the code are only created when implicit indexes are enabled
+    var database = new MySQLDatabase(this.databaseProvider, "test", Set.of(), false);
+    Assertions.assertFalse(database.index("player_name", "name"));
+
+    var implicit = new MySQLDatabase(this.databaseProvider, "test", Set.of(), true);
+    Assertions.assertTrue(implicit.index("player_name", "name"));
+
+    // indexes declared in the configuration are created regardless, the existing index is picked up again
+    new MySQLDatabase(this.databaseProvider, "test", Set.of("group"), false);
+    var reopened = new MySQLDatabase(this.databaseProvider, "test", Set.of(), true);
+    Assertions.assertFalse(reopened.index("player_name", "name"));
+    Assertions.assertFalse(reopened.index("group", "group"));
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
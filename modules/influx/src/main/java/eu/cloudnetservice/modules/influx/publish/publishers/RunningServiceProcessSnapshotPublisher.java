@@ -37,7 +37,7 @@ public record RunningServiceProcessSnapshotPublisher(@NonNull CloudServiceManage
         .addTag("Task", service.serviceId().taskName())
         .addTag("Environment", service.serviceId().environmentName())
         .addField("UsedCpu", service.processSnapshot().cpuUsage())
-        .addField("Threads", service.processSnapshot().threads().size())
+        .addField("Threads", service.processSnapshot().threadCount())
         .addField("MaxMemory", service.processSnapshot().maxHeapMemory())
         .addField("UsedMemory", service.processSnapshot().heapUsageMemory())
         .addField("LoadedClassCount", service.processSnapshot().currentLoadedClassCount())
@@ -22,6 +22,7 @@
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.registry.injection.Service;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.modules.bridge.platform.PlatformBridgeManagement;
@@ -47,6 +48,7 @@ public class PlatformLabyModManagement implements LabyModManagement {
   @Inject
   public PlatformLabyModManagement(
     @NonNull RPCFactory rpcFactory,
+    @NonNull CloudMessenger messenger,
     @NonNull NetworkClient networkClient,
     @NonNull @Service PlayerManager playerManager,
     @NonNull @Service PlatformBridgeManagement<?, ?> bridgeManagement
@@ -55,6 +57,7 @@ public PlatformLabyModManagement(
     this.playerManager = playerManager;
     this.bridgeManagement = bridgeManagement;
     this.setConfigurationSilently(this.rpcSender.invokeMethod("configuration").fireSync());
+    messenger.subscribeChannels(LABYMOD_MODULE_CHANNEL);
   }
 
   @Override
@@ -24,6 +24,7 @@
 import com.google.common.base.Preconditions;
 import eu.cloudnetservice.driver.ComponentInfo;
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.injection.Service;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
@@ -73,13 +74,14 @@ public BukkitPlatformNPCManagement(
     @NonNull Plugin plugin,
     @NonNull Server server,
     @NonNull BukkitScheduler scheduler,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull ComponentInfo componentInfo,
     @NonNull @Service PlayerManager playerManager,
     @NonNull CloudServiceProvider cloudServiceProvider,
     @NonNull WrapperConfiguration wrapperConfiguration
   ) {
-    super(eventManager, componentInfo, cloudServiceProvider, wrapperConfiguration);
+    super(messenger, eventManager, componentInfo, cloudServiceProvider, wrapperConfiguration);
 
     this.plugin = plugin;
     this.server = server;
@@ -23,6 +23,7 @@
 import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.modules.bridge.WorldPosition;
@@ -79,6 +80,7 @@
   protected int currentTick;
 
   protected PlatformSignManagement(
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull Executor mainThreadExecutor,
     @NonNull WrapperConfiguration wrapperConfig,
@@ -98,6 +100,7 @@ protected PlatformSignManagement(
     // register the listeners
     eventManager.registerListener(SignsPlatformListener.class);
     eventManager.registerListener(SharedChannelMessageListener.class);
+    messenger.subscribeChannels(SIGN_CHANNEL_NAME);
   }
 
   protected static @Nullable SignsConfiguration loadSignsConfiguration(@NonNull WrapperConfiguration wrapperConfig) {
@@ -17,6 +17,7 @@
 package eu.cloudnetservice.modules.signs.platform.bukkit;
 
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.ext.platforminject.api.stereotype.ProvidesFor;
@@ -53,6 +54,7 @@ protected BukkitSignManagement(
     @NonNull Plugin plugin,
     @NonNull Server server,
     @NonNull BukkitScheduler scheduler,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull PluginManager pluginManager,
     @NonNull ServiceRegistry serviceRegistry,
@@ -60,7 +62,7 @@ protected BukkitSignManagement(
     @NonNull CloudServiceProvider serviceProvider,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
   ) {
-    super(eventManager, runnable -> {
+    super(messenger, eventManager, runnable -> {
       // check if we're already on main
       if (server.isPrimaryThread()) {
         runnable.run();
@@ -19,6 +19,7 @@
 import com.google.common.util.concurrent.MoreExecutors;
 import eu.cloudnetservice.common.tuple.Tuple2;
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.ext.platforminject.api.stereotype.ProvidesFor;
@@ -54,6 +55,7 @@ public class MinestomSignManagement extends PlatformSignManagement<Player, Tuple
 
   @Inject
   protected MinestomSignManagement(
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull ServiceRegistry serviceRegistry,
     @NonNull GlobalEventHandler eventHandler,
@@ -63,7 +65,7 @@ protected MinestomSignManagement(
     @NonNull CloudServiceProvider serviceProvider,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
   ) {
-    super(eventManager, MoreExecutors.directExecutor(), wrapperConfig, serviceProvider, executorService);
+    super(messenger, eventManager, MoreExecutors.directExecutor(), wrapperConfig, serviceProvider, executorService);
 
     this.serviceRegistry = serviceRegistry;
     this.eventHandler = eventHandler;
@@ -24,6 +24,7 @@
 import cn.nukkit.plugin.PluginManager;
 import cn.nukkit.scheduler.ServerScheduler;
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.ext.platforminject.api.stereotype.ProvidesFor;
@@ -55,6 +56,7 @@ protected NukkitSignManagement(
     @NonNull Server server,
     @NonNull Plugin plugin,
     @NonNull ServerScheduler scheduler,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull PluginManager pluginManager,
     @NonNull ServiceRegistry serviceRegistry,
@@ -63,6 +65,7 @@ protected NukkitSignManagement(
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
   ) {
     super(
+      messenger,
       eventManager,
       runnable -> {
         if (server.isPrimaryThread()) {
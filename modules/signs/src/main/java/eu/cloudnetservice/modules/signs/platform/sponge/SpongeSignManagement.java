@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.modules.signs.platform.sponge;
 
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.ext.platforminject.api.stereotype.ProvidesFor;
@@ -64,6 +65,7 @@ protected SpongeSignManagement(
     @NonNull Game game,
     @NonNull Server server,
     @NonNull WorldManager worldManager,
+    @NonNull CloudMessenger messenger,
     @NonNull ServiceRegistry serviceRegistry,
     @NonNull EventManager spongeEventManager,
     @NonNull PluginContainer pluginContainer,
@@ -73,7 +75,7 @@ protected SpongeSignManagement(
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
     @NonNull eu.cloudnetservice.driver.event.EventManager eventManager
   ) {
-    super(eventManager, runnable -> {
+    super(messenger, eventManager, runnable -> {
       // check if we're already on main
       if (server.onMainThread()) {
         runnable.run();
@@ -241,6 +241,62 @@ public void percentOfPlayersForANewServiceByInstance(
       percent));
   }
 
+  @CommandMethod("smart task <task> forecastEnabled <enabled>")
+  public void forecastEnabled(
+    @NonNull CommandSource source,
+    @NonNull @Argument(value = "task", parserName = "smartTask") ServiceTask task,
+    @Argument("enabled") boolean enabled
+  ) {
+    this.updateSmart(task, config -> config.forecastEnabled(enabled));
+    source.sendMessage(I18n.trans(
+      "command-tasks-set-property-success",
+      "forecastEnabled",
+      task.name(),
+      enabled));
+  }
+
+  @CommandMethod("smart task <task> forecastHorizonSeconds <seconds>")
+  public void forecastHorizonSeconds(
+    @NonNull CommandSource source,
+    @NonNull @Argument(value = "task", parserName = "smartTask") ServiceTask task,
+    @Argument("seconds") @Range(min = "0") int seconds
+  ) {
+    this.updateSmart(task, config -> config.forecastHorizonSeconds(seconds));
+    source.sendMessage(I18n.trans(
+      "command-tasks-set-property-success",
+      "forecastHorizonSeconds",
+      task.name(),
+      seconds));
+  }
+
+  @CommandMethod("smart task <task> forecastTargetPercentOfPlayers <percent>")
+  public void forecastTargetPercentOfPlayers(
+    @NonNull CommandSource source,
+    @NonNull @Argument(value = "task", parserName = "smartTask") ServiceTask task,
+    @Argument("percent") @Range(min = "1", max = "100") int percent
+  ) {
+    this.updateSmart(task, config -> config.forecastTargetPercentOfPlayers(percent));
+    source.sendMessage(I18n.trans(
+      "command-tasks-set-property-success",
+      "forecastTargetPercentOfPlayers",
+      task.name(),
+      percent));
+  }
+
+  @CommandMethod("smart task <task> forecastMaxServiceStartsPerTick <amount>")
+  public void forecastMaxServiceStartsPerTick(
+    @NonNull CommandSource source,
+    @NonNull @Argument(value = "task", parserName = "smartTask") ServiceTask task,
+    @Argument("amount") @Range(min = "1") int amount
+  ) {
+    this.updateSmart(task, config -> config.forecastMaxServiceStartsPerTick(amount));
+    source.sendMessage(I18n.trans(
+      "command-tasks-set-property-success",
+      "forecastMaxServiceStartsPerTick",
+      task.name(),
+      amount));
+  }
+
   private void updateSmart(
     @NonNull ServiceTask serviceTask,
     @NonNull Function<SmartServiceTaskConfig.Builder, SmartServiceTaskConfig.Builder> modifier
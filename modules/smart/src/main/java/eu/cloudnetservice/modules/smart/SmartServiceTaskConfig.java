@@ -30,7 +30,11 @@ public record SmartServiceTaskConfig(
   int autoStopTimeByUnusedServiceInSeconds,
   int percentOfPlayersToCheckShouldStopTheService,
   int forAnewInstanceDelayTimeInSeconds,
-  int percentOfPlayersForANewServiceByInstance
+  int percentOfPlayersForANewServiceByInstance,
+  boolean forecastEnabled,
+  int forecastHorizonSeconds,
+  int forecastTargetPercentOfPlayers,
+  int forecastMaxServiceStartsPerTick
 ) implements Comparable<SmartServiceTaskConfig> {
 
   public static @NonNull Builder builder() {
@@ -54,7 +58,12 @@ public record SmartServiceTaskConfig(
       .percentOfPlayersToCheckShouldStop(config.percentOfPlayersToCheckShouldStopTheService())
 
       .forAnewInstanceDelayTimeInSeconds(config.forAnewInstanceDelayTimeInSeconds())
-      .percentOfPlayersForANewServiceByInstance(config.percentOfPlayersForANewServiceByInstance());
+      .percentOfPlayersForANewServiceByInstance(config.percentOfPlayersForANewServiceByInstance())
+
+      .forecastEnabled(config.forecastEnabled())
+      .forecastHorizonSeconds(config.forecastHorizonSeconds())
+      .forecastTargetPercentOfPlayers(config.forecastTargetPercentOfPlayers())
+      .forecastMaxServiceStartsPerTick(config.forecastMaxServiceStartsPerTick());
   }
 
   @Override
@@ -89,6 +98,11 @@ public static class Builder {
     private int forAnewInstanceDelayTimeInSeconds = 300;
     private int percentOfPlayersForANewServiceByInstance = 100;
 
+    private boolean forecastEnabled = false;
+    private int forecastHorizonSeconds = 300;
+    private int forecastTargetPercentOfPlayers = 80;
+    private int forecastMaxServiceStartsPerTick = 3;
+
     public @NonNull Builder enabled(boolean enabled) {
       this.enabled = enabled;
       return this;
@@ -149,6 +163,26 @@ public static class Builder {
       return this;
     }
 
+    public @NonNull Builder forecastEnabled(boolean forecastEnabled) {
+      this.forecastEnabled = forecastEnabled;
+      return this;
+    }
+
+    public @NonNull Builder forecastHorizonSeconds(int forecastHorizonSeconds) {
+      this.forecastHorizonSeconds = forecastHorizonSeconds;
+      return this;
+    }
+
+    public @NonNull Builder forecastTargetPercentOfPlayers(int forecastTargetPercentOfPlayers) {
+      this.forecastTargetPercentOfPlayers = forecastTargetPercentOfPlayers;
+      return this;
+    }
+
+    public @NonNull Builder forecastMaxServiceStartsPerTick(int forecastMaxServiceStartsPerTick) {
+      this.forecastMaxServiceStartsPerTick = forecastMaxServiceStartsPerTick;
+      return this;
+    }
+
     public @NonNull SmartServiceTaskConfig build() {
       return new SmartServiceTaskConfig(
         this.enabled,
@@ -162,7 +196,11 @@ public static class Builder {
         this.autoStopTimeByUnusedServiceInSeconds,
         this.percentOfPlayersToCheckShouldStopTheService,
         this.forAnewInstanceDelayTimeInSeconds,
-        this.percentOfPlayersForANewServiceByInstance);
+        this.percentOfPlayersForANewServiceByInstance,
+        this.forecastEnabled,
+        this.forecastHorizonSeconds,
+        this.forecastTargetPercentOfPlayers,
+        this.forecastMaxServiceStartsPerTick);
     }
   }
 }
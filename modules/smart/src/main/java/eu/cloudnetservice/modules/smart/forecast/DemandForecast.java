@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.forecast;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The player demand time series of a single task. Online player counts are averaged per minute, each completed minute
+ * updates an exponentially weighted level and trend as well as a day and week profile with 15-minute slots. The day
+ * and week profile are used to predict seasonal changes in the demand which cannot be seen from the recent trend, for
+ * example the daily evening peak.
+ * <p>
+ * Instances of this class are serialized into the node database, therefore all fields must stay serializable.
+ */
+final class DemandForecast {
+
+  private static final double LEVEL_SMOOTHING = 0.3;
+  private static final double TREND_SMOOTHING = 0.1;
+  private static final double PROFILE_SMOOTHING = 0.1;
+
+  private static final int MINUTES_PER_SLOT = 15;
+  private static final int SLOTS_PER_DAY = (24 * 60) / MINUTES_PER_SLOT;
+  private static final long MILLIS_PER_MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+  // the minute that is currently accumulated
+  private long currentMinute;
+  private double minuteSum;
+  private int minuteSamples;
+
+  // the exponentially weighted level & trend of the completed minutes
+  private boolean initialized;
+  private double level;
+  private double trend;
+
+  // the seasonal profiles, negative values indicate that there is no data for the slot yet
+  private double[] dayProfile = emptyProfile(SLOTS_PER_DAY);
+  private double[] weekProfile = emptyProfile(SLOTS_PER_DAY * 7);
+
+  /**
+   * Creates a new profile array with the given amount of slots, all marked as unknown.
+   *
+   * @param slots the amount of slots in the profile.
+   * @return a new profile with the given amount of slots, all marked as unknown.
+   */
+  private static double[] emptyProfile(int slots) {
+    var profile = new double[slots];
+    Arrays.fill(profile, -1);
+    return profile;
+  }
+
+  /**
+   * Smooths the given value into the given slot of the given profile.
+   *
+   * @param profile the profile to update.
+   * @param slot    the slot of the profile to update.
+   * @param value   the value to smooth into the slot.
+   */
+  private static void updateProfile(double[] profile, int slot, double value) {
+    var current = profile[slot];
+    profile[slot] = current < 0 ? value : current + PROFILE_SMOOTHING * (value - current);
+  }
+
+  /**
+   * Records the given online count which was observed at the given timestamp.
+   *
+   * @param timestamp the timestamp (in millis) at which the online count was observed.
+   * @param online    the observed online count.
+   * @return true if the sample completed a minute and the time series changed, false otherwise.
+   */
+  boolean record(long timestamp, double online) {
+    var minute = timestamp / MILLIS_PER_MINUTE;
+    var minuteCompleted = false;
+    if (this.minuteSamples > 0 && minute != this.currentMinute) {
+      this.completeMinute();
+      minuteCompleted = true;
+    }
+
+    this.currentMinute = minute;
+    this.minuteSum += online;
+    this.minuteSamples++;
+    return minuteCompleted;
+  }
+
+  /**
+   * Predicts the online count at the given horizon after the given timestamp. The prediction is the maximum of the
+   * trend projection and the seasonal projection (the current level shifted by the profile difference between now and
+   * the target time) as this forecast is used to start services ahead of time.
+   *
+   * @param timestamp the current timestamp in millis.
+   * @param horizon   the time in millis to look ahead.
+   * @return the predicted online count, -1 if there is no data to predict from yet.
+   */
+  double forecast(long timestamp, long horizon) {
+    if (!this.initialized) {
+      return this.minuteSamples == 0 ? -1 : this.minuteSum / this.minuteSamples;
+    }
+
+    // project the recent trend
+    var horizonMinutes = (double) horizon / MILLIS_PER_MINUTE;
+    var prediction = this.level + this.trend * horizonMinutes;
+
+    // project the seasonal change, prefer the week profile as it also captures differences between days
+    var nowSlot = weekSlot(timestamp);
+    var targetSlot = weekSlot(timestamp + horizon);
+    var seasonalDelta = profileDelta(this.weekProfile, nowSlot, targetSlot);
+    if (Double.isNaN(seasonalDelta)) {
+      seasonalDelta = profileDelta(this.dayProfile, nowSlot % SLOTS_PER_DAY, targetSlot % SLOTS_PER_DAY);
+    }
+
+    if (!Double.isNaN(seasonalDelta)) {
+      prediction = Math.max(prediction, this.level + seasonalDelta);
+    }
+
+    return Math.max(0, prediction);
+  }
+
+  /**
+   * Completes the currently accumulated minute and updates the level, trend and profiles.
+   */
+  private void completeMinute() {
+    var value = this.minuteSum / this.minuteSamples;
+    this.minuteSum = 0;
+    this.minuteSamples = 0;
+
+    // update the level and trend (holt's linear exponential smoothing)
+    if (this.initialized) {
+      var previousLevel = this.level;
+      this.level = LEVEL_SMOOTHING * value + (1 - LEVEL_SMOOTHING) * (this.level + this.trend);
+      this.trend = TREND_SMOOTHING * (this.level - previousLevel) + (1 - TREND_SMOOTHING) * this.trend;
+    } else {
+      this.level = value;
+      this.trend = 0;
+      this.initialized = true;
+    }
+
+    // update the seasonal profiles
+    var slot = weekSlot(this.currentMinute * MILLIS_PER_MINUTE);
+    updateProfile(this.weekProfile, slot, value);
+    updateProfile(this.dayProfile, slot % SLOTS_PER_DAY, value);
+  }
+
+  /**
+   * Get the difference between the values of the given slots in the given profile.
+   *
+   * @param profile the profile to read the slots from.
+   * @param from    the slot to compute the difference from.
+   * @param to      the slot to compute the difference to.
+   * @return the difference between both slots, NaN if one of the slots has no data yet.
+   */
+  private static double profileDelta(double[] profile, int from, int to) {
+    var fromValue = profile[from];
+    var toValue = profile[to];
+    return fromValue < 0 || toValue < 0 ? Double.NaN : toValue - fromValue;
+  }
+
+  /**
+   * Get the slot in the week profile for the given timestamp, based on the local time of the node.
+   *
+   * @param timestamp the timestamp to get the slot of.
+   * @return the slot in the week profile for the given timestamp.
+   */
+  private static int weekSlot(long timestamp) {
+    var time = Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault());
+    var daySlot = (time.getHour() * 60 + time.getMinute()) / MINUTES_PER_SLOT;
+    return (time.getDayOfWeek().getValue() - 1) * SLOTS_PER_DAY + daySlot;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.forecast;
+
+import eu.cloudnetservice.driver.database.Database;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.node.database.NodeDatabaseProvider;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+
+/**
+ * Keeps the player demand time series of all tasks which have the forecast mode enabled. The time series are persisted
+ * into the node database whenever a minute of a series was completed, in order to keep the learned day and week
+ * profiles over restarts. This tracker is only accessed from the tick thread of the node and is therefore not
+ * thread-safe.
+ */
+@Singleton
+public final class DemandForecastTracker {
+
+  private static final String DATABASE_NAME = "cloudnet_smart_forecasts";
+
+  private final Database database;
+  private final Map<String, DemandForecast> forecasts = new HashMap<>();
+
+  @Inject
+  public DemandForecastTracker(@NonNull NodeDatabaseProvider databaseProvider) {
+    this.database = databaseProvider.database(DATABASE_NAME);
+  }
+
+  /**
+   * Records the online count of the given task that was observed at the given timestamp.
+   *
+   * @param task      the name of the task to record the online count for.
+   * @param timestamp the timestamp (in millis) at which the online count was observed.
+   * @param online    the observed online count.
+   * @throws NullPointerException if the given task name is null.
+   */
+  public void record(@NonNull String task, long timestamp, double online) {
+    var forecast = this.forecast(task);
+    if (forecast.record(timestamp, online)) {
+      this.database.insertAsync(task, Document.newJsonDocument().appendTree(forecast));
+    }
+  }
+
+  /**
+   * Predicts the online count of the given task at the given horizon after the given timestamp.
+   *
+   * @param task      the name of the task to predict the online count of.
+   * @param timestamp the current timestamp in millis.
+   * @param horizon   the time in millis to look ahead.
+   * @return the predicted online count, -1 if there is no data to predict from yet.
+   * @throws NullPointerException if the given task name is null.
+   */
+  public double forecast(@NonNull String task, long timestamp, long horizon) {
+    return this.forecast(task).forecast(timestamp, horizon);
+  }
+
+  /**
+   * Get the time series of the given task, loading it from the database if it is not loaded yet.
+   *
+   * @param task the name of the task to get the time series of.
+   * @return the time series of the given task.
+   * @throws NullPointerException if the given task name is null.
+   */
+  private @NonNull DemandForecast forecast(@NonNull String task) {
+    return this.forecasts.computeIfAbsent(task, name -> {
+      var document = this.database.get(name);
+      return document == null ? new DemandForecast() : document.toInstanceOf(DemandForecast.class);
+    });
+  }
+}
@@ -28,6 +28,7 @@
 import eu.cloudnetservice.modules.bridge.BridgeDocProperties;
 import eu.cloudnetservice.modules.smart.CloudNetSmartModule;
 import eu.cloudnetservice.modules.smart.SmartServiceTaskConfig;
+import eu.cloudnetservice.modules.smart.forecast.DemandForecastTracker;
 import eu.cloudnetservice.modules.smart.util.SmartUtil;
 import eu.cloudnetservice.node.cluster.NodeServer;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
@@ -55,6 +56,7 @@ public final class CloudNetTickListener {
   private final CloudServiceManager serviceManager;
   private final CloudServiceFactory serviceFactory;
   private final NodeServerProvider nodeServerProvider;
+  private final DemandForecastTracker forecastTracker;
 
   private final Map<String, Long> autoStartBlocks = new HashMap<>();
   private final Map<UUID, AtomicLong> autoStopTicks = new HashMap<>();
@@ -65,13 +67,15 @@ public CloudNetTickListener(
     @NonNull ServiceTaskProvider taskProvider,
     @NonNull CloudServiceManager serviceManager,
     @NonNull CloudServiceFactory serviceFactory,
-    @NonNull NodeServerProvider nodeServerProvider
+    @NonNull NodeServerProvider nodeServerProvider,
+    @NonNull DemandForecastTracker forecastTracker
   ) {
     this.module = module;
     this.taskProvider = taskProvider;
     this.serviceManager = serviceManager;
     this.serviceFactory = serviceFactory;
     this.nodeServerProvider = nodeServerProvider;
+    this.forecastTracker = forecastTracker;
   }
 
   @EventListener
@@ -97,8 +101,21 @@ private void handleSmartEntries() {
         var onlineServices = runningServices.stream()
           .filter(service -> service.readProperty(BridgeDocProperties.IS_ONLINE))
           .collect(Collectors.toSet());
+        // handle the forecast first, it might start services ahead of the player based auto start
+        var forecastServices = 0;
+        if (config.forecastEnabled()) {
+          var forecast = this.forecastRequiredServices(task, config, onlineServices);
+          if (forecast != null) {
+            forecastServices = forecast.second();
+            if (this.handleForecast(task, config, forecast, preparedServices, runningServices)) {
+              // services were started or prepared, the snapshots are outdated for the player based auto start
+              this.handleAutoStop(task, config, runningServices, onlineServices, forecastServices);
+              return;
+            }
+          }
+        }
         // handle all smart entries
-        this.handleAutoStop(task, config, runningServices, onlineServices);
+        this.handleAutoStop(task, config, runningServices, onlineServices, forecastServices);
         this.handleAutoStart(task, config, preparedServices, runningServices, onlineServices);
       }
     });
@@ -108,12 +125,17 @@ private void handleAutoStop(
     @NonNull ServiceTask task,
     @NonNull SmartServiceTaskConfig config,
     @NonNull Collection<ServiceInfoSnapshot> runningServices,
-    @NonNull Collection<ServiceInfoSnapshot> onlineServices
+    @NonNull Collection<ServiceInfoSnapshot> onlineServices,
+    int forecastServices
   ) {
     // check if we should stop a service now or if that operation would cause an instant restart of a service
     if (!SmartUtil.canStopNow(task, config, runningServices.size())) {
       return;
     }
+    // don't stop services which the forecast expects to be needed soon
+    if (runningServices.size() <= forecastServices) {
+      return;
+    }
     // go over all online services
     for (var service : onlineServices) {
       // check if the service should be stopped
@@ -202,6 +224,87 @@ private void handleAutoStart(
     }
   }
 
+  private @Nullable Tuple2<Integer, Integer> forecastRequiredServices(
+    @NonNull ServiceTask task,
+    @NonNull SmartServiceTaskConfig config,
+    @NonNull Collection<ServiceInfoSnapshot> onlineServices
+  ) {
+    // record the current online count
+    var now = System.currentTimeMillis();
+    var onlinePlayers = onlineServices.stream()
+      .mapToInt(service -> service.readProperty(BridgeDocProperties.ONLINE_COUNT))
+      .sum();
+    this.forecastTracker.record(task.name(), now, onlinePlayers);
+    // get the amount of players a single service should hold
+    var maximumPlayers = onlineServices.stream()
+      .mapToInt(service -> Math.max(0, service.readProperty(BridgeDocProperties.MAX_PLAYERS)))
+      .average()
+      .orElse(0);
+    var targetPercentage = config.forecastTargetPercentOfPlayers() > 0 ? config.forecastTargetPercentOfPlayers() : 100;
+    var playersPerService = (maximumPlayers * targetPercentage) / 100;
+    // predict the online count at the end of the forecast horizon
+    var horizon = TimeUnit.SECONDS.toMillis(Math.max(0, config.forecastHorizonSeconds()));
+    var predictedPlayers = this.forecastTracker.forecast(task.name(), now, horizon);
+    if (playersPerService <= 0 || predictedPlayers < 0) {
+      return null;
+    }
+    // convert the player counts into service counts
+    var requiredNow = (int) Math.ceil(onlinePlayers / playersPerService);
+    var requiredSoon = Math.max(requiredNow, (int) Math.ceil(predictedPlayers / playersPerService));
+    if (config.maxServices() > 0) {
+      requiredNow = Math.min(requiredNow, config.maxServices());
+      requiredSoon = Math.min(requiredSoon, config.maxServices());
+    }
+    return new Tuple2<>(requiredNow, requiredSoon);
+  }
+
+  private boolean handleForecast(
+    @NonNull ServiceTask task,
+    @NonNull SmartServiceTaskConfig config,
+    @NonNull Tuple2<Integer, Integer> requiredServices,
+    @NonNull Collection<ServiceInfoSnapshot> preparedServices,
+    @NonNull Collection<ServiceInfoSnapshot> runningServices
+  ) {
+    Collection<ServiceInfoSnapshot> allServices = new HashSet<>();
+    allServices.addAll(preparedServices);
+    allServices.addAll(runningServices);
+
+    var remainingStarts = Math.max(1, config.forecastMaxServiceStartsPerTick());
+    var runningCount = runningServices.size();
+    var preparedIterator = preparedServices.iterator();
+    var preparedCount = preparedServices.size();
+    // start the services which are needed right now, prefer the prepared services as they are ready to go
+    while (runningCount < requiredServices.first() && remainingStarts > 0) {
+      ServiceInfoSnapshot service;
+      if (preparedIterator.hasNext()) {
+        service = preparedIterator.next();
+        preparedCount--;
+      } else {
+        service = this.createService(task, config, allServices);
+      }
+      // stop if no more services can be created
+      if (service == null) {
+        break;
+      }
+      service.provider().start();
+      allServices.add(service);
+      runningCount++;
+      remainingStarts--;
+    }
+    // pre-warm the services which are predicted to be needed in the forecast horizon
+    while (runningCount + preparedCount < requiredServices.second() && remainingStarts > 0) {
+      var service = this.createService(task, config, allServices);
+      if (service == null) {
+        break;
+      }
+      allServices.add(service);
+      preparedCount++;
+      remainingStarts--;
+    }
+    // check if any service was started or prepared
+    return remainingStarts < Math.max(1, config.forecastMaxServiceStartsPerTick());
+  }
+
   private @Nullable ServiceInfoSnapshot createService(
     @NonNull ServiceTask task,
     @NonNull SmartServiceTaskConfig config,
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.smart.forecast;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DemandForecastTest {
+
+  private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+  private static final long START = LocalDateTime.of(2024, 1, 8, 17, 0)
+    .atZone(ZoneId.systemDefault())
+    .toInstant()
+    .toEpochMilli();
+
+  @Test
+  void testForecastWithoutCompletedMinute() {
+    var forecast = new DemandForecast();
+    Assertions.assertEquals(-1, forecast.forecast(START, MINUTE));
+
+    // the samples of the current minute are averaged until the minute completes
+    Assertions.assertFalse(forecast.record(START, 10));
+    Assertions.assertFalse(forecast.record(START + 1000, 20));
+    Assertions.assertEquals(15, forecast.forecast(START, MINUTE));
+
+    Assertions.assertTrue(forecast.record(START + MINUTE, 20));
+  }
+
+  @Test
+  void testConstantDemandIsPredicted() {
+    var forecast = new DemandForecast();
+    for (var minute = 0; minute <= 60; minute++) {
+      forecast.record(START + minute * MINUTE, 10);
+    }
+
+    Assertions.assertEquals(10, forecast.forecast(START + 60 * MINUTE, 30 * MINUTE), 0.01);
+  }
+
+  @Test
+  void testGrowingDemandIsProjected() {
+    var forecast = new DemandForecast();
+    for (var minute = 0; minute <= 60; minute++) {
+      forecast.record(START + minute * MINUTE, minute);
+    }
+
+    // the demand grows by one player per minute
+    var prediction = forecast.forecast(START + 60 * MINUTE, 30 * MINUTE);
+    Assertions.assertTrue(prediction > 70, "Expected a prediction above 70, got " + prediction);
+  }
+
+  @Test
+  void testDailyPeakIsPredicted() {
+    var forecast = new DemandForecast();
+    // the first day has a peak between 18:00 and 19:00
+    for (var minute = 0; minute < 120; minute++) {
+      forecast.record(START + minute * MINUTE, minute < 60 ? 10 : 100);
+    }
+
+    // the next day is quiet until 17:30, the peak must be predicted from the day profile
+    var nextDay = START + TimeUnit.DAYS.toMillis(1);
+    for (var minute = 0; minute <= 30; minute++) {
+      forecast.record(nextDay + minute * MINUTE, 10);
+    }
+
+    var prediction = forecast.forecast(nextDay + 30 * MINUTE, 45 * MINUTE);
+    Assertions.assertTrue(prediction > 80, "Expected a prediction above 80, got " + prediction);
+  }
+}
@@ -33,9 +33,11 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -68,6 +70,7 @@ public class S3TemplateStorage implements TemplateStorage {
   private static final Logger LOGGER = LoggerFactory.getLogger(S3TemplateStorage.class);
 
   private final S3Client client;
+  private final S3TransferEngine transferEngine;
   private final S3TemplateStorageModule module;
 
   public S3TemplateStorage(@NonNull S3TemplateStorageModule module) {
@@ -86,6 +89,7 @@ public S3TemplateStorage(@NonNull S3TemplateStorageModule module) {
         .checksumValidationEnabled(this.config().checksumValidation())
         .build())
       .build();
+    this.transferEngine = new S3TransferEngine(this.client, this::config);
 
     // init the bucket
     try {
@@ -111,28 +115,26 @@ public boolean deployDirectory(
     @NonNull Path directory,
     @Nullable Predicate<Path> filter
   ) {
-    var result = new AtomicBoolean(true);
+    // collect the objects that are already in the bucket to skip the upload of unchanged files
+    Map<String, S3Object> remoteObjects = new HashMap<>();
+    var templatePath = this.getBucketPath(target) + '/';
+    if (!this.listAllObjects(templatePath, null, object -> remoteObjects.put(object.key(), object))) {
+      // unable to tell which files changed, upload all files
+      remoteObjects.clear();
+    }
+
     // walk down the file tree
+    List<S3TransferEngine.Upload> uploads = new ArrayList<>();
     FileUtil.walkFileTree(directory, ($, file) -> {
       if (!Files.isDirectory(file)) {
-        try {
-          var request = PutObjectRequest.builder()
-            .bucket(this.config().bucket())
-            .key(this.getBucketPath(target, directory, file))
-            .contentType(this.getContentType(file))
-            .contentLength(Files.size(file))
-            .build();
-          this.client.putObject(request, RequestBody.fromFile(file));
-        } catch (Exception exception) {
-          LOGGER.error("Exception putting file {} into s3 bucket {}",
-            file.toAbsolutePath(),
-            this.config().bucket(),
-            exception);
-          result.set(false);
-        }
+        uploads.add(new S3TransferEngine.Upload(
+          this.getBucketPath(target, directory, file),
+          file,
+          this.getContentType(file)));
       }
     }, true, filter == null ? path -> true : filter::test);
-    return result.get();
+
+    return this.transferEngine.upload(uploads, remoteObjects);
   }
 
   @Override
@@ -151,24 +153,41 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
     try {
-      // get the repo path
-      var templatePath = this.getBucketPath(template);
-      // list all files
-      return this.listAllObjects(templatePath, null, content -> {
-        // filter the content key
-        var target = directory.resolve(content.key().substring(templatePath.length() + 1));
-
-        // this prevents accidental exceptions created due to dum s3 guis which are creating "directories". As we all
-        // know s3 has no directories but the guis just create an object on the s3 and put further objects on the
-        // storage by just setting the file as an object. This results in responses like:
-        //   - Lobby/default/plugins
-        //   - Lobby/default/plugins/ProtocolLib.jar
-        // As all objects are handled as files, and the first call would create a new file this will result in an
-        // exception when pulling the ProtocolLib jar file as we would try to put it "into" a file.
-        // This check technically might break some structures as it will prioritize directories over files, but it's the
-        // best solution we have... Aside from just uploading files correctly :)
+      // get the repo path & list all files
+      var templatePath = this.getBucketPath(template) + '/';
+      List<S3Object> objects = new ArrayList<>();
+      if (!this.listAllObjects(templatePath, null, objects::add)) {
+        return false;
+      }
+
+      // this prevents accidental exceptions created due to dum s3 guis which are creating "directories". As we all
+      // know s3 has no directories but the guis just create an object on the s3 and put further objects on the
+      // storage by just setting the file as an object. This results in responses like:
+      //   - Lobby/default/plugins
+      //   - Lobby/default/plugins/ProtocolLib.jar
+      // As all objects are handled as files, and the first call would create a new file this will result in an
+      // exception when pulling the ProtocolLib jar file as we would try to put it "into" a file.
+      // This check technically might break some structures as it will prioritize directories over files, but it's the
+      // best solution we have... Aside from just uploading files correctly :)
+      Set<String> directories = new HashSet<>();
+      for (var object : objects) {
+        var relativePath = object.key().substring(templatePath.length());
+        for (var i = relativePath.indexOf('/'); i != -1; i = relativePath.indexOf('/', i + 1)) {
+          directories.add(relativePath.substring(0, i));
+        }
+      }
+
+      // prepare the local directory structure before downloading the files in parallel
+      List<S3TransferEngine.Download> downloads = new ArrayList<>();
+      for (var object : objects) {
+        var relativePath = object.key().substring(templatePath.length());
+        if (relativePath.isEmpty() || relativePath.endsWith("/") || directories.contains(relativePath)) {
+          continue;
+        }
+
+        var target = directory.resolve(relativePath);
         if (Files.exists(target) && Files.isDirectory(target)) {
-          return;
+          continue;
         }
 
         // check if the parent file already exists and is not a directory
@@ -179,16 +198,10 @@ public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory)
 
         // now we can just create the parent as a directory (if we need to)
         FileUtil.createDirectory(parent);
+        downloads.add(new S3TransferEngine.Download(object.key(), object.eTag(), object.size(), target));
+      }
 
-        // get the file
-        var req = GetObjectRequest.builder()
-          .key(content.key())
-          .bucket(this.config().bucket())
-          .build();
-        try (InputStream stream = this.client.getObject(req); var out = Files.newOutputStream(target)) {
-          FileUtil.copy(stream, out);
-        }
-      });
+      return this.transferEngine.download(downloads);
     } catch (Exception exception) {
       LOGGER.error("Exception requesting object list from bucket for downloading", exception);
       return false;
@@ -434,6 +447,7 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
 
   @Override
   public void close() {
+    this.transferEngine.close();
     this.client.close();
   }
 
@@ -26,13 +26,15 @@
 import eu.cloudnetservice.modules.s3.config.S3TemplateStorageConfig;
 import eu.cloudnetservice.node.cluster.sync.DataSyncHandler;
 import eu.cloudnetservice.node.cluster.sync.DataSyncRegistry;
+import eu.cloudnetservice.node.template.CachingTemplateStorage;
 import jakarta.inject.Singleton;
+import java.io.IOException;
 import lombok.NonNull;
 
 @Singleton
 public final class S3TemplateStorageModule extends DriverModule {
 
-  private S3TemplateStorage storage;
+  private TemplateStorage storage;
   private volatile S3TemplateStorageConfig config;
 
   @ModuleTask(lifecycle = ModuleLifeCycle.LOADED)
@@ -50,10 +52,13 @@ public void handleInit(@NonNull ServiceRegistry serviceRegistry, @NonNull DataSy
         false,
         true,
         true,
-        false),
+        false,
+        8,
+        16),
       DocumentFactory.json());
-    // init the storage
-    this.storage = new S3TemplateStorage(this);
+    // init the storage, the cache pulls templates which are (mostly) missing through the parallel s3 transfer
+    // engine and only downloads the few changed files of a cached template one by one
+    this.storage = CachingTemplateStorage.wrapRemoteStorage(new S3TemplateStorage(this));
     serviceRegistry.registerProvider(TemplateStorage.class, this.config.name(), this.storage);
     // register the cluster sync handler
     dataSyncRegistry.registerHandler(DataSyncHandler.<S3TemplateStorageConfig>builder()
@@ -67,7 +72,7 @@ public void handleInit(@NonNull ServiceRegistry serviceRegistry, @NonNull DataSy
   }
 
   @ModuleTask(lifecycle = ModuleLifeCycle.STOPPED)
-  public void handleStop(@NonNull ServiceRegistry serviceRegistry) {
+  public void handleStop(@NonNull ServiceRegistry serviceRegistry) throws IOException {
     this.storage.close();
     serviceRegistry.unregisterProvider(TemplateStorage.class, this.storage.name());
   }
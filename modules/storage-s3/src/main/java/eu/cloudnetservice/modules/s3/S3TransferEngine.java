@@ -0,0 +1,477 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.s3;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.modules.s3.config.S3TemplateStorageConfig;
+import io.vavr.CheckedFunction0;
+import io.vavr.CheckedRunnable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Transfers files between the local file system and a s3 bucket. All files of a transfer are transferred in parallel,
+ * files that exceed the configured part size are uploaded using multipart uploads and downloaded using ranged
+ * requests. The amount of requests that are executed concurrently during a transfer is limited by the configured
+ * transfer concurrency.
+ */
+final class S3TransferEngine implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(S3TransferEngine.class);
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+  private static final String OCTET_STREAM_CONTENT_TYPE = "application/octet-stream";
+
+  private final S3Client client;
+  private final Supplier<S3TemplateStorageConfig> configSupplier;
+  // the requests are bounded per transfer, the threads only wait for the responses of the requests
+  private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+    Thread.ofVirtual().name("s3-transfer-", 1).factory());
+
+  public S3TransferEngine(@NonNull S3Client client, @NonNull Supplier<S3TemplateStorageConfig> configSupplier) {
+    this.client = client;
+    this.configSupplier = configSupplier;
+  }
+
+  /**
+   * Uploads all the given files, skipping the files which are unchanged compared to the given remote objects.
+   *
+   * @param uploads       the files to upload.
+   * @param remoteObjects the objects which are currently in the bucket, mapped by their key.
+   * @return true if all files were uploaded successfully, false otherwise.
+   * @throws NullPointerException if the given uploads or remote objects are null.
+   */
+  public boolean upload(@NonNull Collection<Upload> uploads, @NonNull Map<String, S3Object> remoteObjects) {
+    var transfer = new Transfer(this.configSupplier.get());
+    List<CompletableFuture<Boolean>> futures = new ArrayList<>(uploads.size());
+    for (var upload : uploads) {
+      var remoteObject = remoteObjects.get(upload.key());
+      futures.add(CompletableFuture.supplyAsync(() -> this.uploadFile(transfer, upload, remoteObject), this.executor));
+    }
+
+    return awaitAll(futures);
+  }
+
+  /**
+   * Downloads all the given objects into their target files. The parent directories of the targets must exist.
+   *
+   * @param downloads the objects to download.
+   * @return true if all objects were downloaded successfully, false otherwise.
+   * @throws NullPointerException if the given downloads are null.
+   */
+  public boolean download(@NonNull Collection<Download> downloads) {
+    var transfer = new Transfer(this.configSupplier.get());
+    List<CompletableFuture<Boolean>> futures = new ArrayList<>(downloads.size());
+    for (var download : downloads) {
+      futures.add(CompletableFuture.supplyAsync(() -> this.downloadFile(transfer, download), this.executor));
+    }
+
+    return awaitAll(futures);
+  }
+
+  @Override
+  public void close() {
+    this.executor.shutdownNow();
+  }
+
+  private boolean uploadFile(@NonNull Transfer transfer, @NonNull Upload upload, @Nullable S3Object remoteObject) {
+    try {
+      var size = Files.size(upload.file());
+      var partSize = transfer.config().multipartPartSize();
+
+      // skip the upload if the object in the bucket has the same content as the local file
+      if (remoteObject != null
+        && remoteObject.size() == size
+        && localETag(upload.file(), size, partSize).equals(stripQuotes(remoteObject.eTag()))) {
+        return true;
+      }
+
+      if (size > partSize) {
+        this.uploadMultipart(transfer, upload, size, partSize);
+      } else {
+        var request = PutObjectRequest.builder()
+          .bucket(transfer.config().bucket())
+          .key(upload.key())
+          .contentType(upload.contentType())
+          .contentLength(size)
+          .build();
+        transfer.call(() -> this.client.putObject(request, RequestBody.fromFile(upload.file())));
+      }
+
+      return true;
+    } catch (Exception exception) {
+      LOGGER.error("Exception putting file {} into s3 bucket {}",
+        upload.file().toAbsolutePath(),
+        transfer.config().bucket(),
+        exception);
+      return false;
+    }
+  }
+
+  private void uploadMultipart(
+    @NonNull Transfer transfer,
+    @NonNull Upload upload,
+    long size,
+    long partSize
+  ) throws Exception {
+    var bucket = transfer.config().bucket();
+    var uploadId = transfer.call(() -> this.client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+      .bucket(bucket)
+      .key(upload.key())
+      .contentType(upload.contentType())
+      .build())).uploadId();
+
+    try (var channel = FileChannel.open(upload.file(), StandardOpenOption.READ)) {
+      // upload all parts of the file in parallel
+      List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+      for (var offset = 0L; offset < size; offset += partSize) {
+        var partNumber = futures.size() + 1;
+        var partOffset = offset;
+        var partLength = (int) Math.min(partSize, size - offset);
+        CheckedFunction0<CompletedPart> partUpload = () -> this.uploadPart(
+          bucket,
+          upload,
+          uploadId,
+          channel,
+          partNumber,
+          partOffset,
+          partLength);
+        futures.add(CompletableFuture.supplyAsync(() -> transfer.call(partUpload), this.executor));
+      }
+
+      List<CompletedPart> parts = new ArrayList<>(futures.size());
+      for (var future : futures) {
+        parts.add(future.join());
+      }
+
+      transfer.call(() -> this.client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+        .bucket(bucket)
+        .key(upload.key())
+        .uploadId(uploadId)
+        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+        .build()));
+    } catch (Exception exception) {
+      // abort the upload to free the storage used by the parts that were already uploaded
+      try {
+        this.client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+          .bucket(bucket)
+          .key(upload.key())
+          .uploadId(uploadId)
+          .build());
+      } catch (Exception abortException) {
+        exception.addSuppressed(abortException);
+      }
+      throw exception;
+    }
+  }
+
+  private @NonNull CompletedPart uploadPart(
+    @NonNull String bucket,
+    @NonNull Upload upload,
+    @NonNull String uploadId,
+    @NonNull FileChannel channel,
+    int partNumber,
+    long offset,
+    int length
+  ) throws IOException {
+    var request = UploadPartRequest.builder()
+      .bucket(bucket)
+      .key(upload.key())
+      .uploadId(uploadId)
+      .partNumber(partNumber)
+      .contentLength((long) length)
+      .build();
+    // stream the part from the file instead of reading it into memory, parts can be up to 1 GiB in size. a new stream
+    // is opened for each attempt in case the request gets retried
+    var body = RequestBody.fromContentProvider(
+      () -> new FileRangeInputStream(upload.file(), channel, offset, length),
+      length,
+      OCTET_STREAM_CONTENT_TYPE);
+    var response = this.client.uploadPart(request, body);
+    return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+  }
+
+  private boolean downloadFile(@NonNull Transfer transfer, @NonNull Download download) {
+    // download into a new file and replace the target afterwards, the target might be a hard link to a file which is
+    // shared with other directories (for example a template) and must never be written in place
+    var downloadFile = download.target().resolveSibling(download.target().getFileName() + "." + UUID.randomUUID());
+    try {
+      var partSize = transfer.config().multipartPartSize();
+      if (download.size() > partSize) {
+        try (var channel = FileChannel.open(downloadFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+          // download all ranges of the object in parallel
+          List<CompletableFuture<Void>> futures = new ArrayList<>();
+          for (var offset = 0L; offset < download.size(); offset += partSize) {
+            var rangeOffset = offset;
+            var rangeLength = Math.min(partSize, download.size() - offset);
+            futures.add(CompletableFuture.runAsync(
+              () -> transfer.run(() -> this.downloadRange(transfer, download, channel, rangeOffset, rangeLength)),
+              this.executor));
+          }
+
+          for (var future : futures) {
+            future.join();
+          }
+        }
+      } else {
+        var request = GetObjectRequest.builder()
+          .bucket(transfer.config().bucket())
+          .key(download.key())
+          .build();
+        transfer.run(() -> {
+          try (InputStream stream = this.client.getObject(request); var out = Files.newOutputStream(downloadFile)) {
+            FileUtil.copy(stream, out);
+          }
+        });
+      }
+
+      Files.move(downloadFile, download.target(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      return true;
+    } catch (Exception exception) {
+      LOGGER.error("Exception downloading object {} from s3 bucket {}",
+        download.key(),
+        transfer.config().bucket(),
+        exception);
+      // remove the partially downloaded file
+      FileUtil.delete(downloadFile);
+      return false;
+    }
+  }
+
+  private void downloadRange(
+    @NonNull Transfer transfer,
+    @NonNull Download download,
+    @NonNull FileChannel channel,
+    long offset,
+    long length
+  ) throws IOException {
+    // only accept the range if the object was not changed since it was listed
+    var request = GetObjectRequest.builder()
+      .bucket(transfer.config().bucket())
+      .key(download.key())
+      .ifMatch(download.eTag())
+      .range(String.format("bytes=%d-%d", offset, offset + length - 1))
+      .build();
+    try (InputStream stream = this.client.getObject(request)) {
+      var position = offset;
+      var buffer = new byte[COPY_BUFFER_SIZE];
+
+      int read;
+      while ((read = stream.read(buffer)) != -1) {
+        var byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+        while (byteBuffer.hasRemaining()) {
+          position += channel.write(byteBuffer, position);
+        }
+      }
+    }
+  }
+
+  private static boolean awaitAll(@NonNull List<CompletableFuture<Boolean>> futures) {
+    var success = true;
+    for (var future : futures) {
+      success &= future.join();
+    }
+    return success;
+  }
+
+  private static @NonNull String localETag(@NonNull Path file, long size, long partSize) throws IOException {
+    // the etag of objects uploaded in a single request is the md5 hash of the content
+    if (size <= partSize) {
+      var digest = newDigest();
+      try (var stream = new DigestInputStream(Files.newInputStream(file), digest)) {
+        stream.transferTo(OutputStream.nullOutputStream());
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // the etag of multipart uploads is the md5 hash of the md5 hashes of all parts, followed by the part count
+    var partDigest = newDigest();
+    var partsDigest = newDigest();
+    var partCount = 0;
+    try (var stream = Files.newInputStream(file)) {
+      var partRead = 0L;
+      var buffer = new byte[COPY_BUFFER_SIZE];
+
+      int read;
+      while ((read = stream.read(buffer, 0, (int) Math.min(buffer.length, partSize - partRead))) != -1) {
+        partDigest.update(buffer, 0, read);
+        partRead += read;
+        if (partRead == partSize) {
+          partsDigest.update(partDigest.digest());
+          partCount++;
+          partRead = 0;
+        }
+      }
+
+      if (partRead > 0) {
+        partsDigest.update(partDigest.digest());
+        partCount++;
+      }
+    }
+    return HexFormat.of().formatHex(partsDigest.digest()) + '-' + partCount;
+  }
+
+  private static @Nullable String stripQuotes(@Nullable String eTag) {
+    if (eTag != null && eTag.length() >= 2 && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+      return eTag.substring(1, eTag.length() - 1);
+    }
+    return eTag;
+  }
+
+  private static @NonNull MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("MD5 is not supported by the current jvm", exception);
+    }
+  }
+
+  /**
+   * Reads a range of a file using positional reads, multiple streams can read from the same channel concurrently.
+   */
+  private static final class FileRangeInputStream extends InputStream {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long end;
+
+    private long position;
+
+    public FileRangeInputStream(@NonNull Path file, @NonNull FileChannel channel, long offset, long length) {
+      this.file = file;
+      this.channel = channel;
+      this.position = offset;
+      this.end = offset + length;
+    }
+
+    @Override
+    public int read() throws IOException {
+      var buffer = new byte[1];
+      return this.read(buffer, 0, 1) == -1 ? -1 : buffer[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte @NonNull [] b, int off, int len) throws IOException {
+      var remaining = this.end - this.position;
+      if (remaining <= 0) {
+        return -1;
+      }
+
+      var read = this.channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), this.position);
+      if (read == -1) {
+        throw new IOException("File " + this.file + " was truncated during the upload");
+      }
+
+      this.position += read;
+      return read;
+    }
+
+    @Override
+    public int available() {
+      return (int) Math.min(Integer.MAX_VALUE, this.end - this.position);
+    }
+  }
+
+  /**
+   * A file to upload into the bucket.
+   *
+   * @param key         the key of the object to upload the file to.
+   * @param file        the file to upload.
+   * @param contentType the content type of the file, null if unknown.
+   */
+  public record Upload(@NonNull String key, @NonNull Path file, @Nullable String contentType) {
+
+  }
+
+  /**
+   * An object to download from the bucket.
+   *
+   * @param key    the key of the object to download.
+   * @param eTag   the etag of the object when it was listed.
+   * @param size   the size of the object in bytes.
+   * @param target the file to download the object into.
+   */
+  public record Download(@NonNull String key, @NonNull String eTag, long size, @NonNull Path target) {
+
+  }
+
+  /**
+   * The state of a single upload or download, bounding the amount of requests that are executed concurrently.
+   *
+   * @param config  the config that was active when the transfer was started.
+   * @param permits the permits for the concurrently executed requests.
+   */
+  private record Transfer(@NonNull S3TemplateStorageConfig config, @NonNull Semaphore permits) {
+
+    public Transfer(@NonNull S3TemplateStorageConfig config) {
+      this(config, new Semaphore(config.transferConcurrency()));
+    }
+
+    public <T> T call(@NonNull CheckedFunction0<T> request) {
+      this.permits.acquireUninterruptibly();
+      try {
+        return request.unchecked().apply();
+      } finally {
+        this.permits.release();
+      }
+    }
+
+    public void run(@NonNull CheckedRunnable request) {
+      this.permits.acquireUninterruptibly();
+      try {
+        request.unchecked().run();
+      } finally {
+        this.permits.release();
+      }
+    }
+  }
+}
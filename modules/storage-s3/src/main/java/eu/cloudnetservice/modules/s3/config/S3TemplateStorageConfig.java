@@ -33,11 +33,32 @@ public record S3TemplateStorageConfig(
   boolean pathStyleAccess,
   boolean chunkedEncoding,
   boolean checksumValidation,
-  boolean dualstackEndpointEnabled
+  boolean dualstackEndpointEnabled,
+  int transferConcurrency,
+  int multipartPartSizeMb
 ) {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3TemplateStorageConfig.class);
 
+  // s3 rejects multipart uploads with parts smaller than 5 MiB (except for the last part), parts are buffered in memory
+  private static final int MIN_MULTIPART_PART_SIZE_MB = 5;
+  private static final int MAX_MULTIPART_PART_SIZE_MB = 1024;
+
+  public S3TemplateStorageConfig {
+    // configurations written before the transfer options were introduced do not contain them
+    if (transferConcurrency <= 0) {
+      transferConcurrency = 8;
+    }
+    if (multipartPartSizeMb <= 0) {
+      multipartPartSizeMb = 16;
+    }
+    multipartPartSizeMb = Math.clamp(multipartPartSizeMb, MIN_MULTIPART_PART_SIZE_MB, MAX_MULTIPART_PART_SIZE_MB);
+  }
+
+  public long multipartPartSize() {
+    return this.multipartPartSizeMb * 1024L * 1024L;
+  }
+
   public @Nullable URI resolveEndpointOverride() {
     if (this.endpointOverride != null) {
       try {
@@ -22,6 +22,10 @@
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.NonNull;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -29,11 +33,20 @@
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketVersioningStatus;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutBucketVersioningRequest;
+import software.amazon.awssdk.services.s3.model.VersioningConfiguration;
 
 @Testcontainers(disabledWithoutDocker = true)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -53,6 +66,7 @@ class S3TemplateStorageTest {
     .withEnv("SERVICES", "s3")
     .waitingFor(Wait.forLogMessage(".*Ready\\.\n", 1));
 
+  private static S3Client client;
   private static S3TemplateStorage storage;
 
   @BeforeAll
@@ -60,8 +74,7 @@ class S3TemplateStorageTest {
   static void setupServer() throws UnknownHostException {
     var runningAddress = InetAddress.getByName(S3.getHost()).getHostAddress();
 
-    var module = Mockito.mock(S3TemplateStorageModule.class);
-    Mockito.when(module.config()).thenReturn(new S3TemplateStorageConfig(
+    var config = new S3TemplateStorageConfig(
       "s3",
       "cn-testing",
       "us-east-1",
@@ -72,14 +85,36 @@ static void setupServer() throws UnknownHostException {
       false,
       true,
       true,
-      false));
+      false,
+      4,
+      5);
+    var module = Mockito.mock(S3TemplateStorageModule.class);
+    Mockito.when(module.config()).thenReturn(config);
 
     storage = new S3TemplateStorage(module);
+    // a separate client to inspect the bucket independently of the storage
+    client = S3Client.builder()
+      .region(Region.of(config.region()))
+      .endpointOverride(config.resolveEndpointOverride())
+      .forcePathStyle(true)
+      .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(
+        config.accessKey(),
+        config.secretKey())))
+      .build();
   }
 
   @AfterAll
   static void closeStorage() {
     storage.close();
+    client.close();
+  }
+
+  private static @NonNull String versionId(@NonNull String path) {
+    var request = HeadObjectRequest.builder()
+      .bucket("cn-testing")
+      .key(storage.getBucketPath(TEMPLATE, path))
+      .build();
+    return client.headObject(request).versionId();
   }
 
   @Test
@@ -215,4 +250,78 @@ void testTemplateDelete() {
     Assertions.assertFalse(storage.contains(TEMPLATE));
     Assertions.assertFalse(storage.hasFile(TEMPLATE, "test.txt"));
   }
+
+  @Test
+  @Order(120)
+  void testDeployAndPullDirectory(@TempDir Path tempDir) throws Exception {
+    var source = Files.createDirectories(tempDir.resolve("source"));
+    var pulled = tempDir.resolve("pulled");
+
+    // each upload of an object creates a new version of it, which allows to check if an object was uploaded again
+    client.putBucketVersioning(PutBucketVersioningRequest.builder()
+      .bucket("cn-testing")
+      .versioningConfiguration(VersioningConfiguration.builder().status(BucketVersioningStatus.ENABLED).build())
+      .build());
+
+    // one file which exceeds the multipart part size and one which is transferred in a single request
+    var largeContent = new byte[12 * 1024 * 1024];
+    ThreadLocalRandom.current().nextBytes(largeContent);
+    Files.write(source.resolve("large.bin"), largeContent);
+    Files.writeString(Files.createDirectories(source.resolve("config")).resolve("small.yml"), "hello: world");
+
+    Assertions.assertTrue(storage.deployDirectory(TEMPLATE, source, null));
+    Assertions.assertTrue(storage.pull(TEMPLATE, pulled));
+    Assertions.assertArrayEquals(largeContent, Files.readAllBytes(pulled.resolve("large.bin")));
+    Assertions.assertEquals("hello: world", Files.readString(pulled.resolve("config").resolve("small.yml")));
+
+    // unchanged files must not be uploaded again
+    var largeVersion = versionId("large.bin");
+    var smallVersion = versionId("config/small.yml");
+    Files.writeString(source.resolve("changed.txt"), "world");
+
+    Assertions.assertTrue(storage.deployDirectory(TEMPLATE, source, null));
+    Assertions.assertEquals(largeVersion, versionId("large.bin"));
+    Assertions.assertEquals(smallVersion, versionId("config/small.yml"));
+    Assertions.assertNotNull(versionId("changed.txt"));
+
+    // changed files must be uploaded again
+    Files.writeString(source.resolve("config").resolve("small.yml"), "hello: cloudnet");
+    Assertions.assertTrue(storage.deployDirectory(TEMPLATE, source, null));
+    Assertions.assertEquals(largeVersion, versionId("large.bin"));
+    Assertions.assertNotEquals(smallVersion, versionId("config/small.yml"));
+
+    Assertions.assertTrue(storage.delete(TEMPLATE));
+  }
+
+  @Test
+  @Order(130)
+  void testPullDoesNotWriteThroughLinkedFiles(@TempDir Path tempDir) throws Exception {
+    var source = Files.createDirectories(tempDir.resolve("source"));
+    var pulled = Files.createDirectories(tempDir.resolve("pulled"));
+
+    var largeContent = new byte[12 * 1024 * 1024];
+    ThreadLocalRandom.current().nextBytes(largeContent);
+    Files.write(source.resolve("large.bin"), largeContent);
+    Files.writeString(source.resolve("small.yml"), "hello: world");
+    Assertions.assertTrue(storage.deployDirectory(TEMPLATE, source, null));
+
+    // the pulled files are hard links to files outside the target directory, for example from a local template
+    var linkedLarge = Files.writeString(tempDir.resolve("linked.bin"), "large");
+    var linkedSmall = Files.writeString(tempDir.resolve("linked.yml"), "small");
+    Files.createLink(pulled.resolve("large.bin"), linkedLarge);
+    Files.createLink(pulled.resolve("small.yml"), linkedSmall);
+
+    Assertions.assertTrue(storage.pull(TEMPLATE, pulled));
+    Assertions.assertArrayEquals(largeContent, Files.readAllBytes(pulled.resolve("large.bin")));
+    Assertions.assertEquals("hello: world", Files.readString(pulled.resolve("small.yml")));
+    Assertions.assertEquals("large", Files.readString(linkedLarge));
+    Assertions.assertEquals("small", Files.readString(linkedSmall));
+
+    // no partially downloaded files are left behind
+    try (var files = Files.list(pulled)) {
+      Assertions.assertEquals(2, files.count());
+    }
+
+    Assertions.assertTrue(storage.delete(TEMPLATE));
+  }
 }
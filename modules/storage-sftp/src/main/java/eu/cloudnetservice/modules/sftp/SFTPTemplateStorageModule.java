@@ -28,6 +28,7 @@
 import eu.cloudnetservice.modules.sftp.config.SFTPTemplateStorageConfig;
 import eu.cloudnetservice.node.cluster.sync.DataSyncHandler;
 import eu.cloudnetservice.node.cluster.sync.DataSyncRegistry;
+import eu.cloudnetservice.node.template.CachingTemplateStorage;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -37,7 +38,7 @@
 @Singleton
 public final class SFTPTemplateStorageModule extends DriverModule {
 
-  private SFTPTemplateStorage storage;
+  private TemplateStorage storage;
   private volatile SFTPTemplateStorageConfig config;
 
   @ModuleTask(order = Byte.MAX_VALUE, lifecycle = ModuleLifeCycle.LOADED)
@@ -71,7 +72,7 @@ public void handleInit(@NonNull ServiceRegistry serviceRegistry, @NonNull DataSy
       SFTPTemplateStorageConfig::new,
       DocumentFactory.json());
     // init the storage
-    this.storage = new SFTPTemplateStorage(this.config);
+    this.storage = CachingTemplateStorage.wrapRemoteStorage(new SFTPTemplateStorage(this.config));
     serviceRegistry.registerProvider(TemplateStorage.class, this.storage.name(), this.storage);
     // register the cluster sync handler
     dataSyncRegistry.registerHandler(DataSyncHandler.<SFTPTemplateStorageConfig>builder()
@@ -20,7 +20,9 @@
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
-import eu.cloudnetservice.modules.bridge.BridgeServiceHelper;
+import eu.cloudnetservice.modules.bridge.placeholder.PlaceholderResolver;
+import eu.cloudnetservice.modules.bridge.placeholder.PlaceholderTemplate;
+import eu.cloudnetservice.modules.bridge.placeholder.ServicePlaceholderResolver;
 import eu.cloudnetservice.modules.syncproxy.SyncProxyConstants;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -56,12 +58,18 @@ public record SyncProxyConfiguration(
       return null;
     }
 
-    return BridgeServiceHelper.fillCommonPlaceholders(
-      input
-        .replace("%online_players%", String.valueOf(onlinePlayers))
-        .replace("%max_players%", String.valueOf(maxPlayers)),
-      null,
-      serviceInfoSnapshot);
+    PlaceholderResolver playerCountResolver = (placeholder, target) -> {
+      switch (placeholder) {
+        case "online_players" -> target.append(onlinePlayers);
+        case "max_players" -> target.append(maxPlayers);
+        default -> {
+          return false;
+        }
+      }
+      return true;
+    };
+    return PlaceholderTemplate.compile(input)
+      .render(playerCountResolver.or(new ServicePlaceholderResolver(null, serviceInfoSnapshot)));
   }
 
   public static @NonNull Builder builder() {
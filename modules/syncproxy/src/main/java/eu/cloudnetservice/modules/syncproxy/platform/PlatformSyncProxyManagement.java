@@ -20,12 +20,16 @@
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.modules.bridge.BridgeDocProperties;
-import eu.cloudnetservice.modules.bridge.BridgeServiceHelper;
+import eu.cloudnetservice.modules.bridge.placeholder.PlaceholderResolver;
+import eu.cloudnetservice.modules.bridge.placeholder.PlaceholderTemplate;
+import eu.cloudnetservice.modules.bridge.placeholder.ServicePlaceholderResolver;
 import eu.cloudnetservice.modules.syncproxy.SyncProxyConfigurationUpdateEvent;
+import eu.cloudnetservice.modules.syncproxy.SyncProxyConstants;
 import eu.cloudnetservice.modules.syncproxy.SyncProxyManagement;
 import eu.cloudnetservice.modules.syncproxy.config.SyncProxyConfiguration;
 import eu.cloudnetservice.modules.syncproxy.config.SyncProxyLoginConfiguration;
@@ -55,6 +59,7 @@
 
   protected final RPCSender rpcSender;
   protected final RPCFactory rpcFactory;
+  protected final CloudMessenger messenger;
   protected final EventManager eventManager;
   protected final NetworkClient networkClient;
   protected final WrapperConfiguration wrapperConfig;
@@ -69,6 +74,7 @@
 
   protected PlatformSyncProxyManagement(
     @NonNull RPCFactory rpcFactory,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull WrapperConfiguration wrapperConfig,
@@ -77,6 +83,7 @@ protected PlatformSyncProxyManagement(
     @NonNull ScheduledExecutorService executorService
   ) {
     this.rpcFactory = rpcFactory;
+    this.messenger = messenger;
     this.eventManager = eventManager;
     this.networkClient = networkClient;
     this.wrapperConfig = wrapperConfig;
@@ -90,6 +97,7 @@ protected PlatformSyncProxyManagement(
   protected void init() {
     // get the config from the node
     this.configurationSilently(this.rpcSender.invokeMethod("configuration").fireSync());
+    this.messenger.subscribeChannels(SyncProxyConstants.SYNC_PROXY_CHANNEL);
     // cache all services that are already started
     this.serviceProvider.servicesAsync().thenAccept(services -> {
       for (var service : services) {
@@ -229,16 +237,9 @@ protected void updateTabList(
     int onlinePlayers,
     int maxPlayers
   ) {
-    var header = this.replaceTabListItem(
-      tabList.header(),
-      player,
-      onlinePlayers,
-      maxPlayers);
-    var footer = this.replaceTabListItem(
-      tabList.footer(),
-      player,
-      onlinePlayers,
-      maxPlayers);
+    var resolver = this.tabListPlaceholderResolver(player, onlinePlayers, maxPlayers);
+    var header = PlaceholderTemplate.compile(tabList.header()).render(resolver);
+    var footer = PlaceholderTemplate.compile(tabList.footer()).render(resolver);
 
     this.playerTabList(player, header, footer);
   }
@@ -279,16 +280,23 @@ public boolean checkPlayerMaintenance(@NonNull P player) {
 
   public abstract boolean checkPlayerPermission(@NonNull P player, @NonNull String permission);
 
-  private @NonNull String replaceTabListItem(
-    @NonNull String input,
+  private @NonNull PlaceholderResolver tabListPlaceholderResolver(
     @NonNull P player,
     int onlinePlayers,
     int maxPlayers
   ) {
-    input = input.replace("%time%", TIME_FORMATTER.format(LocalTime.now()))
-      .replace("%syncproxy_online_players%", String.valueOf(onlinePlayers))
-      .replace("%syncproxy_max_players%", String.valueOf(maxPlayers))
-      .replace("%player_name%", this.playerName(player));
-    return BridgeServiceHelper.fillCommonPlaceholders(input, null, this.serviceInfoHolder.serviceInfo());
+    PlaceholderResolver tabListResolver = (placeholder, target) -> {
+      switch (placeholder) {
+        case "time" -> TIME_FORMATTER.formatTo(LocalTime.now(), target);
+        case "syncproxy_online_players" -> target.append(onlinePlayers);
+        case "syncproxy_max_players" -> target.append(maxPlayers);
+        case "player_name" -> target.append(this.playerName(player));
+        default -> {
+          return false;
+        }
+      }
+      return true;
+    };
+    return tabListResolver.or(new ServicePlaceholderResolver(null, this.serviceInfoHolder.serviceInfo()));
   }
 }
@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.ext.component.ComponentFormats;
@@ -48,6 +49,7 @@ public final class BungeeCordSyncProxyManagement extends PlatformSyncProxyManage
   public BungeeCordSyncProxyManagement(
     @NonNull RPCFactory rpcFactory,
     @NonNull ProxyServer proxyServer,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull WrapperConfiguration wrapperConfig,
@@ -57,6 +59,7 @@ public BungeeCordSyncProxyManagement(
   ) {
     super(
       rpcFactory,
+      messenger,
       eventManager,
       networkClient,
       wrapperConfig,
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.ext.component.ComponentFormats;
@@ -45,6 +46,7 @@ public final class VelocitySyncProxyManagement extends PlatformSyncProxyManageme
   public VelocitySyncProxyManagement(
     @NonNull RPCFactory rpcFactory,
     @NonNull ProxyServer proxyServer,
+    @NonNull CloudMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull WrapperConfiguration wrapperConfig,
@@ -54,6 +56,7 @@ public VelocitySyncProxyManagement(
   ) {
     super(
       rpcFactory,
+      messenger,
       eventManager,
       networkClient,
       wrapperConfig,
@@ -14,6 +14,10 @@
  * limitations under the License.
  */
 
+plugins {
+  `java-test-fixtures`
+}
+
 tasks.withType<Jar> {
   dependsOn(":wrapper-jvm:shadowJar")
 
@@ -58,6 +62,14 @@ dependencies {
 
   "compileOnly"(libs.bundles.netty)
   "implementation"(libs.bundles.nightConfig)
+
+  // shared tests for implementations in modules
+  "testFixturesImplementation"(libs.junitApi)
 }
 
+// the test fixtures are only used by the tests of modules, there is no need to publish them
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
+
 applyJarMetadata("eu.cloudnetservice.node.boot.Bootstrap", "eu.cloudnetservice.node")
@@ -251,12 +251,18 @@ private void executeSetupIfRequired(
   @Order(500)
   private void registerConfiguredNodeServers(
     @NonNull Configuration configuration,
-    @NonNull NodeServerProvider nodeProvider
+    @NonNull NodeServerProvider nodeProvider,
+    @NonNull NodeDatabaseProvider databaseProvider
   ) {
     nodeProvider.registerNodes(configuration.clusterConfig());
     nodeProvider.localNode().updateLocalSnapshot();
     nodeProvider.localNode().state(NodeServerState.READY);
     nodeProvider.selectHeadNode();
+
+    // changes to a shared database are not seen by the other nodes, forward the near cache invalidations to them
+    if (databaseProvider.sharedBetweenNodes()) {
+      databaseProvider.nearCacheRegistry().forwardToNodes(nodeProvider::connectedNodeChannels);
+    }
   }
 
   @Inject
@@ -99,12 +99,14 @@ public void shutdown() {
         this.networkClient.close();
         this.networkServer.close();
 
+        // stop all modules before closing the providers, modules might still write their data
+        this.moduleProvider.stopAll();
+
         // close all the other providers
         LOGGER.info(I18n.trans("stop-providers"));
         this.databaseProvider.close();
 
-        // stop & unload all modules
-        this.moduleProvider.stopAll();
+        // unload all modules
         this.moduleProvider.unloadAll();
 
         // remove temp directory
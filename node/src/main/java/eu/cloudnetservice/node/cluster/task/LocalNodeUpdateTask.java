@@ -17,24 +17,53 @@
 package eu.cloudnetservice.node.cluster.task;
 
 import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.cluster.NodeInfoSnapshot;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
+import eu.cloudnetservice.node.cluster.util.NodeInfoSnapshotDelta;
+import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Singleton
-public record LocalNodeUpdateTask(
-  @NonNull NodeServerProvider provider,
-  @NonNull Provider<TickLoop> mainThreadProvider
-) implements Runnable {
+public final class LocalNodeUpdateTask implements Runnable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LocalNodeUpdateTask.class);
+  // clamp the interval to at least 1, sending a keyframe every update is the most frequent option
+  private static final int KEYFRAME_INTERVAL = Math.max(
+    1,
+    Integer.getInteger("cloudnet.node.snapshot.keyframe.interval", 30));
+
+  private final NodeServerProvider provider;
+  private final Provider<TickLoop> mainThreadProvider;
+
+  // changes on each restart so that receivers can't apply deltas onto snapshots of a previous run
+  private final long epoch = ThreadLocalRandom.current().nextLong();
+  private final AtomicBoolean keyframeRequested = new AtomicBoolean();
+
+  // only accessed from the update thread
+  private Set<String> lastTargetNodes = Set.of();
+  private NodeInfoSnapshotDelta.VersionedSnapshot lastBroadcast;
+
+  @Inject
+  public LocalNodeUpdateTask(@NonNull NodeServerProvider provider, @NonNull Provider<TickLoop> mainThreadProvider) {
+    this.provider = provider;
+    this.mainThreadProvider = mainThreadProvider;
+  }
+
+  public void requestKeyframe() {
+    this.keyframeRequested.set(true);
+  }
 
   @Override
   public void run() {
@@ -55,13 +84,13 @@ public void run() {
           // initial exchange of a node snapshot)
           .filter(server -> server.state() == NodeServerState.READY)
           .map(server -> server.info().uniqueId())
-          .toList();
+          .collect(Collectors.toSet());
         if (!targetNodes.isEmpty()) {
           var message = ChannelMessage.builder()
             .sendSync(true) // ensure that we don't schedule too many updates while other are still waiting
             .message("update_node_info_snapshot")
             .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
-            .buffer(DataBuf.empty().writeObject(localNode.nodeInfoSnapshot()))
+            .buffer(this.encodeSnapshotUpdate(localNode.nodeInfoSnapshot(), targetNodes))
             .prioritized(this.mainThreadProvider.get().currentTick() % 10 == 0);
           // add all targets
           targetNodes.forEach(message::targetNode);
@@ -73,4 +102,26 @@ public void run() {
       LOGGER.error("Exception updating local node info to the cluster", exception);
     }
   }
+
+  private @NonNull DataBuf encodeSnapshotUpdate(
+    @NonNull NodeInfoSnapshot snapshot,
+    @NonNull Set<String> targetNodes
+  ) {
+    var base = this.lastBroadcast;
+    var version = base == null ? 0 : base.version() + 1;
+    var update = new NodeInfoSnapshotDelta.VersionedSnapshot(this.epoch, version, snapshot);
+
+    // send a keyframe if requested by a node, periodically or if a node joined which does not know any version yet
+    var keyframeRequested = this.keyframeRequested.getAndSet(false);
+    var newTargets = !this.lastTargetNodes.containsAll(targetNodes);
+    var sendKeyframe = base == null || keyframeRequested || newTargets || version % KEYFRAME_INTERVAL == 0;
+
+    this.lastBroadcast = update;
+    this.lastTargetNodes = targetNodes;
+
+    var buffer = DataBuf.empty();
+    return sendKeyframe
+      ? NodeInfoSnapshotDelta.writeKeyframe(buffer, update)
+      : NodeInfoSnapshotDelta.writeDelta(buffer, base, update);
+  }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.cluster.util;
+
+import eu.cloudnetservice.driver.CloudNetVersion;
+import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
+import eu.cloudnetservice.driver.cluster.NodeInfoSnapshot;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.module.ModuleConfiguration;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import io.leangen.geantyref.TypeFactory;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Objects;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encodes and decodes the versioned node info snapshot updates which are broadcast into the cluster. A frame is either
+ * a keyframe containing the full snapshot or a delta which only contains the fields that changed compared to the
+ * snapshot of the previous version. A delta can only be applied if the receiver knows the previous version of the
+ * snapshot, in all other cases the receiver has to request a keyframe from the sender.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NodeInfoSnapshotDelta {
+
+  public static final byte FRAME_KEYFRAME = 0;
+  public static final byte FRAME_DELTA = 1;
+
+  private static final Type MODULES_TYPE = TypeFactory.parameterizedClass(Collection.class, ModuleConfiguration.class);
+
+  private static final int CREATION_TIME = 1;
+  private static final int STARTUP_MILLIS = 1 << 1;
+  private static final int MAX_MEMORY = 1 << 2;
+  private static final int USED_MEMORY = 1 << 3;
+  private static final int RESERVED_MEMORY = 1 << 4;
+  private static final int SERVICE_COUNT = 1 << 5;
+  private static final int DRAINING = 1 << 6;
+  private static final int NODE = 1 << 7;
+  private static final int VERSION = 1 << 8;
+  private static final int PROCESS_SNAPSHOT = 1 << 9;
+  private static final int MAX_CPU_USAGE = 1 << 10;
+  private static final int MODULES = 1 << 11;
+  private static final int PROPERTIES = 1 << 12;
+
+  private NodeInfoSnapshotDelta() {
+    throw new UnsupportedOperationException();
+  }
+
+  public static @NonNull DataBuf.Mutable writeKeyframe(
+    @NonNull DataBuf.Mutable target,
+    @NonNull VersionedSnapshot snapshot
+  ) {
+    return target
+      .writeByte(FRAME_KEYFRAME)
+      .writeLong(snapshot.epoch())
+      .writeLong(snapshot.version())
+      .writeObject(snapshot.snapshot());
+  }
+
+  public static @NonNull DataBuf.Mutable writeDelta(
+    @NonNull DataBuf.Mutable target,
+    @NonNull VersionedSnapshot base,
+    @NonNull VersionedSnapshot snapshot
+  ) {
+    var previous = base.snapshot();
+    var current = snapshot.snapshot();
+
+    // collect the fields that changed since the base version
+    var changedFields = 0;
+    changedFields |= previous.creationTime() != current.creationTime() ? CREATION_TIME : 0;
+    changedFields |= previous.startupMillis() != current.startupMillis() ? STARTUP_MILLIS : 0;
+    changedFields |= previous.maxMemory() != current.maxMemory() ? MAX_MEMORY : 0;
+    changedFields |= previous.usedMemory() != current.usedMemory() ? USED_MEMORY : 0;
+    changedFields |= previous.reservedMemory() != current.reservedMemory() ? RESERVED_MEMORY : 0;
+    changedFields |= previous.currentServicesCount() != current.currentServicesCount() ? SERVICE_COUNT : 0;
+    changedFields |= previous.draining() != current.draining() ? DRAINING : 0;
+    // the node info only compares the unique id, compare by identity to catch listener & property changes as well
+    changedFields |= previous.node() != current.node() ? NODE : 0;
+    changedFields |= !previous.version().equals(current.version()) ? VERSION : 0;
+    changedFields |= !previous.processSnapshot().equals(current.processSnapshot()) ? PROCESS_SNAPSHOT : 0;
+    changedFields |= Double.compare(
+      previous.maxProcessorUsageToStartServices(),
+      current.maxProcessorUsageToStartServices()) != 0 ? MAX_CPU_USAGE : 0;
+    changedFields |= !Objects.equals(previous.modules(), current.modules()) ? MODULES : 0;
+    changedFields |= !previous.propertyHolder().equals(current.propertyHolder()) ? PROPERTIES : 0;
+
+    target
+      .writeByte(FRAME_DELTA)
+      .writeLong(snapshot.epoch())
+      .writeLong(snapshot.version())
+      .writeLong(base.version())
+      .writeVarInt(changedFields);
+
+    // write the changed fields, must be in the same order as they are read
+    if ((changedFields & CREATION_TIME) != 0) {
+      target.writeLong(current.creationTime());
+    }
+    if ((changedFields & STARTUP_MILLIS) != 0) {
+      target.writeLong(current.startupMillis());
+    }
+    if ((changedFields & MAX_MEMORY) != 0) {
+      target.writeInt(current.maxMemory());
+    }
+    if ((changedFields & USED_MEMORY) != 0) {
+      target.writeInt(current.usedMemory());
+    }
+    if ((changedFields & RESERVED_MEMORY) != 0) {
+      target.writeInt(current.reservedMemory());
+    }
+    if ((changedFields & SERVICE_COUNT) != 0) {
+      target.writeInt(current.currentServicesCount());
+    }
+    if ((changedFields & DRAINING) != 0) {
+      target.writeBoolean(current.draining());
+    }
+    if ((changedFields & NODE) != 0) {
+      target.writeObject(current.node());
+    }
+    if ((changedFields & VERSION) != 0) {
+      target.writeObject(current.version());
+    }
+    if ((changedFields & PROCESS_SNAPSHOT) != 0) {
+      target.writeObject(current.processSnapshot());
+    }
+    if ((changedFields & MAX_CPU_USAGE) != 0) {
+      target.writeDouble(current.maxProcessorUsageToStartServices());
+    }
+    if ((changedFields & MODULES) != 0) {
+      target.writeObject(current.modules());
+    }
+    if ((changedFields & PROPERTIES) != 0) {
+      target.writeObject(current.propertyHolder());
+    }
+
+    return target;
+  }
+
+  public static @Nullable VersionedSnapshot read(@NonNull DataBuf source, @Nullable VersionedSnapshot current) {
+    var frameType = source.readByte();
+    var epoch = source.readLong();
+    var version = source.readLong();
+
+    // keyframes can always be applied
+    if (frameType == FRAME_KEYFRAME) {
+      return new VersionedSnapshot(epoch, version, source.readObject(NodeInfoSnapshot.class));
+    }
+
+    // a delta can only be applied onto the version it was computed against
+    var baseVersion = source.readLong();
+    if (current == null || current.epoch() != epoch || current.version() != baseVersion) {
+      return null;
+    }
+
+    // the arguments are evaluated from left to right, which matches the order in which the fields are written
+    var base = current.snapshot();
+    var changedFields = source.readVarInt();
+    var snapshot = new NodeInfoSnapshot(
+      (changedFields & CREATION_TIME) != 0 ? source.readLong() : base.creationTime(),
+      (changedFields & STARTUP_MILLIS) != 0 ? source.readLong() : base.startupMillis(),
+      (changedFields & MAX_MEMORY) != 0 ? source.readInt() : base.maxMemory(),
+      (changedFields & USED_MEMORY) != 0 ? source.readInt() : base.usedMemory(),
+      (changedFields & RESERVED_MEMORY) != 0 ? source.readInt() : base.reservedMemory(),
+      (changedFields & SERVICE_COUNT) != 0 ? source.readInt() : base.currentServicesCount(),
+      (changedFields & DRAINING) != 0 ? source.readBoolean() : base.draining(),
+      (changedFields & NODE) != 0 ? source.readObject(NetworkClusterNode.class) : base.node(),
+      (changedFields & VERSION) != 0 ? source.readObject(CloudNetVersion.class) : base.version(),
+      (changedFields & PROCESS_SNAPSHOT) != 0 ? source.readObject(ProcessSnapshot.class) : base.processSnapshot(),
+      (changedFields & MAX_CPU_USAGE) != 0 ? source.readDouble() : base.maxProcessorUsageToStartServices(),
+      (changedFields & MODULES) != 0
+        ? source.<Collection<ModuleConfiguration>>readObject(MODULES_TYPE)
+        : base.modules(),
+      (changedFields & PROPERTIES) != 0 ? source.readObject(Document.class) : base.propertyHolder());
+    return new VersionedSnapshot(epoch, version, snapshot);
+  }
+
+  /**
+   * A node info snapshot associated with the version in which it was broadcast into the cluster.
+   *
+   * @param epoch    the random epoch of the sending node, changes when the sending node restarts.
+   * @param version  the version of the snapshot, incremented on each broadcast of the sending node.
+   * @param snapshot the node info snapshot.
+   * @since 4.0
+   */
+  public record VersionedSnapshot(long epoch, long version, @NonNull NodeInfoSnapshot snapshot) {
+
+  }
+}
@@ -426,7 +426,7 @@ private void displayNode(@NonNull CommandSource source, @NonNull NodeServer node
           node.nodeInfoSnapshot().processSnapshot().cpuUsage()) + "%",
         "CPU usage system: " + ResourceFormatter.formatTwoDigitPrecision(
           node.nodeInfoSnapshot().processSnapshot().systemCpuUsage()) + "%",
-        "Threads: " + node.nodeInfoSnapshot().processSnapshot().threads().size(),
+        "Threads: " + node.nodeInfoSnapshot().processSnapshot().threadCount(),
         "Heap usage: " + (node.nodeInfoSnapshot().processSnapshot().heapUsageMemory() / (1024 * 1024)) + "/" +
           (node.nodeInfoSnapshot().processSnapshot().maxHeapMemory() / (1024 * 1024)) + "MB",
         " "
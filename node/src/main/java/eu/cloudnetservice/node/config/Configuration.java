@@ -84,6 +84,14 @@ public interface Configuration {
 
   void printErrorStreamLinesFromServices(boolean printErrorStreamLinesFromServices);
 
+  boolean linkImmutableTemplateFiles();
+
+  void linkImmutableTemplateFiles(boolean linkImmutableTemplateFiles);
+
+  @NonNull Collection<String> linkedTemplateFiles();
+
+  void linkedTemplateFiles(@NonNull Collection<String> linkedTemplateFiles);
+
   boolean runBlockedServiceStartTryLaterAutomatic();
 
   void runBlockedServiceStartTryLaterAutomatic(boolean runBlockedServiceStartTryLaterAutomatic);
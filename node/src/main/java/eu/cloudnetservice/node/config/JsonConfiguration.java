@@ -76,6 +76,9 @@ public final class JsonConfiguration implements Configuration {
     return results;
   };
 
+  // files which are not modified in place by the services, only these are linked into a service directory
+  private static final Set<String> DEFAULT_LINKED_TEMPLATE_FILES = Set.of("**.jar");
+
   private String language;
 
   private NetworkClusterNode identity;
@@ -93,6 +96,9 @@ public final class JsonConfiguration implements Configuration {
   private Boolean printErrorStreamLinesFromServices;
   private Boolean runBlockedServiceStartTryLaterAutomatic;
 
+  private Boolean linkImmutableTemplateFiles;
+  private Set<String> linkedTemplateFiles;
+
   private String jvmCommand;
   private String hostAddress;
   private Map<String, String> ipAliases;
@@ -238,6 +244,20 @@ public boolean fileExists() {
         Boolean::parseBoolean);
     }
 
+    if (this.linkImmutableTemplateFiles == null) {
+      this.linkImmutableTemplateFiles = ConfigurationUtil.get(
+        "cloudnet.config.linkImmutableTemplateFiles",
+        false,
+        Boolean::parseBoolean);
+    }
+
+    if (this.linkedTemplateFiles == null) {
+      this.linkedTemplateFiles = ConfigurationUtil.get(
+        "cloudnet.config.linkedTemplateFiles",
+        Sets.newHashSet(DEFAULT_LINKED_TEMPLATE_FILES),
+        value -> Sets.newHashSet(value.split(",")));
+    }
+
     if (this.jvmCommand == null) {
       this.jvmCommand = ConfigurationUtil.get("cloudnet.config.jvmCommand", "java");
     }
@@ -314,6 +334,9 @@ public void reloadFrom(@NonNull Configuration configuration) {
     this.printErrorStreamLinesFromServices = configuration.printErrorStreamLinesFromServices();
     this.runBlockedServiceStartTryLaterAutomatic = configuration.runBlockedServiceStartTryLaterAutomatic();
 
+    this.linkImmutableTemplateFiles = configuration.linkImmutableTemplateFiles();
+    this.linkedTemplateFiles = new HashSet<>(configuration.linkedTemplateFiles());
+
     this.jvmCommand = configuration.javaCommand();
     this.hostAddress = configuration.hostAddress();
 
@@ -402,6 +425,26 @@ public void maxServiceConsoleLogCacheSize(int maxServiceConsoleLogCacheSize) {
     this.maxServiceConsoleLogCacheSize = maxServiceConsoleLogCacheSize;
   }
 
+  @Override
+  public boolean linkImmutableTemplateFiles() {
+    return this.linkImmutableTemplateFiles;
+  }
+
+  @Override
+  public void linkImmutableTemplateFiles(boolean linkImmutableTemplateFiles) {
+    this.linkImmutableTemplateFiles = linkImmutableTemplateFiles;
+  }
+
+  @Override
+  public @NonNull Collection<String> linkedTemplateFiles() {
+    return this.linkedTemplateFiles;
+  }
+
+  @Override
+  public void linkedTemplateFiles(@NonNull Collection<String> linkedTemplateFiles) {
+    this.linkedTemplateFiles = new HashSet<>(linkedTemplateFiles);
+  }
+
   @Override
   public boolean printErrorStreamLinesFromServices() {
     return this.printErrorStreamLinesFromServices;
@@ -17,10 +17,12 @@
 package eu.cloudnetservice.node.database;
 
 import eu.cloudnetservice.driver.database.Database;
+import eu.cloudnetservice.driver.database.DatabaseChunk;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class AbstractDatabase implements LocalDatabase, Database {
 
@@ -39,22 +41,26 @@ protected AbstractDatabase(@NonNull String name, @NonNull NodeDatabaseProvider d
 
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize) {
-    var documentCount = this.documentCount();
-    if (documentCount != 0) {
-      long currentIndex = 0;
-      while (currentIndex < documentCount) {
-        var result = this.readChunk(currentIndex, chunkSize);
-        if (result != null) {
-          result.forEach(consumer);
-          currentIndex += chunkSize;
-          continue;
-        }
-
-        break;
-      }
+    // continue each chunk read after the last key of the previous chunk
+    String lastKey = null;
+    DatabaseChunk chunk;
+    while ((chunk = this.readChunk(lastKey, chunkSize)) != null) {
+      chunk.entries().forEach(consumer);
+      lastKey = chunk.lastKey();
     }
   }
 
+  @Override
+  public boolean index(@NonNull String indexName, @NonNull String fieldName) {
+    // secondary indexes are not supported by default
+    return false;
+  }
+
+  protected void invalidateNearCaches(@Nullable String key) {
+    // inform the components which are caching entries of this database locally about the change
+    this.databaseProvider.nearCacheRegistry().invalidate(this.name, key);
+  }
+
   protected @NonNull String serializeDocumentToJsonString(@NonNull Document document) {
     // send the given document into a new json document
     var jsonDocument = Document.newJsonDocument();
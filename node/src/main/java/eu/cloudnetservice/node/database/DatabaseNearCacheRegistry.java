@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.def.PacketServerChannelMessage;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+public final class DatabaseNearCacheRegistry {
+
+  private final Map<String, Set<NetworkChannel>> registeredChannels = new ConcurrentHashMap<>();
+
+  private volatile Supplier<Collection<NetworkChannel>> nodeChannels;
+
+  public void register(@NonNull String databaseName, @NonNull NetworkChannel channel) {
+    // drop the registrations of connections which were closed in the meantime
+    this.registeredChannels.values().forEach(channels -> channels.removeIf(registered -> !registered.active()));
+    this.registeredChannels.computeIfAbsent(databaseName, $ -> ConcurrentHashMap.newKeySet()).add(channel);
+  }
+
+  public void unregister(@NonNull NetworkChannel channel) {
+    this.registeredChannels.values().forEach(channels -> channels.remove(channel));
+  }
+
+  public void forwardToNodes(@Nullable Supplier<Collection<NetworkChannel>> nodeChannels) {
+    // the databases are stored in a backend that is shared with other nodes, which do not see the changes made through
+    // this node. their services are only notified if the invalidations are forwarded to them
+    this.nodeChannels = nodeChannels;
+  }
+
+  public void invalidate(@NonNull String databaseName, @Nullable String key) {
+    this.invalidateLocally(databaseName, key);
+
+    var nodeChannels = this.nodeChannels;
+    if (nodeChannels != null) {
+      this.sendInvalidation(
+        ChannelMessage.builder().message("forward_database_near_cache_invalidation").targetNodes(),
+        nodeChannels.get(),
+        databaseName,
+        key);
+    }
+  }
+
+  public void invalidateLocally(@NonNull String databaseName, @Nullable String key) {
+    var channels = this.registeredChannels.get(databaseName);
+    if (channels != null) {
+      // drop the registrations of connections which were closed in the meantime
+      channels.removeIf(channel -> !channel.active());
+      this.sendInvalidation(
+        ChannelMessage.builder().message("invalidate_database_near_cache").targetServices(),
+        channels,
+        databaseName,
+        key);
+    }
+  }
+
+  private void sendInvalidation(
+    @NonNull ChannelMessage.Builder messageBuilder,
+    @NonNull Collection<NetworkChannel> channels,
+    @NonNull String databaseName,
+    @Nullable String key
+  ) {
+    if (channels.isEmpty()) {
+      // no component needs to be notified, no need to build a message
+      return;
+    }
+
+    // a null key indicates that all entries of the database must be dropped
+    var message = messageBuilder
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .buffer(DataBuf.empty().writeString(databaseName).writeNullable(key, DataBuf.Mutable::writeString))
+      .build();
+
+    // serialize the message once and share it between all channels
+    var serializedMessage = PacketServerChannelMessage.serialize(message, false);
+    try {
+      for (var channel : channels) {
+        if (channel.active()) {
+          channel.sendPacket(new PacketServerChannelMessage(false, serializedMessage));
+        }
+      }
+    } finally {
+      serializedMessage.release();
+    }
+  }
+}
@@ -41,5 +41,27 @@ public interface LocalDatabase extends Database {
    */
   void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize);
 
+  /**
+   * Reads the entries of this database starting at the given index. Most databases need to skip all entries before
+   * the given index, which makes reading all entries of a database using this method quadratic.
+   *
+   * @param beginIndex the index of the first entry to read.
+   * @param chunkSize  the maximum amount of entries to read.
+   * @return the entries of the chunk, null if there are no entries at the given index.
+   * @deprecated use {@link #readChunk(String, int)} instead, which continues after the last read key.
+   */
+  @Deprecated
   @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize);
+
+  /**
+   * Declares a secondary index for the given field in this database. Once an index exists for a field, lookups using
+   * {@link #find(String, String)} or {@link #find(Map)} on the field will use the index instead of scanning all
+   * documents in the database. The index is persistent and only needs to be declared once, subsequent declarations of
+   * the same index are ignored. Databases which do not support secondary indexes return false from this method.
+   *
+   * @param indexName the unique name of the index in this database.
+   * @param fieldName the name of the field to index.
+   * @return true if the index was created, false if the index already exists or indexes are not supported.
+   */
+  boolean index(@NonNull String indexName, @NonNull String fieldName);
 }
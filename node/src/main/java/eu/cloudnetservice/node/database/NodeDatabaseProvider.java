@@ -42,6 +42,7 @@ public abstract class NodeDatabaseProvider implements DatabaseProvider, Named, A
   };
 
   protected final Cache<String, LocalDatabase> databaseCache;
+  protected final DatabaseNearCacheRegistry nearCacheRegistry = new DatabaseNearCacheRegistry();
 
   protected NodeDatabaseProvider(@NonNull RemovalListener<String, LocalDatabase> removalListener) {
     this.databaseCache = Caffeine.newBuilder()
@@ -53,6 +54,15 @@ protected NodeDatabaseProvider(@NonNull RemovalListener<String, LocalDatabase> r
 
   public abstract boolean init() throws Exception;
 
+  public boolean sharedBetweenNodes() {
+    // by default the databases are stored locally on each node
+    return false;
+  }
+
+  public @NonNull DatabaseNearCacheRegistry nearCacheRegistry() {
+    return this.nearCacheRegistry;
+  }
+
   @Override
   public abstract @NonNull LocalDatabase database(@NonNull String name);
 
@@ -16,6 +16,8 @@
 
 package eu.cloudnetservice.node.database.h2;
 
+import com.google.common.base.Preconditions;
+import eu.cloudnetservice.driver.database.DatabaseChunk;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.sql.SQLDatabase;
@@ -24,6 +26,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,7 +55,9 @@ public void close() {
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
-    return this.insertOrUpdate(key, document);
+    var inserted = this.insertOrUpdate(key, document);
+    this.invalidateNearCaches(key);
+    return inserted;
   }
 
   private boolean insert0(@NonNull String key, @NonNull Document document) {
@@ -73,6 +78,30 @@ public boolean insertOrUpdate(String key, Document document) {
     return this.contains(key) ? this.update0(key, document) : this.insert0(key, document);
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> documents) {
+    if (documents.isEmpty()) {
+      return true;
+    }
+
+    List<Object[]> batch = new ArrayList<>(documents.size());
+    for (var entry : documents.entrySet()) {
+      batch.add(new Object[]{entry.getKey(), this.serializeDocumentToJsonString(entry.getValue())});
+    }
+
+    var inserted = this.databaseProvider.executeBatchUpdate(
+      String.format(
+        "MERGE INTO `%s` (%s, %s) KEY (%s) VALUES (?, ?);",
+        this.name,
+        TABLE_COLUMN_KEY,
+        TABLE_COLUMN_VAL,
+        TABLE_COLUMN_KEY),
+      batch) != -1;
+
+    this.invalidateNearCaches(null);
+    return inserted;
+  }
+
   @Override
   public boolean contains(@NonNull String key) {
     return this.databaseProvider.executeQuery(
@@ -88,10 +117,15 @@ public boolean delete(@NonNull String key) {
   }
 
   public boolean delete0(String key) {
-    return this.databaseProvider.executeUpdate(
+    var deleted = this.databaseProvider.executeUpdate(
       String.format("DELETE FROM `%s` WHERE %s = ?", this.name, TABLE_COLUMN_KEY),
       key
     ) > 0;
+
+    if (deleted) {
+      this.invalidateNearCaches(key);
+    }
+    return deleted;
   }
 
   @Override
@@ -221,6 +255,7 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
   @Override
   public void clear() {
     this.databaseProvider.executeUpdate(String.format("TRUNCATE TABLE `%s`", this.name));
+    this.invalidateNearCaches(null);
   }
 
   @Override
@@ -239,6 +274,37 @@ public boolean synced() {
   }
 
   @Override
+  public @Nullable DatabaseChunk readChunk(@Nullable String afterKey, int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "chunk size must be positive");
+
+    // seek directly to the given key instead of skipping all previous rows
+    var query = afterKey == null
+      ? String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ?;", this.name, TABLE_COLUMN_KEY)
+      : String.format(
+        "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ?;",
+        this.name,
+        TABLE_COLUMN_KEY,
+        TABLE_COLUMN_KEY);
+    var arguments = afterKey == null ? new Object[]{chunkSize} : new Object[]{afterKey, chunkSize};
+
+    return this.databaseProvider.executeQuery(
+      query,
+      resultSet -> {
+        String lastKey = null;
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          lastKey = resultSet.getString(TABLE_COLUMN_KEY);
+          result.put(lastKey, DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)));
+        }
+
+        return lastKey == null ? null : new DatabaseChunk(result, lastKey);
+      },
+      null,
+      arguments);
+  }
+
+  @Override
+  @Deprecated
   public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
     return this.databaseProvider.executeQuery(
       String.format("SELECT * FROM `%s` ORDER BY `%s` OFFSET ? LIMIT ?;", this.name, TABLE_COLUMN_KEY),
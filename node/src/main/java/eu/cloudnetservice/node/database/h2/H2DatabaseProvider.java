@@ -27,6 +27,7 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
 import lombok.NonNull;
@@ -64,7 +65,9 @@ public boolean init() throws Exception {
 
   @Override
   public boolean deleteDatabase(@NonNull String name) {
-    return this.executeUpdate("DROP TABLE IF EXISTS `" + name + "`") != -1;
+    var deleted = this.executeUpdate("DROP TABLE IF EXISTS `" + name + "`") != -1;
+    this.nearCacheRegistry.invalidate(name, null);
+    return deleted;
   }
 
   @Override
@@ -102,7 +105,7 @@ public void close() throws Exception {
   }
 
   @Override
-  public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
+  public synchronized int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     try (var preparedStatement = this.connection().prepareStatement(query)) {
       for (var i = 0; i < objects.length; i++) {
         preparedStatement.setString(i + 1, objects[i].toString());
@@ -116,7 +119,43 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
   }
 
   @Override
-  public @UnknownNullability <T> T executeQuery(
+  public synchronized int executeBatchUpdate(@NonNull String query, @NonNull Collection<Object[]> batch) {
+    // synchronized with the other statements, as they share the connection they would otherwise become part of the
+    // transaction of the batch
+    var connection = this.connection();
+    try (var preparedStatement = connection.prepareStatement(query)) {
+      for (var objects : batch) {
+        for (var i = 0; i < objects.length; i++) {
+          preparedStatement.setString(i + 1, objects[i].toString());
+        }
+        preparedStatement.addBatch();
+      }
+
+      // execute all statements in a single transaction, the connection must be in auto commit mode again afterwards
+      connection.setAutoCommit(false);
+      try {
+        var updateCounts = preparedStatement.executeBatch();
+        connection.commit();
+        return Arrays.stream(updateCounts).filter(count -> count > 0).sum();
+      } catch (SQLException exception) {
+        // undo the statements of the batch which were executed before the failing one
+        try {
+          connection.rollback();
+        } catch (SQLException rollbackException) {
+          exception.addSuppressed(rollbackException);
+        }
+        throw exception;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    } catch (SQLException exception) {
+      LOGGER.error("Exception while executing database batch update", exception);
+      return -1;
+    }
+  }
+
+  @Override
+  public synchronized @UnknownNullability <T> T executeQuery(
     @NonNull String query,
     @NonNull CheckedFunction1<ResultSet, T> callback,
     @Nullable T def,
@@ -16,7 +16,15 @@
 
 package eu.cloudnetservice.node.database.sql;
 
+import com.google.common.collect.Iterables;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.AbstractDatabase;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 
@@ -27,10 +35,63 @@ public abstract class SQLDatabase extends AbstractDatabase {
   protected static final String TABLE_COLUMN_KEY = "Name";
   protected static final String TABLE_COLUMN_VAL = "Document";
 
+  // the maximum amount of keys that are passed to a single statement, to stay below the parameter limit of databases
+  protected static final int MAX_KEYS_PER_STATEMENT = 500;
+
   protected final SQLDatabaseProvider databaseProvider;
 
   public SQLDatabase(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
     super(name, provider);
     this.databaseProvider = provider;
   }
+
+  @Override
+  public @NonNull Map<String, Document> getAll(@NonNull Collection<String> keys) {
+    Map<String, Document> documents = new LinkedHashMap<>();
+    for (var partition : Iterables.partition(keys, MAX_KEYS_PER_STATEMENT)) {
+      this.databaseProvider.executeQuery(
+        String.format(
+          "SELECT %s, %s FROM `%s` WHERE %s IN (%s);",
+          TABLE_COLUMN_KEY,
+          TABLE_COLUMN_VAL,
+          this.name,
+          TABLE_COLUMN_KEY,
+          this.parameterPlaceholders(partition)),
+        resultSet -> {
+          while (resultSet.next()) {
+            var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+            documents.put(resultSet.getString(TABLE_COLUMN_KEY), document);
+          }
+          return null;
+        },
+        null,
+        partition.toArray());
+    }
+
+    return documents;
+  }
+
+  @Override
+  public int deleteAll(@NonNull Collection<String> keys) {
+    var deleted = 0;
+    for (var partition : Iterables.partition(keys, MAX_KEYS_PER_STATEMENT)) {
+      var updatedRows = this.databaseProvider.executeUpdate(
+        String.format(
+          "DELETE FROM `%s` WHERE %s IN (%s);",
+          this.name,
+          TABLE_COLUMN_KEY,
+          this.parameterPlaceholders(partition)),
+        partition.toArray());
+      deleted += Math.max(updatedRows, 0);
+    }
+
+    if (deleted > 0) {
+      this.invalidateNearCaches(null);
+    }
+    return deleted;
+  }
+
+  protected @NonNull String parameterPlaceholders(@NonNull List<?> parameters) {
+    return String.join(", ", Collections.nCopies(parameters.size(), "?"));
+  }
 }
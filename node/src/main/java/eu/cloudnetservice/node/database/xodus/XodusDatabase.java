@@ -16,6 +16,8 @@
 
 package eu.cloudnetservice.node.database.xodus;
 
+import com.google.common.base.Preconditions;
+import eu.cloudnetservice.driver.database.DatabaseChunk;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.AbstractDatabase;
@@ -23,16 +25,20 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.ByteIterable;
 import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.Store;
+import jetbrains.exodus.env.Transaction;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,21 +46,46 @@ public class XodusDatabase extends AbstractDatabase {
 
   protected final Environment environment;
   protected final AtomicReference<Store> store;
+  protected final XodusDatabaseProvider provider;
+  protected final Map<String, XodusIndex> indexes;
 
-  protected XodusDatabase(@NonNull String name, @NonNull Store store, @NonNull XodusDatabaseProvider provider) {
+  protected XodusDatabase(
+    @NonNull String name,
+    @NonNull Store store,
+    @NonNull Collection<XodusIndex> indexes,
+    @NonNull XodusDatabaseProvider provider
+  ) {
     super(name, provider);
 
+    this.provider = provider;
     this.environment = store.getEnvironment();
     this.store = new AtomicReference<>(store);
+
+    this.indexes = new ConcurrentHashMap<>();
+    indexes.forEach(index -> this.indexes.put(index.name(), index));
   }
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
-    return this.environment.computeInExclusiveTransaction(
-      txn -> this.store().put(
-        txn,
-        StringBinding.stringToEntry(key),
-        new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8))));
+    var keyEntry = StringBinding.stringToEntry(key);
+    var serializedDocument = this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8);
+
+    var inserted = this.environment.computeInExclusiveTransaction(txn -> {
+      // remove the index entries of the previous document & add the entries for the new one
+      if (!this.indexes.isEmpty()) {
+        var previous = this.store().get(txn, keyEntry);
+        if (previous != null) {
+          this.removeIndexEntries(txn, keyEntry, DocumentFactory.json().parse(previous.getBytesUnsafe()));
+        }
+
+        this.putIndexEntries(txn, keyEntry, document);
+      }
+
+      return this.store().put(txn, keyEntry, new ArrayByteIterable(serializedDocument));
+    });
+
+    this.invalidateNearCaches(key);
+    return inserted;
   }
 
   @Override
@@ -65,7 +96,25 @@ public boolean contains(@NonNull String key) {
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.environment.computeInTransaction(txn -> this.store().delete(txn, StringBinding.stringToEntry(key)));
+    var keyEntry = StringBinding.stringToEntry(key);
+    boolean deleted;
+    if (this.indexes.isEmpty()) {
+      deleted = this.environment.computeInTransaction(txn -> this.store().delete(txn, keyEntry));
+    } else {
+      deleted = this.environment.computeInExclusiveTransaction(txn -> {
+        var previous = this.store().get(txn, keyEntry);
+        if (previous != null) {
+          this.removeIndexEntries(txn, keyEntry, DocumentFactory.json().parse(previous.getBytesUnsafe()));
+        }
+
+        return this.store().delete(txn, keyEntry);
+      });
+    }
+
+    if (deleted) {
+      this.invalidateNearCaches(key);
+    }
+    return deleted;
   }
 
   @Override
@@ -76,8 +125,98 @@ public boolean delete(@NonNull String key) {
     });
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> documents) {
+    if (documents.isEmpty()) {
+      return true;
+    }
+
+    // serialize the documents before opening the transaction to keep the exclusive lock as short as possible
+    Map<String, ByteIterable> serializedDocuments = new LinkedHashMap<>();
+    for (var entry : documents.entrySet()) {
+      var serializedDocument = this.serializeDocumentToJsonString(entry.getValue()).getBytes(StandardCharsets.UTF_8);
+      serializedDocuments.put(entry.getKey(), new ArrayByteIterable(serializedDocument));
+    }
+
+    var inserted = this.environment.computeInExclusiveTransaction(txn -> {
+      var allInserted = true;
+      for (var entry : serializedDocuments.entrySet()) {
+        var keyEntry = StringBinding.stringToEntry(entry.getKey());
+        // remove the index entries of the previous document & add the entries for the new one
+        if (!this.indexes.isEmpty()) {
+          var previous = this.store().get(txn, keyEntry);
+          if (previous != null) {
+            this.removeIndexEntries(txn, keyEntry, DocumentFactory.json().parse(previous.getBytesUnsafe()));
+          }
+
+          this.putIndexEntries(txn, keyEntry, documents.get(entry.getKey()));
+        }
+
+        allInserted &= this.store().put(txn, keyEntry, entry.getValue());
+      }
+
+      return allInserted;
+    });
+
+    // a single invalidation of the whole database is cheaper than one message per key
+    this.invalidateNearCaches(null);
+    return inserted;
+  }
+
+  @Override
+  public @NonNull Map<String, Document> getAll(@NonNull Collection<String> keys) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      Map<String, Document> documents = new LinkedHashMap<>();
+      for (var key : keys) {
+        var entry = this.store().get(txn, StringBinding.stringToEntry(key));
+        if (entry != null) {
+          documents.put(key, DocumentFactory.json().parse(entry.getBytesUnsafe()));
+        }
+      }
+
+      return documents;
+    });
+  }
+
+  @Override
+  public int deleteAll(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+
+    int deleted = this.environment.computeInExclusiveTransaction(txn -> {
+      var deletedKeys = 0;
+      for (var key : keys) {
+        var keyEntry = StringBinding.stringToEntry(key);
+        if (!this.indexes.isEmpty()) {
+          var previous = this.store().get(txn, keyEntry);
+          if (previous != null) {
+            this.removeIndexEntries(txn, keyEntry, DocumentFactory.json().parse(previous.getBytesUnsafe()));
+          }
+        }
+
+        if (this.store().delete(txn, keyEntry)) {
+          deletedKeys++;
+        }
+      }
+
+      return deletedKeys;
+    });
+
+    if (deleted > 0) {
+      this.invalidateNearCaches(null);
+    }
+    return deleted;
+  }
+
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    // null values are never indexed, only use the index if a value is given
+    var index = fieldValue == null ? null : this.findIndex(fieldName);
+    if (index != null) {
+      return this.findWithIndex(index, fieldValue, Map.of());
+    }
+
     return this.handleWithCursor(($, document) -> {
       if (Objects.equals(document.getString(fieldName), fieldValue)) {
         return document;
@@ -88,15 +227,15 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public @NonNull List<Document> find(@NonNull Map<String, String> filters) {
-    var entries = filters.entrySet();
-    return this.handleWithCursor(($, document) -> {
-      for (var entry : entries) {
-        if (!Objects.equals(document.getString(entry.getKey()), entry.getValue())) {
-          return null;
-        }
+    // check if one of the filters can be resolved using an index
+    for (var filter : filters.entrySet()) {
+      var index = filter.getValue() == null ? null : this.findIndex(filter.getKey());
+      if (index != null) {
+        return this.findWithIndex(index, filter.getValue(), filters);
       }
-      return document;
-    });
+    }
+
+    return this.handleWithCursor(($, document) -> this.matchesFilters(document, filters) ? document : null);
   }
 
   @Override
@@ -126,6 +265,45 @@ public void clear() {
     this.environment.executeInExclusiveTransaction(txn -> {
       this.environment.truncateStore(this.name, txn);
       this.store.set(this.environment.openStore(this.name, this.store().getConfig(), txn));
+
+      // clear all indexes as well
+      for (var index : this.indexes.values()) {
+        var indexStore = index.store().get();
+        this.environment.truncateStore(indexStore.getName(), txn);
+        index.store().set(this.environment.openStore(indexStore.getName(), indexStore.getConfig(), txn));
+      }
+    });
+    this.invalidateNearCaches(null);
+  }
+
+  @Override
+  public boolean index(@NonNull String indexName, @NonNull String fieldName) {
+    if (this.indexes.containsKey(indexName)) {
+      return false;
+    }
+
+    return this.environment.computeInExclusiveTransaction(txn -> {
+      // re-check in the transaction, another thread might have created the index in the meantime
+      if (this.indexes.containsKey(indexName)) {
+        return false;
+      }
+
+      var index = this.provider.createIndex(this.name, indexName, fieldName, txn);
+      var indexStore = index.store().get();
+
+      // populate the new index with all documents that are already in the database
+      try (var cursor = this.store().openCursor(txn)) {
+        while (cursor.getNext()) {
+          var document = DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe());
+          var fieldValue = document.getString(fieldName);
+          if (fieldValue != null) {
+            indexStore.put(txn, StringBinding.stringToEntry(fieldValue), new ArrayByteIterable(cursor.getKey()));
+          }
+        }
+      }
+
+      this.indexes.put(indexName, index);
+      return true;
     });
   }
 
@@ -167,6 +345,7 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
   }
 
   @Override
+  @Deprecated
   public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
     return this.environment.computeInReadonlyTransaction(txn -> {
       try (var cursor = this.store().openCursor(txn)) {
@@ -192,7 +371,116 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
     });
   }
 
+  @Override
+  public @Nullable DatabaseChunk readChunk(@Nullable String afterKey, int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "chunk size must be positive");
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      try (var cursor = this.store().openCursor(txn)) {
+        // seek to the first key which is greater than the given key
+        boolean hasEntry;
+        if (afterKey == null) {
+          hasEntry = cursor.getNext();
+        } else {
+          var afterKeyEntry = StringBinding.stringToEntry(afterKey);
+          hasEntry = cursor.getSearchKeyRange(afterKeyEntry) != null;
+          if (hasEntry && cursor.getKey().compareTo(afterKeyEntry) == 0) {
+            hasEntry = cursor.getNext();
+          }
+        }
+
+        String lastKey = null;
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (hasEntry && result.size() < chunkSize) {
+          lastKey = StringBinding.entryToString(cursor.getKey());
+          result.put(lastKey, DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+          hasEntry = cursor.getNext();
+        }
+
+        return lastKey == null ? null : new DatabaseChunk(result, lastKey);
+      }
+    });
+  }
+
   protected @NonNull Store store() {
     return this.store.get();
   }
+
+  protected @Nullable XodusIndex findIndex(@NonNull String fieldName) {
+    for (var index : this.indexes.values()) {
+      if (index.fieldName().equals(fieldName)) {
+        return index;
+      }
+    }
+    return null;
+  }
+
+  protected @NonNull List<Document> findWithIndex(
+    @NonNull XodusIndex index,
+    @NonNull String fieldValue,
+    @NonNull Map<String, String> filters
+  ) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      List<Document> result = new ArrayList<>();
+      try (var cursor = index.store().get().openCursor(txn)) {
+        if (cursor.getSearchKey(StringBinding.stringToEntry(fieldValue)) == null) {
+          return result;
+        }
+
+        do {
+          var entry = this.store().get(txn, cursor.getValue());
+          if (entry != null) {
+            var document = DocumentFactory.json().parse(entry.getBytesUnsafe());
+            if (this.matchesFilters(document, filters)) {
+              result.add(document);
+            }
+          }
+        } while (cursor.getNextDup());
+      }
+      return result;
+    });
+  }
+
+  protected boolean matchesFilters(@NonNull Document document, @NonNull Map<String, String> filters) {
+    for (var entry : filters.entrySet()) {
+      if (!Objects.equals(document.getString(entry.getKey()), entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected void putIndexEntries(@NonNull Transaction txn, @NonNull ByteIterable key, @NonNull Document document) {
+    for (var index : this.indexes.values()) {
+      var fieldValue = document.getString(index.fieldName());
+      if (fieldValue != null) {
+        index.store().get().put(txn, StringBinding.stringToEntry(fieldValue), key);
+      }
+    }
+  }
+
+  protected void removeIndexEntries(@NonNull Transaction txn, @NonNull ByteIterable key, @NonNull Document document) {
+    for (var index : this.indexes.values()) {
+      var fieldValue = document.getString(index.fieldName());
+      if (fieldValue != null) {
+        try (var cursor = index.store().get().openCursor(txn)) {
+          if (cursor.getSearchBoth(StringBinding.stringToEntry(fieldValue), key)) {
+            cursor.deleteCurrent();
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * A secondary index of a xodus database, mapping the value of the indexed field to the keys of all documents which
+   * have the value set for the field.
+   *
+   * @param name      the name of the index.
+   * @param fieldName the name of the indexed document field.
+   * @param store     the store holding the index entries.
+   * @since 4.0
+   */
+  protected record XodusIndex(@NonNull String name, @NonNull String fieldName, @NonNull AtomicReference<Store> store) {
+
+  }
 }
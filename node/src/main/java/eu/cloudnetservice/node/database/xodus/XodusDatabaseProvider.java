@@ -17,19 +17,34 @@
 package eu.cloudnetservice.node.database.xodus;
 
 import eu.cloudnetservice.common.language.I18n;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
 import eu.cloudnetservice.node.database.LocalDatabase;
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import eu.cloudnetservice.node.database.util.LocalDatabaseUtil;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.EnvironmentConfig;
 import jetbrains.exodus.env.Environments;
+import jetbrains.exodus.env.Store;
 import jetbrains.exodus.env.StoreConfig;
+import jetbrains.exodus.env.Transaction;
 import lombok.NonNull;
 
 public class XodusDatabaseProvider extends NodeDatabaseProvider {
 
+  protected static final String INTERNAL_STORE_PREFIX = "cloudnet_internal$";
+  protected static final String INDEX_STORE_PREFIX = INTERNAL_STORE_PREFIX + "index$";
+  protected static final String INDEX_DEFINITIONS_STORE_NAME = INTERNAL_STORE_PREFIX + "index_definitions";
+
   protected final boolean runsInCluster;
   protected final File databaseDirectory;
 
@@ -64,7 +79,7 @@ public boolean init() {
   public @NonNull LocalDatabase database(@NonNull String name) {
     return this.databaseCache.get(name, $ -> this.environment.computeInTransaction(txn -> {
       var store = this.environment.openStore(name, StoreConfig.WITHOUT_DUPLICATES_WITH_PREFIXING, txn);
-      return new XodusDatabase(name, store, this);
+      return new XodusDatabase(name, store, this.openIndexes(name, txn), this);
     }));
   }
 
@@ -76,14 +91,33 @@ public boolean containsDatabase(@NonNull String name) {
   @Override
   public boolean deleteDatabase(@NonNull String name) {
     this.databaseCache.invalidate(name);
-    this.environment.executeInTransaction(txn -> this.environment.removeStore(name, txn));
-
+    this.environment.executeInTransaction(txn -> {
+      this.environment.removeStore(name, txn);
+
+      // remove all indexes of the database
+      var definitions = this.readIndexDefinitions(name, txn);
+      for (var indexName : definitions.keys()) {
+        var indexStoreName = this.indexStoreName(name, indexName);
+        if (this.environment.storeExists(indexStoreName, txn)) {
+          this.environment.removeStore(indexStoreName, txn);
+        }
+      }
+
+      if (!definitions.empty()) {
+        this.indexDefinitionsStore(txn).delete(txn, StringBinding.stringToEntry(name));
+      }
+    });
+
+    this.nearCacheRegistry.invalidate(name, null);
     return true;
   }
 
   @Override
   public @NonNull Collection<String> databaseNames() {
-    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn));
+    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn)
+      .stream()
+      .filter(name -> !name.startsWith(INTERNAL_STORE_PREFIX))
+      .toList());
   }
 
   @Override
@@ -96,4 +130,65 @@ public void close() throws Exception {
   public @NonNull String name() {
     return "xodus";
   }
+
+  protected @NonNull XodusDatabase.XodusIndex createIndex(
+    @NonNull String database,
+    @NonNull String indexName,
+    @NonNull String fieldName,
+    @NonNull Transaction txn
+  ) {
+    // persist the index definition to re-open the index when the database is opened again
+    var definitions = Document.newJsonDocument()
+      .append(this.readIndexDefinitions(database, txn))
+      .append(indexName, fieldName);
+    this.indexDefinitionsStore(txn).put(
+      txn,
+      StringBinding.stringToEntry(database),
+      new ArrayByteIterable(
+        definitions.serializeToString(StandardSerialisationStyle.COMPACT).getBytes(StandardCharsets.UTF_8)));
+
+    return this.openIndex(database, indexName, fieldName, txn);
+  }
+
+  protected @NonNull Collection<XodusDatabase.XodusIndex> openIndexes(
+    @NonNull String database,
+    @NonNull Transaction txn
+  ) {
+    var definitions = this.readIndexDefinitions(database, txn);
+    List<XodusDatabase.XodusIndex> indexes = new ArrayList<>(definitions.elementCount());
+    for (var indexName : definitions.keys()) {
+      indexes.add(this.openIndex(database, indexName, definitions.getString(indexName), txn));
+    }
+    return indexes;
+  }
+
+  protected @NonNull XodusDatabase.XodusIndex openIndex(
+    @NonNull String database,
+    @NonNull String indexName,
+    @NonNull String fieldName,
+    @NonNull Transaction txn
+  ) {
+    var store = this.environment.openStore(
+      this.indexStoreName(database, indexName),
+      StoreConfig.WITH_DUPLICATES_WITH_PREFIXING,
+      txn);
+    return new XodusDatabase.XodusIndex(indexName, fieldName, new AtomicReference<>(store));
+  }
+
+  protected @NonNull Document readIndexDefinitions(@NonNull String database, @NonNull Transaction txn) {
+    if (!this.environment.storeExists(INDEX_DEFINITIONS_STORE_NAME, txn)) {
+      return Document.emptyDocument();
+    }
+
+    var entry = this.indexDefinitionsStore(txn).get(txn, StringBinding.stringToEntry(database));
+    return entry == null ? Document.emptyDocument() : DocumentFactory.json().parse(entry.getBytesUnsafe());
+  }
+
+  protected @NonNull Store indexDefinitionsStore(@NonNull Transaction txn) {
+    return this.environment.openStore(INDEX_DEFINITIONS_STORE_NAME, StoreConfig.WITHOUT_DUPLICATES, txn);
+  }
+
+  protected @NonNull String indexStoreName(@NonNull String database, @NonNull String indexName) {
+    return INDEX_STORE_PREFIX + database + '$' + indexName;
+  }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.event.service;
+
+import eu.cloudnetservice.node.service.CloudService;
+import java.time.Duration;
+import lombok.NonNull;
+
+public final class CloudServicePrepareStageEvent extends CloudServiceEvent {
+
+  private final Stage stage;
+  private final Duration duration;
+
+  public CloudServicePrepareStageEvent(
+    @NonNull CloudService service,
+    @NonNull Stage stage,
+    @NonNull Duration duration
+  ) {
+    super(service);
+
+    this.stage = stage;
+    this.duration = duration;
+  }
+
+  public @NonNull Stage stage() {
+    return this.stage;
+  }
+
+  public @NonNull Duration duration() {
+    return this.duration;
+  }
+
+  public enum Stage {
+
+    /**
+     * Creation of the service directories and scheduling of the inclusion downloads and remote template pulls.
+     */
+    SETUP,
+    /**
+     * Waiting for the inclusion downloads and copying the inclusions into the service directory.
+     */
+    INCLUSIONS,
+    /**
+     * Waiting for the remote template pulls and applying all templates in order to the service directory.
+     */
+    TEMPLATES,
+    /**
+     * Running the configuration preparer and writing the wrapper configuration.
+     */
+    CONFIGURATION
+  }
+}
@@ -19,19 +19,29 @@
 import eu.cloudnetservice.common.language.I18n;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
-import eu.cloudnetservice.driver.cluster.NodeInfoSnapshot;
 import eu.cloudnetservice.driver.event.EventListener;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
+import eu.cloudnetservice.driver.event.events.network.NetworkChannelCloseEvent;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.sync.DataSyncRegistry;
+import eu.cloudnetservice.node.cluster.task.LocalNodeUpdateTask;
+import eu.cloudnetservice.node.cluster.util.NodeInfoSnapshotDelta;
 import eu.cloudnetservice.node.config.Configuration;
+import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import eu.cloudnetservice.node.event.cluster.NetworkClusterNodeInfoUpdateEvent;
 import eu.cloudnetservice.node.provider.NodeClusterNodeProvider;
+import eu.cloudnetservice.node.provider.NodeMessenger;
+import io.leangen.geantyref.TypeFactory;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,26 +50,38 @@
 public final class NodeChannelMessageListener {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(NodeChannelMessageListener.class);
+  private static final Type STRING_COLLECTION = TypeFactory.parameterizedClass(Collection.class, String.class);
 
+  private final NodeMessenger messenger;
   private final EventManager eventManager;
   private final Configuration configuration;
   private final DataSyncRegistry dataSyncRegistry;
   private final NodeClusterNodeProvider nodeInfoProvider;
   private final NodeServerProvider nodeServerProvider;
+  private final LocalNodeUpdateTask localNodeUpdateTask;
+  private final Provider<NodeDatabaseProvider> databaseProvider;
+
+  private final Map<String, NodeInfoSnapshotDelta.VersionedSnapshot> receivedNodeSnapshots = new ConcurrentHashMap<>();
 
   @Inject
   public NodeChannelMessageListener(
+    @NonNull NodeMessenger messenger,
     @NonNull EventManager eventManager,
     @NonNull Configuration configuration,
     @NonNull DataSyncRegistry dataSyncRegistry,
     @NonNull NodeClusterNodeProvider nodeInfoProvider,
-    @NonNull NodeServerProvider nodeServerProvider
+    @NonNull NodeServerProvider nodeServerProvider,
+    @NonNull LocalNodeUpdateTask localNodeUpdateTask,
+    @NonNull Provider<NodeDatabaseProvider> databaseProvider
   ) {
+    this.messenger = messenger;
     this.eventManager = eventManager;
     this.configuration = configuration;
     this.dataSyncRegistry = dataSyncRegistry;
     this.nodeInfoProvider = nodeInfoProvider;
     this.nodeServerProvider = nodeServerProvider;
+    this.localNodeUpdateTask = localNodeUpdateTask;
+    this.databaseProvider = databaseProvider;
   }
 
   @EventListener
@@ -68,15 +90,49 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
       switch (event.message()) {
         // update a single node info snapshot
         case "update_node_info_snapshot" -> {
-          var snapshot = event.content().readObject(NodeInfoSnapshot.class);
           // get the associated node server
-          var server = this.nodeServerProvider.node(snapshot.node().uniqueId());
+          var server = this.nodeServerProvider.node(event.sender().name());
           if (server != null) {
-            server.updateNodeInfoSnapshot(snapshot);
-            this.eventManager.callEvent(new NetworkClusterNodeInfoUpdateEvent(event.networkChannel(), snapshot));
+            // deltas can't be applied if the snapshot of the node was reset in the meantime (for example on reconnect)
+            var nodeId = server.info().uniqueId();
+            var current = server.nodeInfoSnapshot() == null ? null : this.receivedNodeSnapshots.get(nodeId);
+
+            var update = NodeInfoSnapshotDelta.read(event.content(), current);
+            if (update != null) {
+              this.receivedNodeSnapshots.put(nodeId, update);
+              server.updateNodeInfoSnapshot(update.snapshot());
+              this.eventManager.callEvent(
+                new NetworkClusterNodeInfoUpdateEvent(event.networkChannel(), update.snapshot()));
+            } else {
+              // we missed a version of the snapshot, request a full snapshot from the node
+              this.receivedNodeSnapshots.remove(nodeId);
+              ChannelMessage.builder()
+                .message("request_node_info_snapshot_keyframe")
+                .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+                .targetNode(nodeId)
+                .build()
+                .send();
+            }
           }
         }
 
+        // a node is unable to apply the delta updates of the local node snapshot
+        case "request_node_info_snapshot_keyframe" -> this.localNodeUpdateTask.requestKeyframe();
+
+        // a local service announced the channels it has listeners for
+        case "update_channel_subscriptions" -> this.messenger.updateChannelSubscriptions(
+          event.networkChannel(),
+          event.content().readObject(STRING_COLLECTION));
+
+        // a local service caches entries of a database and wants to be notified about changes to it
+        case "register_database_near_cache" -> this.databaseProvider.get().nearCacheRegistry().register(
+          event.content().readString(),
+          event.networkChannel());
+
+        // an entry of a database which is shared between the nodes was changed on another node
+        case "forward_database_near_cache_invalidation" -> this.databaseProvider.get().nearCacheRegistry()
+          .invalidateLocally(event.content().readString(), event.content().readNullable(DataBuf::readString));
+
         // handles the sync requests of cluster data
         case "sync_cluster_data" -> {
           // handle the sync and send back the data to override on the caller
@@ -143,4 +199,11 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
       }
     }
   }
+
+  @EventListener
+  public void handleChannelClose(@NonNull NetworkChannelCloseEvent event) {
+    // the subscriptions and near cache registrations are bound to the connection of the service
+    this.messenger.removeChannelSubscriptions(event.networkChannel());
+    this.databaseProvider.get().nearCacheRegistry().unregister(event.networkChannel());
+  }
 }
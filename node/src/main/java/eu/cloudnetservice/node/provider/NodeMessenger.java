@@ -37,8 +37,10 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.NonNull;
@@ -52,6 +54,9 @@ public class NodeMessenger extends DefaultMessenger implements CloudMessenger {
   protected final NodeServerProvider nodeServerProvider;
   protected final CloudServiceManager cloudServiceManager;
 
+  // the channels local services are subscribed to, services without an entry are receiving all channel messages
+  protected final Map<NetworkChannel, Set<String>> channelSubscriptions = new ConcurrentHashMap<>();
+
   @Inject
   public NodeMessenger(
     @NonNull NodeServerProvider nodeServerProvider,
@@ -78,24 +83,29 @@ public void sendChannelMessage(@NonNull ChannelMessage message) {
 
   public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClusterRedirect) {
     // find the target channels to send the message to
-    var channels = this.findChannels(message.targets(), allowClusterRedirect);
-    for (var channel : channels) {
-      // acquire the message content for each channel we're sending the message to
-      // when writing the message content to the target buffer, the message is released
-      // that means when the message was written to all channels it's released unless someone acquired it before
-      message.content().acquire();
+    var channels = this.findChannels(message, allowClusterRedirect);
+    if (channels.isEmpty()) {
+      // no target channels found, release the message now
+      message.content().release();
+      return;
+    }
 
-      // construct and send the packet
-      var packet = new PacketServerChannelMessage(message, false);
-      if (message.sendSync()) {
-        channel.sendPacketSync(packet);
-      } else {
-        channel.sendPacket(packet);
+    // serialize the message only once (which releases the message content) and share the result between all packets
+    var serializedMessage = PacketServerChannelMessage.serialize(message, false);
+    try {
+      for (var channel : channels) {
+        // construct and send the packet
+        var packet = new PacketServerChannelMessage(message.prioritized(), serializedMessage);
+        if (message.sendSync()) {
+          channel.sendPacketSync(packet);
+        } else {
+          channel.sendPacket(packet);
+        }
       }
+    } finally {
+      // each packet holds its own view of the content, release the serialized message now
+      serializedMessage.release();
     }
-
-    // release the message now
-    message.content().release();
   }
 
   public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
@@ -103,7 +113,7 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
     boolean allowClusterRedirect
   ) {
     // find the target channels to send the message to
-    var channels = this.findChannels(message.targets(), allowClusterRedirect);
+    var channels = this.findChannels(message, allowClusterRedirect);
     if (channels.isEmpty()) {
       // no target channels found, release the message now
       message.content().release();
@@ -113,49 +123,85 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       Set<ChannelMessage> result = new HashSet<>();
       var task = new CountingTask<Collection<ChannelMessage>>(result, channels.size());
 
-      // send the packet to each channel
-      for (var channel : channels) {
-        // acquire the message content for each channel we're sending the message to
-        // when writing the message content to the target buffer, the message is released
-        // that means when the message was written to all channels it's released unless someone acquired it before
-        message.content().acquire();
+      // serialize the message only once (which releases the message content) and share the result between all packets
+      var serializedMessage = PacketServerChannelMessage.serialize(message, false);
+      try {
+        // send the packet to each channel
+        for (var channel : channels) {
+          var packet = new PacketServerChannelMessage(message.prioritized(), serializedMessage);
+          channel.sendQueryAsync(packet).whenComplete((response, th) -> {
+            // check if we got an actual result from the request
+            if (th == null && response.readable()) {
+              // add all resulting messages we got
+              result.addAll(response.content().readObject(COL_MSG));
+            }
 
-        channel.sendQueryAsync(new PacketServerChannelMessage(message, false)).whenComplete((packet, th) -> {
-          // check if we got an actual result from the request
-          if (th == null && packet.readable()) {
-            // add all resulting messages we got
-            result.addAll(packet.content().readObject(COL_MSG));
-          }
-
-          // count down - one channel responded
-          task.countDown();
-        });
+            // count down - one channel responded
+            task.countDown();
+          });
+        }
+      } finally {
+        // each packet holds its own view of the content, release the serialized message now
+        serializedMessage.release();
       }
 
-      // release the message now
-      message.content().release();
-
       // return the task on which the user can wait
       return task;
     }
   }
 
+  public void updateChannelSubscriptions(@NonNull NetworkChannel channel, @NonNull Collection<String> channels) {
+    this.channelSubscriptions.put(channel, Set.copyOf(channels));
+  }
+
+  public void removeChannelSubscriptions(@NonNull NetworkChannel channel) {
+    this.channelSubscriptions.remove(channel);
+  }
+
   protected @NonNull Collection<NetworkChannel> findChannels(
-    @NonNull Collection<ChannelMessageTarget> targets,
+    @NonNull ChannelMessage message,
     boolean allowClusterRedirect
   ) {
     // check if there is only one channel
+    var targets = message.targets();
     if (targets.size() == 1) {
       // get the target - we can suppress the nullable warning because we expect the collection to not contain null values
-      return this.findTargetChannels(Iterables.getOnlyElement(targets), allowClusterRedirect);
+      var target = Iterables.getOnlyElement(targets);
+      return this.filterSubscribedChannels(
+        target,
+        message.channel(),
+        this.findTargetChannels(target, allowClusterRedirect));
     } else {
       // filter all the channels for the targets
       return targets.stream()
-        .flatMap(target -> this.findTargetChannels(target, allowClusterRedirect).stream())
+        .flatMap(target -> this.filterSubscribedChannels(
+          target,
+          message.channel(),
+          this.findTargetChannels(target, allowClusterRedirect)).stream())
         .collect(Collectors.toSet());
     }
   }
 
+  protected @NonNull Collection<NetworkChannel> filterSubscribedChannels(
+    @NonNull ChannelMessageTarget target,
+    @NonNull String messageChannel,
+    @NonNull Collection<NetworkChannel> channels
+  ) {
+    // messages sent directly to a component are always delivered, nodes never announce subscriptions
+    var directTarget = target.type() == ChannelMessageTarget.Type.NODE
+      || (target.type() == ChannelMessageTarget.Type.SERVICE && target.name() != null);
+    if (directTarget || this.channelSubscriptions.isEmpty()) {
+      return channels;
+    }
+
+    return channels.stream()
+      .filter(channel -> {
+        var subscriptions = this.channelSubscriptions.get(channel);
+        return subscriptions == null || subscriptions.contains(messageChannel);
+      })
+      .collect(Collectors.toSet());
+  }
+
   protected @NonNull Collection<NetworkChannel> findTargetChannels(
     @NonNull ChannelMessageTarget target,
     boolean allowClusterRedirect
@@ -43,6 +43,8 @@
 import eu.cloudnetservice.driver.service.ServiceRemoteInclusion;
 import eu.cloudnetservice.driver.service.ServiceTask;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
+import eu.cloudnetservice.driver.template.TemplateStorage;
 import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.event.service.CloudServiceCreateEvent;
@@ -52,33 +54,43 @@
 import eu.cloudnetservice.node.event.service.CloudServicePreLifecycleEvent;
 import eu.cloudnetservice.node.event.service.CloudServicePreLoadInclusionEvent;
 import eu.cloudnetservice.node.event.service.CloudServicePrePrepareEvent;
+import eu.cloudnetservice.node.event.service.CloudServicePrepareStageEvent;
 import eu.cloudnetservice.node.event.service.CloudServiceTemplateLoadEvent;
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import eu.cloudnetservice.node.template.LocalTemplateStorage;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
+import io.leangen.geantyref.TypeFactory;
+import java.io.IOException;
+import java.lang.reflect.Type;
 import java.net.Inet6Address;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Base64;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 import kong.unirest.core.Unirest;
-import kong.unirest.core.UnirestException;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -89,9 +101,18 @@ public abstract class AbstractService implements CloudService {
   protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractService.class);
 
   protected static final Path INCLUSION_TEMP_DIR = FileUtil.TEMP_DIR.resolve("inclusions");
+  protected static final Path TEMPLATE_STAGING_DIR = FileUtil.TEMP_DIR.resolve("template-staging");
+  protected static final ExecutorService PREPARE_EXECUTOR = Executors.newThreadPerTaskExecutor(
+    Thread.ofVirtual().name("service-prepare-", 0).factory());
   protected static final Path WRAPPER_CONFIG_PATH = Path.of(".wrapper", "wrapper.json");
   protected static final BiPredicate<String, Pattern> FILE_MATCHER_PREDICATE =
     (fileName, pattern) -> pattern.matcher(fileName).matches();
+  protected static final Type THREAD_SNAPSHOTS = TypeFactory.parameterizedClass(Collection.class, ThreadSnapshot.class);
+
+  private static final InclusionCache INCLUSION_CACHE = new InclusionCache(
+    INCLUSION_TEMP_DIR,
+    Long.getLong("cloudnet.inclusions.cache-max-size-mb", 1024) * 1024 * 1024,
+    Long.getLong("cloudnet.inclusions.revalidate-seconds", 60) * 1000);
 
   protected final String connectionKey;
   protected final Path pluginDirectory;
@@ -202,6 +223,24 @@ public boolean valid() {
     }
   }
 
+  @Override
+  public @NonNull Collection<ThreadSnapshot> threadSnapshots() {
+    // check if the service is able to serve the request
+    if (this.networkChannel != null) {
+      var response = ChannelMessage.builder()
+        .targetService(this.serviceId().name())
+        .message("request_thread_snapshots")
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .build()
+        .sendSingleQuery();
+      if (response != null) {
+        return response.content().readObject(THREAD_SNAPSHOTS);
+      }
+    }
+
+    return List.of();
+  }
+
   @Override
   public void addServiceTemplate(@NonNull ServiceTemplate serviceTemplate) {
     this.waitingTemplates.add(serviceTemplate);
@@ -329,6 +368,21 @@ public void includeWaitingServiceTemplates() {
 
   @Override
   public void includeWaitingServiceTemplates(boolean force) {
+    this.applyServiceTemplates(this.fetchWaitingServiceTemplates(force));
+  }
+
+  @Override
+  public void includeWaitingServiceInclusions() {
+    var pendingInclusions = this.fetchWaitingServiceInclusions();
+    try {
+      this.applyServiceInclusions(pendingInclusions);
+    } finally {
+      this.releaseServiceInclusions(pendingInclusions);
+    }
+  }
+
+  protected @NonNull List<PendingTemplate> fetchWaitingServiceTemplates(boolean force) {
+    List<PendingTemplate> pendingTemplates = new ArrayList<>();
     this.waitingTemplates.stream()
       .filter(template -> {
         // always allow manual requests & non-static service copies
@@ -345,59 +399,156 @@ public void includeWaitingServiceTemplates(boolean force) {
         // check if we should load the template
         var storage = template.storage();
         if (!this.eventManager.callEvent(new CloudServiceTemplateLoadEvent(this, storage, template)).cancelled()) {
-          // the event is not cancelled - copy the template
-          storage.pull(template, this.serviceDirectory);
-          // we've pulled the template
-          this.installedTemplates.add(template);
+          // templates of remote storages are pulled in parallel into a staging directory, they are applied in order
+          // later as templates with a higher priority are allowed to override files of the previous templates
+          Path stagingDirectory = null;
+          Future<?> stagedPull = null;
+          if (!(storage instanceof LocalTemplateStorage)) {
+            var directory = TEMPLATE_STAGING_DIR.resolve(UUID.randomUUID().toString());
+            stagedPull = PREPARE_EXECUTOR.submit(() -> {
+              try {
+                // files linked into the staging directory stay linked when they are moved into the service directory
+                this.pullTemplate(template, storage, directory);
+              } finally {
+                // the pull was cancelled while running, remove the files that were pulled until then
+                if (Thread.currentThread().isInterrupted()) {
+                  FileUtil.delete(directory);
+                }
+              }
+            });
+            stagingDirectory = directory;
+          }
+
+          pendingTemplates.add(new PendingTemplate(template, storage, stagingDirectory, stagedPull));
         }
       });
+    return pendingTemplates;
   }
 
-  @Override
-  public void includeWaitingServiceInclusions() {
-    ServiceRemoteInclusion inclusion;
-    while ((inclusion = this.waitingRemoteInclusions.poll()) != null) {
-      // prepare the connection from which we load the inclusion
-      var req = Unirest.get(inclusion.url());
-      // put the given http headers
-      var headers = inclusion.readPropertyOrDefault(ServiceRemoteInclusion.HEADERS, Map.of());
-      for (var entry : headers.entrySet()) {
-        req.header(entry.getKey(), entry.getValue());
+  protected void applyServiceTemplates(@NonNull List<PendingTemplate> pendingTemplates) {
+    try {
+      for (var pendingTemplate : pendingTemplates) {
+        var template = pendingTemplate.template();
+        var storage = pendingTemplate.storage();
+        if (pendingTemplate.stagedPull() != null) {
+          // wait for the remote pull to complete and move the files into the service directory
+          this.awaitStagedPull(pendingTemplate);
+          var stagingDirectory = pendingTemplate.stagingDirectory();
+          this.moveStagedFiles(stagingDirectory);
+          FileUtil.delete(stagingDirectory);
+        } else {
+          this.pullTemplate(template, storage, this.serviceDirectory);
+        }
+        // we've pulled the template
+        this.installedTemplates.add(template);
       }
+    } finally {
+      // stop the pulls which are still running if applying a template failed
+      this.discardStagedTemplates(pendingTemplates);
+    }
+  }
 
-      // check if we should load the inclusion
-      if (!this.eventManager.callEvent(new CloudServicePreLoadInclusionEvent(this, inclusion, req)).cancelled()) {
-        // get a target path based on the download url
-        var encodedUrl = Base64.getEncoder().encodeToString(inclusion.url().getBytes(StandardCharsets.UTF_8));
-        var destination = INCLUSION_TEMP_DIR.resolve(encodedUrl.replace('/', '_'));
-
-        // download the file from the given url to the temp path if it does not exist
-        if (Files.notExists(destination)) {
-          try {
-            // copy the file to the temp path, ensure that the parent directory exists
-            FileUtil.createDirectory(INCLUSION_TEMP_DIR);
-            req.asFile(destination.toString(), StandardCopyOption.REPLACE_EXISTING);
-          } catch (UnirestException exception) {
-            LOGGER.error(
-              "Unable to download inclusion from {} to {}",
-              inclusion.url(),
-              destination,
-              exception.getCause());
-            continue;
-          }
+  protected void pullTemplate(
+    @NonNull ServiceTemplate template,
+    @NonNull TemplateStorage storage,
+    @NonNull Path directory
+  ) {
+    if (this.configuration.linkImmutableTemplateFiles()) {
+      storage.materialize(template, directory, this.configuration.linkedTemplateFiles());
+    } else {
+      storage.pull(template, directory);
+    }
+  }
+
+  protected void moveStagedFiles(@NonNull Path stagingDirectory) {
+    FileUtil.walkFileTree(stagingDirectory, ($, current) -> {
+      if (!Files.isDirectory(current)) {
+        var target = this.serviceDirectory.resolve(stagingDirectory.relativize(current).toString());
+        try {
+          // the file is only copied if the staging and service directory are located on different file systems
+          FileUtil.createDirectory(target.getParent());
+          Files.move(current, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+          throw new IllegalStateException("Unable to move staged template file " + current, exception);
+        }
+      }
+    });
+  }
+
+  protected void awaitStagedPull(@NonNull PendingTemplate pendingTemplate) {
+    try {
+      Objects.requireNonNull(pendingTemplate.stagedPull()).get();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt(); // reset the interrupted state of the thread
+      throw new IllegalStateException("Interrupted while pulling template " + pendingTemplate.template(), exception);
+    } catch (ExecutionException exception) {
+      throw new IllegalStateException("Unable to pull template " + pendingTemplate.template(), exception.getCause());
+    }
+  }
+
+  protected void discardStagedTemplates(@NonNull List<PendingTemplate> pendingTemplates) {
+    for (var pendingTemplate : pendingTemplates) {
+      var stagedPull = pendingTemplate.stagedPull();
+      if (stagedPull != null) {
+        // a running pull removes its staging directory itself once it notices the interruption
+        stagedPull.cancel(true);
+        FileUtil.delete(pendingTemplate.stagingDirectory());
+      }
+    }
+  }
+
+  protected @NonNull List<PendingInclusion> fetchWaitingServiceInclusions() {
+    List<PendingInclusion> pendingInclusions = new ArrayList<>();
+    try {
+      ServiceRemoteInclusion inclusion;
+      while ((inclusion = this.waitingRemoteInclusions.poll()) != null) {
+        // prepare the connection from which we load the inclusion
+        var req = Unirest.get(inclusion.url());
+        // put the given http headers
+        var headers = inclusion.readPropertyOrDefault(ServiceRemoteInclusion.HEADERS, Map.of());
+        for (var entry : headers.entrySet()) {
+          req.header(entry.getKey(), entry.getValue());
         }
 
+        // check if we should load the inclusion
+        if (!this.eventManager.callEvent(new CloudServicePreLoadInclusionEvent(this, inclusion, req)).cancelled()) {
+          // download all inclusions in parallel, the cache ensures that each request is only downloaded once
+          var cachedFile = INCLUSION_CACHE.cachedFile(req);
+          var download = INCLUSION_CACHE.fetch(cachedFile, req);
+          pendingInclusions.add(new PendingInclusion(inclusion, cachedFile, download));
+        }
+      }
+    } catch (RuntimeException exception) {
+      // the caller never receives the inclusions that were fetched until now, release them here
+      this.releaseServiceInclusions(pendingInclusions);
+      throw exception;
+    }
+
+    return pendingInclusions;
+  }
+
+  protected void applyServiceInclusions(@NonNull List<PendingInclusion> pendingInclusions) {
+    // install the inclusions in order, later inclusions are allowed to override the previous ones
+    for (var pendingInclusion : pendingInclusions) {
+      var cachedFile = pendingInclusion.download().join();
+      if (cachedFile != null) {
         // resolve the desired output path
-        var target = this.serviceDirectory.resolve(inclusion.destination());
+        var target = this.serviceDirectory.resolve(pendingInclusion.inclusion().destination());
         FileUtil.ensureChild(this.serviceDirectory, target);
-        // copy the file to the desired output path
-        FileUtil.copy(destination, target);
-        // we've installed the inclusion successfully
-        this.installedInclusions.add(inclusion);
+        // link or copy the file to the desired output path
+        if (INCLUSION_CACHE.install(cachedFile, target)) {
+          // we've installed the inclusion successfully
+          this.installedInclusions.add(pendingInclusion.inclusion());
+        }
       }
     }
   }
 
+  protected void releaseServiceInclusions(@NonNull List<PendingInclusion> pendingInclusions) {
+    // allow the cache to evict the files again
+    pendingInclusions.forEach(pendingInclusion -> INCLUSION_CACHE.release(pendingInclusion.cachedFile()));
+  }
+
   @Override
   public void deployResources(boolean removeDeployments) {
     if (removeDeployments) {
@@ -688,6 +839,8 @@ protected boolean canStartNow() {
   }
 
   protected void prepareService() {
+    var stageStart = System.nanoTime();
+
     // initialize the service directory
     var firstStartup = Files.notExists(this.serviceDirectory);
     FileUtil.createDirectory(this.serviceDirectory);
@@ -705,10 +858,29 @@ protected void prepareService() {
     // initial service details are now ready, let the modules know that we're starting to prepare
     this.eventManager.callEvent(new CloudServicePrePrepareEvent(this));
 
-    // load the inclusions
-    this.includeWaitingServiceInclusions();
-    // check if we should load the templates of the service
-    this.includeWaitingServiceTemplates(firstStartup);
+    // start downloading the inclusions and pulling the remote templates in parallel
+    var pendingInclusions = this.fetchWaitingServiceInclusions();
+    try {
+      var pendingTemplates = this.fetchWaitingServiceTemplates(firstStartup);
+      try {
+        stageStart = this.callPrepareStageEvent(CloudServicePrepareStageEvent.Stage.SETUP, stageStart);
+        // load the inclusions
+        this.applyServiceInclusions(pendingInclusions);
+        stageStart = this.callPrepareStageEvent(CloudServicePrepareStageEvent.Stage.INCLUSIONS, stageStart);
+      } catch (RuntimeException | Error throwable) {
+        // the templates are not applied if loading the inclusions failed, remove the staged files in that case
+        this.discardStagedTemplates(pendingTemplates);
+        throw throwable;
+      }
+
+      // load the templates of the service, this removes the staged files of the templates that were not applied
+      this.applyServiceTemplates(pendingTemplates);
+      stageStart = this.callPrepareStageEvent(CloudServicePrepareStageEvent.Stage.TEMPLATES, stageStart);
+    } finally {
+      // allow the cache to evict the inclusions again, even if preparing the service failed
+      this.releaseServiceInclusions(pendingInclusions);
+    }
+
     // update the service configuration
     this.serviceConfigurationPreparer.configure(this);
     // write the configuration file for the service
@@ -720,10 +892,18 @@ protected void prepareService() {
       .append("serviceConfiguration", this.serviceConfiguration())
       .append("sslConfiguration", wrapperSslConfigDocument)
       .writeTo(this.serviceDirectory.resolve(WRAPPER_CONFIG_PATH));
+    this.callPrepareStageEvent(CloudServicePrepareStageEvent.Stage.CONFIGURATION, stageStart);
+
     // finished the prepare process
     this.eventManager.callEvent(new CloudServicePostPrepareEvent(this));
   }
 
+  protected long callPrepareStageEvent(@NonNull CloudServicePrepareStageEvent.Stage stage, long stageStart) {
+    var duration = Duration.ofNanos(System.nanoTime() - stageStart);
+    this.eventManager.callEvent(new CloudServicePrepareStageEvent(this, stage, duration));
+    return System.nanoTime();
+  }
+
   protected @NonNull HostAndPort selectConnectListener(@NonNull List<HostAndPort> listeners) {
     // select a listener for the service to connect to, randomly
     var listener = listeners.get(ThreadLocalRandom.current().nextInt(listeners.size()));
@@ -774,4 +954,21 @@ protected void prepareService() {
   protected abstract void startProcess();
 
   protected abstract void stopProcess();
+
+  protected record PendingTemplate(
+    @NonNull ServiceTemplate template,
+    @NonNull TemplateStorage storage,
+    @Nullable Path stagingDirectory,
+    @Nullable Future<?> stagedPull
+  ) {
+
+  }
+
+  protected record PendingInclusion(
+    @NonNull ServiceRemoteInclusion inclusion,
+    @NonNull Path cachedFile,
+    @NonNull CompletableFuture<Path> download
+  ) {
+
+  }
 }
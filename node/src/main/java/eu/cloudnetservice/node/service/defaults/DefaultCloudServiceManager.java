@@ -64,12 +64,14 @@
 import java.lang.constant.MethodTypeDesc;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -105,6 +107,11 @@ public class DefaultCloudServiceManager implements CloudServiceManager {
   protected final RPCImplementationBuilder.InstanceAllocator<? extends SpecificCloudServiceProvider> specificProviderAllocator;
 
   protected final Map<UUID, SpecificCloudServiceProvider> knownServices = new ConcurrentHashMap<>();
+  // secondary indexes of the known services, only using keys which can't change during the lifetime of a service
+  protected final Map<String, SpecificCloudServiceProvider> servicesByName = new ConcurrentHashMap<>();
+  protected final Map<String, Set<SpecificCloudServiceProvider>> servicesByTask = new ConcurrentHashMap<>();
+  protected final Map<String, Set<SpecificCloudServiceProvider>> servicesByGroup = new ConcurrentHashMap<>();
+  protected final Map<String, Set<SpecificCloudServiceProvider>> servicesByEnvironment = new ConcurrentHashMap<>();
   protected final Cache<UUID, CloudService> localUnacceptedServices = Caffeine.newBuilder()
     .expireAfterWrite(Duration.ofMinutes(1))
     .build();
@@ -199,13 +206,7 @@ private void registerDefaultServiceFactory() {
 
   @Override
   public @NonNull SpecificCloudServiceProvider serviceProviderByName(@NonNull String serviceName) {
-    return this.knownServices.values().stream()
-      .filter(provider -> {
-        var serviceInfo = provider.serviceInfo();
-        return serviceInfo != null && serviceInfo.serviceId().name().equals(serviceName);
-      })
-      .findFirst()
-      .orElse(EmptySpecificCloudServiceProvider.INSTANCE);
+    return this.servicesByName.getOrDefault(serviceName, EmptySpecificCloudServiceProvider.INSTANCE);
   }
 
   @Override
@@ -227,29 +228,17 @@ private void registerDefaultServiceFactory() {
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByTask(@NonNull String taskName) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().taskName().equals(taskName))
-      .toList();
+    return this.indexedServiceInfos(this.servicesByTask.get(taskName));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByEnvironment(@NonNull String environment) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().environmentName().equals(environment))
-      .toList();
+    return this.indexedServiceInfos(this.servicesByEnvironment.get(environment));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByGroup(@NonNull String group) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.configuration().groups().contains(group))
-      .toList();
+    return this.indexedServiceInfos(this.servicesByGroup.get(group));
   }
 
   @Override
@@ -259,12 +248,14 @@ public int serviceCount() {
 
   @Override
   public int serviceCountByGroup(@NonNull String group) {
-    return this.servicesByGroup(group).size();
+    var services = this.servicesByGroup.get(group);
+    return services == null ? 0 : services.size();
   }
 
   @Override
   public int serviceCountByTask(@NonNull String taskName) {
-    return this.servicesByTask(taskName).size();
+    var services = this.servicesByTask.get(taskName);
+    return services == null ? 0 : services.size();
   }
 
   @Override
@@ -457,12 +448,12 @@ public int currentReservedMemory() {
 
   @Override
   public void registerLocalService(@NonNull CloudService service) {
-    this.knownServices.putIfAbsent(service.serviceId().uniqueId(), service);
+    this.addKnownService(service.serviceId().uniqueId(), service);
   }
 
   @Override
   public void unregisterLocalService(@NonNull CloudService service) {
-    this.knownServices.remove(service.serviceId().uniqueId());
+    this.removeKnownService(service.serviceId().uniqueId());
   }
 
   @Override
@@ -479,7 +470,7 @@ public void registerUnacceptedService(@NonNull CloudService service) {
 
   @Override
   public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
-    this.knownServices.remove(uniqueId);
+    this.removeKnownService(uniqueId);
   }
 
   @Override
@@ -502,15 +493,14 @@ public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
       .allocate();
 
     // register the service and return the new provider, unless some other thread registered the service
-    var knownProvider = this.knownServices.putIfAbsent(serviceUniqueId, serviceProvider);
-    return knownProvider == null ? serviceProvider : null;
+    return this.addKnownService(serviceUniqueId, serviceProvider) ? serviceProvider : null;
   }
 
   @Override
   public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable NetworkChannel source) {
     // deleted services were removed on the other node - remove it here too
     if (snapshot.lifeCycle() == ServiceLifeCycle.DELETED) {
-      this.knownServices.remove(snapshot.serviceId().uniqueId());
+      this.removeKnownService(snapshot.serviceId().uniqueId());
       LOGGER.debug("Deleted cloud service {} after lifecycle change to deleted", snapshot.serviceId());
     } else {
       // register the service if the provider is available
@@ -601,6 +591,82 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
     }
   }
 
+  protected boolean addKnownService(@NonNull UUID uniqueId, @NonNull SpecificCloudServiceProvider provider) {
+    // index the service while holding the lock of the key to prevent races with a concurrent removal
+    var knownProvider = this.knownServices.computeIfAbsent(uniqueId, _ -> {
+      var configuration = this.indexedConfiguration(provider);
+      this.servicesByName.put(configuration.serviceId().name(), provider);
+      addToIndex(this.servicesByTask, configuration.serviceId().taskName(), provider);
+      addToIndex(this.servicesByEnvironment, configuration.serviceId().environmentName(), provider);
+      for (var group : configuration.groups()) {
+        addToIndex(this.servicesByGroup, group, provider);
+      }
+      return provider;
+    });
+    return knownProvider == provider;
+  }
+
+  protected void removeKnownService(@NonNull UUID uniqueId) {
+    this.knownServices.computeIfPresent(uniqueId, (_, provider) -> {
+      var configuration = this.indexedConfiguration(provider);
+      this.servicesByName.remove(configuration.serviceId().name(), provider);
+      removeFromIndex(this.servicesByTask, configuration.serviceId().taskName(), provider);
+      removeFromIndex(this.servicesByEnvironment, configuration.serviceId().environmentName(), provider);
+      for (var group : configuration.groups()) {
+        removeFromIndex(this.servicesByGroup, group, provider);
+      }
+      return null;
+    });
+  }
+
+  protected @NonNull ServiceConfiguration indexedConfiguration(@NonNull SpecificCloudServiceProvider provider) {
+    // the indexed keys never change for a service, therefore the current configuration can be used
+    if (provider instanceof CloudService localService) {
+      return localService.serviceConfiguration();
+    }
+    return Objects.requireNonNull(provider.serviceInfo(), "remote service without snapshot").configuration();
+  }
+
+  protected @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> indexedServiceInfos(
+    @Nullable Set<SpecificCloudServiceProvider> providers
+  ) {
+    if (providers == null) {
+      return List.of();
+    }
+
+    List<ServiceInfoSnapshot> serviceInfos = new ArrayList<>(providers.size());
+    for (var provider : providers) {
+      var serviceInfo = provider.serviceInfo();
+      if (serviceInfo != null) {
+        serviceInfos.add(serviceInfo);
+      }
+    }
+    return Collections.unmodifiableList(serviceInfos);
+  }
+
+  private static void addToIndex(
+    @NonNull Map<String, Set<SpecificCloudServiceProvider>> index,
+    @NonNull String key,
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    index.compute(key, (_, providers) -> {
+      var target = providers == null ? ConcurrentHashMap.<SpecificCloudServiceProvider>newKeySet() : providers;
+      target.add(provider);
+      return target;
+    });
+  }
+
+  private static void removeFromIndex(
+    @NonNull Map<String, Set<SpecificCloudServiceProvider>> index,
+    @NonNull String key,
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    index.computeIfPresent(key, (_, providers) -> {
+      providers.remove(provider);
+      return providers.isEmpty() ? null : providers;
+    });
+  }
+
   protected int calculateReservedMemoryPercentage(@NonNull NodeServer server) {
     // get the reserved memory on the given node based on the services which are running on it and sum it up
     var reservedMemory = this.services().stream()
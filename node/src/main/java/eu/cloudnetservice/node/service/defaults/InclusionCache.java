@@ -0,0 +1,335 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import com.google.common.base.Strings;
+import com.google.common.hash.Hashing;
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import kong.unirest.core.GetRequest;
+import kong.unirest.core.UnirestException;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class InclusionCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(InclusionCache.class);
+
+  private static final String METADATA_SUFFIX = ".meta";
+  private static final String DOWNLOAD_SUFFIX = ".download";
+
+  private final Path directory;
+  private final long maxCacheSize;
+  private final long revalidateAfterMillis;
+
+  private final Map<Path, CacheEntry> entries = new ConcurrentHashMap<>();
+  private final Map<Path, Integer> pinnedFiles = new ConcurrentHashMap<>();
+  private final Map<DownloadKey, CompletableFuture<Path>> runningDownloads = new ConcurrentHashMap<>();
+  private final ExecutorService downloadExecutor = Executors.newThreadPerTaskExecutor(
+    Thread.ofVirtual().name("inclusion-download-", 0).factory());
+
+  public InclusionCache(@NonNull Path directory, long maxCacheSize, long revalidateAfterMillis) {
+    this.directory = directory;
+    this.maxCacheSize = maxCacheSize;
+    this.revalidateAfterMillis = revalidateAfterMillis;
+
+    // files downloaded by previous runs count towards the cache size as well
+    this.loadExistingEntries();
+    this.evictLeastRecentlyUsed();
+  }
+
+  public @NonNull Path cachedFile(@NonNull GetRequest request) {
+    // requests which were changed differently (for example by adding an authorization header in the pre load event)
+    // are cached separately, a file downloaded using credentials must not be served to requests without them
+    var downloadKey = DownloadKey.of(request);
+    var requestKey = downloadKey.url() + '\n' + String.join("\n", downloadKey.headers());
+    var hashedKey = Hashing.sha256().hashString(requestKey, StandardCharsets.UTF_8);
+    return this.directory.resolve(hashedKey.toString());
+  }
+
+  public @NonNull CompletableFuture<Path> fetch(@NonNull Path cachedFile, @NonNull GetRequest request) {
+    // the file must not be evicted until the caller installed it, the caller releases it afterwards
+    this.pin(cachedFile);
+
+    // serve the file directly if it was validated recently
+    var entry = this.entries.get(cachedFile);
+    if (entry != null && entry.validatedRecently(this.revalidateAfterMillis) && Files.exists(cachedFile)) {
+      entry.lastAccess = System.currentTimeMillis();
+      return CompletableFuture.completedFuture(cachedFile);
+    }
+
+    // coalesce concurrent requests into one download, requests which were changed differently are downloaded separately
+    var downloadKey = DownloadKey.of(request);
+    var newDownload = new CompletableFuture<Path>();
+    var download = this.runningDownloads.putIfAbsent(downloadKey, newDownload);
+    if (download != null) {
+      return download;
+    }
+
+    // register the cleanup before starting the download, outside the map operation as the download might complete
+    // before the future is returned
+    newDownload.whenComplete(($, exception) -> this.runningDownloads.remove(downloadKey, newDownload));
+    return newDownload.completeAsync(() -> this.download(request, cachedFile), this.downloadExecutor);
+  }
+
+  public void release(@NonNull Path cachedFile) {
+    this.pinnedFiles.computeIfPresent(cachedFile, ($, pins) -> pins == 1 ? null : pins - 1);
+  }
+
+  public boolean install(@NonNull Path cachedFile, @NonNull Path target) {
+    // never replace a directory with an inclusion, the destination was most likely configured incorrectly
+    if (Files.isDirectory(target)) {
+      LOGGER.error("Unable to install inclusion {} to {}: the destination is a directory", cachedFile, target);
+      return false;
+    }
+
+    try {
+      FileUtil.createDirectory(target.getParent());
+      Files.deleteIfExists(target);
+
+      // jar files can be shared with the cache, other files (such as configurations) are rewritten by the service
+      // which would change the content of the cached file as well. only read-only files can be linked safely, a
+      // writable file could still be rewritten in place (for example by a plugin updater)
+      var readOnlySupported = Files.getFileAttributeView(cachedFile, PosixFileAttributeView.class) != null;
+      if (readOnlySupported && target.getFileName().toString().endsWith(".jar")) {
+        try {
+          Files.createLink(target, cachedFile);
+          return true;
+        } catch (IOException | UnsupportedOperationException exception) {
+          LOGGER.debug("Unable to hard link inclusion {} to {}, copying it instead", cachedFile, target, exception);
+        }
+      }
+
+      // only copy the content, copying the file would also copy the read-only permissions of the cached file
+      try (var inputStream = Files.newInputStream(cachedFile); var outputStream = Files.newOutputStream(target)) {
+        inputStream.transferTo(outputStream);
+      }
+      return true;
+    } catch (IOException exception) {
+      LOGGER.error("Unable to install inclusion {} to {}", cachedFile, target, exception);
+      return false;
+    }
+  }
+
+  private @Nullable Path download(@NonNull GetRequest request, @NonNull Path cachedFile) {
+    var url = request.getUrl();
+    var entry = this.entries.computeIfAbsent(cachedFile, this::loadEntry);
+    var cachedFilePresent = Files.exists(cachedFile);
+
+    // only ask the server to send the file if it changed since the last download
+    if (cachedFilePresent) {
+      if (entry.etag != null) {
+        request.header("If-None-Match", entry.etag);
+      }
+      if (entry.lastModified != null) {
+        request.header("If-Modified-Since", entry.lastModified);
+      }
+    }
+
+    var downloadFile = this.directory.resolve(UUID.randomUUID() + DOWNLOAD_SUFFIX);
+    try {
+      FileUtil.createDirectory(this.directory);
+      var response = request.asFile(downloadFile.toString(), StandardCopyOption.REPLACE_EXISTING);
+
+      if (response.getStatus() == 304 && cachedFilePresent) {
+        // the cached file is still up-to-date
+        entry.validated();
+        return cachedFile;
+      }
+
+      if (response.isSuccess()) {
+        // replace the cached file, services which are linked to the previous version keep the old content
+        makeReadOnly(downloadFile);
+        Files.move(downloadFile, cachedFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        entry.etag = Strings.emptyToNull(response.getHeaders().getFirst("ETag"));
+        entry.lastModified = Strings.emptyToNull(response.getHeaders().getFirst("Last-Modified"));
+        entry.size = Files.size(cachedFile);
+        entry.validated();
+        this.writeMetadata(cachedFile, entry);
+
+        this.evictLeastRecentlyUsed();
+        return cachedFile;
+      }
+
+      LOGGER.error("Unable to download inclusion from {}: server responded with {}", url, response.getStatus());
+    } catch (UnirestException | IOException exception) {
+      LOGGER.error("Unable to download inclusion from {} to {}", url, cachedFile, exception);
+    } finally {
+      FileUtil.delete(downloadFile);
+    }
+
+    // fall back to the previously downloaded version of the file if possible
+    return cachedFilePresent ? cachedFile : null;
+  }
+
+  private synchronized void pin(@NonNull Path cachedFile) {
+    // synchronized with the eviction, the file is either pinned before or deleted when the eviction runs
+    this.pinnedFiles.merge(cachedFile, 1, Integer::sum);
+  }
+
+  private synchronized void evictLeastRecentlyUsed() {
+    var cacheSize = this.entries.values().stream().mapToLong(entry -> entry.size).sum();
+    if (cacheSize <= this.maxCacheSize) {
+      return;
+    }
+
+    var candidates = this.entries.entrySet().stream()
+      .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+      .toList();
+    for (var candidate : candidates) {
+      // never evict files which are currently downloaded or waiting to be installed
+      var cachedFile = candidate.getKey();
+      if (this.pinnedFiles.containsKey(cachedFile)) {
+        continue;
+      }
+
+      this.entries.remove(cachedFile);
+      FileUtil.delete(cachedFile);
+      FileUtil.delete(this.metadataPath(cachedFile));
+
+      cacheSize -= candidate.getValue().size;
+      if (cacheSize <= this.maxCacheSize) {
+        break;
+      }
+    }
+  }
+
+  private void loadExistingEntries() {
+    if (Files.notExists(this.directory)) {
+      return;
+    }
+
+    try (var files = Files.list(this.directory)) {
+      files.forEach(file -> {
+        var fileName = file.getFileName().toString();
+        if (fileName.endsWith(DOWNLOAD_SUFFIX)) {
+          // leftover of a download which was interrupted, for example by a crash
+          FileUtil.delete(file);
+        } else if (fileName.endsWith(METADATA_SUFFIX)) {
+          // remove metadata files of which the cached file no longer exists
+          var cachedFile = file.resolveSibling(fileName.substring(0, fileName.length() - METADATA_SUFFIX.length()));
+          if (Files.notExists(cachedFile)) {
+            FileUtil.delete(file);
+          }
+        } else {
+          try {
+            // files of previous runs might not be read-only yet, this is required for them to be linked
+            makeReadOnly(file);
+            var entry = this.loadEntry(file);
+            entry.lastAccess = Files.getLastModifiedTime(file).toMillis();
+            this.entries.put(file, entry);
+          } catch (IOException exception) {
+            LOGGER.debug("Unable to load cached inclusion {}", file, exception);
+          }
+        }
+      });
+    } catch (IOException exception) {
+      LOGGER.error("Unable to load the cached inclusions from {}", this.directory, exception);
+    }
+  }
+
+  private @NonNull CacheEntry loadEntry(@NonNull Path cachedFile) {
+    var entry = new CacheEntry();
+    if (Files.exists(cachedFile)) {
+      // files downloaded by previous runs are revalidated using the stored metadata
+      var metadataPath = this.metadataPath(cachedFile);
+      if (Files.exists(metadataPath)) {
+        var metadata = DocumentFactory.json().parse(metadataPath);
+        entry.etag = metadata.getString("etag");
+        entry.lastModified = metadata.getString("lastModified");
+      }
+
+      try {
+        entry.size = Files.size(cachedFile);
+      } catch (IOException exception) {
+        LOGGER.debug("Unable to read the size of cached inclusion {}", cachedFile, exception);
+      }
+    }
+
+    return entry;
+  }
+
+  private void writeMetadata(@NonNull Path cachedFile, @NonNull CacheEntry entry) {
+    Document.newJsonDocument()
+      .append("etag", entry.etag)
+      .append("lastModified", entry.lastModified)
+      .writeTo(this.metadataPath(cachedFile));
+  }
+
+  private @NonNull Path metadataPath(@NonNull Path cachedFile) {
+    return cachedFile.resolveSibling(cachedFile.getFileName() + METADATA_SUFFIX);
+  }
+
+  private static void makeReadOnly(@NonNull Path file) throws IOException {
+    var attributeView = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+    if (attributeView != null) {
+      attributeView.setPermissions(EnumSet.of(
+        PosixFilePermission.OWNER_READ,
+        PosixFilePermission.GROUP_READ,
+        PosixFilePermission.OTHERS_READ));
+    }
+  }
+
+  private record DownloadKey(@NonNull String url, @NonNull List<String> headers) {
+
+    private static @NonNull DownloadKey of(@NonNull GetRequest request) {
+      var headers = request.getHeaders().all().stream()
+        .map(header -> header.getName() + ": " + header.getValue())
+        .toList();
+      return new DownloadKey(request.getUrl(), headers);
+    }
+  }
+
+  private static final class CacheEntry {
+
+    private volatile String etag;
+    private volatile String lastModified;
+    private volatile long size;
+
+    private volatile long lastAccess = System.currentTimeMillis();
+    private volatile long lastValidation = -1;
+
+    private void validated() {
+      this.lastValidation = System.currentTimeMillis();
+      this.lastAccess = this.lastValidation;
+    }
+
+    private boolean validatedRecently(long revalidateAfterMillis) {
+      return this.lastValidation != -1
+        && System.currentTimeMillis() - this.lastValidation < revalidateAfterMillis;
+    }
+  }
+}
@@ -230,6 +230,10 @@ protected void doStartProcess(
 
       // start the process and fire the post start event
       this.process = builder.start();
+      if (super.logCache instanceof ProcessServiceLogCache processLogCache) {
+        processLogCache.startStreaming(this.process);
+      }
+
       this.eventManager.callEvent(new CloudServicePostProcessStartEvent(this));
     } catch (IOException exception) {
       LOGGER.error(
@@ -21,12 +21,14 @@
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.ServiceConsoleLineHandler;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import lombok.NonNull;
 import org.jetbrains.annotations.UnmodifiableView;
 import org.slf4j.Logger;
@@ -38,15 +40,15 @@ public abstract class AbstractServiceLogCache implements ServiceConsoleLogCache
 
   protected final CloudService service;
 
-  protected final Queue<String> cachedLogMessages = new ConcurrentLinkedQueue<>();
+  protected final ReadWriteLock cachedLogMessagesLock = new ReentrantReadWriteLock();
   protected final Set<ServiceConsoleLineHandler> handlers = ConcurrentHashMap.newKeySet();
 
-  protected volatile int logCacheSize;
+  protected volatile ServiceLogRingBuffer cachedLogMessages;
   protected volatile boolean alwaysPrintErrorStreamToConsole;
 
   public AbstractServiceLogCache(@NonNull Configuration configuration, @NonNull CloudService service) {
     this.service = service;
-    this.logCacheSize = configuration.maxServiceConsoleLogCacheSize();
+    this.cachedLogMessages = new ServiceLogRingBuffer(configuration.maxServiceConsoleLogCacheSize());
     this.alwaysPrintErrorStreamToConsole = configuration.printErrorStreamLinesFromServices();
   }
 
@@ -57,18 +59,33 @@ public AbstractServiceLogCache(@NonNull Configuration configuration, @NonNull Cl
 
   @Override
   public @NonNull Queue<String> cachedLogMessages() {
-    return this.cachedLogMessages;
+    return new ArrayDeque<>(this.cachedLogMessages.snapshot());
   }
 
   @Override
   public int logCacheSize() {
-    return this.logCacheSize;
+    return this.cachedLogMessages.capacity();
   }
 
   @Override
   public void logCacheSize(int cacheSize) {
     Preconditions.checkArgument(cacheSize >= 0, "Cache size must be higher or equal to 0");
-    this.logCacheSize = cacheSize;
+    // lock exclusively to prevent lines from being added to the current buffer after it was copied
+    this.cachedLogMessagesLock.writeLock().lock();
+    try {
+      var currentBuffer = this.cachedLogMessages;
+      if (currentBuffer.capacity() != cacheSize) {
+        // move the newest lines into the resized buffer
+        var resizedBuffer = new ServiceLogRingBuffer(cacheSize);
+        var cachedLines = currentBuffer.snapshot();
+        for (var line : cachedLines.subList(Math.max(0, cachedLines.size() - cacheSize), cachedLines.size())) {
+          resizedBuffer.add(line);
+        }
+        this.cachedLogMessages = resizedBuffer;
+      }
+    } finally {
+      this.cachedLogMessagesLock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -97,17 +114,19 @@ public void removeHandler(@NonNull ServiceConsoleLineHandler handler) {
   }
 
   protected void handleItem(@NonNull String entry, boolean comesFromErrorStream) {
-    // drain the cache
-    while (this.cachedLogMessages.size() > this.logCacheSize) {
-      this.cachedLogMessages.poll();
-    }
     // print the line to the console if enabled
     if (this.alwaysPrintErrorStreamToConsole && comesFromErrorStream) {
       LOGGER.warn("[{}/WARN]: {}", this.service.serviceId().name(), entry);
     }
-    // add the line
-    this.cachedLogMessages.add(entry);
-    // call all handlers
+    // add the line, the output and error stream are read by different threads. the shared lock lets both add lines to
+    // the ring buffer concurrently and is only contended while the buffer gets resized
+    this.cachedLogMessagesLock.readLock().lock();
+    try {
+      this.cachedLogMessages.add(entry);
+    } finally {
+      this.cachedLogMessagesLock.readLock().unlock();
+    }
+    // call all handlers outside the lock, a slow handler must not block the reader of the other stream
     if (!this.handlers.isEmpty()) {
       for (var handler : this.handlers) {
         handler.handleLine(this, entry, comesFromErrorStream);
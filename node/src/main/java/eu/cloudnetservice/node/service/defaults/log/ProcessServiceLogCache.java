@@ -21,15 +21,25 @@
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.util.function.Supplier;
 import lombok.NonNull;
 
 public class ProcessServiceLogCache extends AbstractServiceLogCache {
 
+  // reading the process output from reader threads is the default, polling on each update can be re-enabled if needed
+  protected static final boolean POLL_PROCESS_OUTPUT = Boolean.getBoolean("cloudnet.service.log.poll-output");
+  protected static final int READ_BUFFER_SIZE = 2048;
+  // lines exceeding the limit are split, a process printing without line breaks would otherwise fill the memory
+  protected static final int MAX_LINE_LENGTH = 8192;
+
   protected final Supplier<Process> processSupplier;
 
-  protected final byte[] buffer = new byte[2048];
+  protected final byte[] buffer = new byte[READ_BUFFER_SIZE];
   protected final StringBuffer stringBuffer = new StringBuffer();
 
   public ProcessServiceLogCache(
@@ -43,9 +53,9 @@ public ProcessServiceLogCache(
 
   @Override
   public @NonNull ServiceConsoleLogCache update() {
-    // check if we can currently update
+    // check if we can currently update, streamed process output is handled by the reader threads
     var process = this.processSupplier.get();
-    if (process != null) {
+    if (process != null && POLL_PROCESS_OUTPUT) {
       try {
         this.readStream(process.getInputStream(), false);
         this.readStream(process.getErrorStream(), true);
@@ -82,4 +92,99 @@ protected void readStream(@NonNull InputStream stream, boolean isErrorStream) th
     // reset the string buffer
     this.stringBuffer.setLength(0);
   }
+
+  public void startStreaming(@NonNull Process process) {
+    if (!POLL_PROCESS_OUTPUT) {
+      // platform threads are used as reads from a process pipe block the carrier of a virtual thread, two pinned
+      // carriers per service would quickly exhaust the carrier pool with a lot of running services
+      var serviceName = this.service.serviceId().name();
+      Thread.ofPlatform()
+        .daemon()
+        .name("service-log-reader-" + serviceName + "-stdout")
+        .start(() -> this.streamOutput(process.getInputStream(), false));
+      Thread.ofPlatform()
+        .daemon()
+        .name("service-log-reader-" + serviceName + "-stderr")
+        .start(() -> this.streamOutput(process.getErrorStream(), true));
+    }
+  }
+
+  protected void streamOutput(@NonNull InputStream stream, boolean isErrorStream) {
+    var decoder = StandardCharsets.UTF_8.newDecoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    var bytes = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    var chars = CharBuffer.allocate(READ_BUFFER_SIZE);
+    var currentLine = new StringBuilder();
+
+    try (stream) {
+      int read;
+      while ((read = stream.read(bytes.array(), bytes.position(), bytes.remaining())) != -1) {
+        bytes.position(bytes.position() + read);
+        bytes.flip();
+
+        // incomplete multibyte sequences at the end stay in the buffer until the next bytes were read
+        this.decodeLines(decoder, bytes, chars, currentLine, isErrorStream, false);
+        bytes.compact();
+      }
+
+      // the stream reached its end, decode the remaining bytes
+      bytes.flip();
+      this.decodeLines(decoder, bytes, chars, currentLine, isErrorStream, true);
+      decoder.flush(chars);
+      this.handleDecodedChars(chars, currentLine, isErrorStream);
+    } catch (IOException exception) {
+      // the stream gets closed forcibly when the process gets destroyed
+      LOGGER.debug("Exception reading output of service {}", this.service.serviceId().name(), exception);
+    }
+
+    // handle the last line, even if it was not terminated
+    this.handleLine(currentLine, isErrorStream);
+  }
+
+  protected void decodeLines(
+    @NonNull CharsetDecoder decoder,
+    @NonNull ByteBuffer bytes,
+    @NonNull CharBuffer chars,
+    @NonNull StringBuilder currentLine,
+    boolean isErrorStream,
+    boolean endOfInput
+  ) {
+    while (true) {
+      var result = decoder.decode(bytes, chars, endOfInput);
+      this.handleDecodedChars(chars, currentLine, isErrorStream);
+      if (!result.isOverflow()) {
+        break;
+      }
+    }
+  }
+
+  protected void handleDecodedChars(
+    @NonNull CharBuffer chars,
+    @NonNull StringBuilder currentLine,
+    boolean isErrorStream
+  ) {
+    chars.flip();
+    while (chars.hasRemaining()) {
+      var c = chars.get();
+      if (c == '\n' || c == '\r') {
+        this.handleLine(currentLine, isErrorStream);
+      } else {
+        currentLine.append(c);
+        // force a line break once the line gets too long, but never between the two chars of a surrogate pair
+        if (currentLine.length() >= MAX_LINE_LENGTH && !Character.isHighSurrogate(c)) {
+          this.handleLine(currentLine, isErrorStream);
+        }
+      }
+    }
+    chars.clear();
+  }
+
+  protected void handleLine(@NonNull StringBuilder currentLine, boolean isErrorStream) {
+    var text = currentLine.toString();
+    currentLine.setLength(0);
+    if (!text.trim().isEmpty()) {
+      this.handleItem(text, isErrorStream);
+    }
+  }
 }
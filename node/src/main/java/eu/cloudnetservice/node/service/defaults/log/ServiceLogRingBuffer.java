@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.NonNull;
+
+/**
+ * A bounded, lock-free ring buffer for log lines. Adding a line overwrites the oldest line once the buffer is full,
+ * which makes adding a line a constant time operation regardless of the buffer capacity. Each slot is tagged with the
+ * sequence number of the line it holds, allowing readers to take a consistent snapshot without blocking writers.
+ *
+ * @since 4.0
+ */
+public final class ServiceLogRingBuffer {
+
+  private final int capacity;
+  private final AtomicReferenceArray<Entry> entries;
+  private final AtomicLong writeSequence = new AtomicLong();
+
+  /**
+   * Constructs a new ring buffer which holds at most the given amount of lines.
+   *
+   * @param capacity the maximum amount of lines to hold.
+   * @throws IllegalArgumentException if the given capacity is negative.
+   */
+  public ServiceLogRingBuffer(int capacity) {
+    Preconditions.checkArgument(capacity >= 0, "Capacity must be higher or equal to 0");
+    this.capacity = capacity;
+    this.entries = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Get the maximum amount of lines this buffer can hold.
+   *
+   * @return the capacity of this buffer.
+   */
+  public int capacity() {
+    return this.capacity;
+  }
+
+  /**
+   * Get the amount of lines that are currently held by this buffer.
+   *
+   * @return the amount of lines in this buffer.
+   */
+  public int size() {
+    return (int) Math.min(this.writeSequence.get(), this.capacity);
+  }
+
+  /**
+   * Adds the given line to this buffer, overwriting the oldest line in case the buffer is full.
+   *
+   * @param line the line to add.
+   * @throws NullPointerException if the given line is null.
+   */
+  public void add(@NonNull String line) {
+    if (this.capacity > 0) {
+      var sequence = this.writeSequence.getAndIncrement();
+      var slot = this.slot(sequence);
+      var entry = new Entry(sequence, line);
+
+      // a writer which was faster might already have put a newer line into the slot, don't replace it in that case
+      Entry current;
+      do {
+        current = this.entries.get(slot);
+        if (current != null && current.sequence() > sequence) {
+          return;
+        }
+      } while (!this.entries.compareAndSet(slot, current, entry));
+    }
+  }
+
+  /**
+   * Takes a snapshot of the lines in this buffer, ordered from the oldest to the newest line. Lines which are
+   * overwritten or not yet fully published while taking the snapshot are not included.
+   *
+   * @return a snapshot of the lines in this buffer.
+   */
+  public @NonNull List<String> snapshot() {
+    var end = this.writeSequence.get();
+    var start = Math.max(0, end - this.capacity);
+
+    List<String> lines = new ArrayList<>((int) (end - start));
+    for (var sequence = start; sequence < end; sequence++) {
+      var entry = this.entries.get(this.slot(sequence));
+      if (entry != null && entry.sequence() == sequence) {
+        lines.add(entry.line());
+      }
+    }
+    return lines;
+  }
+
+  private int slot(long sequence) {
+    return (int) (sequence % this.capacity);
+  }
+
+  private record Entry(long sequence, @NonNull String line) {
+
+  }
+}
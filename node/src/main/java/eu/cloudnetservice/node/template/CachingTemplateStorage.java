@@ -0,0 +1,577 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.common.io.ZipUtil;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.FileInfo;
+import eu.cloudnetservice.driver.template.TemplateStorage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A template storage which keeps a local, content addressed copy of the files of the templates stored in a remote
+ * template storage. Each pull revalidates the cached manifest of the template against the file listing of the remote
+ * storage (using the size and modification time of the files) and only downloads the files which changed since the
+ * last pull. The cached files are evicted in least-recently-used order once the cache exceeds its size limit.
+ */
+public class CachingTemplateStorage implements TemplateStorage {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CachingTemplateStorage.class);
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+  private static final boolean CACHE_DISABLED = Boolean.getBoolean("cloudnet.template.cache.disabled");
+  private static final Path CACHE_DIRECTORY = Path.of(
+    System.getProperty("cloudnet.template.cache.path", "local/caches/templates"));
+  private static final long MAX_CACHE_SIZE = Long.getLong("cloudnet.template.cache.max-size-mb", 2048) * 1024 * 1024;
+
+  private final TemplateStorage delegate;
+  private final Path blobDirectory;
+  private final Path manifestDirectory;
+  private final long maxCacheSize;
+
+  private final Map<String, TemplateManifest> manifests = new ConcurrentHashMap<>();
+
+  // guarded by itself: blob hash -> blob size in access order, and the blobs which are currently in use by a pull
+  private final LinkedHashMap<String, Long> blobs = new LinkedHashMap<>(16, 0.75F, true);
+  private final Map<String, Integer> pinnedBlobs = new HashMap<>();
+  private long cacheSize;
+
+  public CachingTemplateStorage(@NonNull TemplateStorage delegate, @NonNull Path cacheDirectory, long maxCacheSize) {
+    this.delegate = delegate;
+    this.maxCacheSize = maxCacheSize;
+    this.blobDirectory = cacheDirectory.resolve("blobs");
+    this.manifestDirectory = cacheDirectory.resolve("manifests");
+
+    FileUtil.createDirectory(this.blobDirectory);
+    FileUtil.createDirectory(this.manifestDirectory);
+    this.loadBlobs();
+  }
+
+  public static @NonNull TemplateStorage wrapRemoteStorage(@NonNull TemplateStorage storage) {
+    if (CACHE_DISABLED) {
+      return storage;
+    }
+
+    return new CachingTemplateStorage(storage, CACHE_DIRECTORY.resolve(storage.name()), MAX_CACHE_SIZE);
+  }
+
+  @Override
+  public @NonNull String name() {
+    return this.delegate.name();
+  }
+
+  @Override
+  public boolean deployDirectory(
+    @NonNull ServiceTemplate target,
+    @NonNull Path directory,
+    @Nullable Predicate<Path> filter
+  ) {
+    return this.delegate.deployDirectory(target, directory, filter);
+  }
+
+  @Override
+  public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inputStream) {
+    return this.delegate.deploy(target, inputStream);
+  }
+
+  @Override
+  public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
+    return this.pullCached(template, directory, null);
+  }
+
+  @Override
+  public boolean materialize(
+    @NonNull ServiceTemplate template,
+    @NonNull Path directory,
+    @NonNull Collection<String> linkedFilePatterns
+  ) {
+    List<PathMatcher> linkedFileMatchers = linkedFilePatterns.stream()
+      .map(pattern -> directory.getFileSystem().getPathMatcher("glob:" + pattern))
+      .toList();
+    return this.pullCached(
+      template,
+      directory,
+      path -> linkedFileMatchers.stream().anyMatch(matcher -> matcher.matches(path)));
+  }
+
+  @Override
+  public @Nullable InputStream zipTemplate(@NonNull ServiceTemplate template) {
+    var localTarget = FileUtil.createTempFile();
+    try {
+      if (this.pull(template, localTarget)) {
+        return ZipUtil.zipToStream(localTarget);
+      } else {
+        return null;
+      }
+    } finally {
+      FileUtil.delete(localTarget);
+    }
+  }
+
+  @Override
+  public boolean delete(@NonNull ServiceTemplate template) {
+    // the cached files are left for the lru eviction, they might be shared with other templates
+    this.manifests.remove(template.fullName());
+    FileUtil.delete(this.manifestPath(template));
+    return this.delegate.delete(template);
+  }
+
+  @Override
+  public boolean create(@NonNull ServiceTemplate template) {
+    return this.delegate.create(template);
+  }
+
+  @Override
+  public boolean contains(@NonNull ServiceTemplate template) {
+    return this.delegate.contains(template);
+  }
+
+  @Override
+  public @Nullable OutputStream appendOutputStream(
+    @NonNull ServiceTemplate template,
+    @NonNull String path
+  ) throws IOException {
+    return this.delegate.appendOutputStream(template, path);
+  }
+
+  @Override
+  public @Nullable OutputStream newOutputStream(
+    @NonNull ServiceTemplate template,
+    @NonNull String path
+  ) throws IOException {
+    return this.delegate.newOutputStream(template, path);
+  }
+
+  @Override
+  public boolean createFile(@NonNull ServiceTemplate template, @NonNull String path) {
+    return this.delegate.createFile(template, path);
+  }
+
+  @Override
+  public boolean createDirectory(@NonNull ServiceTemplate template, @NonNull String path) {
+    return this.delegate.createDirectory(template, path);
+  }
+
+  @Override
+  public boolean hasFile(@NonNull ServiceTemplate template, @NonNull String path) {
+    return this.delegate.hasFile(template, path);
+  }
+
+  @Override
+  public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String path) {
+    return this.delegate.deleteFile(template, path);
+  }
+
+  @Override
+  public @Nullable InputStream newInputStream(
+    @NonNull ServiceTemplate template,
+    @NonNull String path
+  ) throws IOException {
+    return this.delegate.newInputStream(template, path);
+  }
+
+  @Override
+  public @Nullable FileInfo fileInfo(@NonNull ServiceTemplate template, @NonNull String path) {
+    return this.delegate.fileInfo(template, path);
+  }
+
+  @Override
+  public @NonNull Collection<FileInfo> listFiles(
+    @NonNull ServiceTemplate template,
+    @NonNull String dir,
+    boolean deep
+  ) {
+    return this.delegate.listFiles(template, dir, deep);
+  }
+
+  @Override
+  public @NonNull Collection<ServiceTemplate> templates() {
+    return this.delegate.templates();
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.delegate.close();
+  }
+
+  public @NonNull TemplateStorage delegate() {
+    return this.delegate;
+  }
+
+  protected boolean pullCached(
+    @NonNull ServiceTemplate template,
+    @NonNull Path directory,
+    @Nullable Predicate<Path> linkable
+  ) {
+    Collection<String> pinned = new ArrayList<>();
+    try {
+      var manifest = this.revalidate(template, pinned);
+      for (var entry : manifest.files().entrySet()) {
+        var blob = this.blobDirectory.resolve(entry.getValue().hash());
+        var target = directory.resolve(entry.getKey());
+
+        // linked blobs must never be changed by the service, only link them if the caller allows it
+        if (linkable == null || !linkable.test(Path.of(entry.getKey())) || !this.linkBlob(blob, target)) {
+          // copy the content only, the copy must not inherit the read-only permissions of the blob
+          FileUtil.createDirectory(target.getParent());
+          try (var inputStream = Files.newInputStream(blob)) {
+            Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+          }
+        }
+      }
+      return true;
+    } catch (IOException exception) {
+      LOGGER.warn("Unable to pull template {} from the template cache, pulling directly", template, exception);
+      return this.delegate.pull(template, directory);
+    } finally {
+      this.releaseAndEvict(pinned);
+    }
+  }
+
+  protected @NonNull TemplateManifest revalidate(
+    @NonNull ServiceTemplate template,
+    @NonNull Collection<String> pinned
+  ) throws IOException {
+    // some storages return null instead of an empty collection if the listing failed
+    var files = this.delegate.listFiles(template, "", true);
+    if (files == null) {
+      throw new IOException("Unable to list the files of template " + template);
+    }
+
+    var cachedManifest = this.manifests.computeIfAbsent(template.fullName(), $ -> this.readManifest(template));
+    Map<String, ManifestEntry> entries = new HashMap<>();
+    Map<String, FileInfo> missingFiles = new HashMap<>();
+    long templateSize = 0;
+    long missingSize = 0;
+    for (var file : files) {
+      if (file.directory()) {
+        continue;
+      }
+
+      // re-use the cached file if it is unchanged and was not evicted yet, download the file otherwise
+      var path = this.relativePath(template, file.path());
+      var cachedEntry = cachedManifest.files().get(path);
+      templateSize += file.size();
+      if (cachedEntry != null
+        && cachedEntry.size() == file.size()
+        && cachedEntry.lastModified() == file.lastModified()
+        && this.pinBlob(cachedEntry.hash(), pinned)) {
+        entries.put(path, cachedEntry);
+      } else {
+        missingFiles.put(path, file);
+        missingSize += file.size();
+      }
+    }
+
+    // pull the template in bulk if most of it is missing (for example on the first pull), the delegate storage can
+    // transfer the files more efficiently than requesting them one by one
+    if (missingFiles.size() > 1 && missingSize * 2 >= templateSize) {
+      this.downloadAll(template, missingFiles, entries, pinned);
+    } else {
+      for (var missingFile : missingFiles.entrySet()) {
+        var file = missingFile.getValue();
+        var hash = this.download(template, missingFile.getKey(), pinned);
+        entries.put(missingFile.getKey(), new ManifestEntry(file.lastModified(), file.size(), hash));
+      }
+    }
+
+    var manifest = new TemplateManifest(entries);
+    if (!manifest.equals(cachedManifest)) {
+      this.manifests.put(template.fullName(), manifest);
+      this.writeManifest(template, manifest);
+    }
+
+    return manifest;
+  }
+
+  protected void downloadAll(
+    @NonNull ServiceTemplate template,
+    @NonNull Map<String, FileInfo> files,
+    @NonNull Map<String, ManifestEntry> entries,
+    @NonNull Collection<String> pinned
+  ) throws IOException {
+    var stagingDirectory = this.blobDirectory.resolve(UUID.randomUUID() + TEMP_FILE_SUFFIX);
+    try {
+      if (!this.delegate.pull(template, stagingDirectory)) {
+        throw new IOException("Unable to pull template " + template);
+      }
+
+      for (var entry : files.entrySet()) {
+        var pulledFile = stagingDirectory.resolve(entry.getKey());
+        if (Files.notExists(pulledFile)) {
+          throw new IOException("File " + entry.getKey() + " vanished from template " + template);
+        }
+
+        var digest = newDigest();
+        try (var inputStream = new DigestInputStream(Files.newInputStream(pulledFile), digest)) {
+          inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+
+        var file = entry.getValue();
+        var hash = this.storeBlob(pulledFile, HexFormat.of().formatHex(digest.digest()), pinned);
+        entries.put(entry.getKey(), new ManifestEntry(file.lastModified(), file.size(), hash));
+      }
+    } finally {
+      FileUtil.delete(stagingDirectory);
+    }
+  }
+
+  protected @NonNull String download(
+    @NonNull ServiceTemplate template,
+    @NonNull String path,
+    @NonNull Collection<String> pinned
+  ) throws IOException {
+    var tempFile = this.blobDirectory.resolve(UUID.randomUUID() + TEMP_FILE_SUFFIX);
+    try {
+      var digest = newDigest();
+      try (var inputStream = this.delegate.newInputStream(template, path)) {
+        if (inputStream == null) {
+          throw new IOException("File " + path + " vanished from template " + template);
+        }
+
+        try (var outputStream = new DigestOutputStream(Files.newOutputStream(tempFile), digest)) {
+          inputStream.transferTo(outputStream);
+        }
+      }
+
+      return this.storeBlob(tempFile, HexFormat.of().formatHex(digest.digest()), pinned);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  protected @NonNull String storeBlob(
+    @NonNull Path file,
+    @NonNull String hash,
+    @NonNull Collection<String> pinned
+  ) throws IOException {
+    synchronized (this.blobs) {
+      // files with the same content are only stored once
+      if (!this.pinBlob(hash, pinned)) {
+        var blob = Files.move(file, this.blobDirectory.resolve(hash), StandardCopyOption.REPLACE_EXISTING);
+        var blobSize = Files.size(blob);
+        makeReadOnly(blob);
+
+        this.cacheSize += blobSize;
+        this.blobs.put(hash, blobSize);
+        this.pinBlob(hash, pinned);
+      }
+    }
+
+    return hash;
+  }
+
+  protected boolean pinBlob(@NonNull String hash, @NonNull Collection<String> pinned) {
+    var blob = this.blobDirectory.resolve(hash);
+    synchronized (this.blobs) {
+      // the get call moves the blob to the end of the lru order
+      var blobSize = this.blobs.get(hash);
+      if (blobSize == null) {
+        return false;
+      }
+
+      // a blob which was changed (for example through a hard link) must not be used anymore, blobs which are in use
+      // by another pull are checked the next time they get pinned
+      if (!this.pinnedBlobs.containsKey(hash) && currentSize(blob) != blobSize) {
+        LOGGER.warn("Cached template file {} was modified, removing it from the cache", blob);
+        this.blobs.remove(hash);
+        this.cacheSize -= blobSize;
+        FileUtil.delete(blob);
+        return false;
+      }
+
+      pinned.add(hash);
+      this.pinnedBlobs.merge(hash, 1, Integer::sum);
+    }
+
+    try {
+      // persist the access time to keep the lru order after a restart
+      Files.setLastModifiedTime(blob, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (IOException ignored) {
+    }
+    return true;
+  }
+
+  protected void releaseAndEvict(@NonNull Collection<String> pinned) {
+    synchronized (this.blobs) {
+      for (var hash : pinned) {
+        this.pinnedBlobs.computeIfPresent(hash, ($, count) -> count == 1 ? null : count - 1);
+      }
+
+      // evict the least recently used blobs which are not in use until the cache fits into the size limit again
+      var iterator = this.blobs.entrySet().iterator();
+      while (this.cacheSize > this.maxCacheSize && iterator.hasNext()) {
+        var entry = iterator.next();
+        if (!this.pinnedBlobs.containsKey(entry.getKey())) {
+          iterator.remove();
+          this.cacheSize -= entry.getValue();
+          FileUtil.delete(this.blobDirectory.resolve(entry.getKey()));
+        }
+      }
+    }
+  }
+
+  protected void loadBlobs() {
+    try (var stream = Files.list(this.blobDirectory)) {
+      var files = stream
+        .sorted(Comparator.comparing(path -> path.toFile().lastModified()))
+        .toList();
+      synchronized (this.blobs) {
+        for (var file : files) {
+          var fileName = file.getFileName().toString();
+          if (fileName.endsWith(TEMP_FILE_SUFFIX)) {
+            // left over from an interrupted download
+            FileUtil.delete(file);
+          } else if (Files.isRegularFile(file)) {
+            var blobSize = Files.size(file);
+            makeReadOnly(file);
+
+            this.cacheSize += blobSize;
+            this.blobs.put(fileName, blobSize);
+          }
+        }
+      }
+    } catch (IOException exception) {
+      LOGGER.error("Unable to load the cached template files from {}", this.blobDirectory, exception);
+    }
+  }
+
+  protected @NonNull TemplateManifest readManifest(@NonNull ServiceTemplate template) {
+    var manifestPath = this.manifestPath(template);
+    if (Files.exists(manifestPath)) {
+      try {
+        return DocumentFactory.json().parse(manifestPath).toInstanceOf(TemplateManifest.class);
+      } catch (Exception exception) {
+        LOGGER.debug("Unable to read cached template manifest {}, revalidating all files", manifestPath, exception);
+      }
+    }
+
+    return new TemplateManifest(Map.of());
+  }
+
+  protected void writeManifest(@NonNull ServiceTemplate template, @NonNull TemplateManifest manifest) {
+    var manifestPath = this.manifestPath(template);
+    FileUtil.createDirectory(manifestPath.getParent());
+    Document.newJsonDocument().appendTree(manifest).writeTo(manifestPath);
+  }
+
+  protected @NonNull Path manifestPath(@NonNull ServiceTemplate template) {
+    return this.manifestDirectory.resolve(template.prefix()).resolve(template.name() + ".json");
+  }
+
+  protected @NonNull String relativePath(@NonNull ServiceTemplate template, @NonNull String path) {
+    var relativePath = path.replace('\\', '/');
+
+    // some storages report the full remote path of a file, strip everything up to the template directory
+    var templateRoot = template.fullName() + '/';
+    if (relativePath.startsWith(templateRoot)) {
+      relativePath = relativePath.substring(templateRoot.length());
+    } else {
+      var templateRootIndex = relativePath.indexOf('/' + templateRoot);
+      if (templateRootIndex != -1) {
+        relativePath = relativePath.substring(templateRootIndex + templateRoot.length() + 1);
+      }
+    }
+
+    while (relativePath.startsWith("/")) {
+      relativePath = relativePath.substring(1);
+    }
+    return relativePath;
+  }
+
+  private boolean linkBlob(@NonNull Path blob, @NonNull Path target) {
+    // only read-only blobs can be linked safely, a writable blob could be changed in place by the service
+    if (Files.getFileAttributeView(blob, PosixFileAttributeView.class) == null) {
+      return false;
+    }
+
+    try {
+      FileUtil.createDirectory(target.getParent());
+      Files.deleteIfExists(target);
+      Files.createLink(target, blob);
+      return true;
+    } catch (IOException | UnsupportedOperationException exception) {
+      return false;
+    }
+  }
+
+  private static void makeReadOnly(@NonNull Path blob) throws IOException {
+    var attributeView = Files.getFileAttributeView(blob, PosixFileAttributeView.class);
+    if (attributeView != null) {
+      attributeView.setPermissions(EnumSet.of(
+        PosixFilePermission.OWNER_READ,
+        PosixFilePermission.GROUP_READ,
+        PosixFilePermission.OTHERS_READ));
+    }
+  }
+
+  private static long currentSize(@NonNull Path blob) {
+    try {
+      return Files.size(blob);
+    } catch (IOException exception) {
+      return -1;
+    }
+  }
+
+  private static @NonNull MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not supported by the current jvm", exception);
+    }
+  }
+
+  protected record TemplateManifest(@NonNull Map<String, ManifestEntry> files) {
+
+  }
+
+  protected record ManifestEntry(long lastModified, long size, @NonNull String hash) {
+
+  }
+}
@@ -21,28 +21,43 @@
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.driver.template.FileInfo;
 import eu.cloudnetservice.driver.template.TemplateStorage;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class LocalTemplateStorage implements TemplateStorage {
 
   public static final String LOCAL_TEMPLATE_STORAGE = "local";
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(LocalTemplateStorage.class);
+  private static final Set<PosixFilePermission> WRITE_PERMISSIONS = EnumSet.of(
+    PosixFilePermission.OWNER_WRITE,
+    PosixFilePermission.GROUP_WRITE,
+    PosixFilePermission.OTHERS_WRITE);
+
   private final Path storageDirectory;
 
   public LocalTemplateStorage(@NonNull Path storageDirectory) {
@@ -62,10 +77,12 @@ public boolean deployDirectory(
     @Nullable Predicate<Path> filter
   ) {
     if (Files.exists(directory)) {
-      FileUtil.copyDirectory(
-        directory,
-        this.getTemplatePath(target),
-        filter == null ? null : filter::test);
+      var templateDirectory = this.getTemplatePath(target);
+      FileUtil.walkFileTree(directory, ($, current) -> {
+        if (!Files.isDirectory(current)) {
+          this.replaceFile(current, templateDirectory.resolve(directory.relativize(current).toString()));
+        }
+      }, true, filter == null ? $ -> true : filter::test);
       return true;
     }
     return false;
@@ -79,7 +96,46 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    FileUtil.copyDirectory(this.getTemplatePath(template), directory);
+    var templateDirectory = this.getTemplatePath(template);
+    FileUtil.walkFileTree(templateDirectory, ($, current) -> {
+      if (!Files.isDirectory(current)) {
+        this.copyFile(current, directory.resolve(templateDirectory.relativize(current).toString()));
+      }
+    });
+    return true;
+  }
+
+  @Override
+  public boolean materialize(
+    @NonNull ServiceTemplate template,
+    @NonNull Path directory,
+    @NonNull Collection<String> linkedFilePatterns
+  ) {
+    var templateDirectory = this.getTemplatePath(template);
+    var linkedFileMatchers = linkedFilePatterns.stream()
+      .map(pattern -> templateDirectory.getFileSystem().getPathMatcher("glob:" + pattern))
+      .toList();
+
+    // linking will fail for all files if the target directory is on another file system, only try until it fails once
+    var linkingSupported = new AtomicBoolean(true);
+    FileUtil.walkFileTree(templateDirectory, ($, current) -> {
+      if (!Files.isDirectory(current)) {
+        var relativePath = templateDirectory.relativize(current);
+        var targetPath = directory.resolve(relativePath.toString());
+
+        // only immutable files are linked, they are made read-only as changes would be reflected into the template
+        var linked = linkedFileMatchers.stream().anyMatch(matcher -> matcher.matches(relativePath));
+        if (linked && linkingSupported.get()) {
+          if (this.linkFile(current, targetPath)) {
+            return;
+          }
+
+          linkingSupported.set(false);
+        }
+
+        this.copyFile(current, targetPath);
+      }
+    });
     return true;
   }
 
@@ -134,7 +190,7 @@ public boolean contains(@NonNull ServiceTemplate template) {
       Files.createDirectories(filePath.getParent());
     }
 
-    return Files.newOutputStream(filePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    return this.newReplacingOutputStream(filePath, true);
   }
 
   @Override
@@ -147,7 +203,7 @@ public boolean contains(@NonNull ServiceTemplate template) {
       Files.createDirectories(filePath.getParent());
     }
 
-    return Files.newOutputStream(filePath);
+    return this.newReplacingOutputStream(filePath, false);
   }
 
   @Override
@@ -265,4 +321,113 @@ public void close() {
   protected @NonNull Path getTemplatePath(@NonNull ServiceTemplate template) {
     return this.storageDirectory.resolve(template.prefix()).resolve(template.name());
   }
+
+  private void replaceFile(@NonNull Path source, @NonNull Path target) {
+    try {
+      // copy into a new file and replace the target afterwards, the target might be linked into a running service
+      FileUtil.createDirectory(target.getParent());
+      var copiedFile = FileUtil.resolveTempSibling(target);
+      copyWritable(source, copiedFile);
+      FileUtil.replace(copiedFile, target);
+    } catch (IOException exception) {
+      LOGGER.error("Exception copying file from {} to {}", source, target, exception);
+    }
+  }
+
+  private @NonNull OutputStream newReplacingOutputStream(@NonNull Path target, boolean append) throws IOException {
+    // files of a template might be hard-linked into running services which have them opened or even mapped into memory
+    // (for example jar files), all writes go into a new file which replaces the target once the stream gets closed
+    var writtenFile = FileUtil.resolveTempSibling(target);
+    try {
+      if (append && Files.exists(target)) {
+        copyWritable(target, writtenFile);
+      }
+
+      var outputStream = Files.newOutputStream(writtenFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      return new ReplacingOutputStream(outputStream, writtenFile, target);
+    } catch (IOException exception) {
+      Files.deleteIfExists(writtenFile);
+      throw exception;
+    }
+  }
+
+  private void copyFile(@NonNull Path source, @NonNull Path target) {
+    try {
+      FileUtil.createDirectory(target.getParent());
+      copyWritable(source, target);
+    } catch (IOException exception) {
+      LOGGER.error("Exception copying file from {} to {}", source, target, exception);
+    }
+  }
+
+  private boolean linkFile(@NonNull Path source, @NonNull Path target) {
+    try {
+      // the template file is made read-only before linking it, the template and all services share the same file which
+      // must therefore never be written in place. writes through this storage always replace the file instead
+      var attributeView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+      if (attributeView == null) {
+        return false;
+      }
+
+      var permissions = attributeView.readAttributes().permissions();
+      if (permissions.removeAll(WRITE_PERMISSIONS)) {
+        attributeView.setPermissions(permissions);
+      }
+
+      // remove the existing file first, a pull would override it as well
+      FileUtil.createDirectory(target.getParent());
+      Files.deleteIfExists(target);
+      Files.createLink(target, source);
+      return true;
+    } catch (IOException | UnsupportedOperationException exception) {
+      return false;
+    }
+  }
+
+  private static void copyWritable(@NonNull Path source, @NonNull Path target) throws IOException {
+    Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+
+    // the copy keeps the permissions of the source file, which is read-only in case it was linked into a service
+    var attributeView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+    if (attributeView != null) {
+      var permissions = attributeView.readAttributes().permissions();
+      if (permissions.add(PosixFilePermission.OWNER_WRITE)) {
+        attributeView.setPermissions(permissions);
+      }
+    }
+  }
+
+  private static final class ReplacingOutputStream extends FilterOutputStream {
+
+    private final Path writtenFile;
+    private final Path target;
+
+    private boolean closed;
+
+    public ReplacingOutputStream(@NonNull OutputStream out, @NonNull Path writtenFile, @NonNull Path target) {
+      super(out);
+      this.writtenFile = writtenFile;
+      this.target = target;
+    }
+
+    @Override
+    public void write(byte @NonNull [] b, int off, int len) throws IOException {
+      this.out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!this.closed) {
+        this.closed = true;
+        try {
+          super.close();
+        } catch (IOException exception) {
+          Files.deleteIfExists(this.writtenFile);
+          throw exception;
+        }
+
+        FileUtil.replace(this.writtenFile, this.target);
+      }
+    }
+  }
 }
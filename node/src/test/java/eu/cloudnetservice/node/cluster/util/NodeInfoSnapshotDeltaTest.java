@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.cluster.util;
+
+import eu.cloudnetservice.driver.CloudNetVersion;
+import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
+import eu.cloudnetservice.driver.cluster.NodeInfoSnapshot;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class NodeInfoSnapshotDeltaTest {
+
+  private static final NetworkClusterNode NODE = new NetworkClusterNode(
+    "Node-1",
+    List.of(new HostAndPort("127.0.0.1", 1410)));
+  private static final CloudNetVersion VERSION = new CloudNetVersion(4, 0, 0, "abc", "RC", "Blizzard");
+  private static final ProcessSnapshot PROCESS_SNAPSHOT = ProcessSnapshot.self();
+
+  private static NodeInfoSnapshot snapshot(long creationTime, int usedMemory, boolean draining) {
+    return new NodeInfoSnapshot(
+      creationTime,
+      1234,
+      2048,
+      usedMemory,
+      1024,
+      2,
+      draining,
+      NODE,
+      VERSION,
+      PROCESS_SNAPSHOT,
+      90,
+      Set.of(),
+      Document.newJsonDocument().append("hello", "world"));
+  }
+
+  @Test
+  void testKeyframeRoundTrip() {
+    var update = new NodeInfoSnapshotDelta.VersionedSnapshot(5, 0, snapshot(1, 512, false));
+    var buffer = NodeInfoSnapshotDelta.writeKeyframe(DataBuf.empty(), update);
+
+    var decoded = NodeInfoSnapshotDelta.read(buffer, null);
+    Assertions.assertEquals(update, decoded);
+  }
+
+  @Test
+  void testDeltaOnlyContainsChangedFields() {
+    var base = new NodeInfoSnapshotDelta.VersionedSnapshot(5, 0, snapshot(1, 512, false));
+    var update = new NodeInfoSnapshotDelta.VersionedSnapshot(5, 1, snapshot(2, 768, true));
+
+    var keyframe = NodeInfoSnapshotDelta.writeKeyframe(DataBuf.empty(), update);
+    var delta = NodeInfoSnapshotDelta.writeDelta(DataBuf.empty(), base, update);
+    Assertions.assertTrue(delta.readableBytes() < keyframe.readableBytes());
+
+    var decoded = NodeInfoSnapshotDelta.read(delta, base);
+    Assertions.assertNotNull(decoded);
+    Assertions.assertEquals(1, decoded.version());
+    Assertions.assertEquals(update.snapshot(), decoded.snapshot());
+    Assertions.assertEquals(768, decoded.snapshot().usedMemory());
+    Assertions.assertTrue(decoded.snapshot().draining());
+    Assertions.assertEquals("world", decoded.snapshot().propertyHolder().getString("hello"));
+  }
+
+  @Test
+  void testDeltaIsRejectedOnVersionGap() {
+    var base = new NodeInfoSnapshotDelta.VersionedSnapshot(5, 0, snapshot(1, 512, false));
+    var update = new NodeInfoSnapshotDelta.VersionedSnapshot(5, 2, snapshot(3, 512, false));
+    var lastKnown = new NodeInfoSnapshotDelta.VersionedSnapshot(5, 1, snapshot(2, 512, false));
+
+    // the receiver knows version 1, but the delta is based on version 0
+    Assertions.assertNull(NodeInfoSnapshotDelta.read(
+      NodeInfoSnapshotDelta.writeDelta(DataBuf.empty(), base, update),
+      lastKnown));
+    // the receiver knows the base version, but from a different epoch
+    Assertions.assertNull(NodeInfoSnapshotDelta.read(
+      NodeInfoSnapshotDelta.writeDelta(DataBuf.empty(), base, update),
+      new NodeInfoSnapshotDelta.VersionedSnapshot(6, 0, base.snapshot())));
+    // the receiver knows nothing
+    Assertions.assertNull(NodeInfoSnapshotDelta.read(
+      NodeInfoSnapshotDelta.writeDelta(DataBuf.empty(), base, update),
+      null));
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import dev.derklaro.aerogel.binding.BindingBuilder;
+import eu.cloudnetservice.driver.ComponentInfo;
+import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+class DatabaseNearCacheRegistryTest {
+
+  @BeforeAll
+  static void installBindings() {
+    // the sender of the invalidation messages is resolved from the component info
+    var componentInfo = new ComponentInfo(DriverEnvironment.NODE, "Node-1", "Node-1");
+    InjectionLayer.boot().install(BindingBuilder.create().bind(ComponentInfo.class).toInstance(componentInfo));
+  }
+
+  static NetworkChannel mockChannel(boolean active) {
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.active()).thenReturn(active);
+    return channel;
+  }
+
+  static ChannelMessage sentMessage(NetworkChannel channel) {
+    var packetCaptor = ArgumentCaptor.forClass(Packet.class);
+    Mockito.verify(channel).sendPacket(packetCaptor.capture());
+
+    var content = packetCaptor.getValue().content();
+    Assertions.assertFalse(content.readBoolean());
+    return content.readObject(ChannelMessage.class);
+  }
+
+  @Test
+  void testKeyInvalidationIsSentToRegisteredChannels() {
+    var registry = new DatabaseNearCacheRegistry();
+    var firstChannel = mockChannel(true);
+    var secondChannel = mockChannel(true);
+    var otherChannel = mockChannel(true);
+
+    registry.register("players", firstChannel);
+    registry.register("players", secondChannel);
+    registry.register("permissions", otherChannel);
+    registry.invalidate("players", "derklaro");
+
+    for (var channel : new NetworkChannel[]{firstChannel, secondChannel}) {
+      var message = sentMessage(channel);
+      Assertions.assertEquals(NetworkConstants.INTERNAL_MSG_CHANNEL, message.channel());
+      Assertions.assertEquals("invalidate_database_near_cache", message.message());
+      Assertions.assertEquals("players", message.content().readString());
+      Assertions.assertEquals("derklaro", message.content().readNullable(DataBuf::readString));
+    }
+
+    // channels which cache another database must not be notified
+    Mockito.verify(otherChannel, Mockito.never()).sendPacket(Mockito.any(Packet.class));
+  }
+
+  @Test
+  void testFullInvalidationHasNoKey() {
+    var registry = new DatabaseNearCacheRegistry();
+    var channel = mockChannel(true);
+
+    registry.register("players", channel);
+    registry.invalidate("players", null);
+
+    var message = sentMessage(channel);
+    Assertions.assertEquals("players", message.content().readString());
+    Assertions.assertNull(message.content().readNullable(DataBuf::readString));
+  }
+
+  @Test
+  void testInactiveAndUnregisteredChannelsAreSkipped() {
+    var registry = new DatabaseNearCacheRegistry();
+    var inactiveChannel = mockChannel(false);
+    var unregisteredChannel = mockChannel(true);
+
+    registry.register("players", inactiveChannel);
+    registry.register("players", unregisteredChannel);
+    registry.unregister(unregisteredChannel);
+    registry.invalidate("players", "derklaro");
+
+    Mockito.verify(inactiveChannel, Mockito.never()).sendPacket(Mockito.any(Packet.class));
+    Mockito.verify(unregisteredChannel, Mockito.never()).sendPacket(Mockito.any(Packet.class));
+  }
+
+  @Test
+  void testInvalidationIsForwardedToNodes() {
+    var registry = new DatabaseNearCacheRegistry();
+    var serviceChannel = mockChannel(true);
+    var nodeChannel = mockChannel(true);
+
+    registry.register("players", serviceChannel);
+    registry.forwardToNodes(() -> List.of(nodeChannel));
+    registry.invalidate("players", "derklaro");
+
+    var serviceMessage = sentMessage(serviceChannel);
+    Assertions.assertEquals("invalidate_database_near_cache", serviceMessage.message());
+
+    var nodeMessage = sentMessage(nodeChannel);
+    Assertions.assertEquals(NetworkConstants.INTERNAL_MSG_CHANNEL, nodeMessage.channel());
+    Assertions.assertEquals("forward_database_near_cache_invalidation", nodeMessage.message());
+    Assertions.assertEquals("players", nodeMessage.content().readString());
+    Assertions.assertEquals("derklaro", nodeMessage.content().readNullable(DataBuf::readString));
+  }
+
+  @Test
+  void testForwardedInvalidationIsOnlySentLocally() {
+    var registry = new DatabaseNearCacheRegistry();
+    var serviceChannel = mockChannel(true);
+    var nodeChannel = mockChannel(true);
+
+    registry.register("players", serviceChannel);
+    registry.forwardToNodes(() -> List.of(nodeChannel));
+    registry.invalidateLocally("players", "derklaro");
+
+    Assertions.assertEquals("invalidate_database_near_cache", sentMessage(serviceChannel).message());
+    Mockito.verify(nodeChannel, Mockito.never()).sendPacket(Mockito.any(Packet.class));
+  }
+}
@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.node.database.AbstractDatabaseTest;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,7 +29,7 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-class H2DatabaseTest {
+class H2DatabaseTest extends AbstractDatabaseTest {
 
   private H2DatabaseProvider databaseProvider;
 
@@ -41,6 +42,17 @@ void setup() throws Exception {
     this.databaseProvider.init();
   }
 
+  @Override
+  protected H2DatabaseProvider databaseProvider() {
+    return this.databaseProvider;
+  }
+
+  @Override
+  protected String rejectedKey() {
+    // the key column is limited to 64 characters
+    return "a".repeat(100);
+  }
+
   @AfterEach
   void closeEnvironment() throws Exception {
     this.databaseProvider.close();
@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.node.database.AbstractDatabaseTest;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,7 +29,7 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-class XodusDatabaseTest {
+class XodusDatabaseTest extends AbstractDatabaseTest {
 
   private static final Path BASE_DIRECTORY = Path.of("build", "tmp", "xodus").toAbsolutePath();
   private XodusDatabaseProvider databaseProvider;
@@ -39,6 +40,11 @@ void setup() {
     this.databaseProvider.init();
   }
 
+  @Override
+  protected XodusDatabaseProvider databaseProvider() {
+    return this.databaseProvider;
+  }
+
   @AfterEach
   void closeEnvironment() throws Exception {
     this.databaseProvider.close();
@@ -131,6 +137,36 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testBulkDatabaseOperations() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+    Assertions.assertTrue(database.index("hello_index", "hello"));
+
+    Assertions.assertTrue(database.insertAll(Map.of(
+      "1", Document.newJsonDocument().append("hello", "world"),
+      "2", Document.newJsonDocument().append("hello", "world2"),
+      "3", Document.newJsonDocument().append("hello", "world"))));
+    Assertions.assertEquals(3, database.documentCount());
+    Assertions.assertEquals(2, database.find("hello", "world").size());
+
+    var documents = database.getAll(List.of("1", "3", "4"));
+    Assertions.assertEquals(2, documents.size());
+    Assertions.assertEquals("world", documents.get("1").getString("hello"));
+    Assertions.assertEquals("world", documents.get("3").getString("hello"));
+    Assertions.assertFalse(documents.containsKey("4"));
+
+    // overriding entries must update the index entries as well
+    Assertions.assertTrue(database.insertAll(Map.of("3", Document.newJsonDocument().append("hello", "world2"))));
+    Assertions.assertEquals(1, database.find("hello", "world").size());
+    Assertions.assertEquals(2, database.find("hello", "world2").size());
+
+    Assertions.assertEquals(2, database.deleteAll(List.of("1", "2", "4")));
+    Assertions.assertEquals(1, database.documentCount());
+    Assertions.assertTrue(database.find("hello", "world").isEmpty());
+    Assertions.assertEquals(1, database.find("hello", "world2").size());
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
@@ -165,4 +201,44 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testSecondaryIndex() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "a").append("group", "x")));
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "b").append("group", "x")));
+
+    // the index must include the documents which existed before its creation
+    Assertions.assertTrue(database.index("name_index", "name"));
+    Assertions.assertFalse(database.index("name_index", "name"));
+    Assertions.assertEquals(1, database.find("name", "a").size());
+
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "a").append("group", "y")));
+    Assertions.assertEquals(2, database.find("name", "a").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "a", "group", "y")).size());
+
+    // updates & deletes must be reflected in the index
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "c")));
+    Assertions.assertEquals(1, database.find("name", "a").size());
+    Assertions.assertEquals(1, database.find("name", "c").size());
+
+    Assertions.assertTrue(database.delete("3"));
+    Assertions.assertTrue(database.find("name", "a").isEmpty());
+
+    // the index definition must survive a reopen of the database
+    this.databaseProvider.databaseCache.invalidateAll();
+    var reopened = this.databaseProvider.database("test");
+    Assertions.assertFalse(reopened.index("name_index", "name"));
+    Assertions.assertEquals(1, reopened.find("name", "b").size());
+
+    reopened.clear();
+    Assertions.assertTrue(reopened.find("name", "b").isEmpty());
+
+    // internal index stores must not be visible as databases
+    Assertions.assertEquals(List.of("test"), List.copyOf(this.databaseProvider.databaseNames()));
+    Assertions.assertTrue(this.databaseProvider.deleteDatabase("test"));
+    Assertions.assertTrue(this.databaseProvider.databaseNames().isEmpty());
+  }
 }
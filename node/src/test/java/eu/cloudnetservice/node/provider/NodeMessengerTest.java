@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.provider;
+
+import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class NodeMessengerTest {
+
+  private NodeMessenger messenger;
+  private NetworkChannel subscribedChannel;
+  private NetworkChannel unsubscribedChannel;
+  private NetworkChannel unknownChannel;
+
+  @BeforeEach
+  void setupMessenger() {
+    this.messenger = new NodeMessenger(
+      Mockito.mock(NodeServerProvider.class),
+      Mockito.mock(CloudServiceManager.class));
+
+    this.subscribedChannel = Mockito.mock(NetworkChannel.class);
+    this.unsubscribedChannel = Mockito.mock(NetworkChannel.class);
+    this.unknownChannel = Mockito.mock(NetworkChannel.class);
+
+    this.messenger.updateChannelSubscriptions(this.subscribedChannel, List.of("bridge"));
+    this.messenger.updateChannelSubscriptions(this.unsubscribedChannel, List.of("signs"));
+  }
+
+  @Test
+  void testBroadcastsOnlyReachSubscribedChannels() {
+    var channels = List.of(this.subscribedChannel, this.unsubscribedChannel, this.unknownChannel);
+
+    // services without published subscriptions must still receive everything
+    var allTarget = ChannelMessageTarget.of(ChannelMessageTarget.Type.ALL, null);
+    var filtered = this.messenger.filterSubscribedChannels(allTarget, "bridge", channels);
+    Assertions.assertEquals(Set.of(this.subscribedChannel, this.unknownChannel), Set.copyOf(filtered));
+
+    var taskTarget = ChannelMessageTarget.of(ChannelMessageTarget.Type.TASK, "Lobby");
+    filtered = this.messenger.filterSubscribedChannels(taskTarget, "signs", channels);
+    Assertions.assertEquals(Set.of(this.unsubscribedChannel, this.unknownChannel), Set.copyOf(filtered));
+  }
+
+  @Test
+  void testDirectTargetsAreNeverFiltered() {
+    var channels = List.of(this.unsubscribedChannel);
+
+    var serviceTarget = ChannelMessageTarget.of(ChannelMessageTarget.Type.SERVICE, "Lobby-1");
+    Assertions.assertEquals(channels, this.messenger.filterSubscribedChannels(serviceTarget, "bridge", channels));
+
+    var nodeTarget = ChannelMessageTarget.of(ChannelMessageTarget.Type.NODE, null);
+    Assertions.assertEquals(channels, this.messenger.filterSubscribedChannels(nodeTarget, "bridge", channels));
+
+    // all services without a name is a broadcast and must be filtered
+    var servicesTarget = ChannelMessageTarget.of(ChannelMessageTarget.Type.SERVICE, null);
+    Assertions.assertTrue(this.messenger.filterSubscribedChannels(servicesTarget, "bridge", channels).isEmpty());
+  }
+
+  @Test
+  void testRemovedSubscriptionsReceiveEverything() {
+    this.messenger.removeChannelSubscriptions(this.unsubscribedChannel);
+
+    var target = ChannelMessageTarget.of(ChannelMessageTarget.Type.ALL, null);
+    var filtered = this.messenger.filterSubscribedChannels(target, "bridge", List.of(this.unsubscribedChannel));
+    Assertions.assertEquals(List.of(this.unsubscribedChannel), List.copyOf(filtered));
+  }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import dev.derklaro.aerogel.binding.BindingBuilder;
+import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.ssl.SSLConfiguration;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.TemplateStorage;
+import eu.cloudnetservice.driver.template.TemplateStorageProvider;
+import eu.cloudnetservice.node.TickLoop;
+import eu.cloudnetservice.node.config.Configuration;
+import eu.cloudnetservice.node.event.service.CloudServicePrepareStageEvent;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
+import eu.cloudnetservice.node.version.ServiceVersionProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+class AbstractServiceTest {
+
+  private static final TemplateStorageProvider STORAGE_PROVIDER = Mockito.mock(TemplateStorageProvider.class);
+
+  private final List<Path> stagingDirectories = new CopyOnWriteArrayList<>();
+  private final List<CloudServicePrepareStageEvent.Stage> calledStages = new CopyOnWriteArrayList<>();
+
+  @TempDir
+  private Path tempDirectory;
+  private Configuration nodeConfig;
+  private TestService service;
+
+  @BeforeAll
+  static void installBindings() {
+    // the storage of a template is resolved using the template storage provider
+    var layer = InjectionLayer.boot();
+    layer.install(BindingBuilder.create().bind(TemplateStorageProvider.class).toInstance(STORAGE_PROVIDER));
+  }
+
+  static ServiceTemplate template(@NonNull String storageName, int priority, @NonNull TemplateStorage storage) {
+    Mockito.when(STORAGE_PROVIDER.templateStorage(storageName)).thenReturn(storage);
+    return ServiceTemplate.builder()
+      .prefix("global")
+      .name("server")
+      .storage(storageName)
+      .priority(priority)
+      .build();
+  }
+
+  static void writeFile(@NonNull Path directory, @NonNull String content) throws IOException {
+    Files.createDirectories(directory);
+    Files.writeString(directory.resolve("server.properties"), content);
+  }
+
+  @BeforeEach
+  void setup() {
+    var eventManager = Mockito.mock(EventManager.class);
+    Mockito.when(eventManager.callEvent(ArgumentMatchers.any())).thenAnswer(invocation -> {
+      if (invocation.getArgument(0) instanceof CloudServicePrepareStageEvent event) {
+        this.calledStages.add(event.stage());
+      }
+      return invocation.getArgument(0);
+    });
+
+    this.nodeConfig = Mockito.mock(Configuration.class);
+    Mockito.when(this.nodeConfig.serverSSLConfig())
+      .thenReturn(new SSLConfiguration(false, false, null, null, null, null));
+    Mockito.when(this.nodeConfig.identity())
+      .thenReturn(new NetworkClusterNode("Node-1", List.of(new HostAndPort("127.0.0.1", 1410))));
+
+    var manager = Mockito.mock(CloudServiceManager.class);
+    Mockito.when(manager.tempDirectory()).thenReturn(this.tempDirectory);
+
+    var configuration = ServiceConfiguration.builder()
+      .taskName("Lobby")
+      .taskId(1)
+      .hostAddress("127.0.0.1")
+      .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+      .build();
+    this.service = new TestService(
+      Mockito.mock(TickLoop.class),
+      this.nodeConfig,
+      configuration,
+      manager,
+      eventManager,
+      Mockito.mock(ServiceVersionProvider.class),
+      Mockito.mock(ServiceConfigurationPreparer.class));
+  }
+
+  @Test
+  void testTemplatesAreAppliedInPriorityOrder() throws IOException {
+    var highPriorityPulled = new CountDownLatch(1);
+    var lowPriorityStorage = Mockito.mock(TemplateStorage.class);
+    Mockito.when(lowPriorityStorage.pull(ArgumentMatchers.any(), ArgumentMatchers.any())).then(invocation -> {
+      // complete the pull of the low priority template last to ensure that the completion order is not used
+      Assertions.assertTrue(highPriorityPulled.await(5, TimeUnit.SECONDS));
+      this.stagingDirectories.add(invocation.getArgument(1));
+      writeFile(invocation.getArgument(1), "low");
+      return true;
+    });
+    var highPriorityStorage = Mockito.mock(TemplateStorage.class);
+    Mockito.when(highPriorityStorage.pull(ArgumentMatchers.any(), ArgumentMatchers.any())).then(invocation -> {
+      this.stagingDirectories.add(invocation.getArgument(1));
+      writeFile(invocation.getArgument(1), "high");
+      highPriorityPulled.countDown();
+      return true;
+    });
+
+    var highPriorityTemplate = template("high", 10, highPriorityStorage);
+    var lowPriorityTemplate = template("low", 1, lowPriorityStorage);
+    this.service.addServiceTemplate(highPriorityTemplate);
+    this.service.addServiceTemplate(lowPriorityTemplate);
+    this.service.includeWaitingServiceTemplates();
+
+    var serverProperties = this.service.directory().resolve("server.properties");
+    Assertions.assertEquals("high", Files.readString(serverProperties));
+    Assertions.assertTrue(this.service.installedTemplates().contains(lowPriorityTemplate));
+    Assertions.assertTrue(this.service.installedTemplates().contains(highPriorityTemplate));
+    Assertions.assertTrue(this.service.waitingTemplates().isEmpty());
+
+    Assertions.assertEquals(2, this.stagingDirectories.size());
+    this.stagingDirectories.forEach(directory -> Assertions.assertTrue(Files.notExists(directory)));
+  }
+
+  @Test
+  void testLinkedRemoteTemplatesAreStaged() throws IOException {
+    // files can only be linked and moved without copying them on the same file system
+    var stagingRoot = Files.createDirectories(AbstractService.TEMPLATE_STAGING_DIR);
+    Assumptions.assumeTrue(Files.getFileStore(stagingRoot).equals(Files.getFileStore(this.tempDirectory)));
+
+    Mockito.when(this.nodeConfig.linkImmutableTemplateFiles()).thenReturn(true);
+    Mockito.when(this.nodeConfig.linkedTemplateFiles()).thenReturn(List.of("**.jar"));
+
+    var templateFile = Files.writeString(this.tempDirectory.resolve("template.jar"), "plugin");
+    var storage = Mockito.mock(TemplateStorage.class);
+    Mockito.when(storage.materialize(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+      .then(invocation -> {
+        Path directory = invocation.getArgument(1);
+        this.stagingDirectories.add(directory);
+        Files.createDirectories(directory.resolve("plugins"));
+        Files.createLink(directory.resolve("plugins").resolve("plugin.jar"), templateFile);
+        return true;
+      });
+
+    var template = template("remote", 1, storage);
+    this.service.addServiceTemplate(template);
+    this.service.includeWaitingServiceTemplates();
+
+    // the linked file is moved into the service directory, a copy would break the link
+    var pluginFile = this.service.directory().resolve("plugins").resolve("plugin.jar");
+    Assertions.assertTrue(Files.isSameFile(templateFile, pluginFile));
+    Assertions.assertTrue(this.service.installedTemplates().contains(template));
+    Assertions.assertEquals(1, this.stagingDirectories.size());
+    Assertions.assertNotEquals(this.service.directory(), this.stagingDirectories.getFirst());
+    Assertions.assertTrue(Files.notExists(this.stagingDirectories.getFirst()));
+  }
+
+  @Test
+  void testFailedPullCancelsStagedPulls() throws InterruptedException {
+    var stagedPullStarted = new CountDownLatch(1);
+    var stagedPullInterrupted = new CountDownLatch(1);
+
+    var failingStorage = Mockito.mock(TemplateStorage.class);
+    Mockito.when(failingStorage.pull(ArgumentMatchers.any(), ArgumentMatchers.any())).then(_ -> {
+      Assertions.assertTrue(stagedPullStarted.await(5, TimeUnit.SECONDS));
+      throw new IllegalStateException("unable to pull");
+    });
+    var blockingStorage = this.blockingStorage(stagedPullStarted, stagedPullInterrupted);
+
+    var failingTemplate = template("failing", 1, failingStorage);
+    var blockingTemplate = template("blocking", 10, blockingStorage);
+    this.service.addServiceTemplate(failingTemplate);
+    this.service.addServiceTemplate(blockingTemplate);
+    Assertions.assertThrows(IllegalStateException.class, this.service::includeWaitingServiceTemplates);
+
+    Assertions.assertTrue(stagedPullInterrupted.await(5, TimeUnit.SECONDS));
+    Assertions.assertTrue(this.service.installedTemplates().isEmpty());
+    Assertions.assertEquals(1, this.stagingDirectories.size());
+    Assertions.assertTrue(Files.notExists(this.stagingDirectories.getFirst()));
+  }
+
+  @Test
+  void testPrepareStagesAreCalledInOrder() {
+    var storage = Mockito.mock(TemplateStorage.class);
+    Mockito.when(storage.pull(ArgumentMatchers.any(), ArgumentMatchers.any())).then(invocation -> {
+      writeFile(invocation.getArgument(1), "remote");
+      return true;
+    });
+
+    var template = template("remote", 1, storage);
+    this.service.addServiceTemplate(template);
+    this.service.prepareService();
+
+    Assertions.assertEquals(
+      List.of(
+        CloudServicePrepareStageEvent.Stage.SETUP,
+        CloudServicePrepareStageEvent.Stage.INCLUSIONS,
+        CloudServicePrepareStageEvent.Stage.TEMPLATES,
+        CloudServicePrepareStageEvent.Stage.CONFIGURATION),
+      this.calledStages);
+    Assertions.assertTrue(this.service.installedTemplates().contains(template));
+    Assertions.assertTrue(Files.exists(this.service.directory().resolve("server.properties")));
+    Assertions.assertTrue(Files.exists(this.service.directory().resolve(AbstractService.WRAPPER_CONFIG_PATH)));
+  }
+
+  @Test
+  void testFailedInclusionsDiscardStagedTemplates() throws InterruptedException {
+    var stagedPullStarted = new CountDownLatch(1);
+    var stagedPullInterrupted = new CountDownLatch(1);
+
+    var template = template("blocking", 1, this.blockingStorage(stagedPullStarted, stagedPullInterrupted));
+    this.service.addServiceTemplate(template);
+    this.service.inclusionFailure = new IllegalStateException("unable to load inclusions");
+    this.service.stagedPullStarted = stagedPullStarted;
+    Assertions.assertThrows(IllegalStateException.class, this.service::prepareService);
+
+    Assertions.assertTrue(stagedPullInterrupted.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(List.of(CloudServicePrepareStageEvent.Stage.SETUP), this.calledStages);
+    Assertions.assertTrue(this.service.installedTemplates().isEmpty());
+    Assertions.assertEquals(1, this.stagingDirectories.size());
+    Assertions.assertTrue(Files.notExists(this.stagingDirectories.getFirst()));
+  }
+
+  private @NonNull TemplateStorage blockingStorage(
+    @NonNull CountDownLatch pullStarted,
+    @NonNull CountDownLatch pullInterrupted
+  ) {
+    var storage = Mockito.mock(TemplateStorage.class);
+    Mockito.when(storage.pull(ArgumentMatchers.any(), ArgumentMatchers.any())).then(invocation -> {
+      this.stagingDirectories.add(invocation.getArgument(1));
+      writeFile(invocation.getArgument(1), "blocking");
+      pullStarted.countDown();
+      try {
+        // block until the pull gets cancelled
+        new CountDownLatch(1).await();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        pullInterrupted.countDown();
+      }
+      return false;
+    });
+    return storage;
+  }
+
+  static final class TestService extends AbstractService {
+
+    private volatile RuntimeException inclusionFailure;
+    private volatile CountDownLatch stagedPullStarted;
+
+    public TestService(
+      @NonNull TickLoop tickLoop,
+      @NonNull Configuration nodeConfig,
+      @NonNull ServiceConfiguration configuration,
+      @NonNull CloudServiceManager manager,
+      @NonNull EventManager eventManager,
+      @NonNull ServiceVersionProvider versionProvider,
+      @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer
+    ) {
+      super(tickLoop, nodeConfig, configuration, manager, eventManager, versionProvider, serviceConfigurationPreparer);
+    }
+
+    @Override
+    protected void applyServiceInclusions(@NonNull List<PendingInclusion> pendingInclusions) {
+      var stagedPullStarted = this.stagedPullStarted;
+      if (stagedPullStarted != null) {
+        // wait for the staged pulls to start before failing
+        try {
+          Assertions.assertTrue(stagedPullStarted.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      var inclusionFailure = this.inclusionFailure;
+      if (inclusionFailure != null) {
+        throw inclusionFailure;
+      }
+
+      super.applyServiceInclusions(pendingInclusions);
+    }
+
+    @Override
+    protected void startProcess() {
+    }
+
+    @Override
+    protected void stopProcess() {
+    }
+
+    @Override
+    public void runCommand(@NonNull String command) {
+    }
+
+    @Override
+    public @NonNull String runtime() {
+      return "jvm";
+    }
+
+    @Override
+    public boolean alive() {
+      return false;
+    }
+  }
+}
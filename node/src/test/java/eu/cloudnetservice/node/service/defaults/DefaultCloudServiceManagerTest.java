@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import dev.derklaro.aerogel.binding.BindingBuilder;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCFactory;
+import eu.cloudnetservice.driver.network.rpc.defaults.handler.DefaultRPCHandlerRegistry;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
+import eu.cloudnetservice.driver.provider.CloudServiceFactory;
+import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.node.TickLoop;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.cluster.sync.DataSyncRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class DefaultCloudServiceManagerTest {
+
+  private DefaultCloudServiceManager serviceManager;
+
+  @BeforeAll
+  static void installBindings() {
+    // the default configuration preparers are constructed using the injection layer
+    var layer = InjectionLayer.boot();
+    var taskProvider = Mockito.mock(ServiceTaskProvider.class);
+    layer.install(BindingBuilder.create().bind(ServiceTaskProvider.class).toInstance(taskProvider));
+  }
+
+  static ServiceConfiguration configuration(String task, int taskId, ServiceEnvironmentType env, String... groups) {
+    return ServiceConfiguration.builder()
+      .taskName(task)
+      .taskId(taskId)
+      .environment(env)
+      .groups(Set.of(groups))
+      .build();
+  }
+
+  static ServiceInfoSnapshot snapshot(ServiceConfiguration configuration, ServiceLifeCycle lifeCycle) {
+    return new ServiceInfoSnapshot(
+      System.currentTimeMillis(),
+      new HostAndPort("127.0.0.1", 25565),
+      ProcessSnapshot.empty(),
+      configuration,
+      -1,
+      lifeCycle,
+      Document.emptyDocument());
+  }
+
+  @BeforeEach
+  void setup() {
+    var rpcFactory = new DefaultRPCFactory(DefaultObjectMapper.DEFAULT_MAPPER, DataBufFactory.defaultFactory());
+    this.serviceManager = new DefaultCloudServiceManager(
+      Mockito.mock(TickLoop.class),
+      rpcFactory,
+      Mockito.mock(EventManager.class),
+      Mockito.mock(DataSyncRegistry.class),
+      new DefaultRPCHandlerRegistry(),
+      Mockito.mock(NodeServerProvider.class),
+      Mockito.mock(CloudServiceFactory.class),
+      new ArrayList<>(List.of("-Xmx512M")));
+  }
+
+  @Test
+  void testRegisteredServicesAreIndexed() {
+    var channel = Mockito.mock(NetworkChannel.class);
+    var lobby1 = configuration("Lobby", 1, ServiceEnvironmentType.MINECRAFT_SERVER, "Global", "Lobbies");
+    var lobby2 = configuration("Lobby", 2, ServiceEnvironmentType.MINECRAFT_SERVER, "Global");
+    var proxy = configuration("Proxy", 1, ServiceEnvironmentType.VELOCITY, "Global");
+
+    Assertions.assertNotNull(this.serviceManager.registerService(snapshot(lobby1, ServiceLifeCycle.RUNNING), channel));
+    Assertions.assertNotNull(this.serviceManager.registerService(snapshot(lobby2, ServiceLifeCycle.PREPARED), channel));
+    Assertions.assertNotNull(this.serviceManager.registerService(snapshot(proxy, ServiceLifeCycle.RUNNING), channel));
+
+    Assertions.assertEquals(3, this.serviceManager.serviceCount());
+    Assertions.assertEquals(2, this.serviceManager.serviceCountByTask("Lobby"));
+    Assertions.assertEquals(1, this.serviceManager.serviceCountByTask("Proxy"));
+    Assertions.assertEquals(0, this.serviceManager.serviceCountByTask("Unknown"));
+    Assertions.assertEquals(3, this.serviceManager.serviceCountByGroup("Global"));
+    Assertions.assertEquals(1, this.serviceManager.serviceCountByGroup("Lobbies"));
+
+    Assertions.assertEquals(2, this.serviceManager.servicesByTask("Lobby").size());
+    Assertions.assertEquals(3, this.serviceManager.servicesByGroup("Global").size());
+    var velocityServices = this.serviceManager.servicesByEnvironment(ServiceEnvironmentType.VELOCITY.name());
+    Assertions.assertEquals(1, velocityServices.size());
+    Assertions.assertTrue(this.serviceManager.servicesByEnvironment("Unknown").isEmpty());
+
+    var lobbyByName = this.serviceManager.serviceByName(lobby1.serviceId().name());
+    Assertions.assertNotNull(lobbyByName);
+    Assertions.assertEquals(lobby1.serviceId().uniqueId(), lobbyByName.serviceId().uniqueId());
+    Assertions.assertNull(this.serviceManager.serviceByName("Lobby-3"));
+  }
+
+  @Test
+  void testDuplicateRegistrationIsNotIndexed() {
+    var channel = Mockito.mock(NetworkChannel.class);
+    var lobby = configuration("Lobby", 1, ServiceEnvironmentType.MINECRAFT_SERVER, "Global");
+
+    Assertions.assertNotNull(this.serviceManager.registerService(snapshot(lobby, ServiceLifeCycle.RUNNING), channel));
+    Assertions.assertNull(this.serviceManager.registerService(snapshot(lobby, ServiceLifeCycle.RUNNING), channel));
+
+    Assertions.assertEquals(1, this.serviceManager.serviceCount());
+    Assertions.assertEquals(1, this.serviceManager.serviceCountByTask("Lobby"));
+    Assertions.assertEquals(1, this.serviceManager.serviceCountByGroup("Global"));
+  }
+
+  @Test
+  void testDeletedServicesAreRemovedFromIndexes() {
+    var channel = Mockito.mock(NetworkChannel.class);
+    var lobby1 = configuration("Lobby", 1, ServiceEnvironmentType.MINECRAFT_SERVER, "Global");
+    var lobby2 = configuration("Lobby", 2, ServiceEnvironmentType.MINECRAFT_SERVER, "Global");
+
+    this.serviceManager.handleServiceUpdate(snapshot(lobby1, ServiceLifeCycle.RUNNING), channel);
+    this.serviceManager.handleServiceUpdate(snapshot(lobby2, ServiceLifeCycle.RUNNING), channel);
+    Assertions.assertEquals(2, this.serviceManager.serviceCountByTask("Lobby"));
+
+    // deleting the service should remove it from all indexes
+    this.serviceManager.handleServiceUpdate(snapshot(lobby1, ServiceLifeCycle.DELETED), null);
+    Assertions.assertEquals(1, this.serviceManager.serviceCountByTask("Lobby"));
+    Assertions.assertEquals(1, this.serviceManager.serviceCountByGroup("Global"));
+    Assertions.assertNull(this.serviceManager.serviceByName(lobby1.serviceId().name()));
+
+    // force removing the last service should leave no empty index entries behind
+    this.serviceManager.forceRemoveRegisteredService(lobby2.serviceId().uniqueId());
+    Assertions.assertEquals(0, this.serviceManager.serviceCount());
+    Assertions.assertTrue(this.serviceManager.servicesByName.isEmpty());
+    Assertions.assertTrue(this.serviceManager.servicesByTask.isEmpty());
+    Assertions.assertTrue(this.serviceManager.servicesByGroup.isEmpty());
+    Assertions.assertTrue(this.serviceManager.servicesByEnvironment.isEmpty());
+  }
+}
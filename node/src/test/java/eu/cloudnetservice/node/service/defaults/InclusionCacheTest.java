@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import lombok.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InclusionCacheTest {
+
+  private static @NonNull Path cachedFile(@NonNull Path tempDir) throws IOException {
+    var cacheDirectory = Files.createDirectories(tempDir.resolve("cache"));
+    return Files.writeString(cacheDirectory.resolve("cached"), "Hello World");
+  }
+
+  private static @NonNull InclusionCache cache(@NonNull Path cachedFile) {
+    // the cache makes the existing entries read-only while loading them
+    return new InclusionCache(cachedFile.getParent(), Long.MAX_VALUE, 60_000);
+  }
+
+  private static boolean ownerWritable(@NonNull Path file) throws IOException {
+    // checked using the permissions as Files.isWritable is always true when running as root
+    return Files.getPosixFilePermissions(file).contains(PosixFilePermission.OWNER_WRITE);
+  }
+
+  @Test
+  void testInstalledCopyIsWritable(@TempDir Path tempDir) throws IOException {
+    Assumptions.assumeTrue(Files.getFileAttributeView(tempDir, PosixFileAttributeView.class) != null);
+    var cachedFile = cachedFile(tempDir);
+    var cache = cache(cachedFile);
+    Assertions.assertFalse(ownerWritable(cachedFile));
+
+    // configuration files are rewritten by the service and must be writable
+    var target = tempDir.resolve("service").resolve("config.yml");
+    Assertions.assertTrue(cache.install(cachedFile, target));
+    Assertions.assertEquals("Hello World", Files.readString(target));
+    Assertions.assertTrue(ownerWritable(target));
+    Assertions.assertFalse(Files.isSameFile(cachedFile, target));
+
+    // jar files are linked to the read-only cached file
+    var jarTarget = tempDir.resolve("service").resolve("plugins").resolve("plugin.jar");
+    Assertions.assertTrue(cache.install(cachedFile, jarTarget));
+    Assertions.assertTrue(Files.isSameFile(cachedFile, jarTarget));
+  }
+
+  @Test
+  void testInstallReplacesExistingFile(@TempDir Path tempDir) throws IOException {
+    var cachedFile = cachedFile(tempDir);
+    var cache = cache(cachedFile);
+
+    var target = Files.writeString(tempDir.resolve("config.yml"), "Old content");
+    Assertions.assertTrue(cache.install(cachedFile, target));
+    Assertions.assertEquals("Hello World", Files.readString(target));
+  }
+
+  @Test
+  void testInstallDoesNotReplaceDirectory(@TempDir Path tempDir) throws IOException {
+    var cachedFile = cachedFile(tempDir);
+    var cache = cache(cachedFile);
+
+    var target = Files.createDirectories(tempDir.resolve("plugins"));
+    var plugin = Files.writeString(target.resolve("plugin.jar"), "Plugin");
+    Assertions.assertFalse(cache.install(cachedFile, target));
+    Assertions.assertTrue(Files.isDirectory(target));
+    Assertions.assertEquals("Plugin", Files.readString(plugin));
+  }
+}
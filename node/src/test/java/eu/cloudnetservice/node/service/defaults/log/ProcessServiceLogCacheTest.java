@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import eu.cloudnetservice.node.config.Configuration;
+import eu.cloudnetservice.node.service.CloudService;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ProcessServiceLogCacheTest {
+
+  private ProcessServiceLogCache logCache;
+
+  // returns at most one byte per read call to split multibyte sequences
+  static InputStream byteByByteStream(byte[] content) {
+    return new FilterInputStream(new ByteArrayInputStream(content)) {
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return super.read(b, off, Math.min(1, len));
+      }
+    };
+  }
+
+  @BeforeEach
+  void setup() {
+    var configuration = Mockito.mock(Configuration.class);
+    Mockito.when(configuration.maxServiceConsoleLogCacheSize()).thenReturn(64);
+    this.logCache = new ProcessServiceLogCache(() -> null, configuration, Mockito.mock(CloudService.class));
+  }
+
+  @Test
+  void testMultibyteCharactersSplitAcrossReads() {
+    var content = "hällo\r\nwörld ✓\n\n   \nlast".getBytes(StandardCharsets.UTF_8);
+    this.logCache.streamOutput(byteByByteStream(content), false);
+
+    Assertions.assertEquals(List.of("hällo", "wörld ✓", "last"), List.copyOf(this.logCache.cachedLogMessages()));
+  }
+
+  @Test
+  void testLinesLongerThanReadBuffer() {
+    var line = "ä".repeat(ProcessServiceLogCache.READ_BUFFER_SIZE * 2 + 1);
+    var content = (line + "\n" + line + "\n").getBytes(StandardCharsets.UTF_8);
+    this.logCache.streamOutput(new ByteArrayInputStream(content), false);
+
+    Assertions.assertEquals(List.of(line, line), List.copyOf(this.logCache.cachedLogMessages()));
+  }
+
+  @Test
+  void testLongLinesAreSplit() {
+    var line = "a".repeat(ProcessServiceLogCache.MAX_LINE_LENGTH * 2 + 10);
+    var content = (line + "\nb").getBytes(StandardCharsets.UTF_8);
+    this.logCache.streamOutput(new ByteArrayInputStream(content), false);
+
+    Assertions.assertEquals(
+      List.of(
+        "a".repeat(ProcessServiceLogCache.MAX_LINE_LENGTH),
+        "a".repeat(ProcessServiceLogCache.MAX_LINE_LENGTH),
+        "a".repeat(10),
+        "b"),
+      List.copyOf(this.logCache.cachedLogMessages()));
+  }
+
+  @Test
+  void testMalformedInputIsReplaced() {
+    var content = new byte[]{'a', (byte) 0xFF, 'b', '\n', 'c', (byte) 0xE2, (byte) 0x9C};
+    this.logCache.streamOutput(byteByByteStream(content), true);
+
+    Assertions.assertEquals(List.of("a\uFFFDb", "c\uFFFD"), List.copyOf(this.logCache.cachedLogMessages()));
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ServiceLogRingBufferTest {
+
+  @Test
+  void testOldestLinesAreOverwritten() {
+    var buffer = new ServiceLogRingBuffer(3);
+    Assertions.assertEquals(0, buffer.size());
+    Assertions.assertTrue(buffer.snapshot().isEmpty());
+
+    buffer.add("1");
+    buffer.add("2");
+    Assertions.assertEquals(2, buffer.size());
+    Assertions.assertEquals(List.of("1", "2"), buffer.snapshot());
+
+    buffer.add("3");
+    buffer.add("4");
+    buffer.add("5");
+    Assertions.assertEquals(3, buffer.size());
+    Assertions.assertEquals(List.of("3", "4", "5"), buffer.snapshot());
+  }
+
+  @Test
+  void testZeroCapacityHoldsNothing() {
+    var buffer = new ServiceLogRingBuffer(0);
+    buffer.add("hello");
+
+    Assertions.assertEquals(0, buffer.size());
+    Assertions.assertTrue(buffer.snapshot().isEmpty());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ServiceLogRingBuffer(-1));
+  }
+
+  @Test
+  void testConcurrentWritesKeepNewestLines() {
+    var buffer = new ServiceLogRingBuffer(64);
+    IntStream.range(0, 10_000).parallel().forEach(index -> buffer.add(Integer.toString(index)));
+
+    var snapshot = buffer.snapshot();
+    Assertions.assertEquals(64, buffer.size());
+    Assertions.assertEquals(64, snapshot.size());
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingTemplateStorageTest {
+
+  private static final Path HOME_PATH = Path.of("build", "tmp", "caching_ts");
+  private static final ServiceTemplate TEMPLATE = ServiceTemplate.builder()
+    .prefix("global")
+    .name("server")
+    .storage("local")
+    .build();
+
+  private CountingTemplateStorage remoteStorage;
+
+  @BeforeEach
+  void setupStorage() throws IOException {
+    this.remoteStorage = new CountingTemplateStorage(HOME_PATH.resolve("remote"));
+    this.writeRemoteFile("server.properties", "motd=Hello");
+    this.writeRemoteFile("plugins/plugin.jar", "plugin");
+  }
+
+  @AfterEach
+  void deleteStorage() {
+    FileUtil.delete(HOME_PATH);
+  }
+
+  @Test
+  void testUnchangedFilesAreNotDownloadedAgain() throws IOException {
+    var storage = new CachingTemplateStorage(this.remoteStorage, HOME_PATH.resolve("cache"), Long.MAX_VALUE);
+
+    // the cache is empty, the template must be pulled in bulk
+    Assertions.assertTrue(storage.pull(TEMPLATE, HOME_PATH.resolve("service-1")));
+    Assertions.assertEquals(1, this.remoteStorage.pulls.get());
+    Assertions.assertEquals(0, this.remoteStorage.downloads.get());
+    Assertions.assertEquals("plugin", Files.readString(HOME_PATH.resolve("service-1/plugins/plugin.jar")));
+
+    Assertions.assertTrue(storage.pull(TEMPLATE, HOME_PATH.resolve("service-2")));
+    Assertions.assertEquals(1, this.remoteStorage.pulls.get());
+    Assertions.assertEquals(0, this.remoteStorage.downloads.get());
+    Assertions.assertEquals("motd=Hello", Files.readString(HOME_PATH.resolve("service-2/server.properties")));
+
+    // only the changed file must be downloaded again
+    this.writeRemoteFile("server.properties", "motd=Hello World");
+    Assertions.assertTrue(storage.pull(TEMPLATE, HOME_PATH.resolve("service-3")));
+    Assertions.assertEquals(1, this.remoteStorage.pulls.get());
+    Assertions.assertEquals(1, this.remoteStorage.downloads.get());
+    Assertions.assertEquals("motd=Hello World", Files.readString(HOME_PATH.resolve("service-3/server.properties")));
+  }
+
+  @Test
+  void testManifestSurvivesRestart() {
+    var storage = new CachingTemplateStorage(this.remoteStorage, HOME_PATH.resolve("cache"), Long.MAX_VALUE);
+    Assertions.assertTrue(storage.pull(TEMPLATE, HOME_PATH.resolve("service-1")));
+    Assertions.assertEquals(1, this.remoteStorage.pulls.get());
+
+    var restartedStorage = new CachingTemplateStorage(this.remoteStorage, HOME_PATH.resolve("cache"), Long.MAX_VALUE);
+    Assertions.assertTrue(restartedStorage.pull(TEMPLATE, HOME_PATH.resolve("service-2")));
+    Assertions.assertEquals(1, this.remoteStorage.pulls.get());
+    Assertions.assertEquals(0, this.remoteStorage.downloads.get());
+  }
+
+  @Test
+  void testCacheEvictsOverSizeLimit() throws IOException {
+    // the limit only allows one of the files to stay in the cache
+    var storage = new CachingTemplateStorage(this.remoteStorage, HOME_PATH.resolve("cache"), 10);
+    Assertions.assertTrue(storage.pull(TEMPLATE, HOME_PATH.resolve("service-1")));
+    Assertions.assertEquals(1, this.remoteStorage.pulls.get());
+
+    try (var blobs = Files.list(HOME_PATH.resolve("cache").resolve("blobs"))) {
+      Assertions.assertEquals(1, blobs.count());
+    }
+
+    // the evicted file must be downloaded again
+    Assertions.assertTrue(storage.pull(TEMPLATE, HOME_PATH.resolve("service-2")));
+    Assertions.assertEquals(1, this.remoteStorage.pulls.get());
+    Assertions.assertEquals(1, this.remoteStorage.downloads.get());
+    Assertions.assertEquals("plugin", Files.readString(HOME_PATH.resolve("service-2/plugins/plugin.jar")));
+    Assertions.assertEquals("motd=Hello", Files.readString(HOME_PATH.resolve("service-2/server.properties")));
+  }
+
+  @Test
+  void testModifiedLinkedFileIsNotReused() throws IOException {
+    var storage = new CachingTemplateStorage(this.remoteStorage, HOME_PATH.resolve("cache"), Long.MAX_VALUE);
+    Assertions.assertTrue(storage.materialize(TEMPLATE, HOME_PATH.resolve("service-1"), List.of("**.jar")));
+
+    // copied files must stay writable for the service
+    var properties = HOME_PATH.resolve("service-1/server.properties");
+    Files.writeString(properties, "motd=Changed");
+    Assertions.assertEquals("motd=Changed", Files.readString(properties));
+
+    // writing a linked file either fails or is detected, but must never reach other services
+    try {
+      Files.writeString(HOME_PATH.resolve("service-1/plugins/plugin.jar"), "modified plugin");
+    } catch (IOException ignored) {
+    }
+
+    Assertions.assertTrue(storage.pull(TEMPLATE, HOME_PATH.resolve("service-2")));
+    Assertions.assertEquals("plugin", Files.readString(HOME_PATH.resolve("service-2/plugins/plugin.jar")));
+    Assertions.assertEquals("motd=Hello", Files.readString(HOME_PATH.resolve("service-2/server.properties")));
+  }
+
+  private void writeRemoteFile(@NonNull String path, @NonNull String content) throws IOException {
+    try (var stream = this.remoteStorage.newOutputStream(TEMPLATE, path)) {
+      Assertions.assertNotNull(stream);
+      stream.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static final class CountingTemplateStorage extends LocalTemplateStorage {
+
+    private final AtomicInteger pulls = new AtomicInteger();
+    private final AtomicInteger downloads = new AtomicInteger();
+
+    public CountingTemplateStorage(@NonNull Path storageDirectory) {
+      super(storageDirectory);
+    }
+
+    @Override
+    public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
+      this.pulls.incrementAndGet();
+      return super.pull(template, directory);
+    }
+
+    @Override
+    public InputStream newInputStream(@NonNull ServiceTemplate template, @NonNull String path) throws IOException {
+      this.downloads.incrementAndGet();
+      return super.newInputStream(template, path);
+    }
+  }
+}
@@ -19,11 +19,20 @@
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.driver.template.FileInfo;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -183,6 +192,109 @@ void testTemplateListing() {
     Assertions.assertEquals(TEMPLATE, templates.iterator().next());
   }
 
+  @Test
+  @Order(105)
+  void testTemplateMaterialization() throws IOException {
+    var serviceDirectory = Path.of("build", "tmp", "local_ts_service");
+    try {
+      Assertions.assertTrue(storage.materialize(TEMPLATE, serviceDirectory, List.of("hello/**")));
+
+      // only files matching the patterns are linked, all other files are copied
+      var templateDirectory = storage.getTemplatePath(TEMPLATE);
+      Assertions.assertTrue(Files.isSameFile(
+        templateDirectory.resolve("hello/test.txt"),
+        serviceDirectory.resolve("hello/test.txt")));
+      Assertions.assertFalse(Files.isSameFile(
+        templateDirectory.resolve("test.txt"),
+        serviceDirectory.resolve("test.txt")));
+      Assertions.assertFalse(Files.isSameFile(
+        templateDirectory.resolve("deep/rummel.yml"),
+        serviceDirectory.resolve("deep/rummel.yml")));
+
+      // writes to copied files in the service directory must not reach the template
+      var templateContent = Files.readString(templateDirectory.resolve("test.txt"));
+      Files.writeString(serviceDirectory.resolve("test.txt"), "changed by the service");
+      Assertions.assertEquals(templateContent, Files.readString(templateDirectory.resolve("test.txt")));
+    } finally {
+      FileUtil.delete(serviceDirectory);
+    }
+  }
+
+  @Test
+  @Order(106)
+  void testTemplateWritesDoNotChangeLinkedFiles() throws IOException {
+    var serviceDirectory = Path.of("build", "tmp", "local_ts_service");
+    try {
+      try (var stream = storage.newOutputStream(TEMPLATE, "plugins/test.jar")) {
+        Assertions.assertNotNull(stream);
+        stream.write("Version 1".getBytes(StandardCharsets.UTF_8));
+      }
+
+      Assertions.assertTrue(storage.materialize(TEMPLATE, serviceDirectory, List.of("**.jar")));
+      var templateFile = storage.getTemplatePath(TEMPLATE).resolve("plugins/test.jar");
+      var linkedFile = serviceDirectory.resolve("plugins/test.jar");
+      Assertions.assertTrue(Files.isSameFile(templateFile, linkedFile));
+
+      // re-deploy the jar, the service must keep the old content
+      var zipContent = new ByteArrayOutputStream();
+      try (var zipStream = new ZipOutputStream(zipContent)) {
+        zipStream.putNextEntry(new ZipEntry("plugins/test.jar"));
+        zipStream.write("Version 2".getBytes(StandardCharsets.UTF_8));
+        zipStream.closeEntry();
+      }
+
+      Assertions.assertTrue(storage.deploy(TEMPLATE, new ByteArrayInputStream(zipContent.toByteArray())));
+      Assertions.assertEquals("Version 1", Files.readString(linkedFile));
+      try (var stream = storage.newInputStream(TEMPLATE, "plugins/test.jar")) {
+        Assertions.assertNotNull(stream);
+        Assertions.assertEquals("Version 2", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+      }
+
+      // writes through the template file api must not reach the service either
+      try (var stream = storage.appendOutputStream(TEMPLATE, "plugins/test.jar")) {
+        Assertions.assertNotNull(stream);
+        stream.write(" and 3".getBytes(StandardCharsets.UTF_8));
+      }
+
+      Assertions.assertEquals("Version 1", Files.readString(linkedFile));
+      try (var stream = storage.newInputStream(TEMPLATE, "plugins/test.jar")) {
+        Assertions.assertNotNull(stream);
+        Assertions.assertEquals("Version 2 and 3", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    } finally {
+      storage.deleteFile(TEMPLATE, "plugins/test.jar");
+      FileUtil.delete(serviceDirectory);
+    }
+  }
+
+  @Test
+  @Order(107)
+  void testLinkedFilesAreReadOnly() throws IOException {
+    Assumptions.assumeTrue(Files.getFileAttributeView(HOME_PATH, PosixFileAttributeView.class) != null);
+    var serviceDirectory = Path.of("build", "tmp", "local_ts_service");
+    var pulledDirectory = Path.of("build", "tmp", "local_ts_pulled");
+    try {
+      Assertions.assertTrue(storage.createFile(TEMPLATE, "plugins/test.jar"));
+      Assertions.assertTrue(storage.materialize(TEMPLATE, serviceDirectory, List.of("**.jar")));
+
+      // the linked file is shared between the template and the service, it must not be written in place
+      var templateFile = storage.getTemplatePath(TEMPLATE).resolve("plugins/test.jar");
+      var linkedFile = serviceDirectory.resolve("plugins/test.jar");
+      Assertions.assertTrue(Files.isSameFile(templateFile, linkedFile));
+      Assertions.assertFalse(Files.getPosixFilePermissions(templateFile).contains(PosixFilePermission.OWNER_WRITE));
+
+      // copies of the file are owned by the service and stay writable
+      Assertions.assertTrue(storage.pull(TEMPLATE, pulledDirectory));
+      var pulledFile = pulledDirectory.resolve("plugins/test.jar");
+      Assertions.assertFalse(Files.isSameFile(templateFile, pulledFile));
+      Assertions.assertTrue(Files.getPosixFilePermissions(pulledFile).contains(PosixFilePermission.OWNER_WRITE));
+    } finally {
+      storage.deleteFile(TEMPLATE, "plugins/test.jar");
+      FileUtil.delete(serviceDirectory);
+      FileUtil.delete(pulledDirectory);
+    }
+  }
+
   @Test
   @Order(110)
   void testTemplateDelete() {
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import eu.cloudnetservice.driver.database.DatabaseChunk;
+import eu.cloudnetservice.driver.document.Document;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+public abstract class AbstractDatabaseTest {
+
+  protected abstract NodeDatabaseProvider databaseProvider();
+
+  protected String rejectedKey() {
+    // a key which is rejected by the database, null if the database accepts all keys
+    return null;
+  }
+
+  @Test
+  void testKeyContinuedChunkRead() {
+    var database = this.databaseProvider().database("test");
+    Assertions.assertNotNull(database);
+
+    // fill in some data
+    var entries = 1235;
+    List<String> keys = new ArrayList<>();
+    var expectedReadCounts = (int) Math.ceil(entries / 50D);
+
+    for (var i = 0; i < entries; i++) {
+      var key = UUID.randomUUID().toString();
+
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    Assertions.assertEquals(entries, database.documentCount());
+
+    String lastKey = null;
+    var readsCalled = 0;
+
+    DatabaseChunk currentChunk;
+    while ((currentChunk = database.readChunk(lastKey, 50)) != null) {
+      readsCalled++;
+
+      Assertions.assertFalse(currentChunk.entries().size() > 50);
+      Assertions.assertTrue(currentChunk.entries().containsKey(currentChunk.lastKey()));
+      Assertions.assertTrue(keys.removeAll(currentChunk.entries().keySet()));
+
+      lastKey = currentChunk.lastKey();
+    }
+
+    Assertions.assertEquals(expectedReadCounts, readsCalled);
+    Assertions.assertTrue(keys.isEmpty());
+  }
+
+  @Test
+  void testBulkInsertReadAndDelete() {
+    var database = this.databaseProvider().database("bulk_test");
+    Assertions.assertNotNull(database);
+
+    Assertions.assertTrue(database.insertAll(Map.of(
+      "1", Document.newJsonDocument().append("hello", "world"),
+      "2", Document.newJsonDocument().append("hello", "world2"),
+      "3", Document.newJsonDocument().append("hello", "world3"))));
+    Assertions.assertEquals(3, database.documentCount());
+
+    var documents = database.getAll(List.of("1", "3", "4"));
+    Assertions.assertEquals(2, documents.size());
+    Assertions.assertEquals("world", documents.get("1").getString("hello"));
+    Assertions.assertEquals("world3", documents.get("3").getString("hello"));
+    Assertions.assertFalse(documents.containsKey("4"));
+
+    // existing entries are replaced
+    Assertions.assertTrue(database.insertAll(Map.of("3", Document.newJsonDocument().append("hello", "world4"))));
+    Assertions.assertEquals(3, database.documentCount());
+    Assertions.assertEquals("world4", database.get("3").getString("hello"));
+
+    Assertions.assertEquals(2, database.deleteAll(List.of("1", "2", "4")));
+    Assertions.assertEquals(1, database.documentCount());
+    Assertions.assertTrue(database.contains("3"));
+  }
+
+  @Test
+  void testEmptyBulkOperations() {
+    var database = this.databaseProvider().database("bulk_test");
+    Assertions.assertNotNull(database);
+
+    Assertions.assertTrue(database.insertAll(Map.of()));
+    Assertions.assertTrue(database.getAll(List.of()).isEmpty());
+    Assertions.assertEquals(0, database.deleteAll(List.of()));
+    Assertions.assertEquals(0, database.documentCount());
+  }
+
+  @Test
+  void testFailedBulkInsertIsRolledBack() {
+    var rejectedKey = this.rejectedKey();
+    Assumptions.assumeTrue(rejectedKey != null, "the database accepts all keys");
+
+    var database = this.databaseProvider().database("bulk_test");
+    Assertions.assertNotNull(database);
+
+    // the second key is rejected which fails the batch after the first insert
+    var documents = new LinkedHashMap<String, Document>();
+    documents.put("1", Document.newJsonDocument().append("hello", "world"));
+    documents.put(rejectedKey, Document.newJsonDocument().append("hello", "world"));
+    Assertions.assertFalse(database.insertAll(documents));
+    Assertions.assertEquals(0, database.documentCount());
+
+    // the connection must be usable in auto commit mode again
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("hello", "world")));
+    Assertions.assertEquals(1, database.documentCount());
+  }
+}
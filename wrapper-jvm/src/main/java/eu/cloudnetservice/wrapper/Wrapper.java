@@ -36,6 +36,7 @@
 import eu.cloudnetservice.wrapper.network.listener.message.GroupChannelMessageListener;
 import eu.cloudnetservice.wrapper.network.listener.message.ServiceChannelMessageListener;
 import eu.cloudnetservice.wrapper.network.listener.message.TaskChannelMessageListener;
+import eu.cloudnetservice.wrapper.provider.WrapperMessenger;
 import eu.cloudnetservice.wrapper.transform.ClassTransformer;
 import eu.cloudnetservice.wrapper.transform.ClassTransformerRegistry;
 import jakarta.inject.Inject;
@@ -94,6 +95,7 @@ private void initProviderAndLoadModules(
   private void connectToNode(
     @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
+    @NonNull WrapperMessenger messenger,
     @NonNull WrapperConfiguration configuration,
     @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull ChunkedSessionRegistry chunkedSessionRegistry
@@ -133,6 +135,9 @@ private void connectToNode(
     networkClient.packetRegistry().addListener(
       NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
       PacketServerChannelMessageListener.class);
+
+    // announce the channel subscriptions which were made while loading the modules
+    messenger.publishChannelSubscriptions();
   }
 
   @Inject
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.wrapper.database;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.cloudnetservice.driver.database.Database;
+import eu.cloudnetservice.driver.database.DatabaseChunk;
+import eu.cloudnetservice.driver.document.Document;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+final class NearCachedDatabase implements Database {
+
+  private final Database delegate;
+  private final Consumer<NearCachedDatabase> closeHandler;
+
+  private final Cache<String, Optional<Document>> documents;
+  private final Cache<String, Boolean> presence;
+  private final Cache<Object, Object> queries;
+
+  // incremented on each invalidation, results loaded while an invalidation happened are not cached
+  private final AtomicLong generation = new AtomicLong();
+  // the amount of users which obtained this database and did not close it yet
+  private final AtomicInteger references = new AtomicInteger();
+
+  public NearCachedDatabase(
+    @NonNull Database delegate,
+    long maximumSize,
+    @NonNull Duration expireAfterWrite,
+    @NonNull Consumer<NearCachedDatabase> closeHandler
+  ) {
+    this.delegate = delegate;
+    this.closeHandler = closeHandler;
+    this.documents = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+    this.presence = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+    this.queries = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+  }
+
+  void retain() {
+    this.references.incrementAndGet();
+  }
+
+  boolean release() {
+    return this.references.decrementAndGet() <= 0;
+  }
+
+  public void invalidate(@Nullable String key) {
+    this.generation.incrementAndGet();
+    if (key == null) {
+      this.documents.invalidateAll();
+      this.presence.invalidateAll();
+    } else {
+      this.documents.invalidate(key);
+      this.presence.invalidate(key);
+    }
+
+    // each change might affect the result of any query
+    this.queries.invalidateAll();
+  }
+
+  @Override
+  public @NonNull String name() {
+    return this.delegate.name();
+  }
+
+  @Override
+  public boolean insert(@NonNull String key, @NonNull Document document) {
+    try {
+      return this.delegate.insert(key, document);
+    } finally {
+      this.invalidate(key);
+    }
+  }
+
+  @Override
+  public boolean contains(@NonNull String key) {
+    var document = this.documents.getIfPresent(key);
+    if (document != null) {
+      return document.isPresent();
+    }
+
+    return this.load(this.presence, key, () -> this.delegate.contains(key));
+  }
+
+  @Override
+  public boolean delete(@NonNull String key) {
+    try {
+      return this.delegate.delete(key);
+    } finally {
+      this.invalidate(key);
+    }
+  }
+
+  @Override
+  public @Nullable Document get(@NonNull String key) {
+    return this.load(this.documents, key, () -> Optional.ofNullable(this.delegate.get(key))).orElse(null);
+  }
+
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> documents) {
+    try {
+      return this.delegate.insertAll(documents);
+    } finally {
+      documents.keySet().forEach(this::invalidate);
+    }
+  }
+
+  @Override
+  public @NonNull Map<String, Document> getAll(@NonNull Collection<String> keys) {
+    Map<String, Document> documents = new HashMap<>();
+    List<String> missingKeys = new ArrayList<>();
+    for (var key : keys) {
+      var document = this.documents.getIfPresent(key);
+      if (document == null) {
+        missingKeys.add(key);
+      } else {
+        document.ifPresent(value -> documents.put(key, value));
+      }
+    }
+
+    if (!missingKeys.isEmpty()) {
+      // load all documents which are not cached in a single call
+      var generation = this.generation.get();
+      var loadedDocuments = this.delegate.getAll(missingKeys);
+      documents.putAll(loadedDocuments);
+
+      // only cache the loaded values if no invalidation happened while they were loaded
+      if (this.generation.get() == generation) {
+        for (var key : missingKeys) {
+          this.documents.put(key, Optional.ofNullable(loadedDocuments.get(key)));
+        }
+      }
+    }
+
+    return documents;
+  }
+
+  @Override
+  public int deleteAll(@NonNull Collection<String> keys) {
+    try {
+      return this.delegate.deleteAll(keys);
+    } finally {
+      keys.forEach(this::invalidate);
+    }
+  }
+
+  @Override
+  public @NonNull Collection<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    return this.query(
+      new FieldQuery(fieldName, fieldValue),
+      () -> List.copyOf(this.delegate.find(fieldName, fieldValue)));
+  }
+
+  @Override
+  public @NonNull Collection<Document> find(@NonNull Map<String, String> filters) {
+    return this.query(new FilterQuery(new HashMap<>(filters)), () -> List.copyOf(this.delegate.find(filters)));
+  }
+
+  @Override
+  public @NonNull Collection<String> keys() {
+    return this.delegate.keys();
+  }
+
+  @Override
+  public @NonNull Collection<Document> documents() {
+    return this.delegate.documents();
+  }
+
+  @Override
+  public @NonNull Map<String, Document> entries() {
+    return this.delegate.entries();
+  }
+
+  @Override
+  public @Nullable DatabaseChunk readChunk(@Nullable String afterKey, int chunkSize) {
+    return this.delegate.readChunk(afterKey, chunkSize);
+  }
+
+  @Override
+  public void clear() {
+    try {
+      this.delegate.clear();
+    } finally {
+      this.invalidate(null);
+    }
+  }
+
+  @Override
+  public long documentCount() {
+    return this.query(CountQuery.INSTANCE, this.delegate::documentCount);
+  }
+
+  @Override
+  public boolean synced() {
+    return this.delegate.synced();
+  }
+
+  @Override
+  public void close() {
+    // the remote database is shared with all other users of it, only detach this user from the cache
+    this.closeHandler.accept(this);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> @NonNull T query(@NonNull Object query, @NonNull Supplier<T> loader) {
+    return (T) this.load(this.queries, query, loader::get);
+  }
+
+  private <K, V> @NonNull V load(@NonNull Cache<K, V> cache, @NonNull K key, @NonNull Supplier<V> loader) {
+    var cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    // only cache the loaded value if no invalidation happened while it was loaded, it might be outdated otherwise
+    var generation = this.generation.get();
+    var loaded = loader.get();
+    if (this.generation.get() == generation) {
+      cache.put(key, loaded);
+    }
+
+    return loaded;
+  }
+
+  private record FieldQuery(@NonNull String fieldName, @Nullable String fieldValue) {
+
+  }
+
+  private record FilterQuery(@NonNull Map<String, String> filters) {
+
+  }
+
+  private enum CountQuery {
+
+    INSTANCE
+  }
+}
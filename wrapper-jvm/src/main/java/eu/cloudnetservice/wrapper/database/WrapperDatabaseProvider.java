@@ -16,19 +16,34 @@
 
 package eu.cloudnetservice.wrapper.database;
 
+import eu.cloudnetservice.driver.ComponentInfo;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.database.DatabaseProvider;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.annotation.RPCInvocationTarget;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCImplementationBuilder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class WrapperDatabaseProvider implements DatabaseProvider {
 
+  private static final boolean NEAR_CACHE_ENABLED = Boolean.getBoolean("cloudnet.wrapper.database-near-cache");
+  private static final long NEAR_CACHE_SIZE = Long.getLong("cloudnet.wrapper.database-near-cache.size", 1000);
+  private static final Duration NEAR_CACHE_EXPIRY = Duration.ofSeconds(
+    Long.getLong("cloudnet.wrapper.database-near-cache.expire-seconds", 30));
+
   private final RPCSender providerRPCSender;
   private final RPCImplementationBuilder.InstanceAllocator<? extends Database> databaseImplAllocator;
+  private final Map<String, NearCachedDatabase> nearCachedDatabases = new ConcurrentHashMap<>();
 
   @RPCInvocationTarget
   public WrapperDatabaseProvider(@NonNull RPCSender sender, @NonNull Supplier<NetworkChannel> channelSupplier) {
@@ -43,10 +58,55 @@ public WrapperDatabaseProvider(@NonNull RPCSender sender, @NonNull Supplier<Netw
 
   @Override
   public @NonNull Database database(@NonNull String name) {
+    if (NEAR_CACHE_ENABLED) {
+      // share the cached entries between all users of the same database, each user holds a reference until closing it
+      return this.nearCachedDatabases.compute(name, ($, database) -> {
+        var nearCachedDatabase = database == null ? this.createNearCachedDatabase(name) : database;
+        nearCachedDatabase.retain();
+        return nearCachedDatabase;
+      });
+    }
+
+    return this.createRemoteDatabase(name);
+  }
+
+  public void invalidateNearCache(@NonNull String databaseName, @Nullable String key) {
+    var database = this.nearCachedDatabases.get(databaseName);
+    if (database != null) {
+      database.invalidate(key);
+    }
+  }
+
+  private void releaseNearCachedDatabase(@NonNull NearCachedDatabase database) {
+    // drop the cache once the last user closed it, the next user of the database starts with an empty cache
+    this.nearCachedDatabases.computeIfPresent(
+      database.name(),
+      ($, current) -> current == database && database.release() ? null : current);
+  }
+
+  private @NonNull Database createRemoteDatabase(@NonNull String name) {
     var baseRPC = this.providerRPCSender.invokeCaller(name);
     return this.databaseImplAllocator
       .withBaseRPC(baseRPC)
       .withAdditionalConstructorParameters(name)
       .allocate();
   }
+
+  private @NonNull NearCachedDatabase createNearCachedDatabase(@NonNull String name) {
+    // register the cache on the node to get notified about changes made to the database
+    var componentInfo = InjectionLayer.boot().instance(ComponentInfo.class);
+    ChannelMessage.builder()
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .message("register_database_near_cache")
+      .targetNode(componentInfo.nodeUniqueId())
+      .buffer(DataBuf.empty().writeString(name))
+      .build()
+      .send();
+
+    return new NearCachedDatabase(
+      this.createRemoteDatabase(name),
+      NEAR_CACHE_SIZE,
+      NEAR_CACHE_EXPIRY,
+      this::releaseNearCachedDatabase);
+  }
 }
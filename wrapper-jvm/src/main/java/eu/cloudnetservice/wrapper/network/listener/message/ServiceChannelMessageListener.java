@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.wrapper.network.listener.message;
 
+import eu.cloudnetservice.driver.database.DatabaseProvider;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.event.EventListener;
 import eu.cloudnetservice.driver.event.EventManager;
@@ -26,9 +27,11 @@
 import eu.cloudnetservice.driver.event.events.service.CloudServiceUpdateEvent;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.wrapper.database.WrapperDatabaseProvider;
 import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import lombok.NonNull;
 
@@ -38,7 +41,8 @@ public final class ServiceChannelMessageListener {
   public void handleChannelMessage(
     @NonNull ChannelMessageReceiveEvent event,
     @NonNull EventManager eventManager,
-    @NonNull ServiceInfoHolder serviceInfoHolder
+    @NonNull ServiceInfoHolder serviceInfoHolder,
+    @NonNull DatabaseProvider databaseProvider
   ) {
     if (event.channel().equals(NetworkConstants.INTERNAL_MSG_CHANNEL)) {
       switch (event.message()) {
@@ -61,6 +65,10 @@ public void handleChannelMessage(
         case "request_update_service_information" -> event.binaryResponse(DataBuf.empty()
           .writeObject(serviceInfoHolder.configureServiceInfoSnapshot()));
 
+        // on-demand request of the threads which are alive in the service process
+        case "request_thread_snapshots" -> event.binaryResponse(DataBuf.empty()
+          .writeObject(ProcessSnapshot.threadSnapshots()));
+
         // force update request of the service information with new properties
         case "request_update_service_information_with_new_properties" -> {
           var properties = event.content().readObject(Document.class);
@@ -90,6 +98,15 @@ public void handleChannelMessage(
           eventManager.callEvent(new CloudServiceDeferredStateEvent(creationId, createResult));
         }
 
+        // an entry of a database which is cached locally was changed on the node
+        case "invalidate_database_near_cache" -> {
+          if (databaseProvider instanceof WrapperDatabaseProvider wrapperDatabaseProvider) {
+            var databaseName = event.content().readString();
+            var key = event.content().readNullable(DataBuf::readString);
+            wrapperDatabaseProvider.invalidateNearCache(databaseName, key);
+          }
+        }
+
         // none of our business
         default -> {
         }
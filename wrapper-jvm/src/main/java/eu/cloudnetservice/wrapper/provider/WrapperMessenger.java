@@ -17,8 +17,11 @@
 package eu.cloudnetservice.wrapper.provider;
 
 import dev.derklaro.aerogel.auto.Provides;
+import eu.cloudnetservice.driver.ComponentInfo;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.network.NetworkClient;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.def.PacketServerChannelMessage;
 import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.defaults.DefaultMessenger;
@@ -27,8 +30,10 @@
 import jakarta.inject.Singleton;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import lombok.NonNull;
 
 @Singleton
@@ -36,11 +41,17 @@
 public class WrapperMessenger extends DefaultMessenger implements CloudMessenger {
 
   private static final Type MESSAGES = TypeFactory.parameterizedClass(Collection.class, ChannelMessage.class);
+  private static final boolean SUBSCRIPTION_FILTERING = Boolean.getBoolean(
+    "cloudnet.wrapper.channel-subscription-filtering");
 
+  private final ComponentInfo componentInfo;
   private final NetworkClient networkClient;
 
+  private volatile boolean subscriptionPublishingEnabled;
+
   @Inject
-  public WrapperMessenger(@NonNull NetworkClient networkClient) {
+  public WrapperMessenger(@NonNull ComponentInfo componentInfo, @NonNull NetworkClient networkClient) {
+    this.componentInfo = componentInfo;
     this.networkClient = networkClient;
   }
 
@@ -62,4 +73,31 @@ public void sendChannelMessage(@NonNull ChannelMessage channelMessage) {
       .readObject(MESSAGES);
     return Objects.requireNonNullElse(response, List.of());
   }
+
+  public void publishChannelSubscriptions() {
+    // the node delivers all channel messages to the service unless it announced its subscriptions
+    if (SUBSCRIPTION_FILTERING) {
+      this.subscriptionPublishingEnabled = true;
+
+      // the internal channel is used by cloudnet itself and must always be delivered
+      Set<String> channels = new HashSet<>(this.subscribedChannels);
+      channels.add(NetworkConstants.INTERNAL_MSG_CHANNEL);
+
+      var message = ChannelMessage.builder()
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .message("update_channel_subscriptions")
+        .targetNode(this.componentInfo.nodeUniqueId())
+        .buffer(DataBuf.empty().writeObject(channels))
+        .build();
+      this.networkClient.sendPacket(new PacketServerChannelMessage(message, true));
+    }
+  }
+
+  @Override
+  protected void handleSubscriptionsChange() {
+    // subscriptions can only be published once the connection to the node was authorized
+    if (this.subscriptionPublishingEnabled) {
+      this.publishChannelSubscriptions();
+    }
+  }
 }